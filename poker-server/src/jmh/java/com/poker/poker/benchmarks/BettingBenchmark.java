@@ -0,0 +1,129 @@
+package com.poker.poker.benchmarks;
+
+import com.poker.poker.models.enums.GameAction;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.game.Pot;
+import com.poker.poker.utilities.PokerTableUtilities;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the per-action paths of {@link PokerTableUtilities}, on tables with 2, 6 and 10
+ * players, with nobody, one player, or every other player all-in. Run with <code>-prof gc</code> to
+ * also report the number of bytes allocated per operation.
+ *
+ * <p>Operations which modify the table work on a copy of a fixture, so every operation starts from
+ * the same state. The cost of the copy is measured by {@link #copyTable()}, which can be subtracted
+ * from the results of those operations.
+ */
+@Fork(2)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BettingBenchmark {
+
+  @Param({"2", "6", "10"})
+  public int seats;
+
+  @Param({TableFixtures.NO_ALL_INS, TableFixtures.ONE_ALL_IN, TableFixtures.MANY_ALL_INS})
+  public String allIns;
+
+  private PokerTable newHand;
+  private PokerTable river;
+  private UUID actingPlayer;
+  private Deck deck;
+  private int next;
+
+  @Setup
+  public void setup() {
+    newHand = TableFixtures.newHand(seats);
+    river = TableFixtures.river(seats, allIns, 42);
+    actingPlayer = river.getPlayers().get(river.getActingPlayer()).getId();
+    deck = new Deck();
+  }
+
+  @Benchmark
+  public PokerTable copyTable() {
+    return TableFixtures.copy(river);
+  }
+
+  @Benchmark
+  public PokerTable handlePlayerActionCall() {
+    final PokerTable table = TableFixtures.copy(river);
+    PokerTableUtilities.handlePlayerAction(table, GameAction.Call, actingPlayer, 0);
+    return table;
+  }
+
+  @Benchmark
+  public PokerTable handlePlayerActionRaise() {
+    final PokerTable table = TableFixtures.copy(river);
+    PokerTableUtilities.handlePlayerAction(
+        table, GameAction.Raise, actingPlayer, table.getMinRaise());
+    return table;
+  }
+
+  @Benchmark
+  public PokerTable handlePlayerActionFold() {
+    final PokerTable table = TableFixtures.copy(river);
+    PokerTableUtilities.handlePlayerAction(table, GameAction.Fold, actingPlayer, 0);
+    return table;
+  }
+
+  /** Only replaces the pots of the fixture, which are never read by the other operations. */
+  @Benchmark
+  public List<Pot> generateSidePots() {
+    PokerTableUtilities.generateSidePots(river);
+    return river.getPots();
+  }
+
+  @Benchmark
+  public PokerTable determineWinners() {
+    final PokerTable table = TableFixtures.copy(river);
+    PokerTableUtilities.determineWinners(table);
+    return table;
+  }
+
+  @Benchmark
+  public PokerTable setupNewHand() {
+    final PokerTable table = TableFixtures.copy(newHand);
+    PokerTableUtilities.setupNewHand(table, deck);
+    return table;
+  }
+
+  @Benchmark
+  public PokerTable hideCards() {
+    return PokerTableUtilities.hideCards(river);
+  }
+
+  @Benchmark
+  public PokerTable hideFoldedCards() {
+    return PokerTableUtilities.hideFoldedCards(river);
+  }
+
+  @Benchmark
+  public int getNextActivePlayer() {
+    next = next + 1 < seats ? next + 1 : 0;
+    return PokerTableUtilities.getNextActivePlayer(river, next, true);
+  }
+
+  /** Total of the pots, which is computed every time the pots are distributed. */
+  @Benchmark
+  public long getPotTotal() {
+    return PokerTableUtilities.getPotTotal(river.getPots());
+  }
+}
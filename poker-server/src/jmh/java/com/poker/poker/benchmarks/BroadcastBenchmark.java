@@ -0,0 +1,234 @@
+package com.poker.poker.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.websocket.GenericServerMessage;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+
+/**
+ * Time taken to broadcast the payloads that {@link com.poker.poker.services.WebSocketService} sends
+ * most often, through the same path as <code>SimpMessagingTemplate</code> in the server: the
+ * template converts the payload to JSON, the simple broker finds the subscriptions to the topic,
+ * and the STOMP handler encodes a frame for each subscriber. Subscribers are in-process stand-ins
+ * for sessions, which only count the frames and bytes they are sent.
+ *
+ * <p>The number and size of the frames sent per broadcast are printed when a trial ends. Run with
+ * <code>-prof gc</code> to also report the number of bytes allocated per operation.
+ */
+@Fork(2)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadcastBenchmark {
+
+  @Param({"2", "6", "10"})
+  public int seats;
+
+  @Param({"1", "10", "100"})
+  public int subscribers;
+
+  private GenericServerMessage<PokerTable> table;
+  private GenericServerMessage<GamePlayer> player;
+  private SimpleBrokerMessageHandler broker;
+  private SimpMessagingTemplate template;
+  private String topic;
+  private long frames;
+  private long bytes;
+  private long broadcasts;
+
+  @Setup
+  public void setup() {
+    // Spring logs every message at debug level, which would be most of the cost of a broadcast.
+    ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+    table = Payloads.table(seats);
+    player = Payloads.player(seats);
+
+    final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+    final ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+    final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+    broker =
+        new SimpleBrokerMessageHandler(
+            clientInbound, clientOutbound, brokerChannel, Collections.singletonList("/topic"));
+    broker.start();
+
+    final MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+    converter.setObjectMapper(Payloads.objectMapper());
+    template = new SimpMessagingTemplate(brokerChannel);
+    template.setMessageConverter(converter);
+
+    // Every subscriber is a session with one subscription to the game topic.
+    topic = "/topic/game/" + UUID.randomUUID();
+    final StompSubProtocolHandler stompHandler = new StompSubProtocolHandler();
+    final Map<String, WebSocketSession> sessions = new HashMap<>();
+    for (int i = 0; i < subscribers; i++) {
+      final String sessionId = Integer.toString(i);
+      sessions.put(sessionId, new CountingSession(sessionId));
+      final SimpMessageHeaderAccessor connect =
+          SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+      connect.setSessionId(sessionId);
+      broker.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+      final SimpMessageHeaderAccessor subscribe =
+          SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+      subscribe.setSessionId(sessionId);
+      subscribe.setSubscriptionId("sub-0");
+      subscribe.setDestination(topic);
+      broker.handleMessage(
+          MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+    }
+    clientOutbound.subscribe(
+        message -> {
+          final String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+          stompHandler.handleMessageToClient(sessions.get(sessionId), message);
+        });
+  }
+
+  @TearDown
+  public void tearDown() {
+    broker.stop();
+    if (broadcasts > 0) {
+      System.out.printf(
+          "%nBroadcasts: %d frames of %d bytes per broadcast, to %d subscribers.%n",
+          frames / broadcasts, bytes / broadcasts, subscribers);
+    }
+  }
+
+  @Benchmark
+  public void broadcastPokerTable() {
+    template.convertAndSend(topic, table);
+    broadcasts++;
+  }
+
+  @Benchmark
+  public void broadcastGamePlayer() {
+    template.convertAndSend(topic, player);
+    broadcasts++;
+  }
+
+  /** Session which counts the frames and bytes it is sent, instead of sending them. */
+  private final class CountingSession implements WebSocketSession {
+
+    private final String id;
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    private CountingSession(final String id) {
+      this.id = id;
+    }
+
+    @Override
+    public void sendMessage(final WebSocketMessage<?> message) {
+      frames++;
+      bytes += message.getPayloadLength();
+    }
+
+    @Override
+    public String getId() {
+      return id;
+    }
+
+    @Override
+    public URI getUri() {
+      return null;
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+      return HttpHeaders.EMPTY;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+      return attributes;
+    }
+
+    @Override
+    public Principal getPrincipal() {
+      return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+      return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+      return null;
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+      return "v12.stomp";
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(final int messageSizeLimit) {}
+
+    @Override
+    public int getTextMessageSizeLimit() {
+      return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(final int messageSizeLimit) {}
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+      return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void close(final CloseStatus status) {}
+  }
+}
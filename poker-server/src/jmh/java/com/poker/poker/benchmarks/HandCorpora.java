@@ -0,0 +1,111 @@
+package com.poker.poker.benchmarks;
+
+import com.poker.poker.models.enums.CardSuit;
+import com.poker.poker.models.enums.CardValue;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Deck;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fixed, seeded collections of 7 card hands for benchmarks. The same seed always produces the same
+ * hands, so results can be compared between runs and between versions of an evaluator.
+ */
+public final class HandCorpora {
+
+  /** Random 7 card hands. */
+  public static final String RANDOM = "Random";
+
+  /** Hands with both a flush and a straight, but no straight flush. */
+  public static final String FLUSH_AND_STRAIGHT = "FlushAndStraight";
+
+  /** Hands with a straight from Ace to Five, some of which also have a flush or a higher pair. */
+  public static final String WHEEL = "Wheel";
+
+  private static final String[] FLUSH_AND_STRAIGHT_HANDS = {
+    "2h 4h 6h 8h 9h 5c 7d",
+    "Ts Js Qs 2s 5s Kd Ac",
+    "3d 4d 5d 9d Jd 6c 7h",
+    "Ah 2h 3h 9h Kh 4c 5s",
+    "6c 7c 8c Qc Kc 9d Th",
+    "9s Ts Js 3s 4s Qh Kd"
+  };
+
+  private static final String[] WHEEL_HANDS = {
+    "Ac 2d 3h 4s 5c 9d Kh",
+    "As 2s 3d 4c 5h 5d Qs",
+    "Ad 2c 3c 4h 5s Ah 8c",
+    "Ah 2h 3h 4h 5h Kc Qd",
+    "Ac 2c 3d 4c 5c Tc 7h",
+    "As 2h 3c 4d 5s 2d 3s"
+  };
+
+  /** Characters used for card values, lowest first. */
+  private static final String VALUE_NAMES = "23456789TJQKA";
+
+  /** Characters used for suits, in the order of <code>CardSuit</code>. */
+  private static final String SUIT_NAMES = "shcd";
+
+  /** Private constructor to prevent creating instances of static class. */
+  private HandCorpora() {}
+
+  /**
+   * Generates a corpus of hands.
+   *
+   * @param corpus Name of the corpus, i.e. one of the constants of this class.
+   * @param size Number of hands.
+   * @param seed Seed of the random number generator.
+   * @return The hands.
+   */
+  public static List<List<Card>> generate(final String corpus, final int size, final long seed) {
+    switch (corpus) {
+      case RANDOM:
+        return random(size, seed);
+      case FLUSH_AND_STRAIGHT:
+        return fromTemplates(FLUSH_AND_STRAIGHT_HANDS, size, seed);
+      case WHEEL:
+        return fromTemplates(WHEEL_HANDS, size, seed);
+      default:
+        throw new IllegalArgumentException("Unknown corpus: " + corpus);
+    }
+  }
+
+  private static List<List<Card>> random(final int size, final long seed) {
+    final Random random = new Random(seed);
+    final List<Card> deck = new ArrayList<>(new Deck().getCards());
+    final List<List<Card>> hands = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Collections.shuffle(deck, random);
+      hands.add(new ArrayList<>(deck.subList(0, 7)));
+    }
+    return hands;
+  }
+
+  /**
+   * Generates hands from templates, where the suits of each hand are permuted at random, and the
+   * cards are put in a random order, so hands of the same template aren't identical.
+   */
+  private static List<List<Card>> fromTemplates(
+      final String[] templates, final int size, final long seed) {
+    final Random random = new Random(seed);
+    final List<Integer> suits = Arrays.asList(0, 1, 2, 3);
+    final List<List<Card>> hands = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Collections.shuffle(suits, random);
+      final List<Card> hand = new ArrayList<>(7);
+      for (final String name : templates[i % templates.length].split(" ")) {
+        final int value = VALUE_NAMES.indexOf(name.charAt(0));
+        final int suit = suits.get(SUIT_NAMES.indexOf(name.charAt(1)));
+        // Card values are declared from highest to lowest.
+        hand.add(
+            Card.of(CardSuit.values()[suit], CardValue.values()[VALUE_NAMES.length() - 1 - value]));
+      }
+      Collections.shuffle(hand, random);
+      hands.add(hand);
+    }
+    return hands;
+  }
+}
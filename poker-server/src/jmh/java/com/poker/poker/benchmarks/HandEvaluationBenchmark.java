@@ -0,0 +1,157 @@
+package com.poker.poker.benchmarks;
+
+import com.poker.poker.models.enums.CardSuit;
+import com.poker.poker.models.enums.CardValue;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.HandRank;
+import com.poker.poker.utilities.CardUtilities;
+import com.poker.poker.utilities.HandEvaluator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of ranking a 7 card hand, and of each step of the evaluator chain in {@link
+ * CardUtilities}. Every operation handles one hand, taken in turn from a fixed corpus, so the
+ * results are the number of hands per second. Run with <code>-prof gc</code> to also report the
+ * number of bytes allocated per hand.
+ */
+@Fork(2)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HandEvaluationBenchmark {
+
+  /** Number of hands in the corpus. Must be a power of 2. */
+  private static final int NUM_HANDS = 1 << 10;
+
+  @Param({HandCorpora.RANDOM, HandCorpora.FLUSH_AND_STRAIGHT, HandCorpora.WHEEL})
+  public String corpus;
+
+  private List<List<Card>> hands;
+  private long[] masks;
+  private int next;
+
+  @Setup
+  public void setup() {
+    hands = HandCorpora.generate(corpus, NUM_HANDS, 42);
+    masks = hands.stream().mapToLong(HandEvaluator::mask).toArray();
+  }
+
+  private List<Card> nextHand() {
+    return hands.get(next++ & (NUM_HANDS - 1));
+  }
+
+  @Benchmark
+  public HandRank rankHand() {
+    return CardUtilities.rankHand(nextHand());
+  }
+
+  @Benchmark
+  public HandRank rankHandReference() {
+    return CardUtilities.rankHandReference(nextHand());
+  }
+
+  @Benchmark
+  public int evaluateMask() {
+    return HandEvaluator.evaluate(masks[next++ & (NUM_HANDS - 1)]);
+  }
+
+  @Benchmark
+  public List<Card> checkForStraightFlush() {
+    return CardUtilities.checkForStraightFlush(nextHand());
+  }
+
+  @Benchmark
+  public List<Card> checkForFourOfAKind() {
+    return CardUtilities.checkForFourOfAKind(nextHand());
+  }
+
+  @Benchmark
+  public List<Card> checkForFullHouse() {
+    return CardUtilities.checkForFullHouse(nextHand());
+  }
+
+  @Benchmark
+  public List<Card> checkForFlush() {
+    return CardUtilities.checkForFlush(nextHand());
+  }
+
+  @Benchmark
+  public List<Card> checkForStraight() {
+    return CardUtilities.checkForStraight(nextHand());
+  }
+
+  @Benchmark
+  public List<Card> checkForFiveConsecutiveCards() {
+    return CardUtilities.checkForFiveConsecutiveCards(nextHand());
+  }
+
+  @Benchmark
+  public List<Card> checkForSet() {
+    return CardUtilities.checkForSet(nextHand());
+  }
+
+  @Benchmark
+  public List<Card> checkForTwoPair() {
+    return CardUtilities.checkForTwoPair(nextHand());
+  }
+
+  @Benchmark
+  public List<Card> checkForPair() {
+    return CardUtilities.checkForPair(nextHand());
+  }
+
+  @Benchmark
+  public List<Card> checkForHighCard() {
+    return CardUtilities.checkForHighCard(nextHand());
+  }
+
+  @Benchmark
+  public Map<CardSuit, List<Card>> splitBySuit() {
+    return CardUtilities.splitBySuit(nextHand());
+  }
+
+  @Benchmark
+  public Map<CardValue, List<Card>> splitByValue() {
+    return CardUtilities.splitByValue(nextHand());
+  }
+
+  /** Includes copying the hand, so that the corpus isn't sorted in place. */
+  @Benchmark
+  public List<Card> sortByValue() {
+    final List<Card> cards = new ArrayList<>(nextHand());
+    cards.sort(CardUtilities.valueSorter());
+    return cards;
+  }
+
+  /** Includes copying the hand, so that the corpus isn't sorted in place. */
+  @Benchmark
+  public List<Card> sortByLowAceValue() {
+    final List<Card> cards = new ArrayList<>(nextHand());
+    cards.sort(CardUtilities.lowAceValueSorter());
+    return cards;
+  }
+
+  /** Includes copying the hand, so that the corpus isn't sorted in place. */
+  @Benchmark
+  public List<Card> sortBySuit() {
+    final List<Card> cards = new ArrayList<>(nextHand());
+    cards.sort(CardUtilities.suitSorter());
+    return cards;
+  }
+}
@@ -0,0 +1,76 @@
+package com.poker.poker.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poker.poker.models.enums.GameVariant;
+import com.poker.poker.models.enums.MessageType;
+import com.poker.poker.models.game.GameList;
+import com.poker.poker.models.game.GameParameter;
+import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.LobbyPlayer;
+import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.websocket.GenericServerMessage;
+import com.poker.poker.utilities.PokerTableUtilities;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/** Messages sent over web sockets, built the same way as the server builds them. */
+public final class Payloads {
+
+  /** Number of games in the game list. */
+  private static final int NUM_GAMES = 20;
+
+  /** Private constructor to prevent creating instances of static class. */
+  private Payloads() {}
+
+  /** Returns an object mapper configured like the one Spring Boot gives the message converter. */
+  public static ObjectMapper objectMapper() {
+    return Jackson2ObjectMapperBuilder.json().build();
+  }
+
+  /**
+   * Returns a poker table on the river with its cards hidden, like the table sent by <code>
+   * GameDataService.broadcastObfuscatedPokerTable</code>.
+   *
+   * @param seats Number of players.
+   * @return The message.
+   */
+  public static GenericServerMessage<PokerTable> table(final int seats) {
+    final PokerTable table = TableFixtures.river(seats, TableFixtures.NO_ALL_INS, 42);
+    return new GenericServerMessage<>(MessageType.PokerTable, PokerTableUtilities.hideCards(table));
+  }
+
+  /**
+   * Returns a player along with their cards, like the data each player is sent privately when cards
+   * are dealt.
+   *
+   * @param seats Number of players.
+   * @return The message.
+   */
+  public static GenericServerMessage<GamePlayer> player(final int seats) {
+    final PokerTable table = TableFixtures.river(seats, TableFixtures.NO_ALL_INS, 42);
+    return new GenericServerMessage<>(MessageType.PlayerData, table.getPlayers().get(0));
+  }
+
+  /**
+   * Returns a list of games, like the list broadcast to the game list topic every few seconds.
+   *
+   * @return The message.
+   */
+  public static GenericServerMessage<List<GameList>> gameList() {
+    final List<GameList> games = new ArrayList<>(NUM_GAMES);
+    for (int i = 0; i < NUM_GAMES; i++) {
+      final LobbyPlayer host = new LobbyPlayer();
+      host.setId(new UUID(1, i));
+      host.setFirstName("Host");
+      host.setLastName(Integer.toString(i));
+      host.setHost(true);
+      final GameParameter parameters =
+          new GameParameter("Game " + i, 10, new BigDecimal(1000), GameVariant.Holdem);
+      games.add(new GameList(new UUID(2, i), parameters, host, 1 + i % 10));
+    }
+    return new GenericServerMessage<>(MessageType.GameList, games);
+  }
+}
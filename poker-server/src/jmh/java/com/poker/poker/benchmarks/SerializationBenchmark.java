@@ -0,0 +1,87 @@
+package com.poker.poker.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poker.poker.models.enums.MessageType;
+import com.poker.poker.models.game.GameList;
+import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.websocket.GenericServerMessage;
+import com.poker.poker.utilities.PokerTableUtilities;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time taken to serialize the payloads that {@link com.poker.poker.services.WebSocketService} sends
+ * most often, with the same Jackson configuration as the server. The size of each payload is
+ * printed when a trial ends. Run with <code>-prof gc</code> to also report the number of bytes
+ * allocated per payload.
+ */
+@Fork(2)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+  @Param({"2", "6", "10"})
+  public int seats;
+
+  private ObjectMapper objectMapper;
+  private GenericServerMessage<PokerTable> table;
+  private GenericServerMessage<GamePlayer> player;
+  private GenericServerMessage<List<GameList>> gameList;
+
+  @Setup
+  public void setup() {
+    objectMapper = Payloads.objectMapper();
+    table = Payloads.table(seats);
+    player = Payloads.player(seats);
+    gameList = Payloads.gameList();
+  }
+
+  @TearDown
+  public void tearDown() throws JsonProcessingException {
+    System.out.printf(
+        "%nPayloads: table %d bytes, player %d bytes, game list %d bytes.%n",
+        objectMapper.writeValueAsBytes(table).length,
+        objectMapper.writeValueAsBytes(player).length,
+        objectMapper.writeValueAsBytes(gameList).length);
+  }
+
+  @Benchmark
+  public byte[] serializePokerTable() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(table);
+  }
+
+  /** The table is hidden first, like every broadcast of an obfuscated table. */
+  @Benchmark
+  public byte[] hideAndSerializePokerTable() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(
+        new GenericServerMessage<>(
+            MessageType.PokerTable, PokerTableUtilities.hideCards(table.getData())));
+  }
+
+  @Benchmark
+  public byte[] serializeGamePlayer() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(player);
+  }
+
+  @Benchmark
+  public byte[] serializeGameList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(gameList);
+  }
+}
@@ -0,0 +1,141 @@
+package com.poker.poker.benchmarks;
+
+import com.poker.poker.models.enums.DeckRngType;
+import com.poker.poker.models.enums.HandPhase;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.game.TableControls;
+import com.poker.poker.utilities.Chips;
+import com.poker.poker.utilities.DeckRng;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Poker tables for benchmarks, which are generated the same way every time, so results can be
+ * compared between runs. Every player has an ID made from their seat, i.e. <code>new UUID(0, seat +
+ * 1)</code>.
+ */
+public final class TableFixtures {
+
+  /** Nobody is all-in. */
+  public static final String NO_ALL_INS = "None";
+
+  /** The player after the dealer is all-in for less than everyone else. */
+  public static final String ONE_ALL_IN = "One";
+
+  /**
+   * Every other player is all-in, each for a different amount of at most {@link #BET}, which makes
+   * many side pots.
+   */
+  public static final String MANY_ALL_INS = "Many";
+
+  /** Number of chips each player starts with. */
+  private static final long STACK = Chips.of(1000);
+
+  /** Big blind. */
+  private static final long BLIND = Chips.of(10);
+
+  /** Bet of every player who isn't all-in, except the acting player. */
+  private static final long BET = Chips.of(200);
+
+  /** Private constructor to prevent creating instances of static class. */
+  private TableFixtures() {}
+
+  /**
+   * Generates a table where a new hand is about to start.
+   *
+   * @param seats Number of players.
+   * @return The table.
+   */
+  public static PokerTable newHand(final int seats) {
+    final PokerTable table = new PokerTable();
+    final List<GamePlayer> players = new ArrayList<>(seats);
+    for (int seat = 0; seat < seats; seat++) {
+      final GamePlayer player = new GamePlayer();
+      player.setId(new UUID(0, seat + 1));
+      player.setFirstName("Player");
+      player.setLastName(Integer.toString(seat + 1));
+      player.setControls(new TableControls(STACK, 0, 0));
+      players.add(player);
+    }
+    table.setPlayers(players);
+    table.setBlind(BLIND);
+    return table;
+  }
+
+  /**
+   * Generates a table on the river, where everyone but the acting player has bet, and the acting
+   * player, who is the first player after the dealer that isn't all-in, has to call. The acting
+   * player has bet half of the largest bet of the other players, so when everyone else is all-in,
+   * the acting player only has to call the all-in.
+   *
+   * @param seats Number of players.
+   * @param allIns Which players are all-in, i.e. one of the constants of this class.
+   * @param seed Seed used to shuffle the deck.
+   * @return The table.
+   */
+  public static PokerTable river(final int seats, final String allIns, final long seed) {
+    final PokerTable table = newHand(seats);
+    final List<GamePlayer> players = table.getPlayers();
+    final Deck deck = new Deck();
+    deck.restoreAndShuffle(DeckRng.create(DeckRngType.SplittableRandom, seed), seed);
+
+    long pot = 0;
+    for (int seat = 0; seat < seats; seat++) {
+      final GamePlayer player = players.get(seat);
+      player.getCards().add(deck.draw());
+      player.getCards().add(deck.draw());
+      final boolean allIn =
+          MANY_ALL_INS.equals(allIns) ? seat % 2 == 1 : ONE_ALL_IN.equals(allIns) && seat == 1;
+      final long bet = allIn ? Chips.of(20 * (seat + 1)) : BET;
+      player.setAllIn(allIn);
+      player.setControls(new TableControls(allIn ? 0 : STACK - bet, bet, 0));
+      pot += bet;
+    }
+
+    final List<Card> board = new ArrayList<>(5);
+    for (int i = 0; i < 5; i++) {
+      board.add(deck.draw());
+    }
+    table.setSharedCards(board);
+    table.setPhase(HandPhase.River);
+    table.setBetting(true);
+
+    // The acting player has only bet half as much as the largest bet of everyone else.
+    final int acting = players.get(1).isAllIn() ? 0 : 1;
+    long highest = 0;
+    for (int seat = 0; seat < seats; seat++) {
+      if (seat != acting) {
+        highest = Math.max(highest, players.get(seat).getBet());
+      }
+    }
+    final TableControls controls = players.get(acting).getControls();
+    controls.setCurrentBet(highest / 2);
+    controls.setBankRoll(STACK - controls.getCurrentBet());
+    controls.setToCall(highest - controls.getCurrentBet());
+    table.setMinRaise(highest);
+    table.setActingPlayer(acting);
+    table.setLastToAct(acting);
+    table.setPot(pot - BET + controls.getCurrentBet());
+    return table;
+  }
+
+  /**
+   * Copies a table, along with the players and their controls, which <code>new PokerTable(table)
+   * </code> shares with the original table.
+   *
+   * @param table Table.
+   * @return The copy.
+   */
+  public static PokerTable copy(final PokerTable table) {
+    final PokerTable copy = new PokerTable(table);
+    for (final GamePlayer p : copy.getPlayers()) {
+      p.setControls(new TableControls(p.getChips(), p.getBet(), p.getControls().getToCall()));
+    }
+    copy.setSharedCards(new ArrayList<>(table.getSharedCards()));
+    return copy;
+  }
+}
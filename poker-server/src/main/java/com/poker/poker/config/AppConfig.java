@@ -1,5 +1,7 @@
 package com.poker.poker.config;
 
+import com.poker.poker.models.enums.DeckRngType;
+import com.poker.poker.models.enums.HandEvaluatorMode;
 import com.poker.poker.models.enums.UserGroup;
 import java.util.List;
 import lombok.Data;
@@ -26,6 +28,18 @@ public class AppConfig {
   @Value("${num-cards-in-deck}")
   private int numCardsInDeck;
 
+  @Value("${deck.rng}")
+  private DeckRngType deckRngType;
+
+  @Value("${deck.reseed-interval}")
+  private int deckReseedInterval;
+
+  @Value("${shuffle-pipeline.enabled}")
+  private boolean shufflePipelineEnabled;
+
+  @Value("${shuffle-pipeline.capacity}")
+  private int shufflePipelineCapacity;
+
   @Value("${min-number-of-players}")
   private int minNumberOfPlayers;
 
@@ -44,6 +58,45 @@ public class AppConfig {
   @Value("${deal-duration-in-millis}")
   private int dealDurationInMs;
 
+  @Value("${hand-evaluator.mode}")
+  private HandEvaluatorMode handEvaluatorMode;
+
+  @Value("${hand-evaluator.table-file}")
+  private String handRankTableFile;
+
+  @Value("${hand-evaluator.cache-size}")
+  private int handRankCacheSize;
+
+  @Value("${equity.parallelism}")
+  private int equityParallelism;
+
+  @Value("${equity.max-samples}")
+  private long equityMaxSamples;
+
+  @Value("${equity.deadline-in-millis}")
+  private int equityDeadlineInMs;
+
+  @Value("${equity.exact-max-players}")
+  private int equityExactMaxPlayers;
+
+  @Value("${range-equity.parallelism}")
+  private int rangeEquityParallelism;
+
+  @Value("${range-equity.max-samples}")
+  private long rangeEquityMaxSamples;
+
+  @Value("${range-equity.deadline-in-millis}")
+  private int rangeEquityDeadlineInMs;
+
+  @Value("${range-equity.exact-max-runouts}")
+  private long rangeEquityExactMaxRunouts;
+
+  @Value("${range-equity.cache-size}")
+  private int rangeEquityCacheSize;
+
+  @Value("${range-equity.request-timeout-in-millis}")
+  private long rangeEquityRequestTimeoutInMs;
+
   @Value("${web-socket.private-socket-timeout-hours}")
   private int privateSocketTimeoutHours;
 
@@ -69,4 +69,28 @@ public class GameConstants extends AppConstants {
   private final BadRequestException playerDataNotFoundException =
       new BadRequestException(
           "Error Retrieving Player Data", "Player data for the ID provided was not found.");
+
+  private final BadRequestException invalidStartingHandException =
+      new BadRequestException(
+          "Invalid Starting Hand",
+          "Starting hands must be a pair (e.g. QQ), or two values followed by s (suited) or o"
+              + " (offsuit), e.g. AKs.");
+
+  private final BadRequestException missingRangeEquityRequestException =
+      new BadRequestException(
+          "Invalid Range Equity Request", "The request must contain the ranges and board.");
+
+  private final BadRequestException invalidHandRangeException =
+      new BadRequestException(
+          "Invalid Hand Range",
+          "Ranges must be comma separated hands (e.g. QQ+,AKs,A5s-A2s,JhTh), and every player's"
+              + " range must contain at least one hand that is not blocked by the board.");
+
+  private final BadRequestException blockedHandRangesException =
+      new BadRequestException(
+          "Invalid Hand Range",
+          "The ranges block each other, so no hand can be dealt from every range at once.");
+
+  private final BadRequestException invalidBoardException =
+      new BadRequestException("Invalid Board", "The board must have 0, 3, 4 or 5 different cards.");
 }
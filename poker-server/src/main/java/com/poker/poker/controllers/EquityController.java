@@ -0,0 +1,188 @@
+package com.poker.poker.controllers;
+
+import com.poker.poker.config.AppConfig;
+import com.poker.poker.config.constants.GameConstants;
+import com.poker.poker.models.ApiError;
+import com.poker.poker.models.enums.MessageType;
+import com.poker.poker.models.game.PreflopEquity;
+import com.poker.poker.models.game.RangeEquityError;
+import com.poker.poker.models.game.RangeEquityRequest;
+import com.poker.poker.models.game.RangeEquityResult;
+import com.poker.poker.models.user.User;
+import com.poker.poker.models.websocket.ClientMessage;
+import com.poker.poker.models.websocket.GenericServerMessage;
+import com.poker.poker.services.JwtService;
+import com.poker.poker.services.UserService;
+import com.poker.poker.services.WebSocketService;
+import com.poker.poker.services.game.PreflopEquityService;
+import com.poker.poker.services.game.RangeEquityService;
+import com.poker.poker.validation.exceptions.BadRequestException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@Slf4j
+@AllArgsConstructor
+@RestController
+@RequestMapping("/equity")
+@Tag(name = "equity", description = "Equity API calculates the chance of hands winning.")
+public class EquityController {
+
+  private final AppConfig appConfig;
+  private final UserService userService;
+  private final JwtService jwtService;
+  private final WebSocketService webSocketService;
+  private final GameConstants constants;
+  private final PreflopEquityService preflopEquityService;
+  private final RangeEquityService rangeEquityService;
+
+  /**
+   * Looks up the preflop all-in equity of one starting hand against another.
+   *
+   * @param jwt Authorization token.
+   * @param hand Player's starting hand, e.g. AKs.
+   * @param versus Opponent's starting hand, e.g. QQ.
+   * @return The equity of the player's starting hand, or a BAD REQUEST status if either hand is not
+   *     valid.
+   */
+  @Operation(
+      summary = "Preflop equity",
+      description = "Looks up the preflop all-in equity of one starting hand against another.",
+      tags = "equity")
+  @ApiResponses(
+      @ApiResponse(
+          responseCode = "200",
+          description = "Equity was found.",
+          content =
+              @Content(
+                  schema = @Schema(implementation = PreflopEquity.class),
+                  mediaType = MediaType.APPLICATION_JSON_VALUE)))
+  @RequestMapping(value = "/preflop/{hand}/{versus}", method = RequestMethod.GET)
+  public ResponseEntity<PreflopEquity> getPreflopEquity(
+      @Parameter(hidden = true) @RequestHeader("Authorization") String jwt,
+      @PathVariable String hand,
+      @PathVariable String versus) {
+    userService.validate(jwt, constants.getClientGroups());
+    return ResponseEntity.ok(preflopEquityService.getEquity(hand, versus));
+  }
+
+  /**
+   * Calculates the equities of two or more hand ranges against each other, with an optional board.
+   * The calculation is abandoned if the client disconnects or the request times out before it
+   * completes.
+   *
+   * @param jwt Authorization token.
+   * @param request Ranges and board.
+   * @return The equity of each range, or a BAD REQUEST status if a range or the board is not valid.
+   */
+  @Operation(
+      summary = "Range equity",
+      description = "Calculates the equities of two or more hand ranges against each other.",
+      tags = "equity")
+  @ApiResponses(
+      @ApiResponse(
+          responseCode = "200",
+          description = "Equities were calculated.",
+          content =
+              @Content(
+                  schema = @Schema(implementation = RangeEquityResult.class),
+                  mediaType = MediaType.APPLICATION_JSON_VALUE)))
+  @RequestMapping(value = "/range", method = RequestMethod.POST)
+  public DeferredResult<ResponseEntity<RangeEquityResult>> getRangeEquity(
+      @Parameter(hidden = true) @RequestHeader("Authorization") String jwt,
+      @RequestBody RangeEquityRequest request) {
+    userService.validate(jwt, constants.getClientGroups());
+    final AtomicBoolean cancelled = new AtomicBoolean();
+    final DeferredResult<ResponseEntity<RangeEquityResult>> deferredResult =
+        new DeferredResult<>(appConfig.getRangeEquityRequestTimeoutInMs());
+    deferredResult.onTimeout(() -> cancelled.set(true));
+    deferredResult.onError(e -> cancelled.set(true));
+    deferredResult.onCompletion(() -> cancelled.set(true));
+    rangeEquityService
+        .calculate(request, cancelled)
+        .whenComplete(
+            (result, e) -> {
+              if (e != null) {
+                deferredResult.setErrorResult(unwrap(e));
+              } else {
+                deferredResult.setResult(ResponseEntity.ok(result));
+              }
+            });
+    return deferredResult;
+  }
+
+  /**
+   * Calculates the equities of two or more hand ranges against each other, and sends the result to
+   * the client's private topic. The calculation is abandoned if the client disconnects before it
+   * completes. If the request is not valid or the calculation fails, the reason is sent to the
+   * client's private topic instead.
+   *
+   * @param message Message containing the client's JWT, and the ranges and board.
+   * @param sessionId ID of the client's web socket session.
+   */
+  @MessageMapping("/equity/range")
+  public void requestRangeEquity(
+      final ClientMessage<RangeEquityRequest> message,
+      @Header("simpSessionId") final String sessionId) {
+    userService.validate(message.getJwt(), constants.getClientGroups());
+    final User user = jwtService.getUserDocument(message.getJwt());
+    final UUID requestId = message.getData() == null ? null : message.getData().getId();
+    try {
+      rangeEquityService
+          .calculate(message.getData(), sessionId)
+          .whenComplete(
+              (result, e) -> {
+                if (e != null) {
+                  sendRangeEquityError(user.getId(), requestId, unwrap(e));
+                } else if (result != null) {
+                  webSocketService.sendPrivateMessage(
+                      user.getId(), new GenericServerMessage<>(MessageType.RangeEquity, result));
+                }
+              });
+    } catch (final BadRequestException e) {
+      sendRangeEquityError(user.getId(), requestId, e);
+    }
+  }
+
+  /** Sends the reason that a range equity request failed to a client's private topic. */
+  private void sendRangeEquityError(final UUID userId, final UUID requestId, final Throwable e) {
+    final ApiError error;
+    if (e instanceof BadRequestException) {
+      error = ((BadRequestException) e).getApiError();
+    } else {
+      log.error("Failed to calculate range equities.", e);
+      error =
+          new ApiError("Range Equity Failed", "The equities could not be calculated.", new Date());
+    }
+    webSocketService.sendPrivateMessage(
+        userId,
+        new GenericServerMessage<>(
+            MessageType.RangeEquityError, new RangeEquityError(requestId, error)));
+  }
+
+  /** Returns the exception that caused a future to complete exceptionally. */
+  private static Throwable unwrap(final Throwable e) {
+    return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+  }
+}
@@ -1,8 +1,6 @@
 package com.poker.poker.controllers;
 
 import static com.poker.poker.models.enums.MessageType.PlayerData;
-import static com.poker.poker.utilities.PokerTableUtilities.hideCards;
-import static com.poker.poker.utilities.PokerTableUtilities.hideFoldedCards;
 import static com.poker.poker.utilities.PokerTableUtilities.numInHand;
 
 import com.poker.poker.config.AppConfig;
@@ -20,6 +18,7 @@ import com.poker.poker.models.game.GameActionData;
 import com.poker.poker.models.game.GameParameter;
 import com.poker.poker.models.game.GamePlayer;
 import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.game.TableState;
 import com.poker.poker.models.user.User;
 import com.poker.poker.models.websocket.ClientMessage;
 import com.poker.poker.models.websocket.GenericServerMessage;
@@ -87,9 +86,8 @@ public class WebSocketController {
           data = this.data.getPlayer(updateModel.getId());
           break;
         case PokerTable:
-          PokerTable table = this.data.getPokerTable(updateModel.getId());
-          table = table.isBetting() ? hideCards(table) : table;
-          data = table;
+          final TableState state = this.data.getTableState(updateModel.getId());
+          data = state.getTable().isBetting() ? state.getObfuscatedTable() : state.getTable();
           break;
         default:
           data = null;
@@ -144,16 +142,18 @@ public class WebSocketController {
     userService.validate(message.getJwt(), appConfig.getGeneralGroups());
     final User user = jwtService.getUserDocument(message.getJwt());
     final Game game = this.data.getUsersGame(user.getId());
-    final PokerTable table = this.data.getPokerTable(game.getId());
+    final TableState state = this.data.getTableState(game.getId());
+    final PokerTable table = state.getTable();
     final GamePlayer player = table.getPlayer(user.getId());
 
     if (table.isBetting() || numInHand(table) == 1) {
       publisher.publishEvent(
-          new PrivateMessageEvent<>(this, MessageType.PokerTable, user.getId(), hideCards(table)));
+          new PrivateMessageEvent<>(
+              this, MessageType.PokerTable, user.getId(), state.getObfuscatedTable()));
     } else {
       publisher.publishEvent(
           new PrivateMessageEvent<>(
-              this, MessageType.PokerTable, user.getId(), hideFoldedCards(table)));
+              this, MessageType.PokerTable, user.getId(), state.getTableWithFoldedCardsHidden()));
     }
     publisher.publishEvent(new PrivateMessageEvent<>(this, PlayerData, player.getId(), player));
     if (!table.isBetting()) {
@@ -199,6 +199,15 @@ public class WebSocketController {
   @MessageMapping("/game/act")
   public void performGameAction(final ClientMessage<GameActionData> message) {
     userService.validate(message.getJwt(), appConfig.getGeneralGroups());
+    final User user = jwtService.getUserDocument(message.getJwt());
+    // Invalid actions are rejected here, so the game only has to handle valid actions.
+    if (!data.acceptAction(user.getId(), message.getData())) {
+      log.debug(
+          "Rejected {} action from user {}.",
+          message.getData() == null ? null : message.getData().getActionType(),
+          user.getId());
+      return;
+    }
     log.debug("Player performed {} action.", message.getData().getActionType());
     publisher.publishEvent(new GameActionEvent(this, message.getData()));
   }
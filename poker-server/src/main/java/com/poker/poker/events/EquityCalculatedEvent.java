@@ -0,0 +1,47 @@
+package com.poker.poker.events;
+
+import com.poker.poker.models.game.Equity;
+import com.poker.poker.utilities.EquityEnumeration;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class EquityCalculatedEvent extends ApplicationEvent {
+
+  /** Game ID. */
+  private final UUID id;
+
+  /** Round the equities were calculated for. */
+  private final int round;
+
+  /** Number of shared cards on the board the equities were calculated for. */
+  private final int numSharedCards;
+
+  /** Equity of each player in the hand, or <code>null</code> if the calculation failed. */
+  private final List<Equity> equities;
+
+  /** Enumeration the equities were taken from if they're exact, <code>null</code> otherwise. */
+  private final EquityEnumeration enumeration;
+
+  /** Flag that is true when the hand phase transition is waiting for these equities. */
+  private final boolean transitionPending;
+
+  public EquityCalculatedEvent(
+      final Object source,
+      final UUID id,
+      final int round,
+      final int numSharedCards,
+      final List<Equity> equities,
+      final EquityEnumeration enumeration,
+      final boolean transitionPending) {
+    super(source);
+    this.id = id;
+    this.round = round;
+    this.numSharedCards = numSharedCards;
+    this.equities = equities;
+    this.enumeration = enumeration;
+    this.transitionPending = transitionPending;
+  }
+}
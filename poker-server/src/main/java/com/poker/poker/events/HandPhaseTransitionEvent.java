@@ -10,8 +10,17 @@ public class HandPhaseTransitionEvent extends ApplicationEvent {
   /** Game ID. */
   private final UUID id;
 
+  /** Flag that is true once the equities of an all-in runout have been worked out for the board. */
+  private final boolean equitiesCalculated;
+
   public HandPhaseTransitionEvent(final Object source, final UUID id) {
+    this(source, id, false);
+  }
+
+  public HandPhaseTransitionEvent(
+      final Object source, final UUID id, final boolean equitiesCalculated) {
     super(source);
     this.id = id;
+    this.equitiesCalculated = equitiesCalculated;
   }
 }
@@ -0,0 +1,6 @@
+package com.poker.poker.models.enums;
+
+public enum DeckRngType {
+  SplittableRandom,
+  Xoshiro
+}
@@ -0,0 +1,9 @@
+package com.poker.poker.models.enums;
+
+public enum DrawType {
+  FlushDraw,
+  OpenEndedStraightDraw,
+  Gutshot,
+  BackdoorFlushDraw,
+  BackdoorStraightDraw
+}
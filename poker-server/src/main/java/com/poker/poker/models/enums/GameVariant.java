@@ -0,0 +1,7 @@
+package com.poker.poker.models.enums;
+
+public enum GameVariant {
+  Holdem,
+  Omaha,
+  ShortDeck
+}
@@ -0,0 +1,6 @@
+package com.poker.poker.models.enums;
+
+public enum HandEvaluatorMode {
+  Bitmask,
+  LookupTable
+}
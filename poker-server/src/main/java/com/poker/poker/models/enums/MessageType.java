@@ -24,5 +24,8 @@ public enum MessageType {
   Deal,
   Timer,
   HideCards,
-  Cards
+  Cards,
+  RangeEquity,
+  RangeEquityError,
+  LegalActions
 }
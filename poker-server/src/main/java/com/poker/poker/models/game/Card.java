@@ -1,29 +1,152 @@
 package com.poker.poker.models.game;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.poker.poker.models.enums.CardSuit;
 import com.poker.poker.models.enums.CardValue;
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * Immutable model of a card. Each of the 52 cards in a deck, and the face down card, has a
+ * canonical instance and an integer code, where codes 0 to 51 are ordered by suit and then by
+ * value, and {@link #BACK} is the face down card. Cards should be obtained with {@link
+ * #of(CardSuit, CardValue)} or {@link #of(int)}, which never allocate, so cards can be shared
+ * freely between decks, players and copies of tables. Cards are serialized as their suit and value,
+ * and deserialized to the canonical instance.
+ */
+@Getter
+@EqualsAndHashCode(of = {"suit", "value"})
+@ToString(of = {"suit", "value"})
 @Schema(description = "Model of a card.")
-public class Card {
+public final class Card {
+
+  /** Number of cards in a deck, which is also the number of codes of cards that are face up. */
+  public static final int NUM_CARDS = 52;
+
+  /** Code of the face down card. */
+  public static final int BACK = NUM_CARDS;
+
+  /** Number of values in each suit. */
+  private static final int NUM_VALUES = 13;
+
+  /** Canonical cards, indexed by code. */
+  private static final Card[] CARDS = new Card[NUM_CARDS + 1];
+
+  /** Numerical value of each card, from 2 (Two) to 14 (Ace), or 1 for the face down card. */
+  private static final byte[] VALUES = new byte[NUM_CARDS + 1];
+
+  static {
+    for (final CardSuit suit : CardSuit.values()) {
+      for (final CardValue value : CardValue.values()) {
+        if (suit != CardSuit.Back && value != CardValue.Back) {
+          final int code = code(suit, value);
+          CARDS[code] = new Card(suit, value, code);
+          VALUES[code] = (byte) (code % NUM_VALUES + 2);
+        }
+      }
+    }
+    CARDS[BACK] = new Card(CardSuit.Back, CardValue.Back, BACK);
+    VALUES[BACK] = 1;
+  }
 
   @Schema(
       description = "The suit of the card.",
       example = "Spades",
       implementation = CardSuit.class)
-  private CardSuit suit;
+  private final CardSuit suit;
 
   @Schema(description = "The value of the card.", example = "Ace", implementation = CardValue.class)
-  private CardValue value;
+  private final CardValue value;
+
+  /** Code of the card, which is not sent to clients. */
+  @JsonIgnore private final int code;
+
+  private Card(final CardSuit suit, final CardValue value, final int code) {
+    this.suit = suit;
+    this.value = value;
+    this.code = code;
+  }
+
+  /**
+   * Creates a card which is equal to the canonical card with the same suit and value. Prefer {@link
+   * #of(CardSuit, CardValue)}, which doesn't allocate.
+   *
+   * @param suit Suit of the card.
+   * @param value Value of the card.
+   */
+  public Card(final CardSuit suit, final CardValue value) {
+    this(suit, value, code(suit, value));
+  }
 
   public Card(final Card card) {
-    suit = card.getSuit();
-    value = card.getValue();
+    this(card.getSuit(), card.getValue(), card.getCode());
+  }
+
+  /**
+   * Returns the canonical card with the specified suit and value. A card which has a suit or value
+   * of <code>Back</code>, but not both, has no canonical instance, so a new card is created.
+   *
+   * @param suit Suit of the card.
+   * @param value Value of the card.
+   * @return The card.
+   */
+  @JsonCreator
+  public static Card of(
+      @JsonProperty("suit") final CardSuit suit, @JsonProperty("value") final CardValue value) {
+    final int code = code(suit, value);
+    final Card card = CARDS[code];
+    return card.getSuit() == suit && card.getValue() == value ? card : new Card(suit, value, code);
+  }
+
+  /**
+   * Returns the canonical card with the specified code.
+   *
+   * @param code Code of the card, from 0 to {@link #BACK}.
+   * @return The card.
+   */
+  public static Card of(final int code) {
+    return CARDS[code];
+  }
+
+  /**
+   * Returns the code of a card. Cards with a suit or value of <code>Back</code> all have the code
+   * {@link #BACK}.
+   *
+   * @param suit Suit of the card.
+   * @param value Value of the card.
+   * @return Code of the card.
+   */
+  public static int code(final CardSuit suit, final CardValue value) {
+    if (suit == null || value == null || suit == CardSuit.Back || value == CardValue.Back) {
+      return BACK;
+    }
+    return suit.ordinal() * NUM_VALUES + CardValue.Two.ordinal() - value.ordinal();
+  }
+
+  /**
+   * Returns the numerical value of a card, which is the same as in <code>CardUtilities.cardValues
+   * </code>.
+   *
+   * @param code Code of the card.
+   * @return Value of the card, from 2 (Two) to 14 (Ace), or 1 for the face down card.
+   */
+  public static int val(final int code) {
+    return VALUES[code];
+  }
+
+  /**
+   * Returns the ordinal of the suit of a card, which is also the lane the card occupies in a card
+   * mask.
+   *
+   * @param code Code of the card (cannot be {@link #BACK}).
+   * @return Ordinal of the card's suit.
+   */
+  public static int suitOrdinal(final int code) {
+    assert code != BACK;
+    return code / NUM_VALUES;
   }
 }
@@ -2,37 +2,104 @@ package com.poker.poker.models.game;
 
 import com.poker.poker.models.enums.CardSuit;
 import com.poker.poker.models.enums.CardValue;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
-import io.swagger.v3.oas.annotations.media.Schema;
+import com.poker.poker.models.enums.GameVariant;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.Getter;
 
-@Getter
+/**
+ * Deck of cards, which stores the codes of its cards (see {@link Card#of(int)}) in an array, in the
+ * order they are drawn, along with the number of cards that have been drawn so far. Drawing a card
+ * and restoring the deck never allocate or move any other cards.
+ *
+ * <p>Shuffling is lazy: instead of randomizing the whole deck up front, each card is picked at
+ * random from the cards that remain when it is drawn (i.e. a partial Fisher-Yates shuffle), so only
+ * the cards that are actually dealt are randomized. Cards that are looked at before they are drawn,
+ * e.g. with {@link #peek(int)}, are randomized at that point, so that they are drawn in the order
+ * they were seen.
+ *
+ * <p>A deck with a {@link DeckShuffler} lets the shuffler shuffle each hand, either with a
+ * generator of the hand's own, created from a seed, or with an order of the cards that was made
+ * ahead of time. Seeded hands start from the same order of cards, so the exact deal of a hand can
+ * be regenerated from its seed with {@link #restoreAndShuffle(DeckRandom, long)}. Hands dealt from
+ * an order made ahead of time have no seed, see {@link #isSeeded()}. Decks without a shuffler are
+ * shuffled with <code>ThreadLocalRandom</code>.
+ */
 public class Deck {
 
-  // TODO: Refactor to use a stack, since this is more appropriate.
-  @ArraySchema(schema = @Schema(implementation = Card.class))
-  private List<Card> cards;
+  /** The variant of poker the deck is used for, which determines which cards are in the deck. */
+  @Getter private final GameVariant variant;
 
-  @ArraySchema(schema = @Schema(implementation = Card.class))
-  private List<Card> usedCards;
+  /** Codes of the cards, in the order they are drawn. */
+  private byte[] cards;
+
+  /** Codes of the cards, in the order they were in before any hand was shuffled. */
+  private byte[] order;
+
+  /** Number of cards that have been drawn, i.e. the index of the next card to be drawn. */
+  private int next;
+
+  /**
+   * Index of the first card whose position has not been randomized yet. Every card from this index
+   * onwards is picked at random when it is needed.
+   */
+  private int shuffled;
+
+  /** Shuffler of each hand, or null if the deck uses <code>ThreadLocalRandom</code>. */
+  private final DeckShuffler shuffler;
+
+  /** Generator of the current hand, or null if the deck uses <code>ThreadLocalRandom</code>. */
+  private DeckRandom rng;
+
+  /** Seed of the current hand, which is only meaningful when the hand was shuffled by a seed. */
+  @Getter private long seed;
+
+  /** Flag that is true when the current hand was shuffled by a seed, see {@link #getSeed()}. */
+  @Getter private boolean seeded;
+
+  /**
+   * Order of the cards of the current hand when it was made ahead of time, or null otherwise. The
+   * hand has no seed, so the permutation is kept as the record of its deal.
+   */
+  @Getter private byte[] permutation;
 
   public Deck() {
+    this(GameVariant.Holdem);
+  }
+
+  /**
+   * Creates a fresh deck for a variant of poker. Short deck is played with 36 cards, where every
+   * card below a Six is removed, while every other variant is played with all 52 cards.
+   *
+   * @param variant The variant of poker the deck is used for.
+   */
+  public Deck(final GameVariant variant) {
+    this(variant, null);
+  }
+
+  /**
+   * Creates a fresh deck for a variant of poker, whose hands are shuffled by a shuffler.
+   *
+   * @param variant The variant of poker the deck is used for.
+   * @param shuffler Shuffler of each hand, or null to use <code>ThreadLocalRandom</code>.
+   */
+  public Deck(final GameVariant variant, final DeckShuffler shuffler) {
+    this.variant = variant;
+    this.shuffler = shuffler;
     freshDeck();
-    usedCards = new ArrayList<>(52);
   }
 
   public Deck(List<Card> cards) {
-    this.cards = cards;
-    usedCards = new ArrayList<>();
+    this.variant = GameVariant.Holdem;
+    this.shuffler = null;
+    setCards(cards);
   }
 
-  /** Randomizes the cards in the deck (shuffle). */
+  /** Randomizes the cards in the deck (shuffle). The cards are picked when they are drawn. */
   public void shuffle() {
-    Collections.shuffle(cards);
+    shuffled = next;
   }
 
   /**
@@ -44,7 +111,6 @@ public class Deck {
    */
   public List<List<Card>> deal(int numPlayers, int numCardsPerHand) {
     restoreAndShuffle();
-    shuffle();
     final List<List<Card>> hands = new ArrayList<>();
     for (int i = 0; i < numPlayers; i++) {
       hands.add(new ArrayList<>());
@@ -57,15 +123,44 @@ public class Deck {
     return hands;
   }
 
-  /** Adds all used cards back to the deck. */
+  /** Adds all used cards back to the deck, in the order they were drawn. */
   public void restoreDeck() {
-    cards.addAll(usedCards);
-    usedCards = new ArrayList<>();
+    next = 0;
   }
 
+  /**
+   * Adds all used cards back to the deck and shuffles it. When the deck has a shuffler, the
+   * shuffler shuffles the hand (see {@link #getSeed()}), and otherwise none of the cards are
+   * touched until they are picked with <code>ThreadLocalRandom</code>.
+   */
   public void restoreAndShuffle() {
-    restoreDeck();
-    shuffle();
+    if (shuffler != null && shuffler.shuffle(this)) {
+      return;
+    }
+    next = 0;
+    shuffled = 0;
+    rng = null;
+    seeded = false;
+    permutation = null;
+  }
+
+  /**
+   * Adds all used cards back to the deck, puts them back in their original order, and shuffles them
+   * with a generator created from a seed. Decks with the same cards deal the same cards in the same
+   * order after being shuffled by the same generator, which is used to regenerate the deal of a
+   * hand.
+   *
+   * @param rng Generator, which was created from the seed.
+   * @param seed Seed of the generator.
+   */
+  public void restoreAndShuffle(final DeckRandom rng, final long seed) {
+    System.arraycopy(order, 0, cards, 0, cards.length);
+    next = 0;
+    shuffled = 0;
+    this.rng = rng;
+    this.seed = seed;
+    seeded = true;
+    permutation = null;
   }
 
   /**
@@ -74,39 +169,70 @@ public class Deck {
    * @return The card which was drawn.
    */
   public Card draw() {
-    usedCards.add(cards.remove(cards.size() - 1));
-    return usedCards.get(usedCards.size() - 1);
+    randomize(next + 1);
+    return Card.of(cards[next++]);
   }
 
   /** Removes a card from the deck (burns a card). */
   public void burn() {
-    usedCards.add(cards.remove(cards.size() - 1));
+    randomize(next + 1);
+    next++;
   }
 
   public void freshDeck() {
-    cards = new ArrayList<>(52);
+    final List<Card> fresh = new ArrayList<>(Card.NUM_CARDS);
     for (final CardSuit cardSuit : CardSuit.values()) {
       for (final CardValue cardValue : CardValue.values()) {
         if (cardSuit == CardSuit.Back || cardValue == CardValue.Back) {
           continue;
         }
-        cards.add(new Card(cardSuit, cardValue));
+        // Card values are declared from highest to lowest.
+        if (variant == GameVariant.ShortDeck && cardValue.compareTo(CardValue.Six) > 0) {
+          continue;
+        }
+        fresh.add(Card.of(cardSuit, cardValue));
       }
     }
+    setCards(fresh);
+  }
+
+  /**
+   * Adds all used cards back to the deck, and puts them in the order of a shuffle that was made
+   * ahead of time. The hand has no seed, so the permutation is kept, see {@link #getPermutation()}.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>The permutation has as many cards as the deck.
+   * </ol>
+   *
+   * @param permutation Position of each card in the deck's original order, in the order the cards
+   *     are drawn.
+   */
+  public void restoreAndShuffle(final byte[] permutation) {
+    assert permutation.length == cards.length;
+    for (int i = 0; i < cards.length; i++) {
+      cards[i] = order[permutation[i]];
+    }
+    next = 0;
+    shuffled = cards.length;
+    // The shuffle is complete, so the deck is only shuffled again if shuffle() is called.
+    rng = null;
+    seeded = false;
+    this.permutation = permutation;
   }
 
   /**
    * Take a look at the top <code>n</code> cards of the deck. Used for testing and debugging.
    *
    * @param n The number of cards to peek at.
-   * @return A list of the top <code>n</code> cards in the deck (cards are deep copies).
+   * @return A list of the top <code>n</code> cards in the deck, in the order they will be drawn.
    */
   public List<Card> peek(int n) {
-    final List<Card> topCards =
-        cards.subList(cards.size() - n, cards.size()).stream()
-            .map(Card::new)
-            .collect(Collectors.toList());
-    Collections.reverse(topCards);
+    randomize(next + n);
+    final List<Card> topCards = new ArrayList<>(n);
+    for (int i = next; i < next + n; i++) {
+      topCards.add(Card.of(cards[i]));
+    }
     return topCards;
   }
 
@@ -116,7 +242,7 @@ public class Deck {
    * @return The number of cards remaining in the deck.
    */
   public int numCardsRemaining() {
-    return cards.size();
+    return cards.length - next;
   }
 
   /**
@@ -125,10 +251,88 @@ public class Deck {
    * @return The number of cards used in the deck.
    */
   public int numCardsUsed() {
-    return usedCards.size();
+    return next;
   }
 
+  /**
+   * Returns a view of the cards remaining in the deck, where the last card is the next card to be
+   * drawn. Cards can be replaced through the view, which is used to stack the deck in tests. The
+   * remaining cards are randomized first if the deck was shuffled, so this is only meant for
+   * testing and debugging.
+   *
+   * @return The cards remaining in the deck.
+   */
+  public List<Card> getCards() {
+    randomize(cards.length);
+    return new AbstractList<Card>() {
+      @Override
+      public Card get(final int index) {
+        return Card.of(cards[position(index)]);
+      }
+
+      @Override
+      public Card set(final int index, final Card card) {
+        final Card previous = get(index);
+        cards[position(index)] = (byte) card.getCode();
+        return previous;
+      }
+
+      @Override
+      public int size() {
+        return numCardsRemaining();
+      }
+
+      private int position(final int index) {
+        if (index < 0 || index >= size()) {
+          throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return cards.length - 1 - index;
+      }
+    };
+  }
+
+  /**
+   * Returns the cards which have been drawn since the deck was last restored.
+   *
+   * @return The cards which were drawn, in the order they were drawn.
+   */
+  public List<Card> getUsedCards() {
+    final List<Card> used = new ArrayList<>(next);
+    for (int i = 0; i < next; i++) {
+      used.add(Card.of(cards[i]));
+    }
+    return used;
+  }
+
+  /**
+   * Replaces the cards in the deck, which are drawn from the end of the list, without shuffling.
+   *
+   * @param cards The cards, where the last card is the first card to be drawn.
+   */
   public void setCards(final List<Card> cards) {
-    this.cards = cards;
+    final byte[] codes = new byte[cards.size()];
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = (byte) cards.get(codes.length - 1 - i).getCode();
+    }
+    this.cards = codes;
+    order = codes.clone();
+    next = 0;
+    shuffled = codes.length;
+  }
+
+  /** Picks random cards for the positions up to <code>end</code> that haven't been picked yet. */
+  private void randomize(final int end) {
+    if (shuffled >= end) {
+      return;
+    }
+    for (; shuffled < end && shuffled < cards.length; shuffled++) {
+      final int bound = cards.length - shuffled;
+      final int j =
+          shuffled
+              + (rng != null ? rng.nextInt(bound) : ThreadLocalRandom.current().nextInt(bound));
+      final byte card = cards[j];
+      cards[j] = cards[shuffled];
+      cards[shuffled] = card;
+    }
   }
 }
@@ -0,0 +1,22 @@
+package com.poker.poker.models.game;
+
+/**
+ * Random number generator that a {@link Deck} picks its cards with. Generators are not thread safe,
+ * and are only meant to be used by one deck at a time.
+ */
+@FunctionalInterface
+public interface DeckRandom {
+
+  /**
+   * Returns a random number.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>bound > 0</code>
+   * </ol>
+   *
+   * @param bound Upper bound (exclusive) of the number.
+   * @return A uniformly distributed number between 0 (inclusive) and <code>bound</code>.
+   */
+  int nextInt(int bound);
+}
@@ -0,0 +1,20 @@
+package com.poker.poker.models.game;
+
+/**
+ * Shuffles a {@link Deck} when a hand starts. The deck only knows how to deal from a generator, or
+ * from an order of its cards that was made ahead of time, while the shuffler decides where those
+ * come from, e.g. a seeder or a pipeline of shuffles.
+ */
+@FunctionalInterface
+public interface DeckShuffler {
+
+  /**
+   * Adds all used cards back to a deck and shuffles it for the next hand, with {@link
+   * Deck#restoreAndShuffle(DeckRandom, long)} or {@link Deck#restoreAndShuffle(byte[])}.
+   *
+   * @param deck The deck.
+   * @return False if the deck was not shuffled, in which case the deck shuffles itself with <code>
+   *     ThreadLocalRandom</code>.
+   */
+  boolean shuffle(Deck deck);
+}
@@ -0,0 +1,39 @@
+package com.poker.poker.models.game;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.poker.poker.models.enums.DrawType;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Draws a player has, and the number of cards that complete them.")
+public class Draws {
+
+  /** Number of unseen cards that complete at least one of the draws. */
+  @Schema(description = "Number of unseen cards that complete at least one draw.", example = "9")
+  private int outs;
+
+  /** Types of draws the player has. */
+  @ArraySchema(schema = @Schema(implementation = DrawType.class))
+  private List<DrawType> types = new ArrayList<>();
+
+  /** Card mask of the player's hole cards. */
+  @JsonIgnore private long holeCards;
+
+  /** Card mask of the shared cards that have been dealt so far. */
+  @JsonIgnore private long board;
+
+  public Draws(final Draws draws) {
+    outs = draws.getOuts();
+    types = new ArrayList<>(draws.getTypes());
+    holeCards = draws.getHoleCards();
+    board = draws.getBoard();
+  }
+}
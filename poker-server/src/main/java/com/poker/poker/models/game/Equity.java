@@ -0,0 +1,32 @@
+package com.poker.poker.models.game;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Chance of a player winning a hand once all remaining players are all-in.")
+public class Equity {
+
+  /** Player's ID. */
+  @Schema(description = "Player's ID.")
+  private UUID id;
+
+  /** Probability that the player wins the entire pot. */
+  @Schema(description = "Probability that the player wins the entire pot.", example = "0.42")
+  private double win;
+
+  /** Probability that the player splits the pot with at least one other player. */
+  @Schema(
+      description = "Probability that the player splits the pot with at least one other player.",
+      example = "0.05")
+  private double tie;
+
+  /** Expected share of the pot, i.e. the win probability plus the expected share of ties. */
+  @Schema(description = "Expected share of the pot.", example = "0.445")
+  private double equity;
+}
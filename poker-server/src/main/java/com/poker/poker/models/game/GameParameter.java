@@ -1,6 +1,7 @@
 package com.poker.poker.models.game;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.poker.poker.models.enums.GameVariant;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import javax.validation.constraints.Max;
@@ -38,4 +39,16 @@ public class GameParameter {
   @Schema(description = "Buy-in required to play in the game.", example = "25")
   @JsonProperty(required = true)
   private BigDecimal buyIn;
+
+  /** The variant of poker that is played. */
+  @NotNull(message = "Variant cannot be null.")
+  @Schema(
+      description = "The variant of poker that is played.",
+      example = "Holdem",
+      implementation = GameVariant.class)
+  private GameVariant variant = GameVariant.Holdem;
+
+  public GameParameter(final String name, final int maxPlayers, final BigDecimal buyIn) {
+    this(name, maxPlayers, buyIn, GameVariant.Holdem);
+  }
 }
@@ -1,11 +1,12 @@
 package com.poker.poker.models.game;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.poker.poker.models.user.User;
+import com.poker.poker.utilities.Chips;
+import com.poker.poker.utilities.SeatIndex;
 import io.swagger.v3.oas.annotations.media.Schema;
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -44,6 +45,13 @@ public class GamePlayer extends Player {
   @Schema(description = "Player bet entire bankroll.", example = "false")
   protected boolean allIn = false;
 
+  /** Draws the player has on the current street, or null when draws aren't tracked. */
+  @Schema(implementation = Draws.class)
+  protected Draws draws = null;
+
+  /** Index of the table the player is seated at, which is updated when the flags above change. */
+  @JsonIgnore protected SeatIndex seatIndex = null;
+
   public GamePlayer(final Player player) {
     super(player);
     away = false;
@@ -61,23 +69,43 @@ public class GamePlayer extends Player {
     folded = player.isFolded();
     allIn = player.isAllIn();
     controls = player.getControls();
-    cards =
-        player.getCards().stream()
-            .map(c -> new Card(c.getSuit(), c.getValue()))
-            .collect(Collectors.toList());
+    draws = player.getDraws() == null ? null : new Draws(player.getDraws());
+    // Cards are immutable, so they can be shared with the copy.
+    cards = new ArrayList<>(player.getCards());
   }
 
   public GamePlayer(final User user) {
     super(user);
   }
 
+  public void setOut(final boolean out) {
+    this.out = out;
+    seatChanged();
+  }
+
+  public void setFolded(final boolean folded) {
+    this.folded = folded;
+    seatChanged();
+  }
+
+  public void setAllIn(final boolean allIn) {
+    this.allIn = allIn;
+    seatChanged();
+  }
+
+  private void seatChanged() {
+    if (seatIndex != null) {
+      seatIndex.update(this);
+    }
+  }
+
   /**
    * Getter for player's current bank roll which bypasses the need to get this through the <code>
    * controls</code> field.
    *
    * @return Players current number of chips (bank roll).
    */
-  public BigDecimal getChips() {
+  public long getChips() {
     return controls.getBankRoll();
   }
 
@@ -87,7 +115,7 @@ public class GamePlayer extends Player {
    *
    * @param value The value that the player's bank roll should be set to.
    */
-  public void setChips(final BigDecimal value) {
+  public void setChips(final long value) {
     controls.setBankRoll(value);
   }
 
@@ -97,8 +125,8 @@ public class GamePlayer extends Player {
    *
    * @param value The value that the player's bank roll should be increased by.
    */
-  public void addChips(final BigDecimal value) {
-    controls.setBankRoll(controls.getBankRoll().add(value));
+  public void addChips(final long value) {
+    controls.setBankRoll(Chips.add(controls.getBankRoll(), value));
   }
 
   /**
@@ -107,8 +135,8 @@ public class GamePlayer extends Player {
    *
    * @param value The value that the player's bank roll should be decreased by.
    */
-  public void removeChips(final BigDecimal value) {
-    controls.setBankRoll(controls.getBankRoll().subtract(value));
+  public void removeChips(final long value) {
+    controls.setBankRoll(Chips.subtract(controls.getBankRoll(), value));
   }
 
   /**
@@ -117,7 +145,7 @@ public class GamePlayer extends Player {
    *
    * @return Current wager in a hand.
    */
-  public BigDecimal getBet() {
+  public long getBet() {
     return controls.getCurrentBet();
   }
 
@@ -127,7 +155,7 @@ public class GamePlayer extends Player {
    *
    * @param value The value that the player's current wager should be set to.
    */
-  public void setBet(final BigDecimal value) {
+  public void setBet(final long value) {
     controls.setCurrentBet(value);
   }
 
@@ -137,7 +165,7 @@ public class GamePlayer extends Player {
    *
    * @return Amount required to call in a hand.
    */
-  public BigDecimal getToCall() {
+  public long getToCall() {
     return controls.getToCall();
   }
 
@@ -147,7 +175,7 @@ public class GamePlayer extends Player {
    *
    * @param value The value that the player's to call amount should be set to.
    */
-  public void setToCall(final BigDecimal value) {
+  public void setToCall(final long value) {
     controls.setToCall(value);
   }
 }
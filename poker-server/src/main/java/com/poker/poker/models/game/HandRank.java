@@ -5,9 +5,11 @@ import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import java.util.UUID;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 
 @Data
+@AllArgsConstructor
 @Schema(description = "Contains a hand with it's corresponding rank.")
 public class HandRank implements Comparable<HandRank> {
 
@@ -19,12 +21,16 @@ public class HandRank implements Comparable<HandRank> {
   private final List<Card> hand;
   /** Player's ID. */
   @Schema(description = "Player's ID.")
-  private UUID id;
+  private final UUID id;
 
   /** Type of hand. */
   @Schema(description = "Type of hand.", example = "Full House", implementation = HandType.class)
   private final HandType type;
 
+  public HandRank(final int rank, final List<Card> hand, final HandType type) {
+    this(rank, hand, null, type);
+  }
+
   @Override
   public int compareTo(final HandRank o) {
     return Integer.compare(rank, o.getRank());
@@ -0,0 +1,81 @@
+package com.poker.poker.models.game;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.poker.poker.models.enums.GameAction;
+import com.poker.poker.utilities.Chips;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Actions the acting player is allowed to perform on their turn. This is worked out once when the
+ * turn starts, sent to the player, and used to reject invalid actions before they reach the game.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Actions the acting player is allowed to perform on their turn.")
+public class LegalActions {
+
+  /** ID of the player whose turn it is. */
+  @Schema(
+      description = "ID of the player whose turn it is.",
+      example = "0a7d95ef-94ba-47bc-b591-febb365bc543",
+      implementation = UUID.class)
+  private UUID playerId;
+
+  /** Actions the player is allowed to perform. */
+  @ArraySchema(schema = @Schema(implementation = GameAction.class))
+  private Set<GameAction> actions;
+
+  /** Amount the player has to put in to call. */
+  @Schema(description = "Amount required to call.", implementation = BigDecimal.class)
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long toCall = 0;
+
+  /** Smallest raise the player can make, on top of the amount to call. */
+  @Schema(description = "Smallest raise allowed.", implementation = BigDecimal.class)
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long minRaise = 0;
+
+  /** Largest raise the player can make, on top of the amount to call. */
+  @Schema(description = "Largest raise allowed.", implementation = BigDecimal.class)
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long maxRaise = 0;
+
+  /**
+   * Determines whether an action is allowed, i.e. it is performed by the player whose turn it is,
+   * it is one of the allowed actions, and if it is a raise, the raise is within bounds.
+   *
+   * @param action Action a client wants to perform.
+   * @return <code>true</code> if the action is allowed, <code>false</code> otherwise.
+   */
+  public boolean allows(final GameActionData action) {
+    if (action == null
+        || !playerId.equals(action.getPlayerId())
+        || !actions.contains(action.getActionType())) {
+      return false;
+    }
+    if (action.getActionType() != GameAction.Raise) {
+      return true;
+    }
+    if (action.getRaise() == null) {
+      return false;
+    }
+    try {
+      final long raise = Chips.of(action.getRaise());
+      return raise >= minRaise && raise <= maxRaise;
+    } catch (final ArithmeticException e) {
+      return false;
+    }
+  }
+}
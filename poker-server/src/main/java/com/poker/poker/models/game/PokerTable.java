@@ -1,16 +1,22 @@
 package com.poker.poker.models.game;
 
 import static com.poker.poker.models.enums.HandPhase.PreFlop;
-import static java.math.BigDecimal.ZERO;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.poker.poker.models.enums.GameVariant;
 import com.poker.poker.models.enums.HandPhase;
+import com.poker.poker.utilities.Chips;
+import com.poker.poker.utilities.EquityEnumeration;
+import com.poker.poker.utilities.SeatIndex;
+import com.poker.poker.utilities.SidePots;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -55,22 +61,31 @@ public class PokerTable {
 
   /** Minimum raise amount. */
   @Schema(description = "Minimum raise amount.", example = "69", implementation = BigDecimal.class)
-  private BigDecimal minRaise = ZERO;
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long minRaise = 0;
 
   /** Total amount in the pot. */
   @Schema(
       description = "Total amount in the pot.",
       example = "420.69",
       implementation = BigDecimal.class)
-  private BigDecimal pot = ZERO;
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long pot = 0;
 
-  /** Side-pots. */
+  /**
+   * Side-pots. Bets are added to them as they are made, and they are only recomputed when a player
+   * goes all-in and at the showdown. The total of the pots is always in <code>pot</code>.
+   */
   @ArraySchema(schema = @Schema(implementation = Pot.class))
   private List<Pot> pots = new ArrayList<>();
 
   /** Blinds. */
   @Schema(description = "Blinds.", example = "69", implementation = BigDecimal.class)
-  private BigDecimal blind = ZERO;
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long blind = 0;
 
   /** Blinds. */
   @Schema(description = "Current round.", example = "69")
@@ -90,8 +105,34 @@ public class PokerTable {
 
   private List<Card> sharedCards = new ArrayList<>();
 
+  /** Variant of poker played at the table. */
+  @Schema(
+      description = "Variant of poker played at the table.",
+      example = "Holdem",
+      implementation = GameVariant.class)
+  private GameVariant variant = GameVariant.Holdem;
+
+  /** Equity of each player in the hand, when all remaining players are all-in. */
+  @ArraySchema(schema = @Schema(implementation = Equity.class))
+  private List<Equity> equities = new ArrayList<>();
+
+  /** Exact equities of the current hand, kept so that they can be reused on the next street. */
+  @JsonIgnore private EquityEnumeration equityEnumeration = null;
+
+  /** Side-pot engine of the table, which is reused for every hand. */
+  @JsonIgnore private SidePots sidePots = null;
+
+  /** Seats of the players, along with which of them have folded, are all-in or are out. */
+  @JsonIgnore private final SeatIndex seatIndex = new SeatIndex();
+
   public PokerTable(final PokerTable table) {
-    players = table.getPlayers().stream().map(GamePlayer::new).collect(Collectors.toList());
+    final List<GamePlayer> copies = new ArrayList<>(table.getPlayers().size());
+    for (final GamePlayer player : table.getPlayers()) {
+      copies.add(new GamePlayer(player));
+    }
+    players = copies;
+    // The copies are seated like the original players, so the index is copied rather than rebuilt.
+    seatIndex.copy(table.getSeatIndex(), copies);
     actingPlayer = table.getActingPlayer();
     playerThatActed = table.getPlayerThatActed();
     dealer = table.getDealer();
@@ -108,6 +149,18 @@ public class PokerTable {
     winners = table.getWinners();
     sharedCards = table.getSharedCards();
     phase = table.getPhase();
+    variant = table.getVariant();
+    equities = table.getEquities();
+  }
+
+  /**
+   * Sets the players at the table, and indexes their seats.
+   *
+   * @param players Players, in the order they are seated.
+   */
+  public void setPlayers(final List<GamePlayer> players) {
+    this.players = players;
+    seatIndex.index(players);
   }
 
   /**
@@ -118,7 +171,19 @@ public class PokerTable {
    * @return Player with ID equal to <code>id</code>, or <code>null</code> if no such player exists.
    */
   public GamePlayer getPlayer(final UUID id) {
-    return players.stream().filter(p -> p.getId().equals(id)).findFirst().orElse(null);
+    final int seat = seatIndex.getSeat(id);
+    return seat < 0 ? null : players.get(seat);
+  }
+
+  /**
+   * Helper which retrieves the seat of the player with the specified ID.
+   *
+   * @param id ID of the player.
+   * @return Index of the player in the list of players, or <code>-1</code> if no such player
+   *     exists.
+   */
+  public int getSeat(final UUID id) {
+    return seatIndex.getSeat(id);
   }
 
   public void roundStarted() {
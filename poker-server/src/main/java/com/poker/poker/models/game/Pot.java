@@ -1,5 +1,8 @@
 package com.poker.poker.models.game;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.poker.poker.utilities.Chips;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
@@ -18,18 +21,22 @@ public class Pot {
 
   /** The maximum wager in this side-pot. */
   @Schema(description = "The maximum wager in this side-pot.", implementation = BigDecimal.class)
-  private BigDecimal wager = BigDecimal.ZERO;
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long wager = 0;
 
   /** The total amount in this side-pot. */
   @Schema(description = "The total amount in this side-pot.", implementation = BigDecimal.class)
-  private BigDecimal total = BigDecimal.ZERO;
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long total = 0;
 
   /**
    * Increases the total in the pot by the specified amount.
    *
    * @param amount The amount the total will by increased by.
    */
-  public void increaseTotal(final BigDecimal amount) {
-    total = total.add(amount);
+  public void increaseTotal(final long amount) {
+    total = Chips.add(total, amount);
   }
 }
@@ -0,0 +1,25 @@
+package com.poker.poker.models.game;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Preflop all-in equity of a starting hand against another starting hand.")
+public class PreflopEquity {
+
+  /** Player's starting hand. */
+  @Schema(description = "Player's starting hand.", example = "AKs")
+  private String hand;
+
+  /** Opponent's starting hand. */
+  @Schema(description = "Opponent's starting hand.", example = "QQ")
+  private String versus;
+
+  /** Expected share of the pot of the player's starting hand. */
+  @Schema(description = "Expected share of the pot of the player's hand.", example = "0.46")
+  private double equity;
+}
@@ -0,0 +1,31 @@
+package com.poker.poker.models.game;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Chance of a hand range winning against the other ranges.")
+public class RangeEquity {
+
+  /** Canonical form of the range. */
+  @Schema(description = "Canonical form of the range.", example = "QQ+,AKs")
+  private String range;
+
+  /** Probability that the range wins the entire pot. */
+  @Schema(description = "Probability that the range wins the entire pot.", example = "0.42")
+  private double win;
+
+  /** Probability that the range splits the pot with at least one other range. */
+  @Schema(
+      description = "Probability that the range splits the pot with at least one other range.",
+      example = "0.05")
+  private double tie;
+
+  /** Expected share of the pot, i.e. the win probability plus the expected share of ties. */
+  @Schema(description = "Expected share of the pot.", example = "0.445")
+  private double equity;
+}
@@ -0,0 +1,23 @@
+package com.poker.poker.models.game;
+
+import com.poker.poker.models.ApiError;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Reason that the equities of hand ranges could not be calculated.")
+public class RangeEquityError {
+
+  /** ID of the request. */
+  @Schema(description = "ID of the request.", implementation = UUID.class)
+  private UUID id;
+
+  /** Why the request failed. */
+  @Schema(description = "Why the request failed.")
+  private ApiError error;
+}
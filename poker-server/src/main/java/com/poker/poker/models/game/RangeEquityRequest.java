@@ -0,0 +1,28 @@
+package com.poker.poker.models.game;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request to calculate the equities of hand ranges against each other.")
+public class RangeEquityRequest {
+
+  /** Optional ID which is copied to the result, so clients can match results to requests. */
+  @Schema(description = "Optional ID which is copied to the result.", implementation = UUID.class)
+  private UUID id;
+
+  /** Range of each player, e.g. QQ+,AKs. */
+  @Schema(description = "Range of each player.", example = "[\"QQ+,AKs\", \"JJ-88,AQ\"]")
+  private List<String> ranges = new ArrayList<>();
+
+  /** Cards on the board, if any. */
+  @Schema(description = "Cards on the board, if any.")
+  private List<Card> board = new ArrayList<>();
+}
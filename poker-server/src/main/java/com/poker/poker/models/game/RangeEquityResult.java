@@ -0,0 +1,41 @@
+package com.poker.poker.models.game;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Equities of hand ranges against each other.")
+public class RangeEquityResult {
+
+  /** ID of the request. */
+  @Schema(description = "ID of the request.", implementation = UUID.class)
+  private UUID id;
+
+  /** Equity of each range, in the order of the request. */
+  @Schema(description = "Equity of each range, in the order of the request.")
+  private List<RangeEquity> equities;
+
+  /** Number of runouts that were ranked. */
+  @Schema(description = "Number of runouts that were ranked.", example = "2000000")
+  private long samples;
+
+  /** Whether every runout was ranked, rather than a random sample of them. */
+  @Schema(description = "Whether every runout was ranked.", example = "false")
+  private boolean exact;
+
+  /**
+   * Creates a copy of a result for another request.
+   *
+   * @param id ID of the other request.
+   * @param result Result to copy.
+   */
+  public RangeEquityResult(final UUID id, final RangeEquityResult result) {
+    this(id, result.getEquities(), result.getSamples(), result.isExact());
+  }
+}
@@ -0,0 +1,38 @@
+package com.poker.poker.models.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.Getter;
+
+/**
+ * Result of ranking the hands of several players who share the same board. Paying out the pots only
+ * needs the ranks, so the players are only grouped by rank the first time the groups are requested.
+ */
+@Data
+public class Showdown {
+
+  /** Hand rank of each player, in the same order as the players' hole cards were provided. */
+  private final List<HandRank> ranks;
+
+  /** Indices of the players, grouped by rank, from the best rank to the worst rank. */
+  @Getter(lazy = true)
+  private final List<List<Integer>> tieGroups = groupByRank(ranks);
+
+  /** Groups players by rank, from best to worst. */
+  private static List<List<Integer>> groupByRank(final List<HandRank> ranks) {
+    final List<Integer> order = new ArrayList<>(ranks.size());
+    for (int i = 0; i < ranks.size(); i++) {
+      order.add(i);
+    }
+    order.sort((a, b) -> Integer.compare(ranks.get(b).getRank(), ranks.get(a).getRank()));
+    final List<List<Integer>> tieGroups = new ArrayList<>();
+    for (int i = 0; i < order.size(); i++) {
+      if (i == 0 || ranks.get(order.get(i)).getRank() != ranks.get(order.get(i - 1)).getRank()) {
+        tieGroups.add(new ArrayList<>());
+      }
+      tieGroups.get(tieGroups.size() - 1).add(order.get(i));
+    }
+    return tieGroups;
+  }
+}
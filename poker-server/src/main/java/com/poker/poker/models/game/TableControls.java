@@ -1,11 +1,18 @@
 package com.poker.poker.models.game;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.poker.poker.utilities.Chips;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Model containing fields needed by the UI's game controls component, in minor units of {@link
+ * Chips}.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,17 +20,23 @@ import lombok.NoArgsConstructor;
 public class TableControls {
 
   @Schema(description = "Size of the players bank roll.", implementation = BigDecimal.class)
-  private BigDecimal bankRoll = BigDecimal.ZERO;
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long bankRoll = 0;
 
   @Schema(
       description = "Amount invested into current round of betting.",
       implementation = BigDecimal.class)
-  private BigDecimal currentBet = BigDecimal.ZERO;
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long currentBet = 0;
 
   @Schema(
       description = "Amount required for the player to call.",
       implementation = BigDecimal.class)
-  private BigDecimal toCall = BigDecimal.ZERO;
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long toCall = 0;
 
   /**
    * Constructor that initializes the bankRoll field only. Used at the start of a new round, as this
@@ -31,7 +44,7 @@ public class TableControls {
    *
    * @param bankRoll Player's remaining chips/bank roll.
    */
-  public TableControls(final BigDecimal bankRoll) {
+  public TableControls(final long bankRoll) {
     this.bankRoll = bankRoll;
   }
 }
@@ -0,0 +1,80 @@
+package com.poker.poker.models.game;
+
+import static com.poker.poker.utilities.PokerTableUtilities.copyTable;
+import static com.poker.poker.utilities.PokerTableUtilities.hideCards;
+import static com.poker.poker.utilities.PokerTableUtilities.hideFoldedCards;
+import static com.poker.poker.utilities.PokerTableUtilities.modifiableCopy;
+
+import lombok.Getter;
+
+/**
+ * Immutable state of a poker table, along with its version. Every transition of the table, e.g. a
+ * player's action or the deal of a street, creates a new state with the next version, see {@link
+ * com.poker.poker.utilities.TableTransitions}. States are never modified once they are created, so
+ * any thread can read them without locking, and they can be kept for persistence and replay.
+ *
+ * <p>The table of a state holds everything about the table, including every player's cards, and
+ * is detached from the table it was taken from. The view of the table that is sent while players
+ * are betting, with every player's cards hidden, is derived once per state rather than once per
+ * reader.
+ */
+@Getter
+public final class TableState {
+
+  /** Version of the state, which every transition increments. */
+  private final long version;
+
+  /** Table, with every card visible. It is never modified, transitions start from a copy of it. */
+  private final PokerTable table;
+
+  /** View of the table with every player's cards hidden. */
+  private final PokerTable obfuscatedTable;
+
+  private TableState(final long version, final PokerTable table) {
+    this.version = version;
+    this.table = copyTable(table);
+    // Kept so that the next street of a state can reuse the exact equities of the hand.
+    this.table.setEquityEnumeration(table.getEquityEnumeration());
+    obfuscatedTable = hideCards(this.table);
+  }
+
+  /**
+   * Creates the first state of a table.
+   *
+   * @param table Poker table.
+   * @return The state of the table, with version 0.
+   */
+  public static TableState of(final PokerTable table) {
+    return new TableState(0, table);
+  }
+
+  /**
+   * Creates the state that follows this one, once a transition has been applied to the table.
+   *
+   * @param table Poker table, after the transition.
+   * @return The state of the table, with the next version.
+   */
+  public TableState next(final PokerTable table) {
+    return new TableState(version + 1, table);
+  }
+
+  /**
+   * Creates a copy of the table which can be modified, which a transition is applied to in order to
+   * create the next state.
+   *
+   * @return A copy of the table.
+   */
+  public PokerTable modifiableTable() {
+    return modifiableCopy(table);
+  }
+
+  /**
+   * View of the table with the cards of the players who folded or are out hidden, which is shown
+   * at the end of a hand. It is only needed once per hand, so it is derived when it is asked for.
+   *
+   * @return A copy of the table with folded cards hidden.
+   */
+  public PokerTable getTableWithFoldedCardsHidden() {
+    return hideFoldedCards(table);
+  }
+}
@@ -1,6 +1,9 @@
 package com.poker.poker.models.game;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.poker.poker.models.enums.HandType;
+import com.poker.poker.utilities.Chips;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
@@ -21,8 +24,10 @@ public class Winner {
   private UUID id;
 
   /** The amount the player won. */
-  @Schema(description = "The amount the player won.")
-  private BigDecimal winnings;
+  @Schema(description = "The amount the player won.", implementation = BigDecimal.class)
+  @JsonSerialize(using = Chips.Serializer.class)
+  @JsonDeserialize(using = Chips.Deserializer.class)
+  private long winnings;
 
   /** Type of hand. */
   @Schema(description = "Type of hand.", example = "Full House", implementation = HandType.class)
@@ -32,7 +37,7 @@ public class Winner {
   @ArraySchema(schema = @Schema(description = "The winning cards.", implementation = Card.class))
   private List<Card> cards;
 
-  public void increaseWinnings(final BigDecimal amount) {
-    winnings = winnings.add(amount);
+  public void increaseWinnings(final long amount) {
+    winnings = Chips.add(winnings, amount);
   }
 }
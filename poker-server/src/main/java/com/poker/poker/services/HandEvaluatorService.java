@@ -0,0 +1,124 @@
+package com.poker.poker.services;
+
+import com.poker.poker.config.AppConfig;
+import com.poker.poker.models.enums.HandEvaluatorMode;
+import com.poker.poker.utilities.HandEvaluator;
+import com.poker.poker.utilities.HandRankCache;
+import com.poker.poker.utilities.HandRankTable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
+public class HandEvaluatorService {
+
+  private final AppConfig appConfig;
+
+  /** Number of lookups that had been made when the cache metrics were last logged. */
+  private long lookupsAtLastReport = 0;
+
+  /** Number of lookups which found a cached rank when the cache metrics were last logged. */
+  private long hitsAtLastReport = 0;
+
+  /** Configures the hand evaluator at startup. */
+  @PostConstruct
+  public void initialize() {
+    loadRankTable();
+    configureRankCache();
+  }
+
+  /**
+   * Enables the hand rank cache unless its size is 0. The size is rounded up to the nearest power
+   * of 2, and sizes larger than <code>HandRankCache.MAX_CAPACITY</code> are reduced to it.
+   *
+   * @throws IllegalArgumentException If the configured size is negative, so that the server fails
+   *     to start rather than running with a misconfigured cache.
+   */
+  public void configureRankCache() {
+    final int size = appConfig.getHandRankCacheSize();
+    if (size == 0) {
+      HandEvaluator.setRankCache(null);
+      return;
+    }
+    if (size < 0) {
+      throw new IllegalArgumentException(
+          "hand-evaluator.cache-size must be 0 (disabled) or positive, was " + size + ".");
+    }
+    if (size > HandRankCache.MAX_CAPACITY) {
+      log.warn(
+          "hand-evaluator.cache-size {} is larger than the maximum, using {}.",
+          size,
+          HandRankCache.MAX_CAPACITY);
+    }
+    final HandRankCache cache = new HandRankCache(HandRankCache.capacityFor(size));
+    HandEvaluator.setRankCache(cache);
+    log.info("Hand rank cache enabled with capacity {}.", cache.getCapacity());
+  }
+
+  /** Logs the hits, misses and evictions of the hand rank cache, once a minute. */
+  @Scheduled(cron = "0 0/1 * * * ?")
+  public void logMetrics() {
+    final HandRankCache cache = HandEvaluator.getRankCache();
+    if (cache == null) {
+      return;
+    }
+    final long hits = cache.getHits();
+    final long lookups = hits + cache.getMisses();
+    final long recentLookups = lookups - lookupsAtLastReport;
+    log.debug(
+        "Hand rank cache: {} hits, {} misses, {} evictions, {}% hit rate in the last minute.",
+        hits,
+        cache.getMisses(),
+        cache.getEvictions(),
+        String.format(
+            "%.1f",
+            recentLookups == 0 ? 0 : 100.0 * (hits - hitsAtLastReport) / recentLookups));
+    lookupsAtLastReport = lookups;
+    hitsAtLastReport = hits;
+  }
+
+  /**
+   * Loads the hand rank lookup tables when the evaluator is configured to use them. The tables are
+   * generated if the table file does not exist, or if it was created by a different version of the
+   * generator. If the tables cannot be loaded, hands are ranked by the bitmask evaluator instead.
+   */
+  public void loadRankTable() {
+    if (appConfig.getHandEvaluatorMode() != HandEvaluatorMode.LookupTable) {
+      HandEvaluator.setRankTable(null);
+      return;
+    }
+
+    final Path path = Paths.get(appConfig.getHandRankTableFile());
+    try {
+      HandEvaluator.setRankTable(loadOrGenerate(path));
+      log.info("Loaded hand rank table from {}.", path.toAbsolutePath());
+    } catch (final IOException e) {
+      log.error("Failed to load hand rank table, falling back to bitmask evaluator.", e);
+      HandEvaluator.setRankTable(null);
+    }
+  }
+
+  private HandRankTable loadOrGenerate(final Path path) throws IOException {
+    if (Files.exists(path)) {
+      try {
+        return HandRankTable.load(path);
+      } catch (final IOException e) {
+        log.warn("Hand rank table {} is invalid, regenerating it. {}", path, e.getMessage());
+      }
+    }
+    log.info("Generating hand rank table {}.", path.toAbsolutePath());
+    HandRankTable.generate(path);
+    return HandRankTable.load(path);
+  }
+}
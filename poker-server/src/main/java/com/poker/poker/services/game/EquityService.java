@@ -0,0 +1,202 @@
+package com.poker.poker.services.game;
+
+import static java.util.stream.Collectors.toList;
+
+import com.poker.poker.config.AppConfig;
+import com.poker.poker.events.EquityCalculatedEvent;
+import com.poker.poker.models.enums.GameVariant;
+import com.poker.poker.models.game.Equity;
+import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.utilities.EquityCalculator;
+import com.poker.poker.utilities.EquityCalculator.Tally;
+import com.poker.poker.utilities.EquityEnumeration;
+import com.poker.poker.utilities.HandEvaluator;
+import com.poker.poker.utilities.OmahaEvaluator;
+import com.poker.poker.utilities.ShortDeckEvaluator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
+public class EquityService {
+
+  private final AppConfig appConfig;
+
+  private final ApplicationEventPublisher publisher;
+
+  /** Pool dedicated to equity calculations, so they can't starve the threads running tables. */
+  private final ForkJoinPool pool;
+
+  public EquityService(final AppConfig appConfig, final ApplicationEventPublisher publisher) {
+    this.appConfig = appConfig;
+    this.publisher = publisher;
+    final int parallelism = appConfig.getEquityParallelism();
+    pool =
+        new ForkJoinPool(
+            parallelism > 0
+                ? parallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  /**
+   * Determines whether equities should be shown on a table, which is the case when there are cards
+   * left to deal and no more betting can take place because at most one player in the hand is not
+   * all-in.
+   *
+   * @param table Poker table.
+   * @return True if equities should be calculated, false otherwise.
+   */
+  public static boolean isAllInRunout(final PokerTable table) {
+    final List<GamePlayer> inHand =
+        table.getPlayers().stream().filter(p -> !p.isOut() && !p.isFolded()).collect(toList());
+    return table.getSharedCards().size() < 5
+        && inHand.size() >= 2
+        && inHand.stream().filter(p -> !p.isAllIn()).count() <= 1;
+  }
+
+  /**
+   * Starts updating the equities on a table without waiting for them to be calculated. Equities are
+   * calculated for every player in the hand when {@link #isAllInRunout(PokerTable)} is true, and
+   * cleared straight away otherwise. With few enough players, every completion of the board is
+   * enumerated, and the enumeration is kept on the table so that the next street can be derived
+   * from it. Otherwise, and always for Omaha and short deck, random runouts are dealt until the
+   * configured number of samples has been dealt, or the deadline passes, whichever happens first.
+   *
+   * <p>Everything the calculation needs is read from the table before this method returns, and the
+   * calculation runs on the equity pool, which never touches the table. Once it is done, an {@link
+   * EquityCalculatedEvent} carrying the round and street the equities belong to is published, and
+   * the game's handler decides whether they are stored on the table. The event is also published if
+   * the calculation fails, with the failure logged and no equities.
+   *
+   * @param id Game ID.
+   * @param table Poker table.
+   * @param transitionPending Flag that is passed on to the event, true when the hand phase
+   *     transition waits for the equities.
+   * @return True if a calculation was started, false if the equities were cleared.
+   */
+  public boolean updateEquities(
+      final UUID id, final PokerTable table, final boolean transitionPending) {
+    if (!isAllInRunout(table)) {
+      table.setEquities(new ArrayList<>());
+      table.setEquityEnumeration(null);
+      return false;
+    }
+
+    final List<GamePlayer> inHand =
+        table.getPlayers().stream().filter(p -> !p.isOut() && !p.isFolded()).collect(toList());
+    final List<UUID> ids = inHand.stream().map(GamePlayer::getId).collect(toList());
+    final long[] holeCards =
+        inHand.stream().mapToLong(p -> HandEvaluator.mask(p.getCards())).toArray();
+    final long board = HandEvaluator.mask(table.getSharedCards());
+    final GameVariant variant = table.getVariant();
+    final int round = table.getRound();
+    final int numSharedCards = table.getSharedCards().size();
+    final EquityEnumeration previous = table.getEquityEnumeration();
+    final long seed = ThreadLocalRandom.current().nextLong();
+    final long start = System.nanoTime();
+    final long deadline = start + TimeUnit.MILLISECONDS.toNanos(appConfig.getEquityDeadlineInMs());
+
+    CompletableFuture.supplyAsync(
+            () -> calculate(variant, previous, holeCards, board, deadline, seed), pool)
+        .whenComplete(
+            (result, e) -> {
+              if (e != null) {
+                log.error("Failed to calculate equities of round {}.", round, e);
+                publisher.publishEvent(
+                    new EquityCalculatedEvent(
+                        this, id, round, numSharedCards, null, null, transitionPending));
+                return;
+              }
+              final Tally tally = result.getTally();
+              log.debug(
+                  "Calculated equities with {} runouts in {}us.",
+                  tally.getSamples(),
+                  TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+              final List<Equity> equities = new ArrayList<>(ids.size());
+              for (int i = 0; i < ids.size(); i++) {
+                equities.add(
+                    new Equity(ids.get(i), tally.getWin(i), tally.getTie(i), tally.getEquity(i)));
+              }
+              publisher.publishEvent(
+                  new EquityCalculatedEvent(
+                      this,
+                      id,
+                      round,
+                      numSharedCards,
+                      equities,
+                      result.getEnumeration(),
+                      transitionPending));
+            });
+    return true;
+  }
+
+  /**
+   * Calculates equities on the equity pool, see {@link #updateEquities(UUID, PokerTable,
+   * boolean)}.
+   */
+  private Result calculate(
+      final GameVariant variant,
+      final EquityEnumeration previous,
+      final long[] holeCards,
+      final long board,
+      final long deadline,
+      final long seed) {
+    final long maxSamples = appConfig.getEquityMaxSamples();
+    if (variant == GameVariant.Omaha) {
+      return new Result(
+          EquityCalculator.simulate(
+              pool, OmahaEvaluator::rank, holeCards, board, maxSamples, deadline, seed),
+          null);
+    } else if (variant == GameVariant.ShortDeck) {
+      return new Result(
+          EquityCalculator.simulate(
+              pool,
+              ShortDeckEvaluator::rank,
+              ShortDeckEvaluator.DECK,
+              holeCards,
+              board,
+              maxSamples,
+              deadline,
+              seed),
+          null);
+    } else if (holeCards.length <= appConfig.getEquityExactMaxPlayers()) {
+      final EquityEnumeration enumeration =
+          previous != null
+                  && previous.isFor(holeCards)
+                  && (board & previous.getBoard()) == previous.getBoard()
+              ? previous.advance(board)
+              : EquityEnumeration.enumerate(holeCards, board);
+      return new Result(enumeration.getTally(), enumeration);
+    }
+    return new Result(
+        EquityCalculator.simulate(pool, holeCards, board, maxSamples, deadline, seed), null);
+  }
+
+  /** Equities that were calculated, and the enumeration they were taken from if they're exact. */
+  @Value
+  private static class Result {
+
+    Tally tally;
+
+    EquityEnumeration enumeration;
+  }
+}
@@ -6,8 +6,6 @@ import static com.poker.poker.models.enums.MessageType.GameData;
 import static com.poker.poker.models.enums.MessageType.GameList;
 import static com.poker.poker.models.enums.MessageType.GamePhaseChanged;
 import static com.poker.poker.models.enums.MessageType.PokerTable;
-import static com.poker.poker.utilities.PokerTableUtilities.hideCards;
-import static com.poker.poker.utilities.PokerTableUtilities.hideFoldedCards;
 import static java.math.BigDecimal.ROUND_CEILING;
 
 import com.poker.poker.config.AppConfig;
@@ -17,15 +15,21 @@ import com.poker.poker.models.game.Deck;
 import com.poker.poker.models.game.DrawGameData;
 import com.poker.poker.models.game.DrawGameDataContainer;
 import com.poker.poker.models.game.Game;
+import com.poker.poker.models.game.GameActionData;
 import com.poker.poker.models.game.GameList;
 import com.poker.poker.models.game.GameParameter;
 import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.LegalActions;
 import com.poker.poker.models.game.Lobby;
 import com.poker.poker.models.game.LobbyPlayer;
 import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.game.TableState;
 import com.poker.poker.models.user.User;
 import com.poker.poker.models.websocket.GenericServerMessage;
 import com.poker.poker.services.WebSocketService;
+import com.poker.poker.utilities.Chips;
+import com.poker.poker.utilities.DeckSeeder;
+import com.poker.poker.utilities.ShufflePipeline;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,6 +37,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -55,13 +62,25 @@ public class GameDataService {
   private final AppConfig appConfig;
   private final ApplicationEventPublisher publisher;
   private final WebSocketService webSocketService;
+  private final ShuffleService shuffleService;
   private final Map<UUID, com.poker.poker.models.game.Game> games;
   private final Map<UUID, Lobby> lobbys;
   private final Map<UUID, Deck> decks;
   private final Map<UUID, com.poker.poker.models.game.PokerTable> tables;
+  /**
+   * Latest state of each table, which is published after every transition of the table, and which
+   * is read by everything that sends the table to clients.
+   */
+  private final Map<UUID, AtomicReference<TableState>> tableStates;
   private final Map<UUID, DrawGameDataContainer> summaries;
+  /** Actions the acting player of each game may perform, while waiting for them to act. */
+  private final Map<UUID, LegalActions> legalActions;
   /** Mapping from user ID to game ID. Can be used to retrieve the game a user is in. */
   private final Map<UUID, UUID> userIdToGameIdMap;
+  /**
+   * Mapping from user ID to the user's player in a lobby, so it doesn't have to be searched for.
+   */
+  private final Map<UUID, LobbyPlayer> userIdToLobbyPlayerMap;
 
   private List<com.poker.poker.models.game.GameList> gameList;
   private boolean useCachedGameList = false;
@@ -69,16 +88,21 @@ public class GameDataService {
   public GameDataService(
       final AppConfig appConfig,
       final ApplicationEventPublisher publisher,
-      final WebSocketService webSocketService) {
+      final WebSocketService webSocketService,
+      final ShuffleService shuffleService) {
     this.appConfig = appConfig;
     this.publisher = publisher;
     this.webSocketService = webSocketService;
+    this.shuffleService = shuffleService;
     games = Collections.synchronizedMap(new HashMap<>());
     lobbys = Collections.synchronizedMap(new HashMap<>());
     decks = Collections.synchronizedMap(new HashMap<>());
     tables = Collections.synchronizedMap(new HashMap<>());
+    tableStates = new ConcurrentHashMap<>();
     summaries = Collections.synchronizedMap(new HashMap<>());
+    legalActions = new ConcurrentHashMap<>();
     userIdToGameIdMap = Collections.synchronizedMap(new HashMap<>());
+    userIdToLobbyPlayerMap = Collections.synchronizedMap(new HashMap<>());
   }
 
   /**
@@ -103,14 +127,14 @@ public class GameDataService {
    *
    * <ol>
    *   <b>Pre-Conditions:</b>
-   *   <li><code>tables.get(id) != null</code>
+   *   <li><code>tableStates.get(id) != null</code>
    * </ol>
    *
    * @param id ID of the game associated with the poker table being broadcast.
    */
   public void broadcastPokerTable(final UUID id) {
-    assert tables.get(id) != null;
-    publisher.publishEvent(new GameMessageEvent<>(this, PokerTable, id, tables.get(id)));
+    publisher.publishEvent(
+        new GameMessageEvent<>(this, PokerTable, id, getTableState(id).getTable()));
   }
 
   /**
@@ -121,20 +145,20 @@ public class GameDataService {
    *
    * <ol>
    *   <b>Pre-Conditions:</b>
-   *   <li><code>tables.get(id) != null</code>
+   *   <li><code>tableStates.get(id) != null</code>
    * </ol>
    *
    * @param id ID of the game associated with the poker table being broadcast.
    */
   public void broadcastObfuscatedPokerTable(final UUID id) {
-    assert tables.get(id) != null;
-    publisher.publishEvent(new GameMessageEvent<>(this, PokerTable, id, hideCards(tables.get(id))));
+    publisher.publishEvent(
+        new GameMessageEvent<>(this, PokerTable, id, getTableState(id).getObfuscatedTable()));
   }
 
   public void broadcastPokerTableWithFoldedCardsHidden(final UUID id) {
-    assert (tables.get(id)) != null;
     publisher.publishEvent(
-        new GameMessageEvent<>(this, PokerTable, id, hideFoldedCards(tables.get(id))));
+        new GameMessageEvent<>(
+            this, PokerTable, id, getTableState(id).getTableWithFoldedCardsHidden()));
   }
 
   /**
@@ -195,10 +219,19 @@ public class GameDataService {
 
     games.put(gameId, game);
     lobbys.put(gameId, new Lobby(gameId, host, params, players));
-    decks.put(gameId, new Deck());
-    tables.put(gameId, new PokerTable());
+    final DeckSeeder seeder =
+        new DeckSeeder(appConfig.getDeckRngType(), appConfig.getDeckReseedInterval());
+    final ShufflePipeline pipeline = shuffleService.getPipeline(params.getVariant());
+    decks.put(
+        gameId,
+        new Deck(params.getVariant(), pipeline == null ? seeder : pipeline.withFallback(seeder)));
+    final PokerTable table = new PokerTable();
+    table.setPlayers(new ArrayList<>());
+    tables.put(gameId, table);
+    tableStates.put(gameId, new AtomicReference<>(TableState.of(table)));
     summaries.put(gameId, new DrawGameDataContainer(new ArrayList<>()));
     userIdToGameIdMap.put(host.getId(), gameId);
+    userIdToLobbyPlayerMap.put(host.getId(), host);
 
     cachedGameListIsOutdated();
 
@@ -223,6 +256,7 @@ public class GameDataService {
   public void removeUserIdToGameIdMapping(final UUID id) {
     assert userIdToGameIdMap.get(id) != null;
     userIdToGameIdMap.remove(id);
+    userIdToLobbyPlayerMap.remove(id);
   }
 
   public void endGame(final UUID id) {
@@ -238,6 +272,8 @@ public class GameDataService {
     games.remove(id);
     decks.remove(id);
     tables.remove(id);
+    tableStates.remove(id);
+    legalActions.remove(id);
     summaries.remove(id);
   }
 
@@ -246,6 +282,19 @@ public class GameDataService {
     useCachedGameList = false;
   }
 
+  /**
+   * Adds a player to a lobby, and maps the player's user ID to the lobby.
+   *
+   * @param lobbyId ID of the lobby.
+   * @param player Player joining the lobby.
+   */
+  public void lobbyPlayerJoined(final UUID lobbyId, final LobbyPlayer player) {
+    assert lobbys.get(lobbyId) != null;
+    lobbys.get(lobbyId).getPlayers().add(player);
+    userIdToLobbyPlayerMap.put(player.getId(), player);
+    userJoinedGame(player.getId(), lobbyId);
+  }
+
   public void userLeftGame(final UUID userId) {
     userIdToGameIdMap.remove(userId);
   }
@@ -263,7 +312,14 @@ public class GameDataService {
 
   public void endLobby(final UUID id) {
     assert lobbys.get(id) != null;
-    lobbys.get(id).getPlayers().forEach(p -> userIdToGameIdMap.remove(p.getId()));
+    lobbys
+        .get(id)
+        .getPlayers()
+        .forEach(
+            p -> {
+              userIdToGameIdMap.remove(p.getId());
+              userIdToLobbyPlayerMap.remove(p.getId());
+            });
     lobbys.remove(id);
     endGame(id);
   }
@@ -279,7 +335,8 @@ public class GameDataService {
     Collections.shuffle(game.getPlayers());
 
     game.getPlayers()
-        .forEach(p -> p.getControls().setBankRoll(lobbys.get(id).getParameters().getBuyIn()));
+        .forEach(
+            p -> p.getControls().setBankRoll(Chips.of(lobbys.get(id).getParameters().getBuyIn())));
 
     summaries
         .get(id)
@@ -289,14 +346,19 @@ public class GameDataService {
                 .collect(Collectors.toList()));
 
     final Lobby lobby = lobbys.remove(id);
-    tables.get(id).setPlayers(game.getPlayers());
-    tables
-        .get(id)
-        .setBlind(
-            lobby
-                .getParameters()
-                .getBuyIn()
-                .divide(new BigDecimal(appConfig.getNumBigBlinds() * 2), ROUND_CEILING));
+    lobby.getPlayers().forEach(p -> userIdToLobbyPlayerMap.remove(p.getId()));
+    update(
+        id,
+        table -> {
+          table.setPlayers(game.getPlayers());
+          table.setVariant(lobby.getParameters().getVariant());
+          table.setBlind(
+              Chips.of(
+                  lobby
+                      .getParameters()
+                      .getBuyIn()
+                      .divide(new BigDecimal(appConfig.getNumBigBlinds() * 2), ROUND_CEILING)));
+        });
 
     cachedGameListIsOutdated();
     broadcastObfuscatedPokerTable(id);
@@ -305,11 +367,100 @@ public class GameDataService {
     publisher.publishEvent(new GameMessageEvent<>(this, GamePhaseChanged, id, Play));
   }
 
+  /**
+   * Gets the table a game is played on, which only the game changes, see {@link #update(UUID,
+   * Consumer)}. Anything that is sent to clients should be read from {@link #getTableState(UUID)}.
+   *
+   * @param id Game ID.
+   * @return The poker table of the game.
+   */
   public com.poker.poker.models.game.PokerTable getPokerTable(final UUID id) {
     assert tables.get(id) != null;
     return tables.get(id);
   }
 
+  /**
+   * Gets the latest state of the table of a game, without waiting for a transition of the table
+   * that is in progress.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>tableStates.get(id) != null</code>
+   * </ol>
+   *
+   * @param id Game ID.
+   * @return The latest state of the table.
+   */
+  public TableState getTableState(final UUID id) {
+    assert tableStates.get(id) != null;
+    return tableStates.get(id).get();
+  }
+
+  /**
+   * Applies a transition to the table of a game, and publishes the next state of the table (see
+   * {@link com.poker.poker.utilities.TableTransitions}). Transitions of a table are applied one at
+   * a time while holding the table, so its states are published in the order of their versions.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>tables.get(id) != null</code>
+   * </ol>
+   *
+   * @param id Game ID.
+   * @param transition Transition of the table.
+   * @return The next state of the table.
+   */
+  public TableState update(final UUID id, final Consumer<PokerTable> transition) {
+    final PokerTable table = getPokerTable(id);
+    synchronized (table) {
+      transition.accept(table);
+      final AtomicReference<TableState> state = tableStates.get(id);
+      final TableState next = state.get().next(table);
+      state.set(next);
+      return next;
+    }
+  }
+
+  /**
+   * Sets the actions the acting player of the specified game may perform, when their turn starts.
+   *
+   * @param id ID of the game.
+   * @param actions Actions the acting player may perform.
+   */
+  public void setLegalActions(final UUID id, final LegalActions actions) {
+    legalActions.put(id, actions);
+  }
+
+  /**
+   * Clears the actions the acting player of the specified game may perform, once their turn is
+   * over, so that no other action is accepted until the next turn starts.
+   *
+   * @param id ID of the game.
+   */
+  public void clearLegalActions(final UUID id) {
+    legalActions.remove(id);
+  }
+
+  /**
+   * Validates an action sent by a client against the actions the acting player of the client's game
+   * may perform. Actions are only accepted on behalf of the authenticated user who sent them, so a
+   * client can't act for another player by changing the player ID of the action. The first valid
+   * action ends the turn, so if a client sends several actions, only one of them is accepted.
+   *
+   * @param userId ID of the authenticated user who sent the action.
+   * @param action Action sent by a client.
+   * @return <code>true</code> if the action was accepted, <code>false</code> if it should be
+   *     rejected.
+   */
+  public boolean acceptAction(final UUID userId, final GameActionData action) {
+    if (userId == null || action == null || !userId.equals(action.getPlayerId())) {
+      return false;
+    }
+    final UUID id = userIdToGameIdMap.get(userId);
+    final LegalActions actions = id == null ? null : legalActions.get(id);
+    return actions != null && actions.allows(action) && legalActions.remove(id, actions);
+  }
+
   public Deck getDeck(final UUID id) {
     assert decks.get(id) != null;
     return decks.get(id);
@@ -332,11 +483,7 @@ public class GameDataService {
     assert isUserInGame(playerId);
     assert userIdToGameIdMap.get(playerId).equals(lobbyId);
 
-    final LobbyPlayer player =
-        lobbys.get(lobbyId).getPlayers().stream()
-            .filter(p -> p.getId().equals(playerId))
-            .findFirst()
-            .orElse(null);
+    final LobbyPlayer player = userIdToLobbyPlayerMap.get(playerId);
 
     assert player != null;
     return player;
@@ -351,14 +498,12 @@ public class GameDataService {
   public GamePlayer getPlayer(final UUID gameId, final UUID playerId) {
     assert games.get(gameId) != null;
     assert games.get(gameId).getPlayers() != null;
+    assert tables.get(gameId) != null;
     assert isUserInGame(playerId);
     assert userIdToGameIdMap.get(playerId).equals(gameId);
 
-    final GamePlayer player =
-        games.get(gameId).getPlayers().stream()
-            .filter(p -> p.getId().equals(playerId))
-            .findFirst()
-            .orElse(null);
+    // The table is seated with the game's players, and indexes them by ID.
+    final GamePlayer player = tables.get(gameId).getPlayer(playerId);
 
     assert player != null;
     return player;
@@ -4,22 +4,28 @@ import static com.poker.poker.models.enums.GameAction.AllInCheck;
 import static com.poker.poker.models.enums.HandPhase.Over;
 import static com.poker.poker.models.enums.MessageType.Deal;
 import static com.poker.poker.models.enums.MessageType.HideCards;
+import static com.poker.poker.models.enums.MessageType.LegalActions;
 import static com.poker.poker.models.enums.MessageType.PlayerAwayToggled;
 import static com.poker.poker.models.enums.MessageType.PlayerData;
 import static com.poker.poker.models.enums.MessageType.PlayerJoinedLobby;
 import static com.poker.poker.models.enums.MessageType.PlayerLeftLobby;
 import static com.poker.poker.models.enums.MessageType.ReadyToggled;
 import static com.poker.poker.models.enums.MessageType.Timer;
+import static com.poker.poker.services.game.EquityService.isAllInRunout;
 import static com.poker.poker.utilities.PokerTableUtilities.adjustWager;
 import static com.poker.poker.utilities.PokerTableUtilities.defaultAction;
+import static com.poker.poker.utilities.PokerTableUtilities.getLegalActions;
 import static com.poker.poker.utilities.PokerTableUtilities.getSystemChatActionMessage;
-import static com.poker.poker.utilities.PokerTableUtilities.handleEndOfHand;
-import static com.poker.poker.utilities.PokerTableUtilities.handlePlayerAction;
 import static com.poker.poker.utilities.PokerTableUtilities.numInHand;
 import static com.poker.poker.utilities.PokerTableUtilities.numNonZeroChips;
-import static com.poker.poker.utilities.PokerTableUtilities.setupNewHand;
-import static com.poker.poker.utilities.PokerTableUtilities.setupNextPhase;
-import static com.poker.poker.utilities.PokerTableUtilities.transitionHandPhase;
+import static com.poker.poker.utilities.TableTransitions.awayStatus;
+import static com.poker.poker.utilities.TableTransitions.equities;
+import static com.poker.poker.utilities.TableTransitions.finishHand;
+import static com.poker.poker.utilities.TableTransitions.newHand;
+import static com.poker.poker.utilities.TableTransitions.nextPhase;
+import static com.poker.poker.utilities.TableTransitions.phaseTransition;
+import static com.poker.poker.utilities.TableTransitions.playerAction;
+import static com.poker.poker.utilities.TableTransitions.showdown;
 import static java.math.RoundingMode.HALF_UP;
 
 import com.poker.poker.config.AppConfig;
@@ -27,6 +33,7 @@ import com.poker.poker.events.AwayStatusEvent;
 import com.poker.poker.events.CreateGameEvent;
 import com.poker.poker.events.CurrentGameEvent;
 import com.poker.poker.events.DealCardsEvent;
+import com.poker.poker.events.EquityCalculatedEvent;
 import com.poker.poker.events.GameActionEvent;
 import com.poker.poker.events.GameMessageEvent;
 import com.poker.poker.events.GameOverEvent;
@@ -50,16 +57,19 @@ import com.poker.poker.models.ApiSuccess;
 import com.poker.poker.models.enums.GamePhase;
 import com.poker.poker.models.game.CurrentGame;
 import com.poker.poker.models.game.Deal;
+import com.poker.poker.models.game.Deck;
 import com.poker.poker.models.game.Game;
 import com.poker.poker.models.game.GameParameter;
 import com.poker.poker.models.game.GamePlayer;
 import com.poker.poker.models.game.HideCards;
+import com.poker.poker.models.game.LegalActions;
 import com.poker.poker.models.game.Lobby;
 import com.poker.poker.models.game.LobbyPlayer;
 import com.poker.poker.models.game.PokerTable;
 import com.poker.poker.models.game.Timer;
 import com.poker.poker.models.user.User;
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -79,6 +89,7 @@ public class GameService {
 
   private final AppConfig appConfig;
   private final GameDataService data;
+  private final EquityService equityService;
   private final ApplicationEventPublisher publisher;
 
   /**
@@ -140,8 +151,7 @@ public class GameService {
     }
     final User user = event.getUser();
     final LobbyPlayer player = new LobbyPlayer(user, false, false);
-    lobby.getPlayers().add(player);
-    data.userJoinedGame(user.getId(), lobby.getId());
+    data.lobbyPlayerJoined(lobby.getId(), player);
 
     final String toastMessage =
         String.format("%s %s has joined the game.", player.getFirstName(), player.getLastName());
@@ -274,12 +284,16 @@ public class GameService {
     final PokerTable table = data.getPokerTable(game.getId());
     final GamePlayer player = data.getPlayer(event.getId());
     final GamePlayer acting = table.getPlayers().get(table.getActingPlayer());
-    player.setAway(event.isAway());
+    data.update(game.getId(), awayStatus(player.getId(), event.isAway()));
 
     // If the players away status is true, and it's their turn, draw their card for them.
     if (player.getId().equals(acting.getId()) && player.isAway()) {
+      data.clearLegalActions(game.getId());
       publisher.publishEvent(
           new GameActionEvent(this, player.getId(), defaultAction(player), null));
+    } else if (player.getId().equals(acting.getId()) && table.isBetting() && !player.isAllIn()) {
+      // Player is back in time to act.
+      publishLegalActions(game.getId(), table);
     }
 
     publisher.publishEvent(new GameMessageEvent<>(this, PlayerData, player.getId(), player));
@@ -300,7 +314,25 @@ public class GameService {
     final PokerTable table = data.getPokerTable(game.getId());
 
     // Table setup:
-    setupNewHand(table, data.getDeck(game.getId()));
+    final Deck deck = data.getDeck(game.getId());
+    data.update(game.getId(), newHand(deck));
+    // The seed or permutation is the record of the deal, so it is kept to audit or replay any hand.
+    if (deck.isSeeded()) {
+      log.info(
+          "Round {} of game {} was shuffled by {} with seed {}.",
+          table.getRound(),
+          game.getId(),
+          appConfig.getDeckRngType(),
+          deck.getSeed());
+    } else if (deck.getPermutation() != null) {
+      log.info(
+          "Round {} of game {} was shuffled ahead of time with permutation {}.",
+          table.getRound(),
+          game.getId(),
+          Arrays.toString(deck.getPermutation()));
+    } else {
+      log.debug("Round {} of game {} has no record of its deal.", table.getRound(), game.getId());
+    }
 
     data.broadcastObfuscatedPokerTable(game.getId());
 
@@ -347,15 +379,18 @@ public class GameService {
     final Game game = data.getUsersGame(event.getPlayerId());
     final PokerTable table = data.getPokerTable(game.getId());
 
+    // The turn is over, actions sent by clients are rejected until the next turn starts.
+    data.clearLegalActions(game.getId());
+
     // Update table + player models.
-    handlePlayerAction(table, event.getType(), event.getPlayerId(), adjustWager(table, event));
+    data.update(
+        game.getId(),
+        playerAction(event.getType(), event.getPlayerId(), adjustWager(table, event)));
     publishSystemChatMessageEvent(game.getId(), getSystemChatActionMessage(table, event));
     data.broadcastObfuscatedPokerTable(game.getId());
 
     // Check if hand should continue, if yes, publish wait even and return;
-    final long numPlayersRemaining =
-        table.getPlayers().stream().filter(p -> !p.isOut() && !p.isFolded()).count();
-    if (numPlayersRemaining >= 2 && table.getPlayerThatActed() != table.getLastToAct()) {
+    if (numInHand(table) >= 2 && table.getPlayerThatActed() != table.getLastToAct()) {
       // Wait for the next action.
       log.debug("Waiting for next player action.");
       publisher.publishEvent(
@@ -391,6 +426,19 @@ public class GameService {
     };
   }
 
+  /**
+   * Ends a hand, in two transitions of the table: the showdown, whose state is broadcast while the
+   * summary of the hand is displayed, and then the reset of the players.
+   *
+   * @param id Game ID.
+   * @param hideAll Flag that determine whether all cards are hidden or not.
+   */
+  private void handleEndOfHand(final UUID id, final boolean hideAll) {
+    data.update(id, showdown());
+    getHandEndBroadcaster(id, hideAll).run();
+    data.update(id, finishHand());
+  }
+
   @Async
   @EventListener
   public void transitionToNextPhase(final HandPhaseTransitionEvent event)
@@ -403,7 +451,7 @@ public class GameService {
     if (numInHand(table) <= 1) {
       log.debug("All players in game {} have folded. Ending hand.", game.getId());
       // Then hand is over
-      handleEndOfHand(table, getHandEndBroadcaster(game.getId(), true));
+      handleEndOfHand(game.getId(), true);
       publisher.publishEvent(
           numNonZeroChips(table) > 1
               ? new StartHandEvent(this, game.getId())
@@ -411,11 +459,21 @@ public class GameService {
       return;
     }
 
+    // When an all-in runout starts, equities are worked out for the board as it is, e.g. before the
+    // flop for an all-in pre-flop, and broadcast before the next street is dealt. The calculation
+    // runs on the equity pool, and the transition is published again once its result is handled.
+    if (!event.isEquitiesCalculated() && table.getEquities().isEmpty() && isAllInRunout(table)) {
+      synchronized (table) {
+        equityService.updateEquities(game.getId(), table, true);
+      }
+      return;
+    }
+
     // Helper to transition the phase.
-    transitionHandPhase(table);
+    data.update(game.getId(), phaseTransition());
 
     if (table.getPhase() == Over) {
-      handleEndOfHand(table, getHandEndBroadcaster(game.getId(), false));
+      handleEndOfHand(game.getId(), false);
       publisher.publishEvent(
           numNonZeroChips(table) > 1
               ? new StartHandEvent(this, game.getId())
@@ -423,14 +481,47 @@ public class GameService {
       return;
     }
 
-    // If game is not over, then setup the next phase.
-    setupNextPhase(table, data.getDeck(game.getId()));
+    // If game is not over, then setup the next phase. The street is dealt in one transition, which
+    // holds the table, so that equities of the previous street can't be stored once it is dealt.
+    final Deck deck = data.getDeck(game.getId());
+    data.update(
+        game.getId(),
+        nextPhase(deck).andThen(t -> equityService.updateEquities(game.getId(), t, false)));
     data.broadcastObfuscatedPokerTable(game.getId());
+    publisher.publishEvent(new PublishCardsEvent(this, game.getId()));
     log.debug("Hand phase: {}, has started.", table.getPhase());
     publisher.publishEvent(
         new WaitForPlayerEvent(this, table.getPlayers().get(table.getActingPlayer()).getId()));
   }
 
+  /**
+   * Handles equities calculated on the equity pool. They are only stored on the table, and the
+   * table broadcast, if the table is still on the round and street they were calculated for. The
+   * check and the update happen while holding the table, which is also held while a street is
+   * dealt, so out of date equities are never shown.
+   *
+   * @param event Event containing the equities and the round and street they belong to.
+   */
+  @Async
+  @EventListener
+  public void equityCalculated(final EquityCalculatedEvent event) {
+    final PokerTable table = data.getPokerTable(event.getId());
+    synchronized (table) {
+      if (event.getEquities() == null) {
+        log.debug("No equities for round {}, the calculation failed.", event.getRound());
+      } else if (table.getRound() != event.getRound()
+          || table.getSharedCards().size() != event.getNumSharedCards()) {
+        log.debug("Discarding equities of round {}, the street is over.", event.getRound());
+      } else {
+        data.update(event.getId(), equities(event.getEquities(), event.getEnumeration()));
+        data.broadcastObfuscatedPokerTable(event.getId());
+      }
+    }
+    if (event.isTransitionPending()) {
+      publisher.publishEvent(new HandPhaseTransitionEvent(this, event.getId(), true));
+    }
+  }
+
   private void publishPlayerWonHandChatMessage(final UUID id) {
     final PokerTable table = data.getPokerTable(id);
     assert table.getSummary() != null;
@@ -462,6 +553,10 @@ public class GameService {
     final PokerTable table = data.getPokerTable(game.getId());
     final GamePlayer player = data.getPlayer(event.getId());
     final int tracker = table.getEventTracker();
+    if (!player.isAway() && !player.isAllIn()) {
+      // Player can only act once the actions they are allowed to perform are known.
+      publishLegalActions(game.getId(), table);
+    }
     data.broadcastObfuscatedPokerTable(game.getId());
 
     assert table.getPlayers().get(table.getActingPlayer()).getId().equals(player.getId());
@@ -491,6 +586,20 @@ public class GameService {
     publisher.publishEvent(new AwayStatusEvent(this, player.getId(), true));
   }
 
+  /**
+   * Works out the actions the acting player is allowed to perform, so that actions sent by clients
+   * can be validated, and sends them to the player.
+   *
+   * @param id Game ID.
+   * @param table Poker table.
+   */
+  private void publishLegalActions(final UUID id, final PokerTable table) {
+    final LegalActions actions = getLegalActions(table);
+    data.setLegalActions(id, actions);
+    publisher.publishEvent(
+        new PrivateMessageEvent<>(this, LegalActions, actions.getPlayerId(), actions));
+  }
+
   /**
    * Handles game over events.
    *
@@ -0,0 +1,61 @@
+package com.poker.poker.services.game;
+
+import com.poker.poker.config.constants.GameConstants;
+import com.poker.poker.models.game.PreflopEquity;
+import com.poker.poker.utilities.PreflopEquityMatrix;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
+public class PreflopEquityService {
+
+  /** Classpath resource created by <code>PreflopEquityMatrixGenerator</code> in src/tools/java. */
+  public static final String MATRIX_RESOURCE = "preflop-equity.bin";
+
+  private final GameConstants constants;
+
+  private PreflopEquityMatrix matrix;
+
+  /** Loads the preflop equity matrix at startup. */
+  @PostConstruct
+  public void loadMatrix() {
+    try (final InputStream in = new ClassPathResource(MATRIX_RESOURCE).getInputStream()) {
+      matrix = PreflopEquityMatrix.read(in);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to load preflop equity matrix.", e);
+    }
+    log.info("Loaded preflop equity matrix.");
+  }
+
+  /**
+   * Looks up the preflop all-in equity of one starting hand against another.
+   *
+   * @param hand Player's starting hand, e.g. <code>AKs</code>.
+   * @param versus Opponent's starting hand, e.g. <code>QQ</code>.
+   * @return Equity of the player's starting hand.
+   * @throws com.poker.poker.validation.exceptions.BadRequestException If either hand is not a valid
+   *     starting hand.
+   */
+  public PreflopEquity getEquity(final String hand, final String versus) {
+    final int handClass = PreflopEquityMatrix.classOf(hand);
+    final int versusClass = PreflopEquityMatrix.classOf(versus);
+    if (handClass < 0 || versusClass < 0) {
+      throw constants.getInvalidStartingHandException();
+    }
+    return new PreflopEquity(
+        PreflopEquityMatrix.nameOf(handClass),
+        PreflopEquityMatrix.nameOf(versusClass),
+        matrix.getEquity(handClass, versusClass));
+  }
+}
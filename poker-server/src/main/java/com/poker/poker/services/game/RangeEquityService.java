@@ -0,0 +1,254 @@
+package com.poker.poker.services.game;
+
+import static java.util.stream.Collectors.joining;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.poker.poker.config.AppConfig;
+import com.poker.poker.config.constants.GameConstants;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.RangeEquity;
+import com.poker.poker.models.game.RangeEquityRequest;
+import com.poker.poker.models.game.RangeEquityResult;
+import com.poker.poker.utilities.EquityCalculator.Tally;
+import com.poker.poker.utilities.HandEvaluator;
+import com.poker.poker.utilities.HandRange;
+import com.poker.poker.utilities.RangeEquityCalculator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+@Slf4j
+@Service
+@Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
+public class RangeEquityService {
+
+  private final AppConfig appConfig;
+  private final GameConstants constants;
+
+  /**
+   * Pool dedicated to range equities, so that analysis requests can't delay the equities shown on
+   * tables.
+   */
+  private final ForkJoinPool pool;
+
+  /** Results keyed by the canonical form of the ranges and the board. */
+  private final Cache<String, RangeEquityResult> cache;
+
+  /** Cancellation flags of the calculations requested by each web socket session. */
+  private final Map<String, Set<AtomicBoolean>> sessionRequests = new ConcurrentHashMap<>();
+
+  public RangeEquityService(final AppConfig appConfig, final GameConstants constants) {
+    this.appConfig = appConfig;
+    this.constants = constants;
+    final int parallelism = appConfig.getRangeEquityParallelism();
+    pool =
+        new ForkJoinPool(
+            parallelism > 0
+                ? parallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    cache = CacheBuilder.newBuilder().maximumSize(appConfig.getRangeEquityCacheSize()).build();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  /**
+   * Calculates the equities of hand ranges against each other. The request is validated before this
+   * returns, while the equities are calculated in the background. Small problems are enumerated
+   * exactly, unless the enumeration takes more than half of the time until the deadline. Other
+   * problems, and enumerations that took too long, are sampled until the configured number of
+   * samples has been dealt, or the deadline passes, whichever happens first. Results which weren't
+   * cancelled are cached.
+   *
+   * @param request Ranges and board.
+   * @param cancelled Flag which abandons the calculation when it is set.
+   * @return Future result, which is null if the calculation was cancelled.
+   * @throws com.poker.poker.validation.exceptions.BadRequestException If there is no request, a
+   *     range or the board is not valid, or the ranges block each other. The future also completes
+   *     with this exception if no hands could be dealt from the ranges.
+   */
+  public CompletableFuture<RangeEquityResult> calculate(
+      final RangeEquityRequest request, final AtomicBoolean cancelled) {
+    if (request == null) {
+      throw constants.getMissingRangeEquityRequestException();
+    }
+    final List<Card> board = request.getBoard() == null ? new ArrayList<>() : request.getBoard();
+    if (board.stream().anyMatch(c -> c == null || c.getSuit() == null || c.getValue() == null)) {
+      throw constants.getInvalidBoardException();
+    }
+    final long boardMask = HandEvaluator.mask(board);
+    if (Long.bitCount(boardMask) != board.size() || board.size() == 1 || board.size() == 2) {
+      throw constants.getInvalidBoardException();
+    }
+
+    final List<String> ranges = request.getRanges();
+    if (ranges == null || ranges.size() < 2 || ranges.size() > appConfig.getMaxNumberOfPlayers()) {
+      throw constants.getInvalidHandRangeException();
+    }
+    final List<HandRange> parsed = new ArrayList<>(ranges.size());
+    final long[][] combinations = new long[ranges.size()][];
+    for (int i = 0; i < ranges.size(); i++) {
+      final HandRange range = HandRange.parse(ranges.get(i));
+      if (range == null || range.getCombinations(boardMask).length == 0) {
+        throw constants.getInvalidHandRangeException();
+      }
+      parsed.add(range);
+      combinations[i] = range.getCombinations(boardMask);
+    }
+    if (!RangeEquityCalculator.canDeal(combinations)) {
+      throw constants.getBlockedHandRangesException();
+    }
+
+    final String key =
+        parsed.stream().map(HandRange::toString).collect(joining(" vs ", "", " on "))
+            + Long.toHexString(boardMask);
+    final RangeEquityResult cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(new RangeEquityResult(request.getId(), cached));
+    }
+
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final RangeEquityResult result = calculate(combinations, boardMask, parsed, cancelled);
+          if (result == null) {
+            return null;
+          }
+          cache.put(key, result);
+          return new RangeEquityResult(request.getId(), result);
+        },
+        pool);
+  }
+
+  /**
+   * Calculates the equities of hand ranges against each other for a web socket session. The
+   * calculation is cancelled if the session disconnects before it completes.
+   *
+   * @param request Ranges and board.
+   * @param sessionId ID of the web socket session.
+   * @return Future result, which is null if the calculation was cancelled.
+   * @throws com.poker.poker.validation.exceptions.BadRequestException If there is no request, or
+   *     a range or the board is not valid.
+   */
+  public CompletableFuture<RangeEquityResult> calculate(
+      final RangeEquityRequest request, final String sessionId) {
+    final AtomicBoolean cancelled = new AtomicBoolean();
+    sessionRequests.compute(
+        sessionId,
+        (id, requests) -> {
+          final Set<AtomicBoolean> set =
+              requests == null ? ConcurrentHashMap.newKeySet() : requests;
+          set.add(cancelled);
+          return set;
+        });
+    try {
+      return calculate(request, cancelled)
+          .whenComplete((result, e) -> removeRequest(sessionId, cancelled));
+    } catch (final RuntimeException e) {
+      removeRequest(sessionId, cancelled);
+      throw e;
+    }
+  }
+
+  /** Forgets a calculation of a session, and the session once it has no calculations left. */
+  private void removeRequest(final String sessionId, final AtomicBoolean cancelled) {
+    sessionRequests.computeIfPresent(
+        sessionId,
+        (id, requests) -> {
+          requests.remove(cancelled);
+          return requests.isEmpty() ? null : requests;
+        });
+  }
+
+  /**
+   * Returns the number of web socket sessions with calculations that haven't completed.
+   *
+   * @return Number of sessions.
+   */
+  public int getNumSessions() {
+    return sessionRequests.size();
+  }
+
+  /**
+   * Cancels the calculations of a web socket session when it disconnects.
+   *
+   * @param event Event published when a web socket session disconnects.
+   */
+  @EventListener
+  public void sessionDisconnectEventHandler(final SessionDisconnectEvent event) {
+    final Set<AtomicBoolean> requests = sessionRequests.remove(event.getSessionId());
+    if (requests != null && !requests.isEmpty()) {
+      log.debug("Cancelling {} range equity calculations.", requests.size());
+      requests.forEach(cancelled -> cancelled.set(true));
+    }
+  }
+
+  private RangeEquityResult calculate(
+      final long[][] combinations,
+      final long board,
+      final List<HandRange> ranges,
+      final AtomicBoolean cancelled) {
+    final long start = System.nanoTime();
+    final long timeLimit = TimeUnit.MILLISECONDS.toNanos(appConfig.getRangeEquityDeadlineInMs());
+    boolean exact =
+        RangeEquityCalculator.countRunouts(combinations, board)
+            <= appConfig.getRangeEquityExactMaxRunouts();
+    Tally tally = null;
+    if (exact) {
+      // Half of the time is given to the enumeration, so that sampling has time left if it's slow.
+      tally =
+          RangeEquityCalculator.enumerate(
+              pool, combinations, board, start + timeLimit / 2, cancelled::get);
+      if (tally == null && !cancelled.get()) {
+        log.debug("Range equity enumeration missed its deadline, sampling instead.");
+        exact = false;
+      }
+    }
+    if (!exact) {
+      tally =
+          RangeEquityCalculator.simulate(
+              pool,
+              combinations,
+              board,
+              appConfig.getRangeEquityMaxSamples(),
+              start + timeLimit,
+              cancelled::get,
+              ThreadLocalRandom.current().nextLong());
+    }
+    if (tally == null || cancelled.get()) {
+      return null;
+    }
+    if (tally.getSamples() == 0) {
+      // Sampling gave up dealing hands, because the ranges (nearly) block each other.
+      throw constants.getBlockedHandRangesException();
+    }
+    log.debug(
+        "Calculated range equities with {} runouts in {}us.",
+        tally.getSamples(),
+        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+
+    final List<RangeEquity> equities = new ArrayList<>(ranges.size());
+    for (int i = 0; i < ranges.size(); i++) {
+      equities.add(
+          new RangeEquity(
+              ranges.get(i).toString(), tally.getWin(i), tally.getTie(i), tally.getEquity(i)));
+    }
+    return new RangeEquityResult(null, equities, tally.getSamples(), exact);
+  }
+}
@@ -0,0 +1,97 @@
+package com.poker.poker.services.game;
+
+import com.poker.poker.config.AppConfig;
+import com.poker.poker.models.enums.GameVariant;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.utilities.ShufflePipeline;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Makes shuffles in the background for every table on this node, so that shuffling doesn't add
+ * latency when a hand starts. Every card is picked with <code>SecureRandom</code>. There is one
+ * pipeline per size of deck, which is refilled periodically, and whose depth, production and
+ * starvations are published as metrics.
+ */
+@Service
+@Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
+public class ShuffleService {
+
+  private final AppConfig appConfig;
+
+  /** Mapping from number of cards in a deck to the pipeline that shuffles such decks. */
+  private final Map<Integer, ShufflePipeline> pipelines;
+
+  public ShuffleService(final AppConfig appConfig, final MeterRegistry meterRegistry) {
+    this.appConfig = appConfig;
+    final Map<Integer, ShufflePipeline> pipelines = new HashMap<>();
+    if (appConfig.isShufflePipelineEnabled()) {
+      for (final GameVariant variant : GameVariant.values()) {
+        final int numCards = new Deck(variant).numCardsRemaining();
+        pipelines.computeIfAbsent(
+            numCards, n -> new ShufflePipeline(n, appConfig.getShufflePipelineCapacity()));
+      }
+    }
+    this.pipelines = Collections.unmodifiableMap(pipelines);
+    pipelines.values().forEach(pipeline -> registerMetrics(pipeline, meterRegistry));
+  }
+
+  /**
+   * Returns the pipeline which shuffles the decks of a variant of poker.
+   *
+   * @param variant Variant of poker.
+   * @return The pipeline, or null if the pipeline is disabled.
+   */
+  public ShufflePipeline getPipeline(final GameVariant variant) {
+    return pipelines.get(new Deck(variant).numCardsRemaining());
+  }
+
+  /** Refills every pipeline, in between the delays configured for the pipelines. */
+  @Scheduled(fixedDelayString = "${shuffle-pipeline.refill-interval-in-millis}")
+  public void refill() {
+    pipelines.values().forEach(ShufflePipeline::refill);
+  }
+
+  /**
+   * Publishes the metrics of a pipeline, tagged with the number of cards it shuffles. The refill
+   * rate is the rate of the count of shuffles produced.
+   *
+   * @param pipeline Pipeline.
+   * @param meterRegistry Registry the metrics are published to.
+   */
+  private static void registerMetrics(
+      final ShufflePipeline pipeline, final MeterRegistry meterRegistry) {
+    final Tags tags = Tags.of("cards", String.valueOf(pipeline.getNumCards()));
+    Gauge.builder("poker.shuffle.pipeline.depth", pipeline, ShufflePipeline::getDepth)
+        .description("Number of shuffles waiting in the pipeline.")
+        .tags(tags)
+        .register(meterRegistry);
+    Gauge.builder("poker.shuffle.pipeline.capacity", pipeline, ShufflePipeline::getCapacity)
+        .description("Maximum number of shuffles in the pipeline.")
+        .tags(tags)
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            "poker.shuffle.pipeline.produced", pipeline, ShufflePipeline::getProduced)
+        .description("Number of shuffles made by the refills of the pipeline.")
+        .tags(tags)
+        .register(meterRegistry);
+    FunctionCounter.builder("poker.shuffle.pipeline.taken", pipeline, ShufflePipeline::getTaken)
+        .description("Number of shuffles taken from the pipeline by hands.")
+        .tags(tags)
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            "poker.shuffle.pipeline.starvations", pipeline, ShufflePipeline::getStarvations)
+        .description("Number of hands that shuffled their own deck as the pipeline was empty.")
+        .tags(tags)
+        .register(meterRegistry);
+  }
+}
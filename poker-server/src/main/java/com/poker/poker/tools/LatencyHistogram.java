@@ -0,0 +1,108 @@
+package com.poker.poker.tools;
+
+/**
+ * Histogram of latencies in nanoseconds. Values below 16 have a bucket each, and every power of 2
+ * above that is split into 16 buckets, so a bucket is never wider than 1/16th of its lower bound,
+ * no matter how large the values are. Recording a value never allocates, which makes it cheap
+ * enough to record every action of a simulation, and histograms can be added to each other, so
+ * every table can keep a histogram of its own.
+ */
+public final class LatencyHistogram {
+
+  /** Number of bits of a value, after its highest bit, that determine its bucket. */
+  private static final int SUB_BUCKET_BITS = 4;
+
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  private final long[] counts = new long[(Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+
+  private long count;
+  private long total;
+  private long max;
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos Latency in nanoseconds. Negative values are recorded as 0.
+   */
+  public void record(final long nanos) {
+    final long value = Math.max(0, nanos);
+    counts[bucket(value)]++;
+    count++;
+    total += value;
+    max = Math.max(max, value);
+  }
+
+  /**
+   * Adds the latencies recorded by another histogram to this one.
+   *
+   * @param other Histogram.
+   * @return This histogram.
+   */
+  public LatencyHistogram add(final LatencyHistogram other) {
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] += other.counts[i];
+    }
+    count += other.count;
+    total += other.total;
+    max = Math.max(max, other.max);
+    return this;
+  }
+
+  /** Returns the number of latencies that were recorded. */
+  public long getCount() {
+    return count;
+  }
+
+  /** Returns the highest latency that was recorded, or 0 if none were recorded. */
+  public long getMax() {
+    return max;
+  }
+
+  /** Returns the mean of the latencies that were recorded, or 0 if none were recorded. */
+  public double getMean() {
+    return count == 0 ? 0 : (double) total / count;
+  }
+
+  /**
+   * Returns an upper bound of a percentile of the latencies, which is within 1/16th of the actual
+   * value.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>0 <= percentile <= 100</code>
+   * </ol>
+   *
+   * @param percentile Percentile, e.g. 99.9.
+   * @return The percentile in nanoseconds, or 0 if no latencies were recorded.
+   */
+  public long getPercentile(final double percentile) {
+    assert percentile >= 0 && percentile <= 100;
+    final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(upperBound(i), max);
+      }
+    }
+    return max;
+  }
+
+  private static int bucket(final long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  private static long upperBound(final int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    final int shift = bucket / SUB_BUCKETS - 1;
+    final long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lowerBound + (1L << shift) - 1;
+  }
+}
@@ -0,0 +1,442 @@
+package com.poker.poker.tools;
+
+import static com.poker.poker.models.enums.GameAction.AllInCheck;
+import static com.poker.poker.models.enums.GameAction.Call;
+import static com.poker.poker.models.enums.GameAction.Check;
+import static com.poker.poker.models.enums.GameAction.Fold;
+import static com.poker.poker.models.enums.GameAction.Raise;
+import static com.poker.poker.models.enums.HandPhase.Over;
+import static com.poker.poker.utilities.PokerTableUtilities.handleEndOfHand;
+import static com.poker.poker.utilities.PokerTableUtilities.handlePlayerAction;
+import static com.poker.poker.utilities.PokerTableUtilities.numInHand;
+import static com.poker.poker.utilities.PokerTableUtilities.numNonZeroChips;
+import static com.poker.poker.utilities.PokerTableUtilities.setupNewHand;
+import static com.poker.poker.utilities.PokerTableUtilities.setupNextPhase;
+import static com.poker.poker.utilities.PokerTableUtilities.transitionHandPhase;
+
+import com.poker.poker.models.enums.DeckRngType;
+import com.poker.poker.models.enums.GameAction;
+import com.poker.poker.models.enums.GameVariant;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.game.TableControls;
+import com.poker.poker.utilities.Chips;
+import com.poker.poker.utilities.DeckSeeder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Headless simulator which plays full games on many independent tables at once, by driving the same
+ * hand flow as <code>GameService</code> directly through {@link
+ * com.poker.poker.utilities.PokerTableUtilities}, i.e. setting up a hand, applying player actions,
+ * transitioning between phases and ending the hand, without Spring, WebSockets, timers or events.
+ * Players are bots, and a table starts a new game whenever one player has won all of the chips.
+ *
+ * <p>Invariants are checked after every action: the chips of the players and the pot must add up to
+ * the chips the game started with, no player may have fewer than 0 chips, and the player who is
+ * expected to act must be a player who is still in the hand. Errors thrown by the hand flow, e.g.
+ * failed assertions when run with <code>-ea</code>, are counted as violations as well, after which
+ * the table starts a new game. Each table is seeded with <code>seed + table</code>, so any
+ * violation can be reproduced by simulating its table again with {@link #simulateTable(int, int,
+ * GameVariant, Bot, long)}.
+ *
+ * <p>Usage: <code>TableSimulator [tables] [hands per table] [seats] [random|passive] [variant]
+ * [seed]</code>
+ */
+public final class TableSimulator {
+
+  /** Bot which checks or calls four times out of five, and otherwise folds or raises at random. */
+  public static final Bot RANDOM_BOT =
+      (table, player, random) -> {
+        final int roll = random.nextInt(100);
+        final boolean free = player.getToCall() == 0;
+        final boolean canRaise = player.getChips() > player.getToCall();
+        if (roll < 10 && !free) {
+          return new Decision(Fold, 0);
+        } else if (roll < 90 || !canRaise) {
+          return new Decision(free ? Check : Call, 0);
+        }
+        return new Decision(Raise, Chips.multiply(table.getMinRaise(), 1 + random.nextInt(3)));
+      };
+
+  /** Scripted bot which always checks, or calls when checking isn't possible. */
+  public static final Bot PASSIVE_BOT =
+      (table, player, random) -> new Decision(player.getToCall() == 0 ? Check : Call, 0);
+
+  /** Number of chips each player starts a game with. */
+  private static final long STACK = Chips.of(1000);
+
+  /** Small blind at the start of a game. */
+  private static final long BLIND = Chips.of(10);
+
+  /** Hands with more actions than this are abandoned, since the betting never ended. */
+  private static final int MAX_ACTIONS_PER_HAND = 1000;
+
+  /** Maximum number of violations that are described in a report. */
+  private static final int MAX_EXAMPLES = 10;
+
+  private static final int DEFAULT_TABLES = 1000;
+
+  private static final int DEFAULT_HANDS = 1000;
+
+  private static final int DEFAULT_SEATS = 6;
+
+  /** Private constructor to prevent creating instances of static class. */
+  private TableSimulator() {}
+
+  public static void main(final String[] args) {
+    final int tables = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TABLES;
+    final int hands = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_HANDS;
+    final int seats = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SEATS;
+    final Bot bot =
+        args.length > 3 && args[3].equalsIgnoreCase("passive") ? PASSIVE_BOT : RANDOM_BOT;
+    final GameVariant variant = args.length > 4 ? GameVariant.valueOf(args[4]) : GameVariant.Holdem;
+    final long seed = args.length > 5 ? Long.parseLong(args[5]) : 0x5EED;
+
+    final long start = System.nanoTime();
+    final Report report = simulate(tables, hands, seats, variant, bot, seed);
+    final double seconds = (System.nanoTime() - start) / 1e9;
+
+    System.out.printf(
+        Locale.ROOT,
+        "Simulated %d hands of %d games (%d actions) on %d tables in %.2f s: %.0f hands/sec.%n",
+        report.getHands(),
+        report.getGames(),
+        report.getActionLatency().getCount(),
+        tables,
+        seconds,
+        report.getHands() / seconds);
+    for (final Violation violation : Violation.values()) {
+      System.out.printf("%s violations: %d%n", violation, report.getViolations(violation));
+    }
+    report.getExamples().forEach(System.out::println);
+    printLatencies("Action", report.getActionLatency());
+    printLatencies("Hand", report.getHandLatency());
+  }
+
+  /**
+   * Simulates the same number of hands on every table, spreading the tables across every core.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>2 <= seats <= 10</code>
+   * </ol>
+   *
+   * @param tables Number of tables.
+   * @param hands Number of hands to play on each table.
+   * @param seats Number of players at each table.
+   * @param variant Variant of poker played at every table.
+   * @param bot Bot that decides what every player does.
+   * @param seed Seed of the first table, which is incremented for each subsequent table.
+   * @return The combined report of every table.
+   */
+  public static Report simulate(
+      final int tables,
+      final int hands,
+      final int seats,
+      final GameVariant variant,
+      final Bot bot,
+      final long seed) {
+    return IntStream.range(0, tables)
+        .parallel()
+        .mapToObj(table -> simulateTable(hands, seats, variant, bot, seed + table))
+        .reduce(new Report(), Report::add);
+  }
+
+  /**
+   * Simulates hands on one table, which is entirely determined by the seed.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>2 <= seats <= 10</code>
+   * </ol>
+   *
+   * @param hands Number of hands to play.
+   * @param seats Number of players at the table.
+   * @param variant Variant of poker played at the table.
+   * @param bot Bot that decides what every player does.
+   * @param seed Seed of the table, which is used to shuffle the deck and by the bots.
+   * @return Report of the table.
+   */
+  public static Report simulateTable(
+      final int hands, final int seats, final GameVariant variant, final Bot bot, final long seed) {
+    assert seats >= 2 && seats <= 10;
+
+    final SplittableRandom random = new SplittableRandom(seed);
+    final Deck deck =
+        new Deck(variant, DeckSeeder.of(DeckRngType.SplittableRandom, random.nextLong()));
+    final long chips = Chips.multiply(STACK, seats);
+    final Report report = new Report();
+
+    PokerTable table = newGame(seats, variant);
+    report.games++;
+    for (int hand = 0; hand < hands; hand++) {
+      if (numNonZeroChips(table) < 2) {
+        table = newGame(seats, variant);
+        report.games++;
+      }
+      try {
+        final long start = System.nanoTime();
+        final boolean finished = playHand(table, deck, bot, random, chips, report, seed);
+        report.handLatency.record(System.nanoTime() - start);
+        report.hands++;
+        if (!finished) {
+          table = newGame(seats, variant);
+          report.games++;
+        }
+      } catch (final RuntimeException | AssertionError e) {
+        report.violation(Violation.Error, seed, table, e.toString());
+        table = newGame(seats, variant);
+        report.games++;
+      }
+    }
+    return report;
+  }
+
+  /**
+   * Plays one hand, in the same way as the events of <code>GameService</code>.
+   *
+   * @return True if the hand finished without any violations.
+   */
+  private static boolean playHand(
+      final PokerTable table,
+      final Deck deck,
+      final Bot bot,
+      final SplittableRandom random,
+      final long chips,
+      final Report report,
+      final long seed) {
+    setupNewHand(table, deck);
+    for (int actions = 0; actions < MAX_ACTIONS_PER_HAND; actions++) {
+      if (!checkActingPlayer(table, report, seed) || !checkChips(table, chips, report, seed)) {
+        return false;
+      }
+
+      // Player that is all-in can't do anything, which is the same thing GameService does.
+      final GamePlayer player = table.getPlayers().get(table.getActingPlayer());
+      final Decision decision =
+          player.isAllIn() ? new Decision(AllInCheck, 0) : bot.decide(table, player, random);
+      final long raise =
+          decision.getAction() == Raise ? adjustRaise(player, decision.getRaise()) : 0;
+
+      final long start = System.nanoTime();
+      handlePlayerAction(table, decision.getAction(), player.getId(), raise);
+      final boolean handOver = step(table, deck);
+      report.actionLatency.record(System.nanoTime() - start);
+
+      if (handOver) {
+        return checkChips(table, chips, report, seed);
+      }
+    }
+    report.violation(Violation.Stalled, seed, table, "Betting did not end.");
+    return false;
+  }
+
+  /**
+   * Moves the hand along after an action, i.e. transitions to the next phase once the betting has
+   * ended, and ends the hand when it is over.
+   *
+   * @return True if the hand is over.
+   */
+  private static boolean step(final PokerTable table, final Deck deck) {
+    if (numInHand(table) >= 2 && table.getPlayerThatActed() != table.getLastToAct()) {
+      return false;
+    }
+    if (numInHand(table) <= 1) {
+      handleEndOfHand(table, () -> {});
+      return true;
+    }
+    transitionHandPhase(table);
+    if (table.getPhase() == Over) {
+      handleEndOfHand(table, () -> {});
+      return true;
+    }
+    setupNextPhase(table, deck);
+    return false;
+  }
+
+  /** Raises above what the player can afford become all-in raises, like GameService does. */
+  private static long adjustRaise(final GamePlayer player, final long raise) {
+    return Math.min(raise, player.getChips() - player.getToCall());
+  }
+
+  private static boolean checkActingPlayer(
+      final PokerTable table, final Report report, final long seed) {
+    final int acting = table.getActingPlayer();
+    if (acting < 0 || acting >= table.getPlayers().size()) {
+      report.violation(Violation.InvalidActingPlayer, seed, table, "Seat " + acting + " is empty.");
+      return false;
+    }
+    final GamePlayer player = table.getPlayers().get(acting);
+    if (player.isOut() || player.isFolded()) {
+      report.violation(
+          Violation.InvalidActingPlayer,
+          seed,
+          table,
+          String.format("Player in seat %d is out or has folded.", acting));
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean checkChips(
+      final PokerTable table, final long chips, final Report report, final long seed) {
+    long total = table.isBetting() ? table.getPot() : 0;
+    for (final GamePlayer player : table.getPlayers()) {
+      if (player.getChips() < 0) {
+        report.violation(
+            Violation.ChipsNotConserved,
+            seed,
+            table,
+            String.format(
+                "Player %s has %s chips.",
+                player.getLastName(), Chips.toString(player.getChips())));
+        return false;
+      }
+      total = Chips.add(total, player.getChips());
+    }
+    if (total != chips) {
+      report.violation(
+          Violation.ChipsNotConserved,
+          seed,
+          table,
+          String.format(
+              "Table has %s chips instead of %s.", Chips.toString(total), Chips.toString(chips)));
+      return false;
+    }
+    return true;
+  }
+
+  private static PokerTable newGame(final int seats, final GameVariant variant) {
+    final List<GamePlayer> players = new ArrayList<>(seats);
+    for (int seat = 0; seat < seats; seat++) {
+      final GamePlayer player = new GamePlayer();
+      player.setId(new UUID(0, seat + 1));
+      player.setFirstName("Bot");
+      player.setLastName(Integer.toString(seat + 1));
+      player.setControls(new TableControls(STACK));
+      players.add(player);
+    }
+    final PokerTable table = new PokerTable();
+    table.setPlayers(players);
+    table.setVariant(variant);
+    table.setBlind(BLIND);
+    return table;
+  }
+
+  private static void printLatencies(final String name, final LatencyHistogram latencies) {
+    System.out.printf(
+        Locale.ROOT,
+        "%s latency (us): mean %.2f, p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n",
+        name,
+        latencies.getMean() / 1e3,
+        latencies.getPercentile(50) / 1e3,
+        latencies.getPercentile(90) / 1e3,
+        latencies.getPercentile(99) / 1e3,
+        latencies.getPercentile(99.9) / 1e3,
+        latencies.getMax() / 1e3);
+  }
+
+  /** Types of invariant violations. */
+  public enum Violation {
+    ChipsNotConserved,
+    InvalidActingPlayer,
+    Stalled,
+    Error
+  }
+
+  /** Decides what a simulated player does when it is their turn to act. */
+  @FunctionalInterface
+  public interface Bot {
+
+    /**
+     * Decides what a player does. Players who are all-in are never asked.
+     *
+     * @param table Poker table.
+     * @param player Player who is acting.
+     * @param random Random number generator of the table.
+     * @return What the player does.
+     */
+    Decision decide(PokerTable table, GamePlayer player, SplittableRandom random);
+  }
+
+  /**
+   * Action of a simulated player, along with the raise in minor units when the action is a raise.
+   */
+  @Getter
+  public static final class Decision {
+
+    private final GameAction action;
+    private final long raise;
+
+    public Decision(final GameAction action, final long raise) {
+      assert raise >= 0;
+      this.action = action;
+      this.raise = raise;
+    }
+  }
+
+  /** Statistics of one or more simulated tables. */
+  @Getter
+  public static final class Report {
+
+    private long games;
+    private long hands;
+
+    @Getter(AccessLevel.NONE)
+    private final long[] violations = new long[Violation.values().length];
+
+    private final List<String> examples = new ArrayList<>();
+    private final LatencyHistogram actionLatency = new LatencyHistogram();
+    private final LatencyHistogram handLatency = new LatencyHistogram();
+
+    /** Returns the number of violations of one type. */
+    public long getViolations(final Violation violation) {
+      return violations[violation.ordinal()];
+    }
+
+    /** Returns the number of violations of every type. */
+    public long getTotalViolations() {
+      long total = 0;
+      for (final long count : violations) {
+        total += count;
+      }
+      return total;
+    }
+
+    private void violation(
+        final Violation violation, final long seed, final PokerTable table, final String message) {
+      violations[violation.ordinal()]++;
+      if (examples.size() < MAX_EXAMPLES) {
+        examples.add(
+            String.format(
+                "%s at table with seed %d, round %d, phase %s: %s",
+                violation, seed, table.getRound(), table.getPhase(), message));
+      }
+    }
+
+    private Report add(final Report other) {
+      final Report sum = new Report();
+      for (final Report report : new Report[] {this, other}) {
+        sum.games += report.games;
+        sum.hands += report.hands;
+        for (int i = 0; i < violations.length; i++) {
+          sum.violations[i] += report.violations[i];
+        }
+        report.examples.stream()
+            .limit(MAX_EXAMPLES - sum.examples.size())
+            .forEach(sum.examples::add);
+        sum.actionLatency.add(report.actionLatency);
+        sum.handLatency.add(report.handLatency);
+      }
+      return sum;
+    }
+  }
+}
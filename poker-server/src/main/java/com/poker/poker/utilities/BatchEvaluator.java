@@ -0,0 +1,126 @@
+package com.poker.poker.utilities;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ranks large batches of hands at once, e.g. for simulations or when re-scoring hand histories.
+ * Hands are passed as parallel arrays of card masks, i.e. the board and hole cards of hand <code>i
+ * </code> are <code>boards[i]</code> and <code>holeCards[i]</code>, and the ranks are written to an
+ * array of the same length. The arrays are walked sequentially, so the loop that ranks the hands
+ * only touches primitive arrays and the lookup tables, and has no branches other than the ones
+ * inside the evaluator.
+ *
+ * <p>Every hand gets the same rank as {@link HandEvaluator#rankHand(java.util.Collection)} would
+ * give it, so ranks from a batch can be compared with ranks from anywhere else. The lookup tables
+ * are read once per batch, so a batch is never ranked with a mix of tables.
+ */
+public final class BatchEvaluator {
+
+  /** Batches with more hands than this are split in half when ranked on a pool. */
+  private static final int HANDS_PER_TASK = 1 << 14;
+
+  /** Private constructor to prevent creating instances of static class. */
+  private BatchEvaluator() {}
+
+  /**
+   * Ranks a batch of hands on the calling thread.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>The arrays have the same length.
+   *   <li>Every hand has at least 5 cards, and no card is both on the board and in the hand.
+   * </ol>
+   *
+   * @param boards Card mask of the board of each hand.
+   * @param holeCards Card mask of the hole cards of each hand.
+   * @param ranks Array the numerical rank of each hand is written to.
+   */
+  public static void rank(final long[] boards, final long[] holeCards, final int[] ranks) {
+    assertBatch(boards, holeCards, ranks);
+    rank(HandEvaluator.getRankTable(), boards, holeCards, ranks, 0, ranks.length);
+  }
+
+  /**
+   * Ranks a batch of hands on a fork/join pool, splitting the batch into chunks of consecutive
+   * hands which are ranked in parallel. Returns once every hand has been ranked.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>The arrays have the same length.
+   *   <li>Every hand has at least 5 cards, and no card is both on the board and in the hand.
+   * </ol>
+   *
+   * @param pool Pool that the hands are ranked on.
+   * @param boards Card mask of the board of each hand.
+   * @param holeCards Card mask of the hole cards of each hand.
+   * @param ranks Array the numerical rank of each hand is written to.
+   */
+  public static void rank(
+      final ForkJoinPool pool, final long[] boards, final long[] holeCards, final int[] ranks) {
+    assertBatch(boards, holeCards, ranks);
+    pool.invoke(
+        new RankTask(HandEvaluator.getRankTable(), boards, holeCards, ranks, 0, ranks.length));
+  }
+
+  private static void assertBatch(final long[] boards, final long[] holeCards, final int[] ranks) {
+    assert boards.length == ranks.length && holeCards.length == ranks.length;
+  }
+
+  /** Ranks the hands in <code>[from, to)</code>, with the tables if they are not null. */
+  private static void rank(
+      final HandRankTable table,
+      final long[] boards,
+      final long[] holeCards,
+      final int[] ranks,
+      final int from,
+      final int to) {
+    if (table == null) {
+      for (int i = from; i < to; i++) {
+        ranks[i] = HandEvaluator.rank(boards[i] | holeCards[i]);
+      }
+    } else {
+      for (int i = from; i < to; i++) {
+        ranks[i] = table.rank(boards[i] | holeCards[i]);
+      }
+    }
+  }
+
+  /** Ranks the hands in <code>[from, to)</code>, splitting itself when there are too many. */
+  private static final class RankTask extends RecursiveAction {
+
+    private final HandRankTable table;
+    private final long[] boards;
+    private final long[] holeCards;
+    private final int[] ranks;
+    private final int from;
+    private final int to;
+
+    private RankTask(
+        final HandRankTable table,
+        final long[] boards,
+        final long[] holeCards,
+        final int[] ranks,
+        final int from,
+        final int to) {
+      this.table = table;
+      this.boards = boards;
+      this.holeCards = holeCards;
+      this.ranks = ranks;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > HANDS_PER_TASK) {
+        final int middle = (from + to) >>> 1;
+        invokeAll(
+            new RankTask(table, boards, holeCards, ranks, from, middle),
+            new RankTask(table, boards, holeCards, ranks, middle, to));
+        return;
+      }
+      rank(table, boards, holeCards, ranks, from, to);
+    }
+  }
+}
@@ -34,6 +34,7 @@ import com.poker.poker.models.enums.CardValue;
 import com.poker.poker.models.enums.HandType;
 import com.poker.poker.models.game.Card;
 import com.poker.poker.models.game.HandRank;
+import com.poker.poker.models.game.Showdown;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -72,7 +73,7 @@ public final class CardUtilities {
   public static final int RANK_BASE = 15;
 
   /** Face down card. */
-  public static final Card FACE_DOWN_CARD = new Card(CardSuit.Back, CardValue.Back);
+  public static final Card FACE_DOWN_CARD = Card.of(Card.BACK);
 
   /**
    * Mapping of card values to a number that is less than 15. These values are used for sorting and
@@ -141,7 +142,7 @@ public final class CardUtilities {
   private CardUtilities() {}
 
   public static Card card(final CardSuit suit, final CardValue value) {
-    return new Card(suit, value);
+    return Card.of(suit, value);
   }
 
   /**
@@ -173,7 +174,7 @@ public final class CardUtilities {
    * @return The value of a card.
    */
   public static int val(final Card card) {
-    return cardValues.get(card.getValue());
+    return Card.val(card.getCode());
   }
 
   /**
@@ -184,7 +185,7 @@ public final class CardUtilities {
    * @return Value of a card, treating Ace as 1.
    */
   public static int lowAceVal(final Card card) {
-    return card.getValue() == Ace ? 1 : cardValues.get(card.getValue());
+    return card.getValue() == Ace ? 1 : Card.val(card.getCode());
   }
 
   /**
@@ -195,7 +196,7 @@ public final class CardUtilities {
    * @return The value of a card's suit.
    */
   public static int suitVal(final Card card) {
-    return cardSuitValues.get(card.getSuit());
+    return card.getCode() == Card.BACK ? 0 : Card.suitOrdinal(card.getCode()) + 1;
   }
 
   /**
@@ -345,10 +346,8 @@ public final class CardUtilities {
       return null;
     }
 
-    final List<Card> lowAceCards =
-        cards.stream().map(Card::new).sorted(lowAceValueSorter()).collect(toList());
-    final List<Card> highAceCards =
-        cards.stream().map(Card::new).sorted(valueSorter()).collect(toList());
+    final List<Card> lowAceCards = cards.stream().sorted(lowAceValueSorter()).collect(toList());
+    final List<Card> highAceCards = cards.stream().sorted(valueSorter()).collect(toList());
 
     int lowIndex1 = -1, lowIndex2 = -1;
 
@@ -818,6 +817,8 @@ public final class CardUtilities {
   /**
    * Takes a list of 7 cards, finds the best 5 card hand that can be made and gives it a numerical
    * ranking. The object returned contains the best 5 card hand and the numerical rank of that hand.
+   * The hand is evaluated by the bitmask evaluator in {@link HandEvaluator}, which produces the
+   * same result as <code>rankHandReference</code> without running the evaluator chain.
    *
    * <ol>
    *   <b>Pre-Conditions:</b>
@@ -835,6 +836,113 @@ public final class CardUtilities {
     assert sharedPreCondition(cards);
     assert cards.size() == 7;
 
+    return HandEvaluator.rankHand(cards);
+  }
+
+  /**
+   * Ranks the hands of several players at once. The board is only analyzed once, rather than once
+   * per player, and players with the same rank are grouped together.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>board</code> and every element of <code>holeCards</code> satisfy the same
+   *       conditions as the cards passed to <code>rankHand</code>
+   *   <li>board.size() == 5
+   *   <li>Every player has 2 hole cards
+   * </ol>
+   *
+   * @param board Shared cards.
+   * @param holeCards Hole cards of each player.
+   * @return Hand ranks of the players, in the same order as <code>holeCards</code>, and the indices
+   *     of the players grouped by rank, from best to worst.
+   */
+  public static Showdown rankHands(
+      final List<Card> board, final List<? extends List<Card>> holeCards) {
+    assert sharedPreCondition(board);
+    assert board.size() == 5;
+    assert holeCards != null;
+    assert holeCards.stream().allMatch(c -> sharedPreCondition(c) && c.size() == 2);
+
+    return HandEvaluator.rankHands(board, holeCards);
+  }
+
+  /**
+   * Ranks the hands of several Omaha players at once, where each hand must be made of exactly 2
+   * hole cards and exactly 3 shared cards. Ranks are on the same scale as <code>rankHand</code>.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>board</code> and every element of <code>holeCards</code> satisfy the same
+   *       conditions as the cards passed to <code>rankHand</code>
+   *   <li>board.size() == 5
+   *   <li>Every player has 4 hole cards
+   * </ol>
+   *
+   * @param board Shared cards.
+   * @param holeCards Hole cards of each player.
+   * @return Hand ranks of the players, in the same order as <code>holeCards</code>, and the indices
+   *     of the players grouped by rank, from best to worst.
+   */
+  public static Showdown rankOmahaHands(
+      final List<Card> board, final List<? extends List<Card>> holeCards) {
+    assert sharedPreCondition(board);
+    assert board.size() == 5;
+    assert holeCards != null;
+    assert holeCards.stream()
+        .allMatch(c -> sharedPreCondition(c) && c.size() == OmahaEvaluator.NUM_HOLE_CARDS);
+
+    return OmahaEvaluator.rankHands(board, holeCards);
+  }
+
+  /**
+   * Ranks the hands of several short deck players at once, where A-6-7-8-9 is the lowest straight
+   * and a flush beats a full house. Ranks are only comparable with other short deck ranks.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>board</code> and every element of <code>holeCards</code> satisfy the same
+   *       conditions as the cards passed to <code>rankHand</code>
+   *   <li>board.size() == 5
+   *   <li>Every player has 2 hole cards
+   *   <li>No card is lower than a Six
+   * </ol>
+   *
+   * @param board Shared cards.
+   * @param holeCards Hole cards of each player.
+   * @return Hand ranks of the players, in the same order as <code>holeCards</code>, and the indices
+   *     of the players grouped by rank, from best to worst.
+   */
+  public static Showdown rankShortDeckHands(
+      final List<Card> board, final List<? extends List<Card>> holeCards) {
+    assert sharedPreCondition(board);
+    assert board.size() == 5;
+    assert holeCards != null;
+    assert holeCards.stream().allMatch(c -> sharedPreCondition(c) && c.size() == 2);
+
+    return ShortDeckEvaluator.rankHands(board, holeCards);
+  }
+
+  /**
+   * Reference implementation of <code>rankHand</code>, which runs the list of evaluators in order
+   * until one of them finds a hand. This is much slower than <code>rankHand</code>, but it is the
+   * definition of how hands are ranked, so any other evaluator must produce the same ranks.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>cards != null</code>
+   *   <li>All elements in <code>cards</code> are <code>non-null</code>
+   *   <li>No elements have a suit or value of <code>Back</code>
+   *   <li>cards.size() == 7
+   * </ol>
+   *
+   * @param cards Cards.
+   * @return The best 5 card hand that can be made with the list of 7 cards provided, along with the
+   *     numerical ranking of the best hand.
+   */
+  public static HandRank rankHandReference(final List<Card> cards) {
+    assert sharedPreCondition(cards);
+    assert cards.size() == 7;
+
     int rank;
     List<Card> bestHand = null;
     HandType handType = HighCard;
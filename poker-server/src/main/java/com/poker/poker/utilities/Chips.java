@@ -0,0 +1,145 @@
+package com.poker.poker.utilities;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Arithmetic on amounts of chips, which are stored in <code>long</code> fields in minor units, i.e.
+ * hundredths of a chip, so that bets, pots and payouts never allocate. Every operation that could
+ * overflow throws an <code>ArithmeticException</code> instead of wrapping around.
+ *
+ * <p>Amounts are still written to JSON as decimal numbers of chips, e.g. <code>12.5</code>, by
+ * annotating their fields with {@link Serializer} and {@link Deserializer}, so clients see the same
+ * values as before.
+ */
+public final class Chips {
+
+  /** Number of decimal places of an amount of chips. */
+  public static final int SCALE = 2;
+
+  /** Number of minor units in one chip. */
+  public static final long UNIT = 100;
+
+  /** Private constructor to prevent creating instances of static class. */
+  private Chips() {}
+
+  /**
+   * Converts a whole number of chips to minor units.
+   *
+   * @param chips Number of chips.
+   * @return Amount in minor units.
+   */
+  public static long of(final long chips) {
+    return Math.multiplyExact(chips, UNIT);
+  }
+
+  /**
+   * Converts a decimal number of chips to minor units, rounding fractions of a minor unit down.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>chips != null</code>
+   * </ol>
+   *
+   * @param chips Number of chips.
+   * @return Amount in minor units.
+   */
+  public static long of(final BigDecimal chips) {
+    assert chips != null;
+    return chips.movePointRight(SCALE).setScale(0, RoundingMode.FLOOR).longValueExact();
+  }
+
+  /**
+   * Converts an amount to a decimal number of chips.
+   *
+   * @param amount Amount in minor units.
+   * @return Number of chips.
+   */
+  public static BigDecimal toBigDecimal(final long amount) {
+    return BigDecimal.valueOf(amount, SCALE);
+  }
+
+  /**
+   * Formats an amount as a decimal number of chips, without trailing zeros, e.g. <code>12.5</code>.
+   *
+   * @param amount Amount in minor units.
+   * @return Number of chips.
+   */
+  public static String toString(final long amount) {
+    return amount % UNIT == 0
+        ? Long.toString(amount / UNIT)
+        : toBigDecimal(amount).stripTrailingZeros().toPlainString();
+  }
+
+  public static long add(final long a, final long b) {
+    return Math.addExact(a, b);
+  }
+
+  public static long add(final long a, final long b, final long c) {
+    return Math.addExact(Math.addExact(a, b), c);
+  }
+
+  public static long subtract(final long a, final long b) {
+    return Math.subtractExact(a, b);
+  }
+
+  public static long multiply(final long amount, final long factor) {
+    return Math.multiplyExact(amount, factor);
+  }
+
+  /**
+   * Splits an amount into equal shares, rounding each share down to a whole chip, which is how
+   * pots of whole chips have always been split.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>amount >= 0</code>
+   *   <li><code>shares > 0</code>
+   * </ol>
+   *
+   * @param amount Amount in minor units.
+   * @param shares Number of shares.
+   * @return Amount of each share.
+   */
+  public static long share(final long amount, final int shares) {
+    assert amount >= 0;
+    assert shares > 0;
+    return amount / shares / UNIT * UNIT;
+  }
+
+  /** Writes an amount in minor units as a decimal number of chips. */
+  public static final class Serializer extends StdSerializer<Long> {
+
+    public Serializer() {
+      super(Long.class);
+    }
+
+    @Override
+    public void serialize(
+        final Long amount, final JsonGenerator generator, final SerializerProvider provider)
+        throws IOException {
+      generator.writeNumber(Chips.toString(amount));
+    }
+  }
+
+  /** Reads a decimal number of chips as an amount in minor units. */
+  public static final class Deserializer extends StdDeserializer<Long> {
+
+    public Deserializer() {
+      super(Long.class);
+    }
+
+    @Override
+    public Long deserialize(final JsonParser parser, final DeserializationContext context)
+        throws IOException {
+      return Chips.of(new BigDecimal(parser.getText().trim()));
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.poker.poker.utilities;
+
+import com.poker.poker.models.enums.DeckRngType;
+import com.poker.poker.models.game.DeckRandom;
+import java.util.SplittableRandom;
+
+/**
+ * Random number generator used to shuffle a deck. Each hand is shuffled by a generator of its own,
+ * created from a seed, so the exact deal of a hand can be regenerated from its seed and the type of
+ * generator. Generators are not thread safe, and are only meant to be used by one deck at a time.
+ */
+@FunctionalInterface
+public interface DeckRng extends DeckRandom {
+
+  /**
+   * Creates a generator.
+   *
+   * @param type Type of generator.
+   * @param seed Seed of the generator. Generators of the same type with the same seed produce the
+   *     same numbers.
+   * @return The generator.
+   */
+  static DeckRng create(final DeckRngType type, final long seed) {
+    switch (type) {
+      case Xoshiro:
+        return new XoshiroRng(seed);
+      case SplittableRandom:
+      default:
+        return new SplittableRandom(seed)::nextInt;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.poker.poker.utilities;
+
+import com.poker.poker.models.enums.DeckRngType;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.DeckShuffler;
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import lombok.Getter;
+
+/**
+ * Source of the seeds used to shuffle the hands of one table. Seeds are drawn from a fast generator
+ * of the table's own, so tables never contend with each other, and that generator is reseeded from
+ * <code>SecureRandom</code> every few hands, so the seeds of future hands can't be predicted from
+ * the seeds of past hands for long. Decks shuffled by a seeder shuffle each hand with a generator
+ * created from the next seed.
+ */
+public final class DeckSeeder implements DeckShuffler {
+
+  /** Shared source of entropy, which is only used when a seeder is reseeded. */
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+  /** Type of generator that the seeds are meant for. */
+  @Getter private final DeckRngType type;
+
+  /** Number of seeds drawn between reseeds, or 0 if the seeder is never reseeded. */
+  private final int reseedInterval;
+
+  private SplittableRandom seeds;
+  private int seedsSinceReseed;
+
+  /**
+   * Creates a seeder.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>type != null</code>
+   *   <li><code>reseedInterval > 0</code>
+   * </ol>
+   *
+   * @param type Type of generator that the seeds are meant for.
+   * @param reseedInterval Number of seeds drawn between reseeds from <code>SecureRandom</code>.
+   */
+  public DeckSeeder(final DeckRngType type, final int reseedInterval) {
+    assert type != null;
+    assert reseedInterval > 0;
+    this.type = type;
+    this.reseedInterval = reseedInterval;
+    seedsSinceReseed = reseedInterval;
+  }
+
+  private DeckSeeder(final DeckRngType type, final long seed) {
+    this.type = type;
+    reseedInterval = 0;
+    seeds = new SplittableRandom(seed);
+  }
+
+  /**
+   * Creates a seeder whose seeds are all drawn from one seed and which is never reseeded, so the
+   * same seeds are drawn every time. Used to make simulations reproducible.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>type != null</code>
+   * </ol>
+   *
+   * @param type Type of generator that the seeds are meant for.
+   * @param seed Seed from which every seed is drawn.
+   * @return The seeder.
+   */
+  public static DeckSeeder of(final DeckRngType type, final long seed) {
+    assert type != null;
+    return new DeckSeeder(type, seed);
+  }
+
+  /**
+   * Returns the seed of the next hand.
+   *
+   * @return Seed of the next hand.
+   */
+  public synchronized long nextSeed() {
+    if (reseedInterval > 0 && seedsSinceReseed >= reseedInterval) {
+      seeds = new SplittableRandom(SECURE_RANDOM.nextLong());
+      seedsSinceReseed = 0;
+    }
+    seedsSinceReseed++;
+    return seeds.nextLong();
+  }
+
+  /**
+   * Shuffles a deck with a generator created from the next seed.
+   *
+   * @param deck The deck.
+   * @return True, since the deck is always shuffled.
+   */
+  @Override
+  public boolean shuffle(final Deck deck) {
+    final long seed = nextSeed();
+    deck.restoreAndShuffle(DeckRng.create(type, seed), seed);
+    return true;
+  }
+}
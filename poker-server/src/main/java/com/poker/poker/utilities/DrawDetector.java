@@ -0,0 +1,157 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.utilities.HandEvaluator.NUM_SUITS;
+import static com.poker.poker.utilities.HandEvaluator.NUM_VALUES;
+import static com.poker.poker.utilities.HandEvaluator.SUIT_SHIFT;
+import static com.poker.poker.utilities.HandEvaluator.VALUE_MASK;
+import static com.poker.poker.utilities.HandEvaluator.WHEEL;
+import static com.poker.poker.utilities.HandEvaluator.straightHigh;
+import static com.poker.poker.utilities.HandEvaluator.suitValues;
+
+import com.poker.poker.models.enums.DrawType;
+import com.poker.poker.models.game.Draws;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detects the flush and straight draws of a hold'em player as the shared cards are dealt. The state
+ * of each player is kept in a {@link Draws}, which holds card masks of the player's hole cards and
+ * the board, and is updated each time a shared card is added, so the number of outs can be read
+ * without looking at any cards.
+ *
+ * <p>Only draws which use at least one hole card are reported, i.e. a flush draw needs a hole card
+ * of the suit, and a straight out only counts when it makes a better straight than the board alone
+ * would. Draws are cleared once the river has been dealt, or when the player has a flush already.
+ */
+public final class DrawDetector {
+
+  /** Number of shared cards on the flop, which is the only street with backdoor draws. */
+  private static final int FLOP = 3;
+
+  /** Number of shared cards on the river, after which there are no draws. */
+  private static final int RIVER = 5;
+
+  /** One bit of each lane, i.e. the card mask of every card of the lowest value. */
+  private static final long ALL_SUITS =
+      1L | 1L << SUIT_SHIFT | 1L << 2 * SUIT_SHIFT | 1L << 3 * SUIT_SHIFT;
+
+  /** Private constructor to prevent creating instances of static class. */
+  private DrawDetector() {}
+
+  /**
+   * Creates the draws of a player who has just been dealt their hole cards.
+   *
+   * @param holeCards Card mask of the player's hole cards.
+   * @return Draws without any outs, since no shared cards have been dealt.
+   */
+  public static Draws newDraws(final long holeCards) {
+    return new Draws(0, new ArrayList<>(), holeCards, 0);
+  }
+
+  /**
+   * Updates the draws of a player after a shared card has been dealt.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>card</code> is the card mask of a single card.
+   *   <li>The card is not one of the player's hole cards, and has not been added before.
+   * </ol>
+   *
+   * @param draws Draws of the player, which are updated in place.
+   * @param card Card mask of the shared card that was dealt.
+   */
+  public static void addSharedCard(final Draws draws, final long card) {
+    assert Long.bitCount(card) == 1;
+    assert (card & (draws.getHoleCards() | draws.getBoard())) == 0;
+
+    draws.setBoard(draws.getBoard() | card);
+    update(draws);
+  }
+
+  /** Recomputes the draws and outs from the card masks. */
+  private static void update(final Draws draws) {
+    final long holeCards = draws.getHoleCards();
+    final long board = draws.getBoard();
+    final int numShared = Long.bitCount(board);
+    final List<DrawType> types = new ArrayList<>(2);
+    long outs = 0;
+
+    if (numShared >= FLOP && numShared < RIVER) {
+      final long cards = holeCards | board;
+      boolean flush = false;
+      boolean backdoorFlush = false;
+      long flushOuts = 0;
+      for (int suit = 0; suit < NUM_SUITS; suit++) {
+        final int suited = suitValues(cards, suit);
+        final boolean usesHoleCard = suitValues(holeCards, suit) != 0;
+        flush |= Integer.bitCount(suited) >= 5;
+        if (usesHoleCard && Integer.bitCount(suited) == 4) {
+          flushOuts |= (long) (VALUE_MASK & ~suited) << (suit * SUIT_SHIFT);
+        }
+        backdoorFlush |= usesHoleCard && numShared == FLOP && Integer.bitCount(suited) == 3;
+      }
+
+      if (!flush) {
+        if (flushOuts != 0) {
+          types.add(DrawType.FlushDraw);
+          outs |= flushOuts;
+        } else if (backdoorFlush) {
+          types.add(DrawType.BackdoorFlushDraw);
+        }
+        outs |= straightDraws(values(cards), values(board), values(holeCards), numShared, types);
+      }
+    }
+
+    draws.setOuts(Long.bitCount(outs));
+    draws.setTypes(types);
+  }
+
+  /**
+   * Adds the straight draw, if any, to <code>types</code> and returns the card mask of the unseen
+   * cards which complete it. Two values that complete a straight are reported as an open-ended
+   * draw, since a double gutshot has the same number of outs.
+   */
+  private static long straightDraws(
+      final int values,
+      final int boardValues,
+      final int holeValues,
+      final int numShared,
+      final List<DrawType> types) {
+    if (straightHigh(values) != 0) {
+      return 0;
+    }
+    long outs = 0;
+    int numOutValues = 0;
+    for (int bit = 0; bit < NUM_VALUES; bit++) {
+      final int value = 1 << bit;
+      if ((values & value) == 0
+          && straightHigh(values | value) > straightHigh(boardValues | value)) {
+        outs |= ALL_SUITS << bit;
+        numOutValues++;
+      }
+    }
+    if (numOutValues >= 2) {
+      types.add(DrawType.OpenEndedStraightDraw);
+    } else if (numOutValues == 1) {
+      types.add(DrawType.Gutshot);
+    } else if (numShared == FLOP && backdoorStraight(values, holeValues)) {
+      types.add(DrawType.BackdoorStraightDraw);
+    }
+    return outs;
+  }
+
+  /** Returns true if 3 of the values, including a hole card, fall within one straight. */
+  private static boolean backdoorStraight(final int values, final int holeValues) {
+    boolean possible = Integer.bitCount(values & WHEEL) >= 3 && (holeValues & WHEEL) != 0;
+    for (int low = 0; low + 5 <= NUM_VALUES; low++) {
+      final int straight = 0x1F << low;
+      possible |= Integer.bitCount(values & straight) >= 3 && (holeValues & straight) != 0;
+    }
+    return possible;
+  }
+
+  /** Returns the values of the cards in a card mask, regardless of suit. */
+  private static int values(final long mask) {
+    return suitValues(mask, 0) | suitValues(mask, 1) | suitValues(mask, 2) | suitValues(mask, 3);
+  }
+}
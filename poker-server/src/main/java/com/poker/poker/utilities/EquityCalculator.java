@@ -0,0 +1,276 @@
+package com.poker.poker.utilities;
+
+import com.poker.poker.models.game.Deck;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo equity calculator for hands where no more betting can take place. Random runouts of
+ * the board are dealt from the cards that are not in any player's hand or on the board, and each
+ * runout is ranked with a {@link HandRanker}, which is {@link HandEvaluator#evaluate(long)} for
+ * hold'em. Samples are split across a fork/join pool, where each task has its own random number
+ * generator, and every task stops when the deadline passes, so the time spent is bounded even when
+ * the pool is busy.
+ */
+public final class EquityCalculator {
+
+  /** Masks of every card in a deck. */
+  static final long[] DECK =
+      new Deck().getCards().stream().mapToLong(HandEvaluator::mask).toArray();
+
+  /** Card mask of every card in a deck. */
+  private static final long FULL_DECK = Arrays.stream(DECK).reduce(0, (a, b) -> a | b);
+
+  /** Number of samples between deadline checks. Must be a power of 2. */
+  private static final int DEADLINE_CHECK_INTERVAL = 256;
+
+  /** Tasks with more samples than this are split in half. */
+  private static final long SAMPLES_PER_TASK = 1 << 15;
+
+  /** Ranks hold'em hands, where the best 5 of the 7 cards are used. */
+  public static final HandRanker HOLDEM =
+      (board, holeCards) -> HandEvaluator.evaluate(board | holeCards);
+
+  /** Private constructor to prevent creating instances of static class. */
+  private EquityCalculator() {}
+
+  /**
+   * Estimates the equity of each player in a hold'em hand by dealing random runouts of the board.
+   *
+   * @see #simulate(ForkJoinPool, HandRanker, long, long[], long, long, long, long)
+   */
+  public static Tally simulate(
+      final ForkJoinPool pool,
+      final long[] holeCards,
+      final long board,
+      final long maxSamples,
+      final long deadline,
+      final long seed) {
+    return simulate(pool, HOLDEM, holeCards, board, maxSamples, deadline, seed);
+  }
+
+  /**
+   * Estimates the equity of each player by dealing random runouts of the board from a full deck.
+   *
+   * @see #simulate(ForkJoinPool, HandRanker, long, long[], long, long, long, long)
+   */
+  public static Tally simulate(
+      final ForkJoinPool pool,
+      final HandRanker ranker,
+      final long[] holeCards,
+      final long board,
+      final long maxSamples,
+      final long deadline,
+      final long seed) {
+    return simulate(pool, ranker, FULL_DECK, holeCards, board, maxSamples, deadline, seed);
+  }
+
+  /**
+   * Estimates the equity of each player by dealing random runouts of the board.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>At least 2 players.
+   *   <li>No card is in more than one player's hand or on the board.
+   *   <li>The board has at most 5 cards.
+   * </ol>
+   *
+   * @param pool Pool that the samples are run on.
+   * @param ranker Ranks a player's hand once the board is complete.
+   * @param deck Card mask of the cards the variant is played with.
+   * @param holeCards Card mask of each player's hole cards.
+   * @param board Card mask of the board.
+   * @param maxSamples Maximum number of runouts to deal.
+   * @param deadline Value of <code>System.nanoTime()</code> after which no more runouts are dealt.
+   * @param seed Seed of the random number generator.
+   * @return Number of runouts each player won or tied.
+   */
+  public static Tally simulate(
+      final ForkJoinPool pool,
+      final HandRanker ranker,
+      final long deck,
+      final long[] holeCards,
+      final long board,
+      final long maxSamples,
+      final long deadline,
+      final long seed) {
+    assert holeCards.length >= 2;
+    assert Long.bitCount(board) <= 5;
+
+    long dead = board;
+    for (final long cards : holeCards) {
+      assert (dead & cards) == 0;
+      dead |= cards;
+    }
+    final long deadCards = dead;
+    final long[] remaining =
+        Arrays.stream(DECK).filter(c -> (c & deck) != 0 && (c & deadCards) == 0).toArray();
+    final RunoutTask task =
+        new RunoutTask(
+            ranker, holeCards, board, remaining, maxSamples, deadline, new SplittableRandom(seed));
+    // When called from one of the pool's own threads, the task is run there rather than queued.
+    return ForkJoinTask.getPool() == pool ? task.invoke() : pool.invoke(task);
+  }
+
+  /** Ranks a player's hand. */
+  @FunctionalInterface
+  public interface HandRanker {
+
+    /**
+     * Ranks the best hand a player can make.
+     *
+     * @param board Card mask of the board.
+     * @param holeCards Card mask of the player's hole cards.
+     * @return Numerical rank of the best hand (higher means better hand).
+     */
+    int rank(long board, long holeCards);
+  }
+
+  /** Number of runouts each player won or tied. */
+  public static final class Tally {
+
+    private long samples;
+    private final long[] wins;
+    private final long[] ties;
+    private final double[] shares;
+
+    Tally(final int numPlayers) {
+      wins = new long[numPlayers];
+      ties = new long[numPlayers];
+      shares = new double[numPlayers];
+    }
+
+    /** Returns the number of runouts which were dealt. */
+    public long getSamples() {
+      return samples;
+    }
+
+    /** Returns the probability that a player wins the entire pot. */
+    public double getWin(final int player) {
+      return samples == 0 ? 0 : (double) wins[player] / samples;
+    }
+
+    /** Returns the probability that a player splits the pot. */
+    public double getTie(final int player) {
+      return samples == 0 ? 0 : (double) ties[player] / samples;
+    }
+
+    /** Returns the expected share of the pot of a player. */
+    public double getEquity(final int player) {
+      return samples == 0 ? 0 : shares[player] / samples;
+    }
+
+    /**
+     * Records the outcome of one runout.
+     *
+     * @param ranks Rank of each player's hand.
+     */
+    void record(final int[] ranks) {
+      int best = -1;
+      int numBest = 0;
+      for (final int rank : ranks) {
+        if (rank > best) {
+          best = rank;
+          numBest = 1;
+        } else if (rank == best) {
+          numBest++;
+        }
+      }
+      for (int p = 0; p < ranks.length; p++) {
+        if (ranks[p] == best) {
+          if (numBest == 1) {
+            wins[p]++;
+          } else {
+            ties[p]++;
+          }
+          shares[p] += 1.0 / numBest;
+        }
+      }
+      samples++;
+    }
+
+    Tally add(final Tally other) {
+      samples += other.samples;
+      for (int p = 0; p < wins.length; p++) {
+        wins[p] += other.wins[p];
+        ties[p] += other.ties[p];
+        shares[p] += other.shares[p];
+      }
+      return this;
+    }
+  }
+
+  /** Deals runouts, splitting itself into subtasks when there are too many. */
+  private static final class RunoutTask extends RecursiveTask<Tally> {
+
+    private final HandRanker ranker;
+    private final long[] holeCards;
+    private final long board;
+    private final long[] remaining;
+    private final long samples;
+    private final long deadline;
+    private final SplittableRandom random;
+
+    private RunoutTask(
+        final HandRanker ranker,
+        final long[] holeCards,
+        final long board,
+        final long[] remaining,
+        final long samples,
+        final long deadline,
+        final SplittableRandom random) {
+      this.ranker = ranker;
+      this.holeCards = holeCards;
+      this.board = board;
+      this.remaining = remaining;
+      this.samples = samples;
+      this.deadline = deadline;
+      this.random = random;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (samples > SAMPLES_PER_TASK) {
+        final RunoutTask left =
+            new RunoutTask(
+                ranker, holeCards, board, remaining, samples / 2, deadline, random.split());
+        left.fork();
+        final Tally right =
+            new RunoutTask(
+                    ranker, holeCards, board, remaining, samples - samples / 2, deadline, random)
+                .compute();
+        return right.add(left.join());
+      }
+
+      final long[] deck = remaining.clone();
+      final int needed = 5 - Long.bitCount(board);
+      final int numPlayers = holeCards.length;
+      final int[] ranks = new int[numPlayers];
+      final Tally tally = new Tally(numPlayers);
+      for (long sample = 0; sample < samples; sample++) {
+        if ((sample & (DEADLINE_CHECK_INTERVAL - 1)) == 0 && System.nanoTime() - deadline > 0) {
+          break;
+        }
+
+        // Partial Fisher-Yates shuffle, only the first cards of the deck are needed.
+        long runout = board;
+        for (int i = 0; i < needed; i++) {
+          final int j = i + random.nextInt(deck.length - i);
+          final long card = deck[j];
+          deck[j] = deck[i];
+          deck[i] = card;
+          runout |= card;
+        }
+
+        for (int p = 0; p < numPlayers; p++) {
+          ranks[p] = ranker.rank(runout, holeCards[p]);
+        }
+        tally.record(ranks);
+      }
+      return tally;
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.poker.poker.utilities;
+
+import com.poker.poker.utilities.EquityCalculator.Tally;
+import java.util.Arrays;
+
+/**
+ * Exact equities of an all-in hand, found by ranking every possible completion of the board. This
+ * is practical for up to 3 players: there are at most 1,712,304 completions before the flop, 990
+ * after the flop and 44 after the turn.
+ *
+ * <p>When exactly one card is dealt on the next street, the enumeration also keeps the tally of the
+ * completions that contain each of the remaining cards. Enumerating the flop therefore also yields
+ * the exact equities of every possible turn, so {@link #advance(long)} can derive the turn without
+ * ranking anything again. Likewise, the river is derived from an enumeration of the turn.
+ */
+public final class EquityEnumeration {
+
+  private final long[] holeCards;
+  private final long board;
+  private final Tally tally;
+
+  /**
+   * Tallies of the completions which contain each card (indexed by the card's bit in a card mask),
+   * or null if they weren't recorded.
+   */
+  private final Tally[] next;
+
+  private EquityEnumeration(
+      final long[] holeCards, final long board, final Tally tally, final Tally[] next) {
+    this.holeCards = holeCards;
+    this.board = board;
+    this.tally = tally;
+    this.next = next;
+  }
+
+  /**
+   * Ranks every possible completion of the board.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>At least 2 players.
+   *   <li>No card is in more than one player's hand or on the board.
+   *   <li>The board has 0, 3, 4 or 5 cards.
+   * </ol>
+   *
+   * @param holeCards Card mask of each player's hole cards.
+   * @param board Card mask of the board.
+   * @return Exact equities of the players.
+   */
+  public static EquityEnumeration enumerate(final long[] holeCards, final long board) {
+    assert holeCards.length >= 2;
+    assert Long.bitCount(board) <= 5;
+
+    long dead = board;
+    for (final long cards : holeCards) {
+      assert (dead & cards) == 0;
+      dead |= cards;
+    }
+    final long deadCards = dead;
+    final long[] remaining =
+        Arrays.stream(EquityCalculator.DECK).filter(c -> (c & deadCards) == 0).toArray();
+
+    final int needed = 5 - Long.bitCount(board);
+    final Tally tally = new Tally(holeCards.length);
+    final Tally[] next = needed == 1 || needed == 2 ? new Tally[Long.SIZE] : null;
+    if (next != null) {
+      for (final long card : remaining) {
+        next[Long.numberOfTrailingZeros(card)] = new Tally(holeCards.length);
+      }
+    }
+    enumerate(holeCards, remaining, 0, needed, board, new int[holeCards.length], tally, next);
+    return new EquityEnumeration(holeCards.clone(), board, tally, next);
+  }
+
+  /**
+   * Returns the exact equities after more cards have been dealt. When this enumeration recorded the
+   * tallies of the next street, they are reused, otherwise the new board is enumerated.
+   *
+   * @param newBoard Card mask of the board, which must contain every card of the current board.
+   * @return Exact equities with the new board.
+   */
+  public EquityEnumeration advance(final long newBoard) {
+    assert (newBoard & board) == board;
+
+    final long dealt = newBoard & ~board;
+    if (dealt == 0) {
+      return this;
+    }
+    if (next != null && Long.bitCount(dealt) == 1) {
+      // Every completion containing the card that was dealt has already been ranked.
+      return new EquityEnumeration(
+          holeCards, newBoard, next[Long.numberOfTrailingZeros(dealt)], null);
+    }
+    return enumerate(holeCards, newBoard);
+  }
+
+  /**
+   * Determines whether this enumeration is for the specified players.
+   *
+   * @param holeCards Card mask of each player's hole cards.
+   * @return True if the hole cards are the same, in the same order.
+   */
+  public boolean isFor(final long[] holeCards) {
+    return Arrays.equals(this.holeCards, holeCards);
+  }
+
+  /** Returns the card mask of the board. */
+  public long getBoard() {
+    return board;
+  }
+
+  /** Returns the number of completions each player won or tied. */
+  public Tally getTally() {
+    return tally;
+  }
+
+  /**
+   * Ranks every completion of the board with the cards from <code>remaining[start:]</code>.
+   *
+   * @param next Tallies of the completions containing each card, or null to skip recording them.
+   */
+  static void enumerate(
+      final long[] holeCards,
+      final long[] remaining,
+      final int start,
+      final int needed,
+      final long runout,
+      final int[] ranks,
+      final Tally tally,
+      final Tally[] next) {
+    if (needed == 0) {
+      for (int p = 0; p < holeCards.length; p++) {
+        ranks[p] = HandEvaluator.evaluate(runout | holeCards[p]);
+      }
+      tally.record(ranks);
+      if (next != null) {
+        for (long cards = runout; cards != 0; cards &= cards - 1) {
+          final Tally cardTally = next[Long.numberOfTrailingZeros(cards)];
+          if (cardTally != null) {
+            cardTally.record(ranks);
+          }
+        }
+      }
+      return;
+    }
+    for (int i = start; i <= remaining.length - needed; i++) {
+      enumerate(holeCards, remaining, i + 1, needed - 1, runout | remaining[i], ranks, tally, next);
+    }
+  }
+}
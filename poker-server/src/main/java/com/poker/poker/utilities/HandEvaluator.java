@@ -0,0 +1,559 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.utilities.CardUtilities.RANK_BASE;
+import static com.poker.poker.utilities.CardUtilities.handTypeValues;
+
+import com.poker.poker.models.enums.CardValue;
+import com.poker.poker.models.enums.HandType;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.HandRank;
+import com.poker.poker.models.game.Showdown;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Allocation-free hand evaluator which works on 64-bit card masks. Each suit occupies a 16-bit lane
+ * of the mask (in <code>CardSuit</code> ordinal order), and within a lane, bit <code>i</code>
+ * represents the card with value <code>i + 2</code>, i.e. bit 0 is a Two and bit 12 is an Ace.
+ *
+ * <p>The ranks produced by this class are identical to the ranks produced by the list based
+ * evaluators in {@link CardUtilities}, which are kept as the reference implementation.
+ */
+public final class HandEvaluator {
+
+  /** Width of the lane each suit occupies in a card mask. */
+  public static final int SUIT_SHIFT = 16;
+
+  /** Mask of the 13 bits in a lane which are used to represent card values. */
+  public static final int VALUE_MASK = 0x1FFF;
+
+  /** Number of distinct card values in a suit. */
+  public static final int NUM_VALUES = 13;
+
+  /** Number of suits in a deck (excluding <code>Back</code>). */
+  public static final int NUM_SUITS = 4;
+
+  /** Multiplier of the hand type digit, i.e. <code>RANK_BASE^5</code>. */
+  public static final int TYPE_MULTIPLIER =
+      RANK_BASE * RANK_BASE * RANK_BASE * RANK_BASE * RANK_BASE;
+
+  private static final int BASE_2 = RANK_BASE * RANK_BASE;
+  private static final int BASE_3 = BASE_2 * RANK_BASE;
+  private static final int BASE_4 = BASE_3 * RANK_BASE;
+
+  private static final int STRAIGHT_FLUSH =
+      handTypeValues.get(HandType.StraightFlush) * TYPE_MULTIPLIER;
+  private static final int FOUR_OF_A_KIND =
+      handTypeValues.get(HandType.FourOfAKind) * TYPE_MULTIPLIER;
+  private static final int FULL_HOUSE = handTypeValues.get(HandType.FullHouse) * TYPE_MULTIPLIER;
+  private static final int FLUSH = handTypeValues.get(HandType.Flush) * TYPE_MULTIPLIER;
+  private static final int STRAIGHT = handTypeValues.get(HandType.Straight) * TYPE_MULTIPLIER;
+  private static final int SET = handTypeValues.get(HandType.Set) * TYPE_MULTIPLIER;
+  private static final int TWO_PAIR = handTypeValues.get(HandType.TwoPair) * TYPE_MULTIPLIER;
+  private static final int PAIR = handTypeValues.get(HandType.Pair) * TYPE_MULTIPLIER;
+  private static final int HIGH_CARD = handTypeValues.get(HandType.HighCard) * TYPE_MULTIPLIER;
+
+  /** Mask of the values that make up the lowest straight (Ace to Five). */
+  static final int WHEEL = 0x100F;
+
+  /**
+   * Value of the highest card in the best straight that can be made with a 13-bit value mask, or 0
+   * if no straight can be made. The wheel (Ace to Five) has a high card of 5.
+   */
+  private static final byte[] STRAIGHT_HIGH = new byte[VALUE_MASK + 1];
+
+  /** Hand types, indexed by the hand type digit of a rank. */
+  private static final HandType[] TYPES = new HandType[handTypeValues.size()];
+
+  /** Card mask of each card, indexed by the card's code. */
+  private static final long[] MASKS = new long[Card.NUM_CARDS];
+
+  static {
+    for (int bits = 0; bits <= VALUE_MASK; bits++) {
+      for (int high = NUM_VALUES - 1; high >= 4; high--) {
+        if (((bits >>> (high - 4)) & 0x1F) == 0x1F) {
+          STRAIGHT_HIGH[bits] = (byte) (high + 2);
+          break;
+        }
+      }
+      if (STRAIGHT_HIGH[bits] == 0 && (bits & WHEEL) == WHEEL) {
+        STRAIGHT_HIGH[bits] = 5;
+      }
+    }
+    handTypeValues.forEach((type, digit) -> TYPES[digit] = type);
+    for (int code = 0; code < Card.NUM_CARDS; code++) {
+      MASKS[code] = 1L << (Card.suitOrdinal(code) * SUIT_SHIFT + Card.val(code) - 2);
+    }
+  }
+
+  /** Lookup tables used by {@link #evaluate(long)}, or null if hands should be ranked directly. */
+  private static volatile HandRankTable rankTable;
+
+  /** Cache used by {@link #rankHand(Collection)}, or null if ranks should not be cached. */
+  private static volatile HandRankCache rankCache;
+
+  /** Private constructor to prevent creating instances of static class. */
+  private HandEvaluator() {}
+
+  /**
+   * Sets the lookup tables used by {@link #evaluate(long)}.
+   *
+   * @param table Lookup tables, or null to rank hands with {@link #rank(long)}.
+   */
+  public static void setRankTable(final HandRankTable table) {
+    rankTable = table;
+  }
+
+  /**
+   * Returns the lookup tables used by {@link #evaluate(long)}.
+   *
+   * @return The lookup tables, or null if hands are ranked with {@link #rank(long)}.
+   */
+  public static HandRankTable getRankTable() {
+    return rankTable;
+  }
+
+  /**
+   * Sets the cache used by {@link #rankHand(Collection)}.
+   *
+   * @param cache Cache, or null to disable caching.
+   */
+  public static void setRankCache(final HandRankCache cache) {
+    rankCache = cache;
+  }
+
+  /**
+   * Returns the cache used by {@link #rankHand(Collection)}.
+   *
+   * @return The cache, or null if caching is disabled.
+   */
+  public static HandRankCache getRankCache() {
+    return rankCache;
+  }
+
+  /**
+   * Determines the numerical rank of the best 5 card hand that can be made with the cards in a card
+   * mask, using the lookup tables when they have been loaded, and {@link #rank(long)} otherwise.
+   *
+   * @param mask Card mask.
+   * @return Numerical rank of the best hand (higher means better hand).
+   */
+  public static int evaluate(final long mask) {
+    final HandRankTable table = rankTable;
+    return table == null ? rank(mask) : table.rank(mask);
+  }
+
+  /**
+   * Returns the bit a card value occupies within a suit lane.
+   *
+   * @param value Card value (cannot be <code>Back</code>).
+   * @return Bit index of the value, from 0 (Two) to 12 (Ace).
+   */
+  public static int bit(final CardValue value) {
+    assert value != CardValue.Back;
+    return CardValue.Two.ordinal() - value.ordinal();
+  }
+
+  /**
+   * Encodes a single card as a card mask.
+   *
+   * @param card Card (cannot have a suit or value of <code>Back</code>).
+   * @return Card mask with exactly one bit set.
+   */
+  public static long mask(final Card card) {
+    assert card.getCode() != Card.BACK;
+    return MASKS[card.getCode()];
+  }
+
+  /**
+   * Encodes a collection of cards as a card mask.
+   *
+   * @param cards Cards.
+   * @return Card mask containing every card in <code>cards</code>.
+   */
+  public static long mask(final Collection<Card> cards) {
+    assert CardUtilities.sharedPreCondition(cards);
+
+    long mask = 0;
+    for (final Card card : cards) {
+      mask |= mask(card);
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the 13-bit value mask of one suit in a card mask.
+   *
+   * @param mask Card mask.
+   * @param suit Lane of the suit (<code>CardSuit</code> ordinal).
+   * @return Values of the cards in <code>mask</code> that have the specified suit.
+   */
+  public static int suitValues(final long mask, final int suit) {
+    return (int) (mask >>> (suit * SUIT_SHIFT)) & VALUE_MASK;
+  }
+
+  /**
+   * Determines the numerical rank of the best 5 card hand that can be made with the cards in a card
+   * mask. The rank is identical to the rank produced by the reference evaluators in <code>
+   * CardUtilities</code>. This method does not allocate.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>At least 5 cards are set in <code>mask</code>.
+   * </ol>
+   *
+   * @param mask Card mask.
+   * @return Numerical rank of the best hand (higher means better hand).
+   */
+  public static int rank(final long mask) {
+    return rank(mask, true, true);
+  }
+
+  /**
+   * Ranks a card mask, optionally skipping the checks for flushes and straights when it is already
+   * known that the cards cannot make them (e.g. because of the board).
+   */
+  static int rank(final long mask, final boolean flushPossible, final boolean straightPossible) {
+    final int s0 = (int) mask & VALUE_MASK;
+    final int s1 = (int) (mask >>> SUIT_SHIFT) & VALUE_MASK;
+    final int s2 = (int) (mask >>> (2 * SUIT_SHIFT)) & VALUE_MASK;
+    final int s3 = (int) (mask >>> (3 * SUIT_SHIFT)) & VALUE_MASK;
+
+    final int flush = flushPossible ? flushValues(s0, s1, s2, s3) : 0;
+    if (flush != 0 && STRAIGHT_HIGH[flush] != 0) {
+      return STRAIGHT_FLUSH + STRAIGHT_HIGH[flush];
+    }
+
+    final int values = s0 | s1 | s2 | s3;
+    final int quads = s0 & s1 & s2 & s3;
+    if (quads != 0) {
+      return FOUR_OF_A_KIND + high(quads) * RANK_BASE + high(values & ~quads);
+    }
+
+    final int sets = (s0 & s1 & (s2 | s3)) | (s2 & s3 & (s0 | s1));
+    final int pairs = (s0 & (s1 | s2 | s3)) | (s1 & (s2 | s3)) | (s2 & s3);
+    final int set = Integer.highestOneBit(sets);
+    if (set != 0 && (pairs & ~set) != 0) {
+      return FULL_HOUSE + high(set) * RANK_BASE + high(pairs & ~set);
+    }
+
+    if (flush != 0) {
+      return FLUSH + topFive(flush);
+    }
+
+    if (straightPossible && STRAIGHT_HIGH[values] != 0) {
+      return STRAIGHT + STRAIGHT_HIGH[values];
+    }
+
+    if (set != 0) {
+      final int kickers = values & ~set;
+      final int kicker1 = Integer.highestOneBit(kickers);
+      return SET + high(set) * BASE_2 + high(kickers & ~kicker1) * RANK_BASE + high(kicker1);
+    }
+
+    if (pairs != 0) {
+      final int pair1 = Integer.highestOneBit(pairs);
+      final int pair2 = Integer.highestOneBit(pairs & ~pair1);
+      if (pair2 != 0) {
+        return TWO_PAIR
+            + high(pair1) * BASE_2
+            + high(pair2) * RANK_BASE
+            + high(values & ~pair1 & ~pair2);
+      }
+      int kickers = values & ~pair1;
+      final int kicker1 = Integer.highestOneBit(kickers);
+      kickers &= ~kicker1;
+      final int kicker2 = Integer.highestOneBit(kickers);
+      kickers &= ~kicker2;
+      return PAIR
+          + high(pair1) * BASE_3
+          + high(kickers) * BASE_2
+          + high(kicker2) * RANK_BASE
+          + high(kicker1);
+    }
+
+    return HIGH_CARD + topFive(values);
+  }
+
+  /**
+   * Determines the type of hand associated with a numerical rank.
+   *
+   * @param rank Numerical rank.
+   * @return Type of hand.
+   */
+  public static HandType type(final int rank) {
+    return TYPES[rank / TYPE_MULTIPLIER];
+  }
+
+  /**
+   * Reconstructs the best 5 card hand associated with a rank that was produced by {@link
+   * #rank(long)}. Cards are returned in the same order as the reference evaluators in <code>
+   * CardUtilities</code> would return them, e.g. the pair followed by the kickers in ascending
+   * order for a pair. This method allocates, so it should only be called when the cards are needed.
+   *
+   * @param mask Card mask that was ranked.
+   * @param rank Rank of the card mask.
+   * @return The best 5 card hand.
+   */
+  public static List<Card> bestHand(final long mask, final int rank) {
+    final List<Card> hand = new ArrayList<>(5);
+    final int d0 = rank % RANK_BASE;
+    final int d1 = rank / RANK_BASE % RANK_BASE;
+    final int d2 = rank / BASE_2 % RANK_BASE;
+    final int d3 = rank / BASE_3 % RANK_BASE;
+    final int d4 = rank / BASE_4 % RANK_BASE;
+
+    switch (type(rank)) {
+      case StraightFlush:
+        addStraight(hand, mask, flushSuit(mask), d0);
+        break;
+      case FourOfAKind:
+        addCards(hand, mask, d1, 4);
+        addKicker(hand, mask, d0);
+        break;
+      case FullHouse:
+        addCards(hand, mask, d1, 3);
+        addCards(hand, mask, d0, 2);
+        break;
+      case Flush:
+        addFlush(hand, flushSuit(mask), rank);
+        break;
+      case Straight:
+        addStraight(hand, mask, -1, d0);
+        break;
+      case Set:
+        addCards(hand, mask, d2, 3);
+        addKicker(hand, mask, d1);
+        addKicker(hand, mask, d0);
+        break;
+      case TwoPair:
+        addCards(hand, mask, d2, 2);
+        addCards(hand, mask, d1, 2);
+        addKicker(hand, mask, d0);
+        break;
+      case Pair:
+        addCards(hand, mask, d3, 2);
+        addKicker(hand, mask, d2);
+        addKicker(hand, mask, d1);
+        addKicker(hand, mask, d0);
+        break;
+      default:
+        addKicker(hand, mask, d0);
+        addKicker(hand, mask, d1);
+        addKicker(hand, mask, d2);
+        addKicker(hand, mask, d3);
+        addKicker(hand, mask, d4);
+        break;
+    }
+    return hand;
+  }
+
+  /**
+   * Ranks a collection of cards, producing the same result as the reference implementation in
+   * <code>CardUtilities</code>. When caching is enabled, the result may be shared with other
+   * callers, so it is immutable and has no player ID.
+   *
+   * @param cards Cards.
+   * @return The best 5 card hand that can be made with the cards provided, along with the numerical
+   *     ranking of the best hand.
+   */
+  public static HandRank rankHand(final Collection<Card> cards) {
+    final long mask = mask(cards);
+    final HandRankCache cache = rankCache;
+    if (cache != null) {
+      final HandRank cached = cache.get(mask);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    final int rank = evaluate(mask);
+    final HandRank handRank =
+        new HandRank(rank, Collections.unmodifiableList(bestHand(mask, rank)), type(rank));
+    if (cache != null) {
+      cache.put(mask, handRank);
+    }
+    return handRank;
+  }
+
+  /**
+   * Ranks the hands of several players who share the same board. The card mask of the board is
+   * built once and combined with each player's hole cards. When hands are ranked by the bitmask
+   * evaluator, the board is also analyzed once to determine whether a flush or straight can still
+   * be made with the hole cards, so that those checks can be skipped for every player when they
+   * can't. Players are only grouped by rank when the showdown's tie groups are requested.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>Every player has the same number of hole cards.
+   *   <li>The board and hole cards of each player make up at least 5 cards.
+   * </ol>
+   *
+   * @param board Shared cards.
+   * @param holeCards Hole cards of each player.
+   * @return Hand ranks of the players, in the same order as <code>holeCards</code>, and the indices
+   *     of the players grouped by rank, from best to worst.
+   */
+  public static Showdown rankHands(
+      final Collection<Card> board, final List<? extends Collection<Card>> holeCards) {
+    final long boardMask = mask(board);
+    final int numHoleCards = holeCards.isEmpty() ? 0 : holeCards.get(0).size();
+    final HandRankTable table = rankTable;
+
+    // The lookup tables rank a hand with a single probe whatever the board, so the board only needs
+    // to be analyzed when hands are ranked by the bitmask evaluator.
+    boolean flushPossible = true;
+    boolean straightPossible = true;
+    if (table == null) {
+      final int needed = 5 - numHoleCards;
+      final int boardValues =
+          suitValues(boardMask, 0)
+              | suitValues(boardMask, 1)
+              | suitValues(boardMask, 2)
+              | suitValues(boardMask, 3);
+      flushPossible = false;
+      for (int suit = 0; suit < NUM_SUITS; suit++) {
+        flushPossible |= Integer.bitCount(suitValues(boardMask, suit)) >= needed;
+      }
+      straightPossible = straightPossible(boardValues, needed);
+    }
+
+    final HandRankCache cache = rankCache;
+    final List<HandRank> ranks = new ArrayList<>(holeCards.size());
+    for (final Collection<Card> cards : holeCards) {
+      assert cards.size() == numHoleCards;
+      final long mask = boardMask | mask(cards);
+      HandRank handRank = cache == null ? null : cache.get(mask);
+      if (handRank == null) {
+        final int rank =
+            table == null ? rank(mask, flushPossible, straightPossible) : table.rank(mask);
+        handRank =
+            new HandRank(rank, Collections.unmodifiableList(bestHand(mask, rank)), type(rank));
+        if (cache != null) {
+          cache.put(mask, handRank);
+        }
+      }
+      ranks.add(handRank);
+    }
+    return new Showdown(ranks);
+  }
+
+  /**
+   * Determines whether a straight can be made by adding cards to the specified values.
+   *
+   * @param values Values of the cards that are known, e.g. the board.
+   * @param needed Number of those values a straight must contain.
+   * @return True if at least <code>needed</code> values fall within one straight.
+   */
+  static boolean straightPossible(final int values, final int needed) {
+    boolean possible = Integer.bitCount(values & WHEEL) >= needed;
+    for (int low = 0; low + 5 <= NUM_VALUES; low++) {
+      possible |= Integer.bitCount(values & (0x1F << low)) >= needed;
+    }
+    return possible;
+  }
+
+  /**
+   * Returns the value of the highest card in the best straight that can be made with a 13-bit value
+   * mask, or 0 if no straight can be made. The wheel (Ace to Five) has a high card of 5.
+   */
+  static int straightHigh(final int values) {
+    return STRAIGHT_HIGH[values];
+  }
+
+  /** Returns the values of the suit that has at least 5 cards, or 0 if there is no such suit. */
+  private static int flushValues(final int s0, final int s1, final int s2, final int s3) {
+    if (Integer.bitCount(s0) >= 5) {
+      return s0;
+    }
+    if (Integer.bitCount(s1) >= 5) {
+      return s1;
+    }
+    if (Integer.bitCount(s2) >= 5) {
+      return s2;
+    }
+    return Integer.bitCount(s3) >= 5 ? s3 : 0;
+  }
+
+  /** Card value of the highest bit in <code>bits</code>, or 0 if no bits are set. */
+  private static int high(final int bits) {
+    return bits == 0 ? 0 : 33 - Integer.numberOfLeadingZeros(bits);
+  }
+
+  /** Base 15 number made up of the five highest values, with the highest value most significant. */
+  private static int topFive(int bits) {
+    int result = 0;
+    for (int i = 0; i < 5; i++) {
+      final int top = Integer.highestOneBit(bits);
+      result = result * RANK_BASE + high(top);
+      bits &= ~top;
+    }
+    return result;
+  }
+
+  /** Returns the lane of the suit that has at least 5 cards, or -1 if there is no such suit. */
+  static int flushSuit(final long mask) {
+    for (int suit = 0; suit < NUM_SUITS; suit++) {
+      if (Integer.bitCount(suitValues(mask, suit)) >= 5) {
+        return suit;
+      }
+    }
+    return -1;
+  }
+
+  /** Returns the card in the specified lane with the specified value (2 to 14). */
+  static Card card(final int suit, final int value) {
+    return Card.of(suit * NUM_VALUES + value - 2);
+  }
+
+  private static boolean has(final long mask, final int suit, final int value) {
+    return (suitValues(mask, suit) & (1 << (value - 2))) != 0;
+  }
+
+  /** Adds up to <code>count</code> cards with the specified value, in ascending suit order. */
+  private static void addCards(
+      final List<Card> hand, final long mask, final int value, final int count) {
+    int added = 0;
+    for (int suit = 0; suit < NUM_SUITS && added < count; suit++) {
+      if (has(mask, suit, value)) {
+        hand.add(card(suit, value));
+        added++;
+      }
+    }
+  }
+
+  /** Adds the kicker with the specified value, preferring the highest suit (like the reference). */
+  private static void addKicker(final List<Card> hand, final long mask, final int value) {
+    for (int suit = NUM_SUITS - 1; value != 0 && suit >= 0; suit--) {
+      if (has(mask, suit, value)) {
+        hand.add(card(suit, value));
+        return;
+      }
+    }
+  }
+
+  /** Adds the 5 cards of a flush in ascending order. */
+  private static void addFlush(final List<Card> hand, final int suit, final int rank) {
+    for (int i = 0, digits = rank; i < 5; i++, digits /= RANK_BASE) {
+      hand.add(card(suit, digits % RANK_BASE));
+    }
+  }
+
+  /**
+   * Adds the 5 cards of a straight in ascending order, with the Ace first for the wheel. When
+   * <code>suit</code> is negative, the lowest suit of each value is used.
+   */
+  private static void addStraight(
+      final List<Card> hand, final long mask, final int suit, final int high) {
+    for (int value = high - 4; value <= high; value++) {
+      final int v = value == 1 ? 14 : value;
+      if (suit >= 0) {
+        hand.add(card(suit, v));
+      } else {
+        addCards(hand, mask, v, 1);
+      }
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.utilities.HandEvaluator.NUM_VALUES;
+import static com.poker.poker.utilities.HandEvaluator.SUIT_SHIFT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Set of hole card combinations a player could be holding, written in the usual shorthand, e.g.
+ * <code>QQ+,AKs,A5s-A2s,KQ,JhTh</code>. A range is made of comma separated terms, where each term
+ * is one of the following:
+ *
+ * <ul>
+ *   <li>A starting hand class, which is a pair such as <code>QQ</code>, a suited hand such as
+ *       <code>AKs</code>, an offsuit hand such as <code>AKo</code>, or both (<code>AK</code>).
+ *   <li>A class followed by <code>+</code>, which adds every higher pair (<code>QQ+</code>), or
+ *       every higher second card (<code>ATs+</code> is ATs, AJs, AQs and AKs).
+ *   <li>Two classes separated by <code>-</code>, which adds every pair or second card in between,
+ *       e.g. <code>22-55</code> or <code>A5s-A2s</code>.
+ *   <li>Two specific cards (<code>JhTh</code>), where suits are <code>s</code>, <code>h</code>,
+ *       <code>c</code> and <code>d</code>.
+ * </ul>
+ *
+ * <p>Two ranges are equal when they contain the same combinations, regardless of how they were
+ * written, and {@link #toString()} returns the same canonical form for both.
+ */
+public final class HandRange {
+
+  /** Characters used for card values, indexed by card mask bit. */
+  private static final String VALUE_NAMES = "23456789TJQKA";
+
+  /** Characters used for suits, indexed by card mask lane. */
+  private static final String SUIT_NAMES = "shcd";
+
+  /** Card masks of the combinations, in ascending order. */
+  private final long[] combinations;
+
+  private HandRange(final long[] combinations) {
+    this.combinations = combinations;
+  }
+
+  /**
+   * Parses a range.
+   *
+   * @param range Range, e.g. <code>QQ+,AKs</code>.
+   * @return The range, or null if the range is empty or not valid.
+   */
+  public static HandRange parse(final String range) {
+    if (range == null) {
+      return null;
+    }
+    final TreeSet<Long> combinations = new TreeSet<>();
+    for (final String term : range.split(",", -1)) {
+      if (!parseTerm(term.trim(), combinations)) {
+        return null;
+      }
+    }
+    return new HandRange(combinations.stream().mapToLong(Long::longValue).toArray());
+  }
+
+  /** Returns the card masks of the combinations in this range, in ascending order. */
+  public long[] getCombinations() {
+    return combinations.clone();
+  }
+
+  /** Returns the number of combinations in this range. */
+  public int size() {
+    return combinations.length;
+  }
+
+  /**
+   * Returns the combinations in this range which don't contain any of the specified cards.
+   *
+   * @param deadCards Card mask of cards that can't be in a player's hand, e.g. the board.
+   * @return Card masks of the remaining combinations, in ascending order.
+   */
+  public long[] getCombinations(final long deadCards) {
+    return Arrays.stream(combinations).filter(c -> (c & deadCards) == 0).toArray();
+  }
+
+  /**
+   * Returns the canonical form of this range, where starting hand classes whose combinations are
+   * all in the range are written as a class, and every other combination is written as two cards.
+   */
+  @Override
+  public String toString() {
+    final List<String> terms = new ArrayList<>();
+    for (int high = NUM_VALUES - 1; high >= 0; high--) {
+      for (int low = high; low >= 0; low--) {
+        if (high == low) {
+          addTerms(high * NUM_VALUES + low, terms);
+        } else {
+          addTerms(high * NUM_VALUES + low, terms);
+          addTerms(low * NUM_VALUES + high, terms);
+        }
+      }
+    }
+    return String.join(",", terms);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return o instanceof HandRange && Arrays.equals(combinations, ((HandRange) o).combinations);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(combinations);
+  }
+
+  /** Adds the class to the terms when all of its combinations are in the range. */
+  private void addTerms(final int handClass, final List<String> terms) {
+    final long[] classCombinations = PreflopEquityMatrix.combinations(handClass);
+    final List<String> present = new ArrayList<>(classCombinations.length);
+    for (final long combination : classCombinations) {
+      if (Arrays.binarySearch(combinations, combination) >= 0) {
+        present.add(nameOf(combination));
+      }
+    }
+    if (present.size() == classCombinations.length) {
+      terms.add(PreflopEquityMatrix.nameOf(handClass));
+    } else {
+      terms.addAll(present);
+    }
+  }
+
+  /** Names two specific cards, highest value first. */
+  private static String nameOf(final long combination) {
+    final int first = Long.numberOfTrailingZeros(combination);
+    final int second = 63 - Long.numberOfLeadingZeros(combination);
+    final boolean firstIsHigher = first % SUIT_SHIFT >= second % SUIT_SHIFT;
+    return nameOfCard(firstIsHigher ? first : second) + nameOfCard(firstIsHigher ? second : first);
+  }
+
+  private static String nameOfCard(final int bit) {
+    return "" + VALUE_NAMES.charAt(bit % SUIT_SHIFT) + SUIT_NAMES.charAt(bit / SUIT_SHIFT);
+  }
+
+  /** Adds the combinations of one term to the set, returning false if the term is not valid. */
+  private static boolean parseTerm(final String term, final TreeSet<Long> combinations) {
+    if (term.length() == 4 && SUIT_NAMES.indexOf(Character.toLowerCase(term.charAt(1))) >= 0) {
+      final int first = parseCard(term.charAt(0), term.charAt(1));
+      final int second = parseCard(term.charAt(2), term.charAt(3));
+      if (first < 0 || second < 0 || first == second) {
+        return false;
+      }
+      combinations.add((1L << first) | (1L << second));
+      return true;
+    }
+
+    final int dash = term.indexOf('-');
+    final boolean plus = term.endsWith("+");
+    final int[] from = parseClass(dash >= 0 ? term.substring(0, dash) : plus ? chop(term) : term);
+    final int[] to = dash >= 0 ? parseClass(term.substring(dash + 1)) : from;
+    if (from == null || to == null) {
+      return false;
+    }
+    final int high = from[0];
+    final boolean pair = from[0] == from[1];
+    if (to[2] != from[2] || (to[0] == to[1]) != pair || (!pair && to[0] != high)) {
+      return false;
+    }
+
+    // Pairs range over both values, other hands range over the second value only.
+    final int index = pair ? 0 : 1;
+    final int start = Math.min(from[index], to[index]);
+    final int end = plus ? (pair ? NUM_VALUES - 1 : high - 1) : Math.max(from[index], to[index]);
+    for (int value = start; value <= end; value++) {
+      addClass(pair ? value : high, value, from[2], combinations);
+    }
+    return true;
+  }
+
+  /**
+   * Parses a starting hand class, returning the high value, low value and suffix (<code>s</code>,
+   * <code>o</code> or 0 for both), or null if the class is not valid.
+   */
+  private static int[] parseClass(final String name) {
+    if (name.length() < 2 || name.length() > 3) {
+      return null;
+    }
+    final int high = VALUE_NAMES.indexOf(Character.toUpperCase(name.charAt(0)));
+    final int low = VALUE_NAMES.indexOf(Character.toUpperCase(name.charAt(1)));
+    final char suffix = name.length() == 3 ? Character.toLowerCase(name.charAt(2)) : 0;
+    if (high < 0 || low < 0 || low > high) {
+      return null;
+    }
+    if (high == low ? suffix != 0 : suffix != 0 && suffix != 's' && suffix != 'o') {
+      return null;
+    }
+    return new int[] {high, low, suffix};
+  }
+
+  private static void addClass(
+      final int high, final int low, final int suffix, final TreeSet<Long> combinations) {
+    if (high == low || suffix != 'o') {
+      addCombinations(high * NUM_VALUES + low, combinations);
+    }
+    if (high != low && suffix != 's') {
+      addCombinations(low * NUM_VALUES + high, combinations);
+    }
+  }
+
+  private static void addCombinations(final int handClass, final TreeSet<Long> combinations) {
+    for (final long combination : PreflopEquityMatrix.combinations(handClass)) {
+      combinations.add(combination);
+    }
+  }
+
+  /** Returns the card mask bit of a card, or -1 if it is not valid. */
+  private static int parseCard(final char value, final char suit) {
+    final int v = VALUE_NAMES.indexOf(Character.toUpperCase(value));
+    final int s = SUIT_NAMES.indexOf(Character.toLowerCase(suit));
+    return v < 0 || s < 0 ? -1 : s * SUIT_SHIFT + v;
+  }
+
+  private static String chop(final String term) {
+    return term.substring(0, term.length() - 1);
+  }
+}
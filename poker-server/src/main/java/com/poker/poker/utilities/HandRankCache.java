@@ -0,0 +1,129 @@
+package com.poker.poker.utilities;
+
+import com.poker.poker.models.game.HandRank;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent, size-bounded cache of hand ranks keyed by card mask. The cache is direct-mapped: each
+ * card mask hashes to a single slot, and storing a rank evicts whatever was in that slot before.
+ * Slots hold immutable entries, so readers never see a partially written entry and no locking is
+ * needed. Cached <code>HandRank</code> objects are shared between callers, so they must not be
+ * modified.
+ */
+public final class HandRankCache {
+
+  /** Largest capacity a cache can be created with (about 16.7 million hand ranks). */
+  public static final int MAX_CAPACITY = 1 << 24;
+
+  /** Multiplier used to spread card masks over the slots (64-bit golden ratio). */
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private final Entry[] entries;
+  private final int shift;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a cache.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>capacity</code> is a power of 2, at least 2 and at most <code>MAX_CAPACITY</code>.
+   * </ol>
+   *
+   * @param capacity Maximum number of hand ranks in the cache.
+   */
+  public HandRankCache(final int capacity) {
+    assert capacity >= 2 && capacity <= MAX_CAPACITY && Integer.bitCount(capacity) == 1;
+    entries = new Entry[capacity];
+    shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+  }
+
+  /**
+   * Determines the capacity of a cache that holds a number of hand ranks, which is the number
+   * rounded up to the nearest power of 2, no smaller than 2 and no larger than <code>MAX_CAPACITY
+   * </code>.
+   *
+   * @param size Number of hand ranks to cache.
+   * @return Capacity of the cache.
+   * @throws IllegalArgumentException If <code>size</code> is not positive.
+   */
+  public static int capacityFor(final int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException(
+          "Hand rank cache size must be positive, was " + size + ".");
+    }
+    if (size >= MAX_CAPACITY) {
+      return MAX_CAPACITY;
+    }
+    return Math.max(2, Integer.highestOneBit(size - 1) << 1);
+  }
+
+  /**
+   * Returns the cached rank of a card mask.
+   *
+   * @param mask Card mask.
+   * @return The cached rank, or null if the card mask is not in the cache.
+   */
+  public HandRank get(final long mask) {
+    final Entry entry = entries[index(mask)];
+    if (entry != null && entry.mask == mask) {
+      hits.increment();
+      return entry.rank;
+    }
+    misses.increment();
+    return null;
+  }
+
+  /**
+   * Stores the rank of a card mask, evicting the rank of any other card mask in the same slot.
+   *
+   * @param mask Card mask.
+   * @param rank Rank of the card mask (should not be modified after it is cached).
+   */
+  public void put(final long mask, final HandRank rank) {
+    final int index = index(mask);
+    final Entry previous = entries[index];
+    if (previous != null && previous.mask != mask) {
+      evictions.increment();
+    }
+    entries[index] = new Entry(mask, rank);
+  }
+
+  /** Returns the maximum number of hand ranks in the cache. */
+  public int getCapacity() {
+    return entries.length;
+  }
+
+  /** Returns the number of lookups which found a cached rank. */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /** Returns the number of lookups which did not find a cached rank. */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /** Returns the number of cached ranks which were replaced by the rank of another card mask. */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  private int index(final long mask) {
+    return (int) ((mask * HASH_MULTIPLIER) >>> shift);
+  }
+
+  /** Immutable cache entry, safely published through its final fields. */
+  private static final class Entry {
+
+    private final long mask;
+    private final HandRank rank;
+
+    private Entry(final long mask, final HandRank rank) {
+      this.mask = mask;
+      this.rank = rank;
+    }
+  }
+}
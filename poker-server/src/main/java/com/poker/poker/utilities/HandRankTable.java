@@ -0,0 +1,305 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.utilities.HandEvaluator.NUM_SUITS;
+import static com.poker.poker.utilities.HandEvaluator.NUM_VALUES;
+import static com.poker.poker.utilities.HandEvaluator.SUIT_SHIFT;
+import static com.poker.poker.utilities.HandEvaluator.VALUE_MASK;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Precomputed hand rank lookup tables. A hand of 5 to 7 cards is resolved to its rank with a single
+ * table lookup after computing a perfect hash of the hand:
+ *
+ * <ul>
+ *   <li>When one suit has at least 5 cards, nothing can beat the flush, so the rank is looked up in
+ *       the flush table, which is indexed by the 13-bit value mask of that suit.
+ *   <li>Otherwise the rank only depends on how many cards of each value are in the hand, so the
+ *       rank is looked up in the table for hands of that size, which is indexed by the position of
+ *       the value counts in the lexicographic ordering of all valid value counts.
+ * </ul>
+ *
+ * <p>The tables are generated from {@link HandEvaluator#rank(long)} and written to a versioned
+ * binary file, which is then mapped read-only, so that several JVMs on one host share the same
+ * pages. The file is laid out as a header of <code>int</code>s (magic number, version, size of each
+ * table), followed by the flush table and the tables for 5, 6 and 7 card hands.
+ *
+ * <p>Variants with different hand rankings can compute their own tables in memory with {@link
+ * #compute(LongToIntFunction)}, which are looked up in exactly the same way.
+ */
+public final class HandRankTable {
+
+  /** Magic number at the beginning of every table file. */
+  public static final int MAGIC = 0x504B4852;
+
+  /** Version of the table file format. Must be incremented whenever ranks or hashing change. */
+  public static final int VERSION = 1;
+
+  /** Smallest number of cards which can be looked up in the tables. */
+  public static final int MIN_CARDS = 5;
+
+  /** Largest number of cards which can be looked up in the tables. */
+  public static final int MAX_CARDS = 7;
+
+  private static final int MAX_OF_A_KIND = 4;
+
+  private static final int FLUSH_TABLE_SIZE = VALUE_MASK + 1;
+
+  private static final int NUM_TABLES = MAX_CARDS - MIN_CARDS + 2;
+
+  private static final int HEADER_SIZE = 2 + NUM_TABLES;
+
+  /**
+   * Number of ways <code>k</code> cards can be spread over <code>n</code> values, with no more than
+   * 4 cards of each value, indexed as <code>[n][k]</code>.
+   */
+  private static final int[][] COMBINATIONS = new int[NUM_VALUES + 1][MAX_CARDS + 1];
+
+  /**
+   * Contribution of a value to the hash, indexed as <code>[bit][cards left][count]</code>, where
+   * <code>bit</code> is the value's bit in a lane, <code>cards left</code> is the number of cards
+   * that still need to be hashed (including this value) and <code>count</code> is the number of
+   * cards with this value.
+   */
+  private static final int[][][] OFFSETS = new int[NUM_VALUES][MAX_CARDS + 1][MAX_OF_A_KIND + 1];
+
+  /** Index of the first entry of the table for each hand size, relative to the flush table. */
+  private static final int[] TABLE_OFFSETS = new int[MAX_CARDS + 1];
+
+  /** Total number of entries in all of the tables. */
+  private static final int NUM_ENTRIES;
+
+  static {
+    COMBINATIONS[0][0] = 1;
+    for (int n = 1; n <= NUM_VALUES; n++) {
+      for (int k = 0; k <= MAX_CARDS; k++) {
+        for (int count = 0; count <= Math.min(MAX_OF_A_KIND, k); count++) {
+          COMBINATIONS[n][k] += COMBINATIONS[n - 1][k - count];
+        }
+      }
+    }
+    for (int bit = 0; bit < NUM_VALUES; bit++) {
+      final int remaining = NUM_VALUES - 1 - bit;
+      for (int k = 0; k <= MAX_CARDS; k++) {
+        for (int count = 1; count <= Math.min(MAX_OF_A_KIND, k); count++) {
+          OFFSETS[bit][k][count] =
+              OFFSETS[bit][k][count - 1] + COMBINATIONS[remaining][k - count + 1];
+        }
+      }
+    }
+    int offset = FLUSH_TABLE_SIZE;
+    for (int k = MIN_CARDS; k <= MAX_CARDS; k++) {
+      TABLE_OFFSETS[k] = offset;
+      offset += COMBINATIONS[NUM_VALUES][k];
+    }
+    NUM_ENTRIES = offset;
+  }
+
+  /** Flush table followed by the tables for each hand size. */
+  private final IntBuffer ranks;
+
+  /** Ranks hands which are too small or too large to be in the tables. */
+  private final LongToIntFunction ranker;
+
+  private HandRankTable(final IntBuffer ranks, final LongToIntFunction ranker) {
+    this.ranks = ranks;
+    this.ranker = ranker;
+  }
+
+  /**
+   * Determines the numerical rank of the best 5 card hand that can be made with the cards in a card
+   * mask. Hands which are too small or too large to be in the tables are ranked by the function the
+   * tables were generated from.
+   *
+   * @param mask Card mask.
+   * @return Numerical rank of the best hand (higher means better hand).
+   */
+  public int rank(final long mask) {
+    final int numCards = Long.bitCount(mask);
+    if (numCards < MIN_CARDS || numCards > MAX_CARDS) {
+      return ranker.applyAsInt(mask);
+    }
+
+    final int s0 = (int) mask & VALUE_MASK;
+    final int s1 = (int) (mask >>> SUIT_SHIFT) & VALUE_MASK;
+    final int s2 = (int) (mask >>> (2 * SUIT_SHIFT)) & VALUE_MASK;
+    final int s3 = (int) (mask >>> (3 * SUIT_SHIFT)) & VALUE_MASK;
+    if (Integer.bitCount(s0) >= MIN_CARDS) {
+      return ranks.get(s0);
+    }
+    if (Integer.bitCount(s1) >= MIN_CARDS) {
+      return ranks.get(s1);
+    }
+    if (Integer.bitCount(s2) >= MIN_CARDS) {
+      return ranks.get(s2);
+    }
+    if (Integer.bitCount(s3) >= MIN_CARDS) {
+      return ranks.get(s3);
+    }
+    return ranks.get(TABLE_OFFSETS[numCards] + hash(s0, s1, s2, s3, numCards));
+  }
+
+  /**
+   * Generates the tables and writes them to a file. The tables are written to a temporary file
+   * first, which is then moved into place, so that a partially written file is never mapped.
+   *
+   * @param path Path of the file.
+   * @throws IOException If the file cannot be written.
+   */
+  public static void generate(final Path path) throws IOException {
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(Integer.BYTES * (HEADER_SIZE + NUM_ENTRIES)).putInt(MAGIC);
+    buffer.putInt(VERSION).putInt(FLUSH_TABLE_SIZE);
+    for (int k = MIN_CARDS; k <= MAX_CARDS; k++) {
+      buffer.putInt(COMBINATIONS[NUM_VALUES][k]);
+    }
+    buffer.asIntBuffer().put(generateRanks(HandEvaluator::rank));
+    buffer.rewind();
+
+    final Path absolute = path.toAbsolutePath();
+    Files.createDirectories(absolute.getParent());
+    final Path temp = Files.createTempFile(absolute.getParent(), "hand-ranks", ".tmp");
+    try (final FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Computes tables in memory from a function which ranks card masks. The function is called for
+   * every flush of one suit and for one hand without a flush for each valid combination of value
+   * counts, so it doesn't need to be fast.
+   *
+   * @param ranker Ranks card masks of 5 to 7 cards, and any other mask that is looked up.
+   * @return Table backed by an array on the heap.
+   */
+  public static HandRankTable compute(final LongToIntFunction ranker) {
+    return new HandRankTable(IntBuffer.wrap(generateRanks(ranker)), ranker);
+  }
+
+  /**
+   * Maps a table file, which was created by {@link #generate(Path)}, into memory.
+   *
+   * @param path Path of the file.
+   * @return Table backed by the mapped file.
+   * @throws IOException If the file cannot be read, or if it was not created by this version of the
+   *     generator.
+   */
+  public static HandRankTable load(final Path path) throws IOException {
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() != (long) Integer.BYTES * (HEADER_SIZE + NUM_ENTRIES)) {
+        throw new IOException("Hand rank table " + path + " has an unexpected size.");
+      }
+      final IntBuffer ints =
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asIntBuffer();
+      if (ints.get(0) != MAGIC || ints.get(1) != VERSION || ints.get(2) != FLUSH_TABLE_SIZE) {
+        throw new IOException("Hand rank table " + path + " has an unexpected header.");
+      }
+      for (int k = MIN_CARDS; k <= MAX_CARDS; k++) {
+        if (ints.get(3 + k - MIN_CARDS) != COMBINATIONS[NUM_VALUES][k]) {
+          throw new IOException("Hand rank table " + path + " has an unexpected header.");
+        }
+      }
+      ints.position(HEADER_SIZE);
+      return new HandRankTable(ints.slice(), HandEvaluator::rank);
+    }
+  }
+
+  /**
+   * Perfect hash of the value counts of a hand without a flush. Values are visited from lowest to
+   * highest, skipping values which aren't in the hand, since they don't contribute to the hash.
+   */
+  private static int hash(final int s0, final int s1, final int s2, final int s3, int cardsLeft) {
+    // Bit planes of the number of cards with each value.
+    final int x0 = s0 ^ s1;
+    final int x1 = s2 ^ s3;
+    final int c0 = s0 & s1;
+    final int c1 = s2 & s3;
+    final int carry = x0 & x1;
+    final int ones = x0 ^ x1;
+    final int twos = c0 ^ c1 ^ carry;
+    final int fours = (c0 & c1) | ((c0 ^ c1) & carry);
+
+    int hash = 0;
+    for (int values = s0 | s1 | s2 | s3; cardsLeft > 0; values &= values - 1) {
+      final int bit = Integer.numberOfTrailingZeros(values);
+      final int count =
+          ((ones >>> bit) & 1) + (((twos >>> bit) & 1) << 1) + (((fours >>> bit) & 1) << 2);
+      hash += OFFSETS[bit][cardsLeft][count];
+      cardsLeft -= count;
+    }
+    return hash;
+  }
+
+  /** Computes every entry of the tables. */
+  private static int[] generateRanks(final LongToIntFunction ranker) {
+    final int[] ranks = new int[NUM_ENTRIES];
+    for (int values = 0; values <= VALUE_MASK; values++) {
+      final int numCards = Integer.bitCount(values);
+      if (numCards >= MIN_CARDS && numCards <= MAX_CARDS) {
+        ranks[values] = ranker.applyAsInt(values);
+      }
+    }
+    for (int k = MIN_CARDS; k <= MAX_CARDS; k++) {
+      generateRanks(ranker, ranks, new int[NUM_VALUES], 0, k, k);
+    }
+    return ranks;
+  }
+
+  /** Recursively enumerates the value counts of hands with <code>numCards</code> cards. */
+  private static void generateRanks(
+      final LongToIntFunction ranker,
+      final int[] ranks,
+      final int[] counts,
+      final int bit,
+      final int cardsLeft,
+      final int numCards) {
+    if (bit == NUM_VALUES) {
+      if (cardsLeft == 0) {
+        final long mask = mask(counts);
+        final int index =
+            TABLE_OFFSETS[numCards]
+                + hash(
+                    HandEvaluator.suitValues(mask, 0),
+                    HandEvaluator.suitValues(mask, 1),
+                    HandEvaluator.suitValues(mask, 2),
+                    HandEvaluator.suitValues(mask, 3),
+                    numCards);
+        assert ranks[index] == 0;
+        ranks[index] = ranker.applyAsInt(mask);
+      }
+      return;
+    }
+    for (int count = 0; count <= Math.min(MAX_OF_A_KIND, cardsLeft); count++) {
+      counts[bit] = count;
+      generateRanks(ranker, ranks, counts, bit + 1, cardsLeft - count, numCards);
+    }
+    counts[bit] = 0;
+  }
+
+  /**
+   * Creates a card mask with the specified value counts. Cards are dealt to the suits in rotation,
+   * so no suit has more than 2 cards and the mask cannot contain a flush.
+   */
+  private static long mask(final int[] counts) {
+    long mask = 0;
+    int suit = 0;
+    for (int bit = 0; bit < NUM_VALUES; bit++) {
+      for (int i = 0; i < counts[bit]; i++, suit = (suit + 1) % NUM_SUITS) {
+        mask |= 1L << (suit * SUIT_SHIFT + bit);
+      }
+    }
+    return mask;
+  }
+}
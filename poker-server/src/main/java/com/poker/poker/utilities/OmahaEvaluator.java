@@ -0,0 +1,197 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.utilities.HandEvaluator.NUM_SUITS;
+import static com.poker.poker.utilities.HandEvaluator.SUIT_SHIFT;
+import static com.poker.poker.utilities.HandEvaluator.bestHand;
+import static com.poker.poker.utilities.HandEvaluator.mask;
+import static com.poker.poker.utilities.HandEvaluator.suitValues;
+import static com.poker.poker.utilities.HandEvaluator.type;
+
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.HandRank;
+import com.poker.poker.models.game.Showdown;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Evaluator for Omaha, where a hand must be made of exactly 2 of the player's 4 hole cards and
+ * exactly 3 cards from the board. With a full board, that is 6 pairs of hole cards times 10 triples
+ * of board cards, i.e. 60 combinations of 5 cards, which are enumerated directly on card masks.
+ *
+ * <p>The board is analyzed once to prune work: a pair of hole cards can only make a flush when both
+ * cards are of a suit the board has at least 3 cards of, and no combination can make a straight
+ * unless 3 board values fall within one straight. When a pair can't make a flush, only its values
+ * matter, so pairs with the same values as a pair that was already ranked are skipped.
+ *
+ * <p>Ranks are on the same scale as {@link HandEvaluator#rank(long)}, so they can be compared with
+ * each other, and turned into a {@link HandRank} in the same way.
+ */
+public final class OmahaEvaluator {
+
+  /** Number of hole cards each player is dealt. */
+  public static final int NUM_HOLE_CARDS = 4;
+
+  /** Number of hole cards that must be used. */
+  private static final int HOLE_CARDS_USED = 2;
+
+  /** Number of board cards that must be used. */
+  private static final int BOARD_CARDS_USED = 3;
+
+  /** Number of pairs of hole cards whose values are remembered, a byte each in a long. */
+  private static final int MAX_RANKED_VALUES = Long.BYTES;
+
+  /** Private constructor to prevent creating instances of static class. */
+  private OmahaEvaluator() {}
+
+  /**
+   * Ranks the best hand that can be made with exactly 2 hole cards and exactly 3 board cards.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>The board has 3 to 5 cards.
+   *   <li>At least 2 hole cards.
+   *   <li>The hole cards and the board don't share a card.
+   * </ol>
+   *
+   * @param board Card mask of the board.
+   * @param holeCards Card mask of the hole cards.
+   * @return Numerical rank of the best hand (higher means better hand).
+   */
+  public static int rank(final long board, final long holeCards) {
+    return HandEvaluator.rank(
+        best(board, holeCards, straightPossible(board), flushSuits(board)), true, true);
+  }
+
+  /**
+   * Finds the best hand that can be made with exactly 2 hole cards and exactly 3 board cards.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>The board has 3 to 5 cards.
+   *   <li>At least 2 hole cards.
+   *   <li>The hole cards and the board don't share a card.
+   * </ol>
+   *
+   * @param board Shared cards.
+   * @param holeCards Hole cards.
+   * @return The best 5 card hand, along with the numerical ranking of the hand.
+   */
+  public static HandRank rankHand(final Collection<Card> board, final Collection<Card> holeCards) {
+    final long boardMask = mask(board);
+    return handRank(
+        best(boardMask, mask(holeCards), straightPossible(boardMask), flushSuits(boardMask)));
+  }
+
+  /**
+   * Ranks the hands of several players who share the same board, analyzing the board only once.
+   * Players are then grouped by rank, so that ties can be dealt with easily.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>The board has 3 to 5 cards.
+   *   <li>Every player has at least 2 hole cards.
+   *   <li>No card is in more than one player's hand or on the board.
+   * </ol>
+   *
+   * @param board Shared cards.
+   * @param holeCards Hole cards of each player.
+   * @return Hand ranks of the players, in the same order as <code>holeCards</code>, and the indices
+   *     of the players grouped by rank, from best to worst.
+   */
+  public static Showdown rankHands(
+      final Collection<Card> board, final List<? extends Collection<Card>> holeCards) {
+    final long boardMask = mask(board);
+    final boolean straightPossible = straightPossible(boardMask);
+    final int flushSuits = flushSuits(boardMask);
+    final List<HandRank> ranks = new ArrayList<>(holeCards.size());
+    for (final Collection<Card> cards : holeCards) {
+      ranks.add(handRank(best(boardMask, mask(cards), straightPossible, flushSuits)));
+    }
+    return new Showdown(ranks);
+  }
+
+  private static HandRank handRank(final long hand) {
+    final int rank = HandEvaluator.rank(hand, true, true);
+    return new HandRank(rank, Collections.unmodifiableList(bestHand(hand, rank)), type(rank));
+  }
+
+  /** Returns true if 3 of the board's values fall within one straight. */
+  private static boolean straightPossible(final long board) {
+    final int values =
+        suitValues(board, 0) | suitValues(board, 1) | suitValues(board, 2) | suitValues(board, 3);
+    return HandEvaluator.straightPossible(values, BOARD_CARDS_USED);
+  }
+
+  /** Returns a bit for each suit the board has at least 3 cards of. */
+  private static int flushSuits(final long board) {
+    int suits = 0;
+    for (int suit = 0; suit < NUM_SUITS; suit++) {
+      if (Integer.bitCount(suitValues(board, suit)) >= BOARD_CARDS_USED) {
+        suits |= 1 << suit;
+      }
+    }
+    return suits;
+  }
+
+  /**
+   * Returns the card mask of the best combination of exactly 2 hole cards and 3 board cards.
+   * Combinations are enumerated by iterating over the set bits of the masks, lowest first.
+   */
+  private static long best(
+      final long board,
+      final long holeCards,
+      final boolean straightPossible,
+      final int flushSuits) {
+    assert Long.bitCount(board) >= BOARD_CARDS_USED && Long.bitCount(board) <= 5;
+    assert Long.bitCount(holeCards) >= HOLE_CARDS_USED;
+    assert (board & holeCards) == 0;
+
+    // Values of the pairs ranked without a flush, packed a byte per pair, so nothing is allocated.
+    long rankedValues = 0;
+    int numRankedValues = 0;
+    int bestRank = -1;
+    long bestHand = 0;
+    for (long h1 = holeCards; h1 != 0; h1 &= h1 - 1) {
+      final int bit1 = Long.numberOfTrailingZeros(h1);
+      for (long h2 = h1 & (h1 - 1); h2 != 0; h2 &= h2 - 1) {
+        final int bit2 = Long.numberOfTrailingZeros(h2);
+        final int suit = bit1 / SUIT_SHIFT;
+        final boolean flushPossible = suit == bit2 / SUIT_SHIFT && (flushSuits & (1 << suit)) != 0;
+
+        if (!flushPossible) {
+          // Without a flush, only the values of the pair matter.
+          final int value1 = bit1 % SUIT_SHIFT;
+          final int value2 = bit2 % SUIT_SHIFT;
+          final long values = (Math.min(value1, value2) << 4 | Math.max(value1, value2)) + 1;
+          boolean ranked = false;
+          for (int i = 0; i < numRankedValues && !ranked; i++) {
+            ranked = (rankedValues >>> (i * Byte.SIZE) & 0xFF) == values;
+          }
+          if (ranked) {
+            continue;
+          }
+          if (numRankedValues < MAX_RANKED_VALUES) {
+            rankedValues |= values << (numRankedValues++ * Byte.SIZE);
+          }
+        }
+
+        final long pair = (1L << bit1) | (1L << bit2);
+        for (long b1 = board; b1 != 0; b1 &= b1 - 1) {
+          for (long b2 = b1 & (b1 - 1); b2 != 0; b2 &= b2 - 1) {
+            for (long b3 = b2 & (b2 - 1); b3 != 0; b3 &= b3 - 1) {
+              final long hand = pair | (b1 & -b1) | (b2 & -b2) | (b3 & -b3);
+              final int rank = HandEvaluator.rank(hand, flushPossible, straightPossible);
+              if (rank > bestRank) {
+                bestRank = rank;
+                bestHand = hand;
+              }
+            }
+          }
+        }
+      }
+    }
+    return bestHand;
+  }
+}
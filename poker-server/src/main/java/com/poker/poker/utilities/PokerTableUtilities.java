@@ -3,20 +3,22 @@ package com.poker.poker.utilities;
 import static com.poker.poker.models.enums.GameAction.AllInCheck;
 import static com.poker.poker.models.enums.GameAction.Check;
 import static com.poker.poker.models.enums.GameAction.Fold;
+import static com.poker.poker.models.enums.GameVariant.Holdem;
+import static com.poker.poker.models.enums.GameVariant.Omaha;
+import static com.poker.poker.models.enums.GameVariant.ShortDeck;
 import static com.poker.poker.models.enums.HandPhase.Flop;
 import static com.poker.poker.models.enums.HandPhase.Over;
 import static com.poker.poker.models.enums.HandPhase.PreFlop;
 import static com.poker.poker.models.enums.HandPhase.River;
 import static com.poker.poker.models.enums.HandPhase.Turn;
 import static com.poker.poker.models.enums.HandType.NotShown;
-import static com.poker.poker.utilities.BigDecimalUtilities.max;
-import static com.poker.poker.utilities.BigDecimalUtilities.sum;
 import static com.poker.poker.utilities.CardUtilities.FACE_DOWN_CARD;
-import static com.poker.poker.utilities.CardUtilities.rankHand;
-import static ir.cafebabe.math.utils.BigDecimalUtils.is;
-import static java.math.BigDecimal.ZERO;
+import static com.poker.poker.utilities.CardUtilities.rankHands;
+import static com.poker.poker.utilities.CardUtilities.rankOmahaHands;
+import static com.poker.poker.utilities.CardUtilities.rankShortDeckHands;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 
 import com.poker.poker.events.GameActionEvent;
@@ -26,17 +28,17 @@ import com.poker.poker.models.game.Card;
 import com.poker.poker.models.game.Deck;
 import com.poker.poker.models.game.GamePlayer;
 import com.poker.poker.models.game.HandRank;
+import com.poker.poker.models.game.LegalActions;
 import com.poker.poker.models.game.PokerTable;
 import com.poker.poker.models.game.Pot;
+import com.poker.poker.models.game.Showdown;
 import com.poker.poker.models.game.TableControls;
 import com.poker.poker.models.game.Winner;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
@@ -61,10 +63,11 @@ public final class PokerTableUtilities {
     // Clone table, creating deep copy of player list and cards.
     final PokerTable newTable = new PokerTable(table);
     // Replace the cards with face down cards.
-    newTable
-        .getPlayers()
-        .forEach(p -> p.setCards(p.getCards().stream().map(c -> FACE_DOWN_CARD).collect(toList())));
-    return newTable;
+    for (final GamePlayer p : newTable.getPlayers()) {
+      p.setCards(p.getCards().stream().map(c -> FACE_DOWN_CARD).collect(toList()));
+      p.setDraws(null);
+    }
+    return detach(newTable);
   }
 
   public static PokerTable hideFoldedCards(final PokerTable table) {
@@ -73,10 +76,111 @@ public final class PokerTableUtilities {
       if (p.isFolded() || p.isOut()) {
         p.setCards(p.getCards().stream().map(c -> FACE_DOWN_CARD).collect(toList()));
       }
+      p.setDraws(null);
+    }
+    return detach(newTable);
+  }
+
+  /**
+   * Creates a clone of the argument poker table, with every card visible, which is detached from
+   * the table, so it can be published while the table continues to change.
+   *
+   * @param table Poker table.
+   * @return A detached clone of the table.
+   */
+  public static PokerTable copyTable(final PokerTable table) {
+    return detach(new PokerTable(table));
+  }
+
+  /**
+   * Creates a clone of the argument poker table which can be modified without changing the table,
+   * e.g. to apply a transition to the state of a table. Unlike the clones that are published, its
+   * lists can be modified, and it keeps the exact equities of the hand.
+   *
+   * @param table Poker table.
+   * @return A clone of the table which can be modified.
+   */
+  public static PokerTable modifiableCopy(final PokerTable table) {
+    final PokerTable newTable = new PokerTable(table);
+    for (final GamePlayer p : newTable.getPlayers()) {
+      final TableControls controls = p.getControls();
+      p.setControls(
+          new TableControls(
+              controls.getBankRoll(), controls.getCurrentBet(), controls.getToCall()));
+    }
+    final List<Pot> pots = new ArrayList<>(table.getPots().size());
+    for (final Pot pot : table.getPots()) {
+      pots.add(new Pot(pot.getWager(), pot.getTotal()));
     }
+    newTable.setPots(pots);
+    newTable.setSharedCards(new ArrayList<>(table.getSharedCards()));
+    newTable.setEquityEnumeration(table.getEquityEnumeration());
     return newTable;
   }
 
+  /**
+   * Detaches a clone of a poker table from the table it was cloned from, by copying the parts that
+   * are modified in place, i.e. player controls, side-pots and shared cards. Cards, winners and
+   * equities are replaced rather than modified, so they are shared with the table. Clones are only
+   * read once they are published, so their lists are unmodifiable.
+   *
+   * @param table Clone of a poker table.
+   * @return The clone, which no longer changes when the table it was cloned from does.
+   */
+  private static PokerTable detach(final PokerTable table) {
+    for (final GamePlayer p : table.getPlayers()) {
+      final TableControls controls = p.getControls();
+      p.setControls(
+          new TableControls(
+              controls.getBankRoll(), controls.getCurrentBet(), controls.getToCall()));
+    }
+    table.setPots(
+        unmodifiableList(
+            table.getPots().stream()
+                .map(pot -> new Pot(pot.getWager(), pot.getTotal()))
+                .collect(toList())));
+    table.setSharedCards(unmodifiableList(new ArrayList<>(table.getSharedCards())));
+    table.setWinners(unmodifiableList(table.getWinners()));
+    table.setEquities(unmodifiableList(table.getEquities()));
+    return table;
+  }
+
+  /**
+   * Determines the actions the acting player is allowed to perform, which are sent to the player
+   * when their turn starts, and used to reject invalid actions. Players who are all-in can only
+   * perform AllInCheck. Otherwise, a player can always fold, can check if calling is free and call
+   * if it isn't, and can raise if they have more chips than it takes to call. The smallest raise is
+   * the table's <code>minRaise</code>, unless the player doesn't have that many chips left, in
+   * which case they can only raise all-in.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>actingPlayer</code> is a valid index.
+   * </ol>
+   *
+   * @param table Poker table.
+   * @return Actions the acting player is allowed to perform.
+   */
+  public static LegalActions getLegalActions(final PokerTable table) {
+    assert table.getActingPlayer() >= 0 && table.getActingPlayer() < table.getPlayers().size();
+    final GamePlayer player = table.getPlayers().get(table.getActingPlayer());
+    final Set<GameAction> actions = EnumSet.noneOf(GameAction.class);
+    if (player.isAllIn()) {
+      actions.add(AllInCheck);
+      return new LegalActions(player.getId(), actions, 0, 0, 0);
+    }
+
+    final long toCall = player.getToCall();
+    final long maxRaise = Chips.subtract(player.getChips(), toCall);
+    actions.add(Fold);
+    actions.add(toCall == 0 ? Check : GameAction.Call);
+    if (maxRaise > 0) {
+      actions.add(GameAction.Raise);
+    }
+    return new LegalActions(
+        player.getId(), actions, toCall, Math.min(table.getMinRaise(), maxRaise), maxRaise);
+  }
+
   /**
    * Adjusts an invalid wager so that it can be handled without producing any errors.
    *
@@ -99,11 +203,12 @@ public final class PokerTableUtilities {
    *
    * @param table Poker table.
    * @param event Action event.
-   * @return Adjusted wager that will maintain the integrity of the poker table model.
+   * @return Adjusted wager that will maintain the integrity of the poker table model, in minor
+   *     units of {@link Chips}, or 0 if the action is not a raise.
    */
-  public static BigDecimal adjustWager(final PokerTable table, final GameActionEvent event) {
+  public static long adjustWager(final PokerTable table, final GameActionEvent event) {
     if (event.getType() != GameAction.Raise) {
-      return null;
+      return 0;
     }
 
     // Validate Pre-Conditions #1 and #2.
@@ -117,19 +222,19 @@ public final class PokerTableUtilities {
     assert player != null;
     assert players.get(table.getActingPlayer()).equals(player);
 
-    final BigDecimal toCall = player.getToCall();
-    final BigDecimal bankRoll = player.getChips();
-    final BigDecimal raise = event.getRaise();
+    final long toCall = player.getToCall();
+    final long bankRoll = player.getChips();
+    final long raise = Chips.of(event.getRaise());
 
     // Validate Pre-Conditions #5 and #6.
-    assert is(toCall).gte(ZERO);
-    assert is(raise).gte(ZERO);
+    assert toCall >= 0;
+    assert raise >= 0;
 
-    final BigDecimal adjustedWager =
-        raise.add(toCall).compareTo(bankRoll) > 0 ? bankRoll.subtract(toCall) : raise;
+    final long adjustedWager =
+        Chips.add(raise, toCall) > bankRoll ? Chips.subtract(bankRoll, toCall) : raise;
 
     // Validate Post-Condition.
-    assert is(sum(adjustedWager, toCall)).lte(bankRoll);
+    assert Chips.add(adjustedWager, toCall) <= bankRoll;
 
     return adjustedWager;
   }
@@ -142,7 +247,7 @@ public final class PokerTableUtilities {
    *   <b>Pre-Conditions:</b>
    *   <li>There are at least 2 players who have not folded or been eliminated.
    *   <li>playerId is valid (i.e. refers to a player in the player list of the poker table).
-   *   <li>Raise is non-null if the action is Raise.
+   *   <li>Raise is not negative if the action is Raise.
    *   <li>Raise is >= table.minRaise if the action is Raise.
    *   <li>If player is performing a Call or Raise action, the player's bank roll has enough chips
    *       to legally perform this action, i.e. bankRoll >= toCall + raise.
@@ -175,32 +280,27 @@ public final class PokerTableUtilities {
    * @param table Poker table.
    * @param action Action that was performed.
    * @param playerId ID of the player that performed the action.
-   * @param raise The amount raised if action was Raise, null otherwise.
+   * @param raise The amount raised if action was Raise, ignored otherwise.
    */
   public static void handlePlayerAction(
-      final PokerTable table,
-      final GameAction action,
-      final UUID playerId,
-      final BigDecimal raise) {
+      final PokerTable table, final GameAction action, final UUID playerId, final long raise) {
     final List<GamePlayer> players = table.getPlayers();
 
     // Validate Pre-Condition #1.
-    assert players.stream().filter(p -> !p.isOut() && !p.isFolded()).count() >= 2;
+    assert numInHand(table) >= 2;
 
     // Get player model
-    final GamePlayer player = table.getPlayer(playerId);
+    final int playerIndex = table.getSeat(playerId);
     // Validate Pre-Condition #2.
-    assert player != null;
-
-    final int playerIndex = table.getPlayers().indexOf(player);
     assert playerIndex != -1;
+    final GamePlayer player = players.get(playerIndex);
 
-    final BigDecimal pot = table.getPot();
-    final BigDecimal minRaise = table.getMinRaise();
+    final long pot = table.getPot();
+    final long minRaise = table.getMinRaise();
     final TableControls controls = player.getControls();
-    final BigDecimal bankRoll = controls.getBankRoll();
-    final BigDecimal toCall = controls.getToCall();
-    final BigDecimal currentBet = controls.getCurrentBet();
+    final long bankRoll = controls.getBankRoll();
+    final long toCall = controls.getToCall();
+    final long currentBet = controls.getCurrentBet();
 
     // Need to get this here to avoid violating Pre-Condition #3 of getNextActivePlayer.
     final int nextPlayerToAct = getNextActivePlayer(table, playerIndex, true);
@@ -211,23 +311,23 @@ public final class PokerTableUtilities {
         break;
       case Call:
         // Validate Pre-Condition #5.
-        assert bankRoll.compareTo(toCall) >= 0;
+        assert bankRoll >= toCall;
 
         // Subtract toCall from bankRoll
-        controls.setBankRoll(bankRoll.subtract(toCall));
+        controls.setBankRoll(Chips.subtract(bankRoll, toCall));
 
         // Update currentBet to (currentBet + toCall).
-        controls.setCurrentBet(currentBet.add(toCall));
+        controls.setCurrentBet(Chips.add(currentBet, toCall));
 
         // Set toCall to 0, player just called.
-        controls.setToCall(ZERO);
+        controls.setToCall(0);
 
         // Set pot to (pot + toCall).
-        table.setPot(pot.add(toCall));
+        table.setPot(Chips.add(pot, toCall));
         break;
       case Check:
         // Validate Pre-Condition #6.
-        assert toCall.equals(ZERO);
+        assert toCall == 0;
         // Validate Pre-Condition #7.
         //        assert minRaise.equals(currentBet); TODO: This is breaking an edge case
         break;
@@ -237,23 +337,23 @@ public final class PokerTableUtilities {
         break;
       case Raise:
         // Validate Pre-Conditions #3, #4 and #5.
-        assert raise != null;
-        assert raise.compareTo(minRaise) >= 0 || raise.add(toCall).equals(bankRoll);
-        assert raise.add(toCall).compareTo(bankRoll) <= 0;
+        assert raise >= 0;
+        assert raise >= minRaise || Chips.add(raise, toCall) == bankRoll;
+        assert Chips.add(raise, toCall) <= bankRoll;
 
-        final BigDecimal wager = raise.add(player.getToCall()).add(player.getBet());
+        final long wager = Chips.add(raise, toCall, currentBet);
 
         // Subtract (toCall + raise) from bankRoll.
-        controls.setBankRoll(bankRoll.subtract(toCall.add(raise)));
+        controls.setBankRoll(Chips.subtract(bankRoll, Chips.add(toCall, raise)));
 
         // Update currentBet to (currentBet + toCall + raise).
-        controls.setCurrentBet(currentBet.add(toCall).add(raise));
+        controls.setCurrentBet(wager);
 
         // Set toCall to 0, player just raised.
-        controls.setToCall(ZERO);
+        controls.setToCall(0);
 
         // Set pot to (pot + toCall + raise).
-        table.setPot(pot.add(toCall).add(raise));
+        table.setPot(Chips.add(pot, toCall, raise));
 
         // Set minRaise to raise + currentBet.
         table.setMinRaise(controls.getCurrentBet());
@@ -262,19 +362,20 @@ public final class PokerTableUtilities {
         table.setLastToAct(getNextActivePlayer(table, playerIndex, false));
 
         // Update toCall field for other players.
-        players.forEach(
-            p -> {
-              final BigDecimal pToCall = wager.subtract(p.getBet());
-              p.setToCall(is(pToCall).gte(p.getChips()) ? p.getChips() : pToCall);
-            });
+        for (final GamePlayer p : players) {
+          p.setToCall(Math.min(Chips.subtract(wager, p.getBet()), p.getChips()));
+        }
         break;
     }
 
     // If player's bankRoll is 0, then this player is all-in.
-    if (is(player.getChips()).eq(ZERO)) {
+    if (player.getChips() == 0 && !player.isAllIn()) {
       player.setAllIn(true);
+      // Side-pots are only split when someone goes all-in, they are settled at the showdown.
+      generateSidePots(table);
+    } else if (player.getBet() != currentBet) {
+      addToPots(table, currentBet, player.getBet());
     }
-    generateSidePots(table);
     table.setPlayerThatActed(playerIndex);
     table.setActingPlayer(nextPlayerToAct);
     table.actionPerformed();
@@ -324,12 +425,14 @@ public final class PokerTableUtilities {
     // Store pointer to player list.
     final List<GamePlayer> players = table.getPlayers();
 
-    // Clear shared cards.
+    // Clear shared cards and equities from the previous hand.
     table.setSharedCards(new ArrayList<>());
+    table.setEquities(new ArrayList<>());
+    table.setEquityEnumeration(null);
 
     // Validate Pre-Condition #4, #5 and #6.
     final long numNotOut = players.stream().filter(p -> !p.isOut()).count();
-    final long numNonZeroChips = players.stream().filter(p -> is(p.getChips()).notEq(ZERO)).count();
+    final long numNonZeroChips = players.stream().filter(p -> p.getChips() != 0).count();
     assert numNotOut >= 2;
     assert numNonZeroChips >= 2;
     assert numNotOut == numNonZeroChips;
@@ -345,14 +448,15 @@ public final class PokerTableUtilities {
 
     // Set the dealer.
     setNextDealer(table);
-    dealCards(table, deck, 2);
+    dealCards(table, deck, table.getVariant() == Omaha ? OmahaEvaluator.NUM_HOLE_CARDS : 2);
+    resetDraws(table);
 
     // Set first to act.
     table.setActingPlayer(getNextActivePlayer(table, table.getDealer(), true));
 
-    final BigDecimal blind = table.getBlind();
+    final long blind = table.getBlind();
     // Increase blinds, if appropriate.
-    table.setBlind(round % 10 == 0 ? blind.add(blind) : blind);
+    table.setBlind(round % 10 == 0 ? Chips.add(blind, blind) : blind);
 
     // Perform SB BB bets.
     performBlindBets(table);
@@ -385,7 +489,7 @@ public final class PokerTableUtilities {
     assert table != null;
     assert deck != null;
     assert table.getPlayers() != null;
-    assert table.getPlayers().stream().filter(p -> is(p.getChips()).notEq(ZERO)).count() >= 2;
+    assert table.getPlayers().stream().filter(p -> p.getChips() != 0).count() >= 2;
 
     final List<GamePlayer> players = table.getPlayers();
     players.forEach(p -> p.setCards(new ArrayList<>())); // Clear drawn cards.
@@ -431,33 +535,33 @@ public final class PokerTableUtilities {
     final List<GamePlayer> players = table.getPlayers();
     // Validate Pre-Conditions #1, #2 and #3.
     assert table.getActingPlayer() == getNextActivePlayer(table, table.getDealer(), true);
-    assert players.stream().allMatch(p -> p.getBet().equals(ZERO));
-    assert table.getBlind() != null && !table.getBlind().equals(ZERO);
+    assert players.stream().allMatch(p -> p.getBet() == 0);
+    assert table.getBlind() > 0;
 
     final int sbIndex = table.getActingPlayer();
     final int bbIndex = getNextActivePlayer(table, sbIndex, true);
     final int finalIndex = getNextActivePlayer(table, bbIndex, true);
-    final BigDecimal sb = table.getBlind();
-    final BigDecimal bb = table.getBlind().add(table.getBlind());
+    final long sb = table.getBlind();
+    final long bb = Chips.add(table.getBlind(), table.getBlind());
 
     final GamePlayer sbPlayer = players.get(sbIndex);
-    final BigDecimal sbBankRoll = sbPlayer.getChips();
+    final long sbBankRoll = sbPlayer.getChips();
     final GamePlayer bbPlayer = players.get(bbIndex);
-    final BigDecimal bbBankRoll = bbPlayer.getChips();
+    final long bbBankRoll = bbPlayer.getChips();
 
-    final BigDecimal sbBet = is(sbBankRoll).gte(sb) ? sb : sbBankRoll;
-    final BigDecimal bbBet = is(bbBankRoll).gte(bb) ? bb : bbBankRoll;
-    final BigDecimal maxBet = max(sbBet, bbBet);
+    final long sbBet = Math.min(sb, sbBankRoll);
+    final long bbBet = Math.min(bb, bbBankRoll);
+    final long maxBet = Math.max(sbBet, bbBet);
 
     // Update pot.
-    table.setPot(sbBet.add(bbBet));
+    table.setPot(Chips.add(sbBet, bbBet));
 
     // Update bank roll for sb and bb players.
-    sbPlayer.setChips(sbBankRoll.subtract(sbBet));
-    bbPlayer.setChips(bbBankRoll.subtract(bbBet));
+    sbPlayer.setChips(Chips.subtract(sbBankRoll, sbBet));
+    bbPlayer.setChips(Chips.subtract(bbBankRoll, bbBet));
 
-    sbPlayer.setAllIn(is(sbPlayer.getChips()).eq(ZERO));
-    bbPlayer.setAllIn(is(bbPlayer.getChips()).eq(ZERO));
+    sbPlayer.setAllIn(sbPlayer.getChips() == 0);
+    bbPlayer.setAllIn(bbPlayer.getChips() == 0);
 
     // Update current bet for sb and bb players.
     sbPlayer.setBet(sbBet);
@@ -470,12 +574,9 @@ public final class PokerTableUtilities {
     generateSidePots(table);
 
     // Update toCall field for all players.
-    players.forEach(
-        p ->
-            p.setToCall(
-                is(maxBet.subtract(p.getBet())).gte(p.getChips())
-                    ? p.getChips()
-                    : maxBet.subtract(p.getBet())));
+    for (final GamePlayer p : players) {
+      p.setToCall(Math.min(Chips.subtract(maxBet, p.getBet()), p.getChips()));
+    }
 
     // Update lastToAct, actingPlaying and playerThatActed.
     table.setLastToAct(bbIndex);
@@ -490,38 +591,78 @@ public final class PokerTableUtilities {
    * @param table Poker table.
    */
   public static void generateSidePots(final PokerTable table) {
-    final List<GamePlayer> players = table.getPlayers();
-    final List<BigDecimal> allInBets =
-        players.stream()
-            .filter(GamePlayer::isAllIn)
-            .map(GamePlayer::getBet)
-            .sorted()
-            .distinct()
-            .collect(toList());
-
-    final List<BigDecimal> bets =
-        players.stream().map(GamePlayer::getBet).sorted().collect(toList());
-
-    if (allInBets.isEmpty()
-        || !bets.get(bets.size() - 1).equals(allInBets.get(allInBets.size() - 1))) {
-      allInBets.add(bets.get(bets.size() - 1));
+    final SidePots sidePots = computeSidePots(table);
+    final List<Pot> pots = new ArrayList<>(sidePots.getNumPots());
+    for (int i = 0; i < sidePots.getNumPots(); i++) {
+      pots.add(new Pot(sidePots.getWager(i), sidePots.getTotal(i)));
     }
+    table.setPots(pots);
+  }
 
-    final List<Pot> pots = new ArrayList<>();
-    for (final BigDecimal allInBet : allInBets) {
-      final Pot pot = new Pot(allInBet, ZERO);
-      for (final BigDecimal bet : bets) {
-        pot.increaseTotal(is(allInBet).gte(bet) ? bet : allInBet);
+  /**
+   * Adds the chips a player who is not all-in bet to the pots, so that the pots stay up to date
+   * without computing them again. The chips are spread over the pots whose wagers they fall between,
+   * and the highest pot is raised to the new bet, or a pot is added above it if someone is all-in
+   * for exactly the highest wager. The pots are the same as {@link #generateSidePots(PokerTable)}
+   * would generate.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>The pots were up to date before the player's bet changed.
+   *   <li><code>from < to</code>
+   * </ol>
+   *
+   * @param table Poker table.
+   * @param from Player's bet before they acted.
+   * @param to Player's bet after they acted.
+   */
+  private static void addToPots(final PokerTable table, final long from, final long to) {
+    assert from < to;
+    final List<Pot> pots = table.getPots();
+    long lower = 0;
+    for (final Pot pot : pots) {
+      final long amount = Math.min(to, pot.getWager()) - Math.max(from, lower);
+      if (amount > 0) {
+        pot.increaseTotal(amount);
       }
-      pots.add(pot);
+      lower = pot.getWager();
+    }
+    if (to <= lower) {
+      return;
     }
 
-    // Total_i - Total_i-1
-    for (int i = pots.size() - 1; i > 0; i--) {
-      pots.get(i).setTotal(pots.get(i).getTotal().subtract(pots.get(i - 1).getTotal()));
+    final long highest = lower;
+    final boolean allInForHighest =
+        table.getPlayers().stream().anyMatch(p -> p.isAllIn() && p.getBet() == highest);
+    if (pots.isEmpty() || allInForHighest) {
+      pots.add(new Pot(to, Chips.subtract(to, Math.max(from, highest))));
+    } else {
+      final Pot top = pots.get(pots.size() - 1);
+      top.setWager(to);
+      top.increaseTotal(Chips.subtract(to, Math.max(from, highest)));
     }
+  }
 
-    table.setPots(pots);
+  /**
+   * Loads the bets of the players into the side-pot engine of the table and computes the pots. The
+   * engine is created the first time it is needed, and reused afterwards.
+   *
+   * @param table Poker table.
+   * @return Side-pot engine of the table.
+   */
+  private static SidePots computeSidePots(final PokerTable table) {
+    final List<GamePlayer> players = table.getPlayers();
+    SidePots sidePots = table.getSidePots();
+    if (sidePots == null || sidePots.getCapacity() < players.size()) {
+      sidePots = new SidePots(players.size());
+      table.setSidePots(sidePots);
+    }
+    for (int i = 0; i < players.size(); i++) {
+      final GamePlayer player = players.get(i);
+      sidePots.setSeat(i, player.getBet(), player.isAllIn(), !player.isOut() && !player.isFolded());
+    }
+    sidePots.computePots(players.size());
+    return sidePots;
   }
 
   /**
@@ -530,8 +671,12 @@ public final class PokerTableUtilities {
    * @param pots Iterable collection of "pot's".
    * @return Total amount in all pots combined.
    */
-  public static BigDecimal getPotTotal(final Collection<Pot> pots) {
-    return sum(pots.stream().map(Pot::getTotal).collect(toList()));
+  public static long getPotTotal(final Collection<Pot> pots) {
+    long total = 0;
+    for (final Pot pot : pots) {
+      total = Chips.add(total, pot.getTotal());
+    }
+    return total;
   }
 
   /**
@@ -586,21 +731,12 @@ public final class PokerTableUtilities {
    */
   public static int getNextActivePlayer(
       final PokerTable table, final int startIndex, final boolean forward) {
-    final List<GamePlayer> players = table.getPlayers();
+    final SeatIndex seats = table.getSeatIndex();
     // Validate Pre-Conditions #1 and #2.
-    assert startIndex >= 0 && startIndex < players.size();
-    assert players.stream().filter(p -> !p.isOut() && !p.isFolded()).count() >= 2;
-
-    int j =
-        forward
-            ? (startIndex + 1) % players.size()
-            : (startIndex - 1 + players.size()) % players.size();
-    // Loop-Invariant: jth player has either been eliminated, or has folded.
-    // Exit-Condition: jth player is active in the current hand.
-    while (players.get(j).isOut() || players.get(j).isFolded()) {
-      j = forward ? (j + 1) % players.size() : (j - 1 + players.size()) % players.size();
-    }
-    return j;
+    assert startIndex >= 0 && startIndex < seats.getNumSeats();
+    assert seats.getNumActive() >= 2;
+
+    return seats.getNextActive(startIndex, forward);
   }
 
   /**
@@ -639,26 +775,7 @@ public final class PokerTableUtilities {
    * @return The default action for this player.
    */
   public static GameAction defaultAction(final GamePlayer player) {
-    return player.isAllIn() ? AllInCheck : is(player.getToCall()).eq(ZERO) ? Check : Fold;
-  }
-
-  /**
-   * Creates a mapping of hand rank objects, keyed by numerical rank. Used to make dealing with ties
-   * easier.
-   *
-   * @param ranks List of hand rank objects.
-   * @return Mapping of hand rank objects, keyed by numerical rank.
-   */
-  public static Map<Integer, List<HandRank>> splitHandsByRank(final Iterable<HandRank> ranks) {
-    final Map<Integer, List<HandRank>> map = new HashMap<>();
-    for (final HandRank rank : ranks) {
-      if (map.containsKey(rank.getRank())) {
-        map.get(rank.getRank()).add(rank);
-      } else {
-        map.put(rank.getRank(), new ArrayList<>(singletonList(rank)));
-      }
-    }
-    return map;
+    return player.isAllIn() ? AllInCheck : player.getToCall() == 0 ? Check : Fold;
   }
 
   /**
@@ -676,23 +793,25 @@ public final class PokerTableUtilities {
   public static void determineWinners(final PokerTable table) {
     generateSidePots(table);
 
-    // Get the list of players who have not been eliminated and who have not folded.
-    final List<GamePlayer> candidates =
-        table.getPlayers().stream().filter(p -> !p.isOut() && !p.isFolded()).collect(toList());
+    // Get the seats of the players who have not been eliminated and who have not folded.
+    final List<GamePlayer> players = table.getPlayers();
+    final long active = table.getSeatIndex().getActive();
+    final int numCandidates = Long.bitCount(active);
 
     final List<Pot> pots = table.getPots();
 
     // Validating Pre-Conditions.
-    assert !candidates.isEmpty();
-    assert is(getPotTotal(pots)).gt(ZERO);
+    assert numCandidates > 0;
+    assert getPotTotal(pots) > 0;
 
     // Check how many players are in the hand (i.e. check if all but one folded).
-    if (candidates.size() == 1) {
-      candidates.get(0).addChips(getPotTotal(pots));
+    if (numCandidates == 1) {
+      final GamePlayer winner = players.get(Long.numberOfTrailingZeros(active));
+      winner.addChips(getPotTotal(pots));
       table.setWinners(
           singletonList(
               new Winner(
-                  candidates.get(0).getId(),
+                  winner.getId(),
                   getPotTotal(pots),
                   NotShown,
                   asList(
@@ -705,77 +824,63 @@ public final class PokerTableUtilities {
     }
 
     // More than 1 player means we need to give out winnings based on hand strength.
-    final List<HandRank> handRanks =
-        candidates.stream()
-            .map(
-                p -> {
-                  final List<Card> cards = new ArrayList<>(p.getCards());
-                  cards.addAll(table.getSharedCards()); // TODO: Don't add to this, make new List
-                  final HandRank handRank = rankHand(cards);
-                  handRank.setId(p.getId());
-                  return handRank;
-                })
-            .collect(toList());
-
-    final Map<Integer, List<HandRank>> rankMap = splitHandsByRank(handRanks);
-    final Map<UUID, Winner> winners =
-        new HashMap<UUID, Winner>() {
-          {
-            handRanks.forEach(
-                r -> put(r.getId(), new Winner(r.getId(), ZERO, r.getType(), r.getHand())));
-          }
-        };
-
-    // Iterate over ranks, from highest to lowest.
-    for (final int rank : rankMap.keySet().stream().sorted((a, b) -> b - a).collect(toList())) {
-      // Stop iterating when there are no more chips left to give out.
-      if (is(getPotTotal(pots)).eq(ZERO)) {
-        break;
-      }
-      /*
-           Determine how many people are entitled to each side-pot.
-           Give (pot total)/(count) to each person who is entitled to a share of the side-pot.
-      */
-      final List<GamePlayer> players =
-          rankMap.get(rank).stream().map(p -> table.getPlayer(p.getId())).collect(toList());
-
-      // Iterate over all side-pots.
-      for (final Pot pot : pots) {
-        // Determine which players are entitled to this particular side-pot.
-        final List<GamePlayer> playersEntitledToPot =
-            players.stream()
-                .filter(
-                    p -> is(p.getBet()).gte(pot.getWager())) // Players bet has to be >= pots wager
-                .collect(toList());
-        final int count = playersEntitledToPot.size();
-        if (count == 0) {
-          continue;
-        }
-        // TODO: Figure out exactly how rounding works here
-        final BigDecimal winnings =
-            pot.getTotal().divide(new BigDecimal(count), RoundingMode.FLOOR);
-        playersEntitledToPot.forEach(
-            p -> {
-              p.addChips(winnings);
-              winners.get(p.getId()).increaseWinnings(winnings);
-            });
-        // If at least 1 player was entitled to this side-pot, the new total should be 0.
-        pot.setTotal(ZERO);
-      }
+    final int[] seats = new int[numCandidates];
+    final List<List<Card>> holeCards = new ArrayList<>(numCandidates);
+    long remaining = active;
+    for (int i = 0; i < numCandidates; i++) {
+      seats[i] = Long.numberOfTrailingZeros(remaining);
+      remaining &= remaining - 1;
+      holeCards.add(players.get(seats[i]).getCards());
+    }
+    final Showdown showdown;
+    if (table.getVariant() == Omaha) {
+      showdown = rankOmahaHands(table.getSharedCards(), holeCards);
+    } else if (table.getVariant() == ShortDeck) {
+      showdown = rankShortDeckHands(table.getSharedCards(), holeCards);
+    } else {
+      showdown = rankHands(table.getSharedCards(), holeCards);
+    }
+
+    // Pay out every side-pot, odd chips go to the first winners after the dealer.
+    final SidePots sidePots = table.getSidePots();
+    final List<HandRank> handRanks = showdown.getRanks();
+    for (int i = 0; i < numCandidates; i++) {
+      sidePots.setRank(seats[i], handRanks.get(i).getRank());
+    }
+    sidePots.settle((table.getDealer() + 1) % players.size());
+    for (final Pot pot : pots) {
+      pot.setTotal(0);
     }
 
-    table.setWinners(
-        winners.values().stream()
-            .filter(w -> is(w.getWinnings()).gt(ZERO))
-            .sorted((a, b) -> b.getWinnings().compareTo(a.getWinnings()))
-            .collect(toList()));
+    final List<Winner> winners = new ArrayList<>(numCandidates);
+    for (int i = 0; i < numCandidates; i++) {
+      final GamePlayer player = players.get(seats[i]);
+      final long winnings = sidePots.getPayout(seats[i]);
+      if (winnings > 0) {
+        player.addChips(winnings);
+        winners.add(
+            new Winner(
+                player.getId(), winnings, handRanks.get(i).getType(), handRanks.get(i).getHand()));
+      }
+    }
+    winners.sort((a, b) -> Long.compare(b.getWinnings(), a.getWinnings()));
+    table.setWinners(winners);
   }
 
+  /**
+   * Helper to determine how many players have chips left. Players are flagged as all-in as soon as
+   * they run out of chips during a hand, and as out at the end of the hand, so these are the
+   * players who are neither.
+   *
+   * @param table Poker table.
+   * @return Number of players with chips left.
+   */
   public static int numNonZeroChips(final PokerTable table) {
     assert table != null;
     assert table.getPlayers() != null;
     assert table.getPlayers().size() >= 2;
-    return (int) table.getPlayers().stream().filter(p -> is(p.getChips()).notEq(ZERO)).count();
+    final SeatIndex seats = table.getSeatIndex();
+    return seats.getNumSeats() - seats.getNumOut() - seats.getNumAllIn();
   }
 
   /**
@@ -789,7 +894,7 @@ public final class PokerTableUtilities {
     assert table != null;
     assert table.getPlayers() != null;
     assert table.getPlayers().size() >= 2;
-    return (int) table.getPlayers().stream().filter(p -> !p.isOut() && !p.isFolded()).count();
+    return table.getSeatIndex().getNumActive();
   }
 
   public static void transitionHandPhase(final PokerTable table) {
@@ -827,6 +932,7 @@ public final class PokerTableUtilities {
     final HandPhase phase = table.getPhase();
     assert phase != PreFlop && phase != Over;
 
+    final int numSharedCards = table.getSharedCards().size();
     switch (phase) {
       case Flop:
         // Burn 1 card, then draw 3.
@@ -842,6 +948,8 @@ public final class PokerTableUtilities {
         table.getSharedCards().add(deck.draw());
         break;
     }
+    updateDraws(
+        table, table.getSharedCards().subList(numSharedCards, table.getSharedCards().size()));
     table.setBetting(true);
     final GamePlayer dealer = table.getPlayers().get(table.getDealer());
     final int lastToAct =
@@ -852,6 +960,43 @@ public final class PokerTableUtilities {
     table.setActingPlayer(getNextActivePlayer(table, table.getDealer(), true));
   }
 
+  /**
+   * Starts tracking the draws of every player who was dealt cards. Draws are only tracked for
+   * hold'em, since Omaha and short deck complete draws with different cards.
+   *
+   * @param table Poker table.
+   */
+  public static void resetDraws(final PokerTable table) {
+    for (final GamePlayer player : table.getPlayers()) {
+      player.setDraws(
+          table.getVariant() == Holdem && !player.getCards().isEmpty()
+              ? DrawDetector.newDraws(HandEvaluator.mask(player.getCards()))
+              : null);
+    }
+  }
+
+  /**
+   * Updates the draws of every player who is still in the hand with the shared cards that were just
+   * dealt.
+   *
+   * @param table Poker table.
+   * @param cards Shared cards that were just dealt.
+   */
+  public static void updateDraws(final PokerTable table, final List<Card> cards) {
+    for (final GamePlayer player : table.getPlayers()) {
+      if (player.getDraws() == null) {
+        continue;
+      }
+      if (player.isFolded() || player.isOut()) {
+        player.setDraws(null);
+        continue;
+      }
+      for (final Card card : cards) {
+        DrawDetector.addSharedCard(player.getDraws(), HandEvaluator.mask(card));
+      }
+    }
+  }
+
   /**
    * Determines the winners, pays them out and then generates a summary of the hand, once the
    * betting has concluded.
@@ -875,12 +1020,32 @@ public final class PokerTableUtilities {
    * @param broadcaster Runnable that will broadcast the table to the client.
    */
   public static void handleEndOfHand(final PokerTable table, final Runnable broadcaster) {
+    showdown(table);
+    broadcaster.run(); // Broadcast hand.
+    finishHand(table);
+  }
+
+  /**
+   * Ends the betting of a hand, determines the winners, pays them out and displays the summary of
+   * the hand. This is the first half of {@link #handleEndOfHand(PokerTable, Runnable)}.
+   *
+   * @param table Poker table.
+   */
+  public static void showdown(final PokerTable table) {
     // Betting round has concluded.
     table.setBetting(false);
     determineWinners(table);
     table.setDisplayHandSummary(true);
-    broadcaster.run(); // Broadcast hand.
+  }
 
+  /**
+   * Resets the players once the summary of a hand has been displayed, and marks the players who
+   * have no chips left as out. This is the second half of {@link #handleEndOfHand(PokerTable,
+   * Runnable)}.
+   *
+   * @param table Poker table.
+   */
+  public static void finishHand(final PokerTable table) {
     // Not clearing cards until next hand begins.
     table
         .getPlayers()
@@ -888,7 +1053,7 @@ public final class PokerTableUtilities {
             p -> {
               p.setFolded(false); // Should always be reset false.
               p.setAllIn(false); // Should always be reset to false.
-              p.setOut(is(p.getChips()).eq(ZERO)); // True when 0 chips left.
+              p.setOut(p.getChips() == 0); // True when 0 chips left.
               p.setControls(new TableControls(p.getChips())); // Keep bankRoll.
             });
   }
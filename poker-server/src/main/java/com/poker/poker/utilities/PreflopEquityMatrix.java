@@ -0,0 +1,195 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.utilities.HandEvaluator.NUM_SUITS;
+import static com.poker.poker.utilities.HandEvaluator.NUM_VALUES;
+import static com.poker.poker.utilities.HandEvaluator.SUIT_SHIFT;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Preflop all-in equity of every starting hand class against every other starting hand class.
+ * Starting hands are grouped into 169 classes which are equivalent up to a permutation of suits: 13
+ * pairs, 78 suited hands and 78 offsuit hands. Classes are indexed like the usual 13x13 grid, where
+ * <code>high * 13 + low</code> is a suited hand, <code>low * 13 + high</code> is an offsuit hand,
+ * and <code>value * 13 + value</code> is a pair (values are card mask bits, Two = 0).
+ *
+ * <p>The matrix is stored as a header of <code>int</code>s (magic number, version, number of
+ * classes), followed by one unsigned 16-bit fraction of {@link #SCALE} for every pair of classes.
+ */
+public final class PreflopEquityMatrix {
+
+  /** Magic number at the beginning of every matrix file. */
+  public static final int MAGIC = 0x50455131;
+
+  /** Version of the matrix file format. */
+  public static final int VERSION = 1;
+
+  /** Number of starting hand classes. */
+  public static final int NUM_CLASSES = NUM_VALUES * NUM_VALUES;
+
+  /** Equities are stored as fractions of this value. */
+  public static final int SCALE = 0xFFFF;
+
+  /** Characters used for card values in class names, indexed by card mask bit. */
+  private static final String VALUE_NAMES = "23456789TJQKA";
+
+  /** Equity of the row class against the column class, as a fraction of <code>SCALE</code>. */
+  private final char[] equities;
+
+  private PreflopEquityMatrix(final char[] equities) {
+    this.equities = equities;
+  }
+
+  /**
+   * Returns the preflop all-in equity of a starting hand class against another.
+   *
+   * @param hand Class of the player's hand.
+   * @param versus Class of the opponent's hand.
+   * @return Expected share of the pot of the player's hand.
+   */
+  public double getEquity(final int hand, final int versus) {
+    return (double) equities[hand * NUM_CLASSES + versus] / SCALE;
+  }
+
+  /**
+   * Reads a matrix which was written by {@link #write(OutputStream, double[])}.
+   *
+   * @param in Stream to read from.
+   * @return The matrix.
+   * @throws IOException If the stream can't be read or doesn't contain a matrix.
+   */
+  public static PreflopEquityMatrix read(final InputStream in) throws IOException {
+    final DataInputStream data = new DataInputStream(in);
+    if (data.readInt() != MAGIC || data.readInt() != VERSION || data.readInt() != NUM_CLASSES) {
+      throw new IOException("Preflop equity matrix has an unexpected header.");
+    }
+    final char[] equities = new char[NUM_CLASSES * NUM_CLASSES];
+    for (int i = 0; i < equities.length; i++) {
+      equities[i] = data.readChar();
+    }
+    return new PreflopEquityMatrix(equities);
+  }
+
+  /**
+   * Writes a matrix.
+   *
+   * @param out Stream to write to.
+   * @param equities Equity of each class against each class, indexed as <code>
+   *     hand * NUM_CLASSES + versus</code>.
+   * @throws IOException If the stream can't be written.
+   */
+  public static void write(final OutputStream out, final double[] equities) throws IOException {
+    assert equities.length == NUM_CLASSES * NUM_CLASSES;
+
+    final DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(NUM_CLASSES);
+    for (final double equity : equities) {
+      data.writeChar((int) Math.round(Math.min(1, Math.max(0, equity)) * SCALE));
+    }
+    data.flush();
+  }
+
+  /**
+   * Determines the class of two hole cards.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>Exactly 2 cards are set in <code>holeCards</code>.
+   * </ol>
+   *
+   * @param holeCards Card mask of the hole cards.
+   * @return Class of the hole cards.
+   */
+  public static int classOf(final long holeCards) {
+    assert Long.bitCount(holeCards) == 2;
+
+    final int first = Long.numberOfTrailingZeros(holeCards);
+    final int second = Long.numberOfTrailingZeros(holeCards & (holeCards - 1));
+    final int value1 = first % SUIT_SHIFT;
+    final int value2 = second % SUIT_SHIFT;
+    final int high = Math.max(value1, value2);
+    final int low = Math.min(value1, value2);
+    return first / SUIT_SHIFT == second / SUIT_SHIFT
+        ? high * NUM_VALUES + low
+        : low * NUM_VALUES + high;
+  }
+
+  /**
+   * Parses the name of a starting hand class, e.g. <code>AKs</code>, <code>T9o</code> or <code>
+   * QQ</code>.
+   *
+   * @param name Name of the class.
+   * @return Class, or -1 if the name is not valid.
+   */
+  public static int classOf(final String name) {
+    if (name == null || name.length() < 2 || name.length() > 3) {
+      return -1;
+    }
+    final int high = VALUE_NAMES.indexOf(Character.toUpperCase(name.charAt(0)));
+    final int low = VALUE_NAMES.indexOf(Character.toUpperCase(name.charAt(1)));
+    if (high < 0 || low < 0 || low > high) {
+      return -1;
+    }
+    if (high == low) {
+      return name.length() == 2 ? high * NUM_VALUES + low : -1;
+    }
+    if (name.length() != 3) {
+      return -1;
+    }
+    switch (Character.toLowerCase(name.charAt(2))) {
+      case 's':
+        return high * NUM_VALUES + low;
+      case 'o':
+        return low * NUM_VALUES + high;
+      default:
+        return -1;
+    }
+  }
+
+  /**
+   * Returns the name of a starting hand class.
+   *
+   * @param handClass Class.
+   * @return Name of the class, e.g. <code>AKs</code>.
+   */
+  public static String nameOf(final int handClass) {
+    final int row = handClass / NUM_VALUES;
+    final int column = handClass % NUM_VALUES;
+    final char high = VALUE_NAMES.charAt(Math.max(row, column));
+    final char low = VALUE_NAMES.charAt(Math.min(row, column));
+    if (row == column) {
+      return "" + high + low;
+    }
+    return "" + high + low + (row > column ? 's' : 'o');
+  }
+
+  /**
+   * Returns the card masks of every combination of hole cards in a starting hand class.
+   *
+   * @param handClass Class.
+   * @return Card masks of the 6 (pair), 4 (suited) or 12 (offsuit) combinations.
+   */
+  public static long[] combinations(final int handClass) {
+    final int row = handClass / NUM_VALUES;
+    final int column = handClass % NUM_VALUES;
+    final long[] result = new long[row == column ? 6 : row > column ? 4 : 12];
+    int i = 0;
+    for (int suit1 = 0; suit1 < NUM_SUITS; suit1++) {
+      for (int suit2 = 0; suit2 < NUM_SUITS; suit2++) {
+        final boolean valid =
+            row == column ? suit1 < suit2 : row > column ? suit1 == suit2 : suit1 != suit2;
+        if (valid) {
+          result[i++] = (1L << (suit1 * SUIT_SHIFT + row)) | (1L << (suit2 * SUIT_SHIFT + column));
+        }
+      }
+    }
+    assert i == result.length;
+    return result;
+  }
+}
@@ -0,0 +1,337 @@
+package com.poker.poker.utilities;
+
+import com.poker.poker.utilities.EquityCalculator.Tally;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Equities of hand ranges against each other. Every combination of hands from the ranges that don't
+ * share a card is equally likely, so hands which are blocked by the other players' hands are dealt
+ * less often, just like at a real table. Runouts are ranked with {@link
+ * HandEvaluator#evaluate(long)}, which orders hands exactly like {@link CardUtilities}.
+ *
+ * <p>Small problems can be enumerated exactly with {@link #enumerate(ForkJoinPool, long[][], long,
+ * long, BooleanSupplier)}, where every combination of hands is enumerated along with every
+ * completion of the board. Otherwise, {@link #simulate(ForkJoinPool, long[][], long, long, long,
+ * BooleanSupplier, long)} deals random hands from the ranges followed by a random runout. Both split
+ * their work across a fork/join pool and stop as soon as the caller cancels or the deadline passes.
+ */
+public final class RangeEquityCalculator {
+
+  /** Number of samples between deadline and cancellation checks. Must be a power of 2. */
+  private static final int CHECK_INTERVAL = 256;
+
+  /** Tasks with more samples than this are split in half. */
+  private static final long SAMPLES_PER_TASK = 1 << 15;
+
+  /**
+   * Number of times in a row that dealing hands from the ranges may fail because two hands share a
+   * card, before sampling gives up. This only happens when the ranges (nearly) exclude each other.
+   */
+  private static final int MAX_DEAL_ATTEMPTS = 1 << 10;
+
+  /**
+   * Number of partial deals {@link #canDeal(long[][])} tries before it gives up and assumes that
+   * the ranges can be dealt.
+   */
+  private static final int MAX_DEAL_SEARCH = 1 << 16;
+
+  /** Private constructor to prevent creating instances of static class. */
+  private RangeEquityCalculator() {}
+
+  /**
+   * Checks whether every player can be dealt a hand from their range at the same time, without two
+   * hands sharing a card. Ranges which block each other completely have no equity, so they can't be
+   * enumerated or sampled. Searching is abandoned after a fixed number of partial deals, in which
+   * case the ranges are assumed to be dealable.
+   *
+   * @param ranges Card masks of the combinations in each player's range.
+   * @return True if a hand from every range can be dealt, or the search was abandoned.
+   */
+  public static boolean canDeal(final long[][] ranges) {
+    // Smaller ranges have fewer choices, so dealing them first prunes the search sooner.
+    final long[][] sorted = ranges.clone();
+    Arrays.sort(sorted, (a, b) -> Integer.compare(a.length, b.length));
+    return canDeal(sorted, 0, 0, new int[] {MAX_DEAL_SEARCH});
+  }
+
+  private static boolean canDeal(
+      final long[][] ranges, final int player, final long dead, final int[] budget) {
+    if (player == ranges.length || --budget[0] < 0) {
+      return true;
+    }
+    for (final long cards : ranges[player]) {
+      if ((cards & dead) == 0 && canDeal(ranges, player + 1, dead | cards, budget)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns an upper bound of the number of runouts {@link #enumerate(ForkJoinPool, long[][], long,
+   * long, BooleanSupplier)} would rank, which ignores that some hands share cards.
+   *
+   * @param ranges Card masks of the combinations in each player's range.
+   * @param board Card mask of the board.
+   * @return Number of runouts, or <code>Long.MAX_VALUE</code> if there are too many to count.
+   */
+  public static long countRunouts(final long[][] ranges, final long board) {
+    final int remaining = EquityCalculator.DECK.length - 2 * ranges.length - Long.bitCount(board);
+    final int needed = 5 - Long.bitCount(board);
+    long count = 1;
+    for (int i = 0; i < needed; i++) {
+      count = count * (remaining - i) / (i + 1);
+    }
+    for (final long[] range : ranges) {
+      if (count > Long.MAX_VALUE / Math.max(1, range.length)) {
+        return Long.MAX_VALUE;
+      }
+      count *= range.length;
+    }
+    return count;
+  }
+
+  /**
+   * Ranks every completion of the board for every combination of hands from the ranges. Only part of
+   * the combinations would be ranked if the enumeration stopped early, which would skew the
+   * equities, so nothing is returned if the deadline passes before it is done.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>At least 2 players.
+   *   <li>Every range has at least one combination.
+   *   <li>No combination shares a card with the board.
+   *   <li>The board has 0, 3, 4 or 5 cards.
+   * </ol>
+   *
+   * @param pool Pool that the enumeration is run on.
+   * @param ranges Card masks of the combinations in each player's range.
+   * @param board Card mask of the board.
+   * @param deadline Value of <code>System.nanoTime()</code> after which the enumeration is abandoned.
+   * @param cancelled Returns true when the enumeration should be abandoned.
+   * @return Number of runouts each player won or tied, or null if the enumeration was abandoned.
+   */
+  public static Tally enumerate(
+      final ForkJoinPool pool,
+      final long[][] ranges,
+      final long board,
+      final long deadline,
+      final BooleanSupplier cancelled) {
+    assertRanges(ranges, board);
+
+    final BooleanSupplier stopped =
+        () -> System.nanoTime() - deadline > 0 || cancelled.getAsBoolean();
+    final Tally tally =
+        pool.invoke(new EnumerationTask(ranges, board, 0, ranges[0].length, stopped));
+    return stopped.getAsBoolean() ? null : tally;
+  }
+
+  /**
+   * Estimates the equity of each range by dealing random hands from the ranges, and random runouts
+   * of the board.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>At least 2 players.
+   *   <li>Every range has at least one combination.
+   *   <li>No combination shares a card with the board.
+   *   <li>The board has at most 5 cards.
+   * </ol>
+   *
+   * @param pool Pool that the samples are run on.
+   * @param ranges Card masks of the combinations in each player's range.
+   * @param board Card mask of the board.
+   * @param maxSamples Maximum number of runouts to deal.
+   * @param deadline Value of <code>System.nanoTime()</code> after which no more runouts are dealt.
+   * @param cancelled Returns true when no more runouts should be dealt.
+   * @param seed Seed of the random number generator.
+   * @return Number of runouts each player won or tied.
+   */
+  public static Tally simulate(
+      final ForkJoinPool pool,
+      final long[][] ranges,
+      final long board,
+      final long maxSamples,
+      final long deadline,
+      final BooleanSupplier cancelled,
+      final long seed) {
+    assertRanges(ranges, board);
+
+    final long[] remaining =
+        Arrays.stream(EquityCalculator.DECK).filter(c -> (c & board) == 0).toArray();
+    return pool.invoke(
+        new SampleTask(
+            ranges, board, remaining, maxSamples, deadline, cancelled, new SplittableRandom(seed)));
+  }
+
+  private static void assertRanges(final long[][] ranges, final long board) {
+    assert ranges.length >= 2;
+    assert Long.bitCount(board) <= 5;
+    assert Arrays.stream(ranges).allMatch(r -> r.length > 0);
+    assert Arrays.stream(ranges).flatMapToLong(Arrays::stream).allMatch(c -> (c & board) == 0);
+  }
+
+  /** Enumerates the hands which start with <code>ranges[0][start:end]</code>. */
+  private static final class EnumerationTask extends RecursiveTask<Tally> {
+
+    private final long[][] ranges;
+    private final long board;
+    private final int start;
+    private final int end;
+    private final BooleanSupplier cancelled;
+
+    private EnumerationTask(
+        final long[][] ranges,
+        final long board,
+        final int start,
+        final int end,
+        final BooleanSupplier cancelled) {
+      this.ranges = ranges;
+      this.board = board;
+      this.start = start;
+      this.end = end;
+      this.cancelled = cancelled;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (end - start > 1) {
+        final int middle = (start + end) >>> 1;
+        final EnumerationTask left = new EnumerationTask(ranges, board, start, middle, cancelled);
+        left.fork();
+        final Tally right = new EnumerationTask(ranges, board, middle, end, cancelled).compute();
+        return right.add(left.join());
+      }
+
+      final long[] holeCards = new long[ranges.length];
+      final Tally tally = new Tally(ranges.length);
+      holeCards[0] = ranges[0][start];
+      deal(holeCards, 1, board | holeCards[0], tally);
+      return tally;
+    }
+
+    /** Deals every combination of hands to the players from <code>player</code> onwards. */
+    private void deal(
+        final long[] holeCards, final int player, final long dead, final Tally tally) {
+      if (player == holeCards.length) {
+        if (cancelled.getAsBoolean()) {
+          return;
+        }
+        final long[] remaining =
+            Arrays.stream(EquityCalculator.DECK).filter(c -> (c & dead) == 0).toArray();
+        EquityEnumeration.enumerate(
+            holeCards,
+            remaining,
+            0,
+            5 - Long.bitCount(board),
+            board,
+            new int[holeCards.length],
+            tally,
+            null);
+        return;
+      }
+      for (final long cards : ranges[player]) {
+        if ((cards & dead) == 0) {
+          holeCards[player] = cards;
+          deal(holeCards, player + 1, dead | cards, tally);
+        }
+      }
+    }
+  }
+
+  /** Deals hands and runouts, splitting itself into subtasks when there are too many. */
+  private static final class SampleTask extends RecursiveTask<Tally> {
+
+    private final long[][] ranges;
+    private final long board;
+    private final long[] remaining;
+    private final long samples;
+    private final long deadline;
+    private final BooleanSupplier cancelled;
+    private final SplittableRandom random;
+
+    private SampleTask(
+        final long[][] ranges,
+        final long board,
+        final long[] remaining,
+        final long samples,
+        final long deadline,
+        final BooleanSupplier cancelled,
+        final SplittableRandom random) {
+      this.ranges = ranges;
+      this.board = board;
+      this.remaining = remaining;
+      this.samples = samples;
+      this.deadline = deadline;
+      this.cancelled = cancelled;
+      this.random = random;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (samples > SAMPLES_PER_TASK) {
+        final SampleTask left =
+            new SampleTask(
+                ranges, board, remaining, samples / 2, deadline, cancelled, random.split());
+        left.fork();
+        final Tally right =
+            new SampleTask(
+                    ranges, board, remaining, samples - samples / 2, deadline, cancelled, random)
+                .compute();
+        return right.add(left.join());
+      }
+
+      final long[] deck = remaining.clone();
+      final int needed = 5 - Long.bitCount(board);
+      final int numPlayers = ranges.length;
+      final long[] holeCards = new long[numPlayers];
+      final int[] ranks = new int[numPlayers];
+      final Tally tally = new Tally(numPlayers);
+      for (long sample = 0; sample < samples; sample++) {
+        if ((sample & (CHECK_INTERVAL - 1)) == 0
+            && (System.nanoTime() - deadline > 0 || cancelled.getAsBoolean())) {
+          break;
+        }
+
+        // Hands that share a card are dealt again, so every valid combination is equally likely.
+        long dead = 0;
+        for (int attempt = 0; attempt < MAX_DEAL_ATTEMPTS && dead == 0; attempt++) {
+          for (int p = 0; p < numPlayers; p++) {
+            final long[] range = ranges[p];
+            holeCards[p] = range[random.nextInt(range.length)];
+            if ((dead & holeCards[p]) != 0) {
+              dead = 0;
+              break;
+            }
+            dead |= holeCards[p];
+          }
+        }
+        if (dead == 0) {
+          break;
+        }
+
+        // Partial Fisher-Yates shuffle, skipping the cards in the players' hands.
+        long runout = board;
+        for (int i = 0; i < needed; ) {
+          final int j = i + random.nextInt(deck.length - i);
+          final long card = deck[j];
+          if ((card & dead) == 0) {
+            deck[j] = deck[i];
+            deck[i++] = card;
+            runout |= card;
+          }
+        }
+
+        for (int p = 0; p < numPlayers; p++) {
+          ranks[p] = HandEvaluator.evaluate(runout | holeCards[p]);
+        }
+        tally.record(ranks);
+      }
+      return tally;
+    }
+  }
+}
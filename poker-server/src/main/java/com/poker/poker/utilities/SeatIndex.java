@@ -0,0 +1,164 @@
+package com.poker.poker.utilities;
+
+import com.poker.poker.models.game.GamePlayer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Index of the players seated at a table, which maps player IDs to seats and keeps a bit mask of
+ * the seats that are folded, all-in and out of the game. Players keep the index up to date whenever
+ * one of those flags changes, so looking up a player, counting the players in each state and
+ * finding the next active player are all constant time, instead of a scan over the players.
+ */
+public final class SeatIndex {
+
+  /** Maximum number of seats, since each seat is a bit in a mask. */
+  public static final int MAX_SEATS = Long.SIZE;
+
+  /**
+   * Seat of each player. The map is replaced rather than changed when players are indexed again, so
+   * copies of the index can share it.
+   */
+  private Map<UUID, Integer> seats = new HashMap<>();
+
+  private int numSeats = 0;
+  private long occupied = 0;
+  private long folded = 0;
+  private long allIn = 0;
+  private long out = 0;
+
+  /**
+   * Indexes the players at a table, in the order they are seated. The players keep this index up to
+   * date until they are indexed again, by this index or another one.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>players.size() <= MAX_SEATS</code>
+   *   <li>Player IDs are unique.
+   * </ol>
+   *
+   * @param players Players, or <code>null</code> if there are no players yet.
+   */
+  public void index(final List<GamePlayer> players) {
+    numSeats = players == null ? 0 : players.size();
+    seats = new HashMap<>();
+    assert numSeats <= MAX_SEATS;
+    occupied = numSeats == MAX_SEATS ? -1L : (1L << numSeats) - 1;
+    folded = 0;
+    allIn = 0;
+    out = 0;
+    for (int seat = 0; seat < numSeats; seat++) {
+      final GamePlayer player = players.get(seat);
+      seats.put(player.getId(), seat);
+      player.setSeatIndex(this);
+      update(player);
+    }
+    assert seats.size() == numSeats;
+  }
+
+  /**
+   * Indexes copies of the players of another index, which sit in the same seats and have the same
+   * flags as the players they were copied from. The seats and masks of the other index are copied
+   * instead of being rebuilt, and the copies keep this index up to date from then on.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>players.size() == source.getNumSeats()</code>
+   * </ol>
+   *
+   * @param source Index of the players that were copied.
+   * @param players Copies of the players, in the order they are seated.
+   */
+  public void copy(final SeatIndex source, final List<GamePlayer> players) {
+    assert players.size() == source.numSeats;
+    seats = source.seats;
+    numSeats = source.numSeats;
+    occupied = source.occupied;
+    folded = source.folded;
+    allIn = source.allIn;
+    out = source.out;
+    for (final GamePlayer player : players) {
+      player.setSeatIndex(this);
+    }
+  }
+
+  /**
+   * Updates the state of a player's seat. Called by the player whenever its flags change.
+   *
+   * @param player Player.
+   */
+  public void update(final GamePlayer player) {
+    final Integer seat = seats.get(player.getId());
+    if (seat == null) {
+      return;
+    }
+    final long bit = 1L << seat;
+    folded = player.isFolded() ? folded | bit : folded & ~bit;
+    allIn = player.isAllIn() ? allIn | bit : allIn & ~bit;
+    out = player.isOut() ? out | bit : out & ~bit;
+  }
+
+  /**
+   * Returns the seat of a player.
+   *
+   * @param id ID of the player.
+   * @return Seat of the player, or <code>-1</code> if the player isn't seated at the table.
+   */
+  public int getSeat(final UUID id) {
+    final Integer seat = seats.get(id);
+    return seat == null ? -1 : seat;
+  }
+
+  public int getNumSeats() {
+    return numSeats;
+  }
+
+  /** Returns a bit mask of the seats of the players who haven't folded or been eliminated. */
+  public long getActive() {
+    return occupied & ~folded & ~out;
+  }
+
+  /** Returns the number of players who haven't folded or been eliminated. */
+  public int getNumActive() {
+    return Long.bitCount(getActive());
+  }
+
+  public int getNumFolded() {
+    return Long.bitCount(folded);
+  }
+
+  public int getNumAllIn() {
+    return Long.bitCount(allIn);
+  }
+
+  public int getNumOut() {
+    return Long.bitCount(out);
+  }
+
+  /**
+   * Determines the next player before or after a seat who hasn't folded or been eliminated.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>0 <= seat < numSeats</code>
+   *   <li>At least one player hasn't folded or been eliminated.
+   * </ol>
+   *
+   * @param seat Seat to start from.
+   * @param forward <code>true</code> to search forward, <code>false</code> to search backward.
+   * @return Seat of the next active player, wrapping around the table.
+   */
+  public int getNextActive(final int seat, final boolean forward) {
+    assert seat >= 0 && seat < numSeats;
+    final long active = getActive();
+    assert active != 0;
+    if (forward) {
+      final long after = active & ~((2L << seat) - 1);
+      return Long.numberOfTrailingZeros(after != 0 ? after : active);
+    }
+    final long before = active & ((1L << seat) - 1);
+    return Long.SIZE - 1 - Long.numberOfLeadingZeros(before != 0 ? before : active);
+  }
+}
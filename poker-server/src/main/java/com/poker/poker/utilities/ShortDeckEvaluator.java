@@ -0,0 +1,203 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.utilities.HandEvaluator.NUM_SUITS;
+import static com.poker.poker.utilities.HandEvaluator.TYPE_MULTIPLIER;
+import static com.poker.poker.utilities.HandEvaluator.mask;
+import static com.poker.poker.utilities.HandEvaluator.suitValues;
+
+import com.poker.poker.models.enums.GameVariant;
+import com.poker.poker.models.enums.HandType;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.HandRank;
+import com.poker.poker.models.game.Showdown;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Evaluator for short deck (6+) hold'em, which is played with the 36 cards from Six to Ace. Two
+ * rules differ from hold'em: A-6-7-8-9 is the lowest straight, and a flush beats a full house.
+ *
+ * <p>Ranks are looked up in a {@link HandRankTable} of their own, which is computed in memory when
+ * this class is loaded, so short deck hands are ranked exactly as fast as hold'em hands, and the
+ * hold'em evaluators don't need to check which variant is played. Ranks use the same base 15 digits
+ * as {@link HandEvaluator#rank(long)}, except that the hand type digits of flushes and full houses
+ * are swapped, so they must be turned into a {@link HandType} with {@link #type(int)}. Ranks from
+ * the two evaluators should not be compared with each other.
+ */
+public final class ShortDeckEvaluator {
+
+  /** Card mask of every card in a short deck. */
+  public static final long DECK = mask(new Deck(GameVariant.ShortDeck).getCards());
+
+  /** Mask of the values that make up the lowest straight (Ace, Six to Nine). */
+  private static final int LOW_STRAIGHT = 0x10F0;
+
+  /** Value of the highest card in the lowest straight. */
+  private static final int LOW_STRAIGHT_HIGH = 9;
+
+  /** Values of the lowest straight, in the order they are shown. */
+  private static final int[] LOW_STRAIGHT_VALUES = {14, 6, 7, 8, 9};
+
+  private static final int STRAIGHT_FLUSH =
+      CardUtilities.handTypeValues.get(HandType.StraightFlush);
+  private static final int FULL_HOUSE = CardUtilities.handTypeValues.get(HandType.FullHouse);
+  private static final int FLUSH = CardUtilities.handTypeValues.get(HandType.Flush);
+  private static final int STRAIGHT = CardUtilities.handTypeValues.get(HandType.Straight);
+
+  /** Ranks of every hand of 5 to 7 cards. */
+  private static final HandRankTable TABLE = HandRankTable.compute(ShortDeckEvaluator::compute);
+
+  /** Private constructor to prevent creating instances of static class. */
+  private ShortDeckEvaluator() {}
+
+  /**
+   * Determines the numerical rank of the best 5 card hand that can be made with the cards in a card
+   * mask.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>At least 5 cards are set in <code>mask</code>.
+   *   <li>Every card is in a short deck.
+   * </ol>
+   *
+   * @param mask Card mask.
+   * @return Numerical rank of the best hand (higher means better hand).
+   */
+  public static int rank(final long mask) {
+    assert (mask & ~DECK) == 0;
+    return TABLE.rank(mask);
+  }
+
+  /**
+   * Ranks the best hand a player can make with their hole cards and the board.
+   *
+   * @param board Card mask of the board.
+   * @param holeCards Card mask of the player's hole cards.
+   * @return Numerical rank of the best hand (higher means better hand).
+   */
+  public static int rank(final long board, final long holeCards) {
+    return rank(board | holeCards);
+  }
+
+  /**
+   * Determines the type of hand associated with a numerical rank.
+   *
+   * @param rank Numerical rank produced by this class.
+   * @return Type of hand.
+   */
+  public static HandType type(final int rank) {
+    return HandEvaluator.type(toHoldem(rank));
+  }
+
+  /**
+   * Reconstructs the best 5 card hand associated with a rank that was produced by {@link
+   * #rank(long)}, in the same order as {@link HandEvaluator#bestHand(long, int)}.
+   *
+   * @param mask Card mask that was ranked.
+   * @param rank Rank of the card mask.
+   * @return The best 5 card hand.
+   */
+  public static List<Card> bestHand(final long mask, final int rank) {
+    final int type = rank / TYPE_MULTIPLIER;
+    if ((type != STRAIGHT_FLUSH && type != STRAIGHT)
+        || rank % TYPE_MULTIPLIER != LOW_STRAIGHT_HIGH) {
+      return HandEvaluator.bestHand(mask, toHoldem(rank));
+    }
+
+    final int flushSuit = type == STRAIGHT_FLUSH ? HandEvaluator.flushSuit(mask) : -1;
+    final List<Card> hand = new ArrayList<>(5);
+    for (final int value : LOW_STRAIGHT_VALUES) {
+      hand.add(HandEvaluator.card(flushSuit >= 0 ? flushSuit : lowestSuit(mask, value), value));
+    }
+    return hand;
+  }
+
+  /**
+   * Ranks a collection of cards.
+   *
+   * @param cards Cards, which are all in a short deck.
+   * @return The best 5 card hand that can be made with the cards provided, along with the numerical
+   *     ranking of the best hand.
+   */
+  public static HandRank rankHand(final Collection<Card> cards) {
+    return handRank(mask(cards));
+  }
+
+  /**
+   * Ranks the hands of several players who share the same board. Players are then grouped by rank,
+   * so that ties can be dealt with easily.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>The board and hole cards of each player make up at least 5 cards.
+   *   <li>Every card is in a short deck.
+   * </ol>
+   *
+   * @param board Shared cards.
+   * @param holeCards Hole cards of each player.
+   * @return Hand ranks of the players, in the same order as <code>holeCards</code>, and the indices
+   *     of the players grouped by rank, from best to worst.
+   */
+  public static Showdown rankHands(
+      final Collection<Card> board, final List<? extends Collection<Card>> holeCards) {
+    final long boardMask = mask(board);
+    final List<HandRank> ranks = new ArrayList<>(holeCards.size());
+    for (final Collection<Card> cards : holeCards) {
+      ranks.add(handRank(boardMask | mask(cards)));
+    }
+    return new Showdown(ranks);
+  }
+
+  private static HandRank handRank(final long mask) {
+    final int rank = rank(mask);
+    return new HandRank(rank, Collections.unmodifiableList(bestHand(mask, rank)), type(rank));
+  }
+
+  /**
+   * Ranks a card mask without the table, which is only used to compute the table. Hold'em ranks are
+   * adjusted for the lowest straight, which {@link HandEvaluator} doesn't know about, and flushes
+   * and full houses trade places. A hand of 7 cards can't contain both a flush and a full house, so
+   * the best hand never changes because of the new order.
+   */
+  static int compute(final long mask) {
+    final int rank = HandEvaluator.rank(mask);
+    final int type = rank / TYPE_MULTIPLIER;
+    final int values =
+        suitValues(mask, 0) | suitValues(mask, 1) | suitValues(mask, 2) | suitValues(mask, 3);
+    if (type == FLUSH) {
+      final int flush = suitValues(mask, HandEvaluator.flushSuit(mask));
+      return (flush & LOW_STRAIGHT) == LOW_STRAIGHT
+          ? STRAIGHT_FLUSH * TYPE_MULTIPLIER + LOW_STRAIGHT_HIGH
+          : rank + (FULL_HOUSE - FLUSH) * TYPE_MULTIPLIER;
+    }
+    if (type == FULL_HOUSE) {
+      return rank - (FULL_HOUSE - FLUSH) * TYPE_MULTIPLIER;
+    }
+    if (type < STRAIGHT && (values & LOW_STRAIGHT) == LOW_STRAIGHT) {
+      return STRAIGHT * TYPE_MULTIPLIER + LOW_STRAIGHT_HIGH;
+    }
+    return rank;
+  }
+
+  /** Swaps the hand type digits of flushes and full houses back to their hold'em order. */
+  private static int toHoldem(final int rank) {
+    final int type = rank / TYPE_MULTIPLIER;
+    if (type == FLUSH) {
+      return rank + (FULL_HOUSE - FLUSH) * TYPE_MULTIPLIER;
+    }
+    return type == FULL_HOUSE ? rank - (FULL_HOUSE - FLUSH) * TYPE_MULTIPLIER : rank;
+  }
+
+  /** Returns the lowest lane with a card of the specified value, like the hold'em straights. */
+  private static int lowestSuit(final long mask, final int value) {
+    for (int suit = 0; suit < NUM_SUITS; suit++) {
+      if ((suitValues(mask, suit) & (1 << (value - 2))) != 0) {
+        return suit;
+      }
+    }
+    return -1;
+  }
+}
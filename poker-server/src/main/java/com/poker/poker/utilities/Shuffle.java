@@ -0,0 +1,51 @@
+package com.poker.poker.utilities;
+
+import com.poker.poker.models.game.Deck;
+import java.security.SecureRandom;
+import lombok.Getter;
+
+/**
+ * Permutation of a deck, in which every card is picked with <code>SecureRandom</code>. Unlike a
+ * shuffle made by a seeded generator, which can only reach as many orders of the deck as it has
+ * seeds, any order of the deck can be made. There is no seed to regenerate the deal from, so the
+ * deck keeps the permutation of the hand it dealt, see {@link Deck#getPermutation()}.
+ */
+@Getter
+public final class Shuffle {
+
+  /** Shared source of entropy, which picks every card of every shuffle. */
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+  /** Position of each card in the deck's original order, in the order the cards are drawn. */
+  private final byte[] permutation;
+
+  private Shuffle(final byte[] permutation) {
+    this.permutation = permutation;
+  }
+
+  /**
+   * Shuffles a deck with a Fisher-Yates shuffle, picking the cards in the order they are drawn.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>numCards <= Byte.MAX_VALUE</code>
+   * </ol>
+   *
+   * @param numCards Number of cards in the deck.
+   * @return The shuffle.
+   */
+  public static Shuffle generate(final int numCards) {
+    assert numCards <= Byte.MAX_VALUE;
+    final byte[] permutation = new byte[numCards];
+    for (int i = 0; i < numCards; i++) {
+      permutation[i] = (byte) i;
+    }
+    for (int i = 0; i < numCards; i++) {
+      final int j = i + SECURE_RANDOM.nextInt(numCards - i);
+      final byte position = permutation[j];
+      permutation[j] = permutation[i];
+      permutation[i] = position;
+    }
+    return new Shuffle(permutation);
+  }
+}
@@ -0,0 +1,126 @@
+package com.poker.poker.utilities;
+
+import com.poker.poker.models.game.DeckShuffler;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free queue of shuffles of a deck, which are made ahead of time by a producer, so
+ * that shuffling doesn't add latency when a hand starts. Every card of each shuffle is picked with
+ * <code>SecureRandom</code>, which is too slow to do when a hand starts. When the queue is empty,
+ * tables shuffle their decks themselves.
+ *
+ * <p>Any number of tables can take shuffles at the same time as the producer refills the queue. The
+ * depth of the queue is tracked separately from the queue, so it can briefly be off by the number
+ * of shuffles being added or taken at that moment.
+ */
+public final class ShufflePipeline {
+
+  private final int numCards;
+  private final int capacity;
+  private final Queue<Shuffle> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger depth = new AtomicInteger();
+  private final LongAdder produced = new LongAdder();
+  private final LongAdder taken = new LongAdder();
+  private final LongAdder starvations = new LongAdder();
+
+  /**
+   * Creates an empty pipeline.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>capacity > 0</code>
+   * </ol>
+   *
+   * @param numCards Number of cards in the decks that are shuffled.
+   * @param capacity Maximum number of shuffles in the queue.
+   */
+  public ShufflePipeline(final int numCards, final int capacity) {
+    assert capacity > 0;
+    this.numCards = numCards;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Takes the next shuffle from the queue.
+   *
+   * @return The shuffle, or null if the queue is empty, in which case the deck should be shuffled
+   *     inline.
+   */
+  public Shuffle poll() {
+    final Shuffle shuffle = queue.poll();
+    if (shuffle == null) {
+      starvations.increment();
+      return null;
+    }
+    depth.decrementAndGet();
+    taken.increment();
+    return shuffle;
+  }
+
+  /**
+   * Returns a shuffler which shuffles decks with the shuffles in the queue, and falls back to
+   * another shuffler when the queue is empty.
+   *
+   * @param fallback Shuffler used when the queue is empty, or null to let the deck shuffle itself.
+   * @return The shuffler.
+   */
+  public DeckShuffler withFallback(final DeckShuffler fallback) {
+    return deck -> {
+      final Shuffle shuffle = poll();
+      if (shuffle != null) {
+        deck.restoreAndShuffle(shuffle.getPermutation());
+        return true;
+      }
+      return fallback != null && fallback.shuffle(deck);
+    };
+  }
+
+  /**
+   * Makes shuffles until the queue is full. Only one thread should refill a pipeline at a time.
+   *
+   * @return The number of shuffles that were made.
+   */
+  public int refill() {
+    int count = 0;
+    while (depth.get() < capacity) {
+      queue.offer(Shuffle.generate(numCards));
+      depth.incrementAndGet();
+      count++;
+    }
+    produced.add(count);
+    return count;
+  }
+
+  /** Returns the number of cards in the decks that are shuffled. */
+  public int getNumCards() {
+    return numCards;
+  }
+
+  /** Returns the maximum number of shuffles in the queue. */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /** Returns the number of shuffles in the queue. */
+  public int getDepth() {
+    return depth.get();
+  }
+
+  /** Returns the number of shuffles that have been made. */
+  public long getProduced() {
+    return produced.sum();
+  }
+
+  /** Returns the number of shuffles that have been taken. */
+  public long getTaken() {
+    return taken.sum();
+  }
+
+  /** Returns the number of times a shuffle was requested while the queue was empty. */
+  public long getStarvations() {
+    return starvations.sum();
+  }
+}
@@ -0,0 +1,269 @@
+package com.poker.poker.utilities;
+
+import java.util.Arrays;
+
+/**
+ * Side-pot and settlement engine, which works on primitive arrays indexed by seat, so that the pots
+ * of a table can be computed and paid out without building any collections. An instance is reused
+ * for every hand at a table: the seats are loaded with {@link #setSeat(int, long, boolean,
+ * boolean)}, the pots are computed with {@link #computePots(int)}, and once the hands have been
+ * ranked with {@link #setRank(int, int)}, the pots are paid out with {@link #settle(int)}.
+ *
+ * <p>There is a pot for every distinct wager of the players who are all-in, along with one for the
+ * highest wager if nobody is all-in for that much, exactly like {@link
+ * PokerTableUtilities#generateSidePots}. The bets are sorted once, and every pot total is then
+ * found in a single sweep over the sorted bets. A seat is entitled to every pot whose wager is at
+ * most its bet, so instead of a list of seats per pot, each seat has the number of pots it can win,
+ * which is found by a binary search over the wagers.
+ *
+ * <p>Pots are settled from the highest to the lowest, since every seat entitled to a pot is also
+ * entitled to every lower pot, so the best hand among the entitled seats is maintained as seats are
+ * added. A pot is split evenly in whole chips between the seats with the best hand, and the chips
+ * that are left over are handed out one at a time, starting from the first of those seats after the
+ * dealer. A pot nobody is entitled to, which can only happen when everyone who bet that much
+ * folded, is added to the pot below it.
+ */
+public final class SidePots {
+
+  /** Maximum number of seats. A bit mask is used to track the seats with the best hand. */
+  public static final int MAX_SEATS = Long.SIZE;
+
+  private final long[] bets;
+  private final boolean[] allIn;
+  private final boolean[] eligible;
+  private final int[] ranks;
+  private final long[] payouts;
+
+  /** Number of pots each seat is entitled to, i.e. it is entitled to pots 0 to reach - 1. */
+  private final int[] reach;
+
+  /** Bets in ascending order. */
+  private final long[] sorted;
+
+  private final long[] wagers;
+  private final long[] totals;
+
+  /** Seats that are entitled to the same number of pots are linked together, see reach. */
+  private final int[] firstByReach;
+
+  private final int[] nextByReach;
+
+  private int numSeats;
+  private int numPots;
+
+  /**
+   * Creates an engine for a table.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>0 < capacity <= MAX_SEATS</code>
+   * </ol>
+   *
+   * @param capacity Maximum number of seats at the table.
+   */
+  public SidePots(final int capacity) {
+    assert capacity > 0 && capacity <= MAX_SEATS;
+    bets = new long[capacity];
+    allIn = new boolean[capacity];
+    eligible = new boolean[capacity];
+    ranks = new int[capacity];
+    payouts = new long[capacity];
+    reach = new int[capacity];
+    sorted = new long[capacity];
+    wagers = new long[capacity + 1];
+    totals = new long[capacity + 1];
+    firstByReach = new int[capacity + 2];
+    nextByReach = new int[capacity];
+  }
+
+  /** Returns the maximum number of seats at the table. */
+  public int getCapacity() {
+    return bets.length;
+  }
+
+  /**
+   * Loads a seat.
+   *
+   * @param seat Seat.
+   * @param bet Amount the seat has put in the pot during the hand.
+   * @param allIn Whether the seat is all-in.
+   * @param eligible Whether the seat can win a pot, i.e. it hasn't folded or been eliminated.
+   */
+  public void setSeat(final int seat, final long bet, final boolean allIn, final boolean eligible) {
+    bets[seat] = bet;
+    this.allIn[seat] = allIn;
+    this.eligible[seat] = eligible;
+  }
+
+  /**
+   * Sets the rank of the hand of a seat that can win a pot.
+   *
+   * @param seat Seat.
+   * @param rank Rank of the hand, where higher is better.
+   */
+  public void setRank(final int seat, final int rank) {
+    ranks[seat] = rank;
+  }
+
+  /**
+   * Computes the pots from the seats that were loaded, as well as the pots each seat is entitled
+   * to.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li><code>0 < numSeats <= capacity</code>
+   *   <li>The first <code>numSeats</code> seats were loaded.
+   * </ol>
+   *
+   * @param numSeats Number of seats at the table.
+   * @return Number of pots.
+   */
+  public int computePots(final int numSeats) {
+    assert numSeats > 0 && numSeats <= bets.length;
+    this.numSeats = numSeats;
+
+    int numWagers = 0;
+    for (int seat = 0; seat < numSeats; seat++) {
+      sorted[seat] = bets[seat];
+      if (allIn[seat]) {
+        wagers[numWagers++] = bets[seat];
+      }
+    }
+    Arrays.sort(sorted, 0, numSeats);
+    Arrays.sort(wagers, 0, numWagers);
+
+    // Remove duplicate wagers, then add the highest bet if nobody is all-in for that much.
+    numPots = 0;
+    for (int i = 0; i < numWagers; i++) {
+      if (numPots == 0 || wagers[numPots - 1] != wagers[i]) {
+        wagers[numPots++] = wagers[i];
+      }
+    }
+    final long maxBet = sorted[numSeats - 1];
+    if (numPots == 0 || wagers[numPots - 1] != maxBet) {
+      wagers[numPots++] = maxBet;
+    }
+
+    // The pots up to a wager hold the bets below it, plus the wager for every other bet.
+    int below = 0;
+    long belowTotal = 0;
+    long previous = 0;
+    for (int pot = 0; pot < numPots; pot++) {
+      final long wager = wagers[pot];
+      while (below < numSeats && sorted[below] < wager) {
+        belowTotal = Chips.add(belowTotal, sorted[below++]);
+      }
+      final long upTo = Chips.add(belowTotal, Chips.multiply(wager, numSeats - below));
+      totals[pot] = Chips.subtract(upTo, previous);
+      previous = upTo;
+    }
+
+    for (int seat = 0; seat < numSeats; seat++) {
+      final int index = Arrays.binarySearch(wagers, 0, numPots, bets[seat]);
+      reach[seat] = eligible[seat] ? (index >= 0 ? index + 1 : -index - 1) : 0;
+    }
+    return numPots;
+  }
+
+  /**
+   * Pays out every pot to the seats with the best hands among the seats that are entitled to it.
+   *
+   * <ol>
+   *   <b>Pre-Conditions:</b>
+   *   <li>The pots were computed.
+   *   <li>Every seat that can win a pot has a rank.
+   *   <li>At least one seat can win a pot.
+   * </ol>
+   *
+   * @param firstSeat Seat that receives the first chip that is left over when a pot is split, i.e.
+   *     the first seat after the dealer.
+   */
+  public void settle(final int firstSeat) {
+    Arrays.fill(payouts, 0, numSeats, 0);
+    Arrays.fill(firstByReach, 0, numPots + 1, -1);
+    for (int seat = 0; seat < numSeats; seat++) {
+      if (reach[seat] > 0) {
+        nextByReach[seat] = firstByReach[reach[seat]];
+        firstByReach[reach[seat]] = seat;
+      }
+    }
+
+    long winners = 0;
+    int best = Integer.MIN_VALUE;
+    long carried = 0;
+    for (int pot = numPots - 1; pot >= 0; pot--) {
+      // Seats entitled to this pot, but not to the pot above.
+      for (int seat = firstByReach[pot + 1]; seat >= 0; seat = nextByReach[seat]) {
+        if (ranks[seat] > best) {
+          best = ranks[seat];
+          winners = 1L << seat;
+        } else if (ranks[seat] == best) {
+          winners |= 1L << seat;
+        }
+      }
+      final long total = Chips.add(totals[pot], carried);
+      if (winners == 0) {
+        carried = total;
+        continue;
+      }
+      carried = 0;
+      split(total, winners, firstSeat);
+    }
+    assert carried == 0;
+  }
+
+  /** Splits a pot evenly between the winners, handing out the odd chips from the first seat on. */
+  private void split(final long total, final long winners, final int firstSeat) {
+    final int count = Long.bitCount(winners);
+    final long share = Chips.share(total, count);
+    long remainder = Chips.subtract(total, Chips.multiply(share, count));
+    for (long w = winners; w != 0; w &= w - 1) {
+      final int seat = Long.numberOfTrailingZeros(w);
+      payouts[seat] = Chips.add(payouts[seat], share);
+    }
+
+    // Shares are rounded down to whole chips, so there are fewer odd chips than winners, and each
+    // winner from the first seat onwards, followed by the winners before it, gets at most one.
+    final long after = winners & (-1L << firstSeat);
+    remainder = handOut(after, remainder);
+    remainder = handOut(winners & ~after, remainder);
+    assert remainder == 0;
+  }
+
+  /** Hands out one chip to each of the seats in order, until there are no chips left. */
+  private long handOut(final long seats, final long chips) {
+    long remainder = chips;
+    for (long w = seats; w != 0 && remainder > 0; w &= w - 1) {
+      final int seat = Long.numberOfTrailingZeros(w);
+      final long chip = Math.min(Chips.UNIT, remainder);
+      payouts[seat] = Chips.add(payouts[seat], chip);
+      remainder -= chip;
+    }
+    return remainder;
+  }
+
+  /** Returns the number of pots. */
+  public int getNumPots() {
+    return numPots;
+  }
+
+  /** Returns the wager of a pot, i.e. the most each seat can have put in it. */
+  public long getWager(final int pot) {
+    return wagers[pot];
+  }
+
+  /** Returns the total of a pot. */
+  public long getTotal(final int pot) {
+    return totals[pot];
+  }
+
+  /** Returns true if a seat is entitled to a pot. */
+  public boolean isEntitled(final int seat, final int pot) {
+    return pot < reach[seat];
+  }
+
+  /** Returns the amount a seat won when the pots were settled. */
+  public long getPayout(final int seat) {
+    return payouts[seat];
+  }
+}
@@ -0,0 +1,131 @@
+package com.poker.poker.utilities;
+
+import com.poker.poker.models.enums.GameAction;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.Equity;
+import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.game.TableState;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Transitions of a poker table from one state to the next. A transition is an action that is
+ * applied to a table, which can either be applied to a copy of a {@link TableState}, which creates
+ * the next state without changing the state it started from, or to the table a game is played on,
+ * which is what games do before publishing the table's next state. Either way, the same
+ * transitions applied to the same state, with the decks in the same order, lead to the same
+ * states, so a hand can be replayed from its first state.
+ */
+public final class TableTransitions {
+
+  private TableTransitions() {}
+
+  /**
+   * Applies a transition to a copy of a state.
+   *
+   * @param state State of the table, which is not changed.
+   * @param transition Transition.
+   * @return The next state of the table.
+   */
+  public static TableState apply(final TableState state, final Consumer<PokerTable> transition) {
+    final PokerTable table = state.modifiableTable();
+    transition.accept(table);
+    return state.next(table);
+  }
+
+  /**
+   * State of a table after a player acted, see {@link PokerTableUtilities#handlePlayerAction}.
+   *
+   * @param state State of the table.
+   * @param action Action that was performed.
+   * @param playerId ID of the player that performed the action.
+   * @param raise The amount raised if action was Raise, ignored otherwise.
+   * @return The next state of the table.
+   */
+  public static TableState handlePlayerAction(
+      final TableState state, final GameAction action, final UUID playerId, final long raise) {
+    return apply(state, playerAction(action, playerId, raise));
+  }
+
+  /**
+   * State of a table once a new hand has been set up, see {@link
+   * PokerTableUtilities#setupNewHand(PokerTable, Deck)}.
+   *
+   * @param state State of the table.
+   * @param deck Deck, which the hand is dealt from.
+   * @return The next state of the table.
+   */
+  public static TableState setupNewHand(final TableState state, final Deck deck) {
+    return apply(state, newHand(deck));
+  }
+
+  /**
+   * State of a table once the street of the next phase has been dealt, see {@link
+   * PokerTableUtilities#setupNextPhase(PokerTable, Deck)}.
+   *
+   * @param state State of the table.
+   * @param deck Deck, which the street is dealt from.
+   * @return The next state of the table.
+   */
+  public static TableState setupNextPhase(final TableState state, final Deck deck) {
+    return apply(state, nextPhase(deck));
+  }
+
+  /**
+   * State of a table once a hand is over, see {@link PokerTableUtilities#handleEndOfHand}. The
+   * state in which the summary of the hand is displayed is {@link #showdown()} applied to the
+   * state.
+   *
+   * @param state State of the table.
+   * @return The state of the table after the showdown, and after the players have been reset.
+   */
+  public static TableState handleEndOfHand(final TableState state) {
+    return apply(apply(state, showdown()), finishHand());
+  }
+
+  /** Transition in which a player performs an action. */
+  public static Consumer<PokerTable> playerAction(
+      final GameAction action, final UUID playerId, final long raise) {
+    return table -> PokerTableUtilities.handlePlayerAction(table, action, playerId, raise);
+  }
+
+  /** Transition in which the hand moves on to its next phase. */
+  public static Consumer<PokerTable> phaseTransition() {
+    return PokerTableUtilities::transitionHandPhase;
+  }
+
+  /** Transition in which a new hand is set up and dealt from a deck. */
+  public static Consumer<PokerTable> newHand(final Deck deck) {
+    return table -> PokerTableUtilities.setupNewHand(table, deck);
+  }
+
+  /** Transition in which the street of the next phase is dealt from a deck. */
+  public static Consumer<PokerTable> nextPhase(final Deck deck) {
+    return table -> PokerTableUtilities.setupNextPhase(table, deck);
+  }
+
+  /** Transition in which the winners of a hand are paid out and the summary is displayed. */
+  public static Consumer<PokerTable> showdown() {
+    return PokerTableUtilities::showdown;
+  }
+
+  /** Transition in which the players are reset once the summary of a hand was displayed. */
+  public static Consumer<PokerTable> finishHand() {
+    return PokerTableUtilities::finishHand;
+  }
+
+  /** Transition in which a player's away status is set. */
+  public static Consumer<PokerTable> awayStatus(final UUID playerId, final boolean away) {
+    return table -> table.getPlayer(playerId).setAway(away);
+  }
+
+  /** Transition in which the equities of the players in the hand are stored. */
+  public static Consumer<PokerTable> equities(
+      final List<Equity> equities, final EquityEnumeration enumeration) {
+    return table -> {
+      table.setEquityEnumeration(enumeration);
+      table.setEquities(equities);
+    };
+  }
+}
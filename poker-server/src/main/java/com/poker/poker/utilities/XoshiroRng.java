@@ -0,0 +1,55 @@
+package com.poker.poker.utilities;
+
+/**
+ * The xoshiro256** generator by Blackman and Vigna, whose 256 bits of state are filled from the
+ * seed by splitmix64, as its authors recommend. Bounded numbers are generated with Lemire's
+ * multiply-and-reject method, which avoids a division in nearly every call.
+ */
+final class XoshiroRng implements DeckRng {
+
+  private long s0;
+  private long s1;
+  private long s2;
+  private long s3;
+
+  XoshiroRng(final long seed) {
+    long x = seed;
+    s0 = mix(x += 0x9E3779B97F4A7C15L);
+    s1 = mix(x += 0x9E3779B97F4A7C15L);
+    s2 = mix(x += 0x9E3779B97F4A7C15L);
+    s3 = mix(x + 0x9E3779B97F4A7C15L);
+  }
+
+  /** The splitmix64 finalizer. */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  long nextLong() {
+    final long result = Long.rotateLeft(s1 * 5, 7) * 9;
+    final long t = s1 << 17;
+    s2 ^= s0;
+    s3 ^= s1;
+    s1 ^= s2;
+    s0 ^= s3;
+    s2 ^= t;
+    s3 = Long.rotateLeft(s3, 45);
+    return result;
+  }
+
+  @Override
+  public int nextInt(final int bound) {
+    assert bound > 0;
+    long product = (nextLong() >>> 32) * bound;
+    if ((product & 0xFFFFFFFFL) < bound) {
+      // Reject the low products which would make some numbers more likely than others.
+      final long threshold = (1L << 32) % bound;
+      while ((product & 0xFFFFFFFFL) < threshold) {
+        product = (nextLong() >>> 32) * bound;
+      }
+    }
+    return (int) (product >>> 32);
+  }
+}
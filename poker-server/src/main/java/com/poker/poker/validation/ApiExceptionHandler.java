@@ -1,5 +1,6 @@
 package com.poker.poker.validation;
 
+import com.poker.poker.controllers.EquityController;
 import com.poker.poker.controllers.GameController;
 import com.poker.poker.controllers.HandController;
 import com.poker.poker.controllers.TestController;
@@ -31,7 +32,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
       UserController.class,
       TestController.class,
       GameController.class,
-      HandController.class
+      HandController.class,
+      EquityController.class
     })
 public class ApiExceptionHandler {
 
@@ -0,0 +1,95 @@
+package com.poker.poker.controllers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.poker.poker.config.AppConfig;
+import com.poker.poker.events.GameActionEvent;
+import com.poker.poker.models.enums.GameAction;
+import com.poker.poker.models.game.GameActionData;
+import com.poker.poker.models.game.LegalActions;
+import com.poker.poker.models.user.User;
+import com.poker.poker.models.websocket.ClientMessage;
+import com.poker.poker.services.JwtService;
+import com.poker.poker.services.UserService;
+import com.poker.poker.services.WebSocketService;
+import com.poker.poker.services.game.GameDataService;
+import com.poker.poker.services.game.GameService;
+import com.poker.poker.services.game.ShuffleService;
+import java.util.EnumSet;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WebSocketControllerTests {
+
+  @Mock private AppConfig appConfig;
+  @Mock private UserService userService;
+  @Mock private JwtService jwtService;
+  @Mock private ApplicationEventPublisher publisher;
+  @Mock private WebSocketService webSocketService;
+  @Mock private ShuffleService shuffleService;
+  @Mock private GameService gameService;
+
+  private final User actingUser = user();
+  private final User otherUser = user();
+
+  private WebSocketController webSocketController;
+
+  private static User user() {
+    final User user = new User();
+    user.setId(UUID.randomUUID());
+    return user;
+  }
+
+  @BeforeEach
+  public void setup() {
+    final GameDataService data =
+        new GameDataService(appConfig, publisher, webSocketService, shuffleService);
+    final UUID gameId = UUID.randomUUID();
+    data.userJoinedGame(actingUser.getId(), gameId);
+    data.userJoinedGame(otherUser.getId(), gameId);
+    data.setLegalActions(
+        gameId,
+        new LegalActions(
+            actingUser.getId(), EnumSet.of(GameAction.Check, GameAction.Fold), 0, 0, 0));
+    when(jwtService.getUserDocument("acting")).thenReturn(actingUser);
+    when(jwtService.getUserDocument("other")).thenReturn(otherUser);
+    webSocketController =
+        new WebSocketController(
+            appConfig, userService, jwtService, publisher, webSocketService, data, gameService);
+  }
+
+  private static ClientMessage<GameActionData> message(final String jwt, final UUID playerId) {
+    final ClientMessage<GameActionData> message = new ClientMessage<>();
+    message.setJwt(jwt);
+    message.setData(new GameActionData(playerId, GameAction.Fold, null));
+    return message;
+  }
+
+  /** A user can't act for the acting player by sending the acting player's ID. */
+  @Test
+  public void testPerformGameAction_otherUserRejected() {
+    // Test.
+    webSocketController.performGameAction(message("other", actingUser.getId()));
+
+    // Verify.
+    verify(publisher, never()).publishEvent(any(GameActionEvent.class));
+
+    // Test.
+    webSocketController.performGameAction(message("acting", actingUser.getId()));
+
+    // Verify.
+    verify(publisher).publishEvent(any(GameActionEvent.class));
+  }
+}
@@ -0,0 +1,162 @@
+package com.poker.poker.services.game;
+
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardSuit.Spades;
+import static com.poker.poker.models.enums.CardValue.Ace;
+import static com.poker.poker.models.enums.CardValue.King;
+import static com.poker.poker.models.enums.HandPhase.Flop;
+import static com.poker.poker.models.enums.HandPhase.PreFlop;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.poker.poker.config.AppConfig;
+import com.poker.poker.events.EquityCalculatedEvent;
+import com.poker.poker.events.HandPhaseTransitionEvent;
+import com.poker.poker.events.WaitForPlayerEvent;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.Equity;
+import com.poker.poker.models.game.Game;
+import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.game.TableState;
+import com.poker.poker.utilities.Chips;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+@SuppressWarnings("MagicNumber")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class GameServiceTests {
+
+  @Mock private AppConfig appConfig;
+
+  @Mock private GameDataService data;
+
+  @Mock private ApplicationEventPublisher publisher;
+
+  private EquityService equityService;
+
+  private GameService gameService;
+
+  @BeforeEach
+  public void setUp() {
+    when(appConfig.getEquityParallelism()).thenReturn(2);
+    when(appConfig.getEquityMaxSamples()).thenReturn(100_000L);
+    when(appConfig.getEquityDeadlineInMs()).thenReturn(5000);
+    when(appConfig.getEquityExactMaxPlayers()).thenReturn(3);
+    // Transitions are applied to the table of the game, like the data service does.
+    when(data.update(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final PokerTable table = data.getPokerTable(invocation.getArgument(0));
+              invocation.<Consumer<PokerTable>>getArgument(1).accept(table);
+              return TableState.of(table);
+            });
+    equityService = new EquityService(appConfig, publisher);
+    gameService = new GameService(appConfig, data, equityService, publisher);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    equityService.shutdown();
+  }
+
+  private static GamePlayer allInPlayer(final Card... cards) {
+    final GamePlayer player = new GamePlayer();
+    player.setId(UUID.randomUUID());
+    player.setCards(new ArrayList<>(Arrays.asList(cards)));
+    player.setChips(0);
+    player.setBet(Chips.of(100));
+    player.setAllIn(true);
+    return player;
+  }
+
+  /**
+   * Equities of an all-in before the flop are calculated and broadcast before the flop is dealt,
+   * without the transition waiting for them, and they are discarded once the flop has been dealt.
+   */
+  @Test
+  public void testTransitionToNextPhase_allInPreFlop() throws InterruptedException {
+    // Given.
+    final UUID id = UUID.randomUUID();
+    final Game game = new Game();
+    game.setId(id);
+    final GamePlayer aces = allInPlayer(card(Spades, Ace), card(Hearts, Ace));
+    final GamePlayer kings = allInPlayer(card(Spades, King), card(Hearts, King));
+    final PokerTable table = new PokerTable();
+    table.setPlayers(Arrays.asList(aces, kings));
+    table.setPhase(PreFlop);
+    final List<Card> remaining = new ArrayList<>(new Deck().getCards());
+    remaining.removeIf(c -> aces.getCards().contains(c) || kings.getCards().contains(c));
+    when(data.getGame(id)).thenReturn(game);
+    when(data.getPokerTable(id)).thenReturn(table);
+    when(data.getDeck(id)).thenReturn(new Deck(remaining));
+
+    // Test.
+    gameService.transitionToNextPhase(new HandPhaseTransitionEvent(this, id));
+
+    // Verify.
+    final ArgumentCaptor<EquityCalculatedEvent> calculated =
+        ArgumentCaptor.forClass(EquityCalculatedEvent.class);
+    verify(publisher, timeout(10_000)).publishEvent(calculated.capture());
+    assertTrue(calculated.getValue().isTransitionPending());
+    assertTrue(table.getEquities().isEmpty());
+    verify(data, never()).broadcastObfuscatedPokerTable(id);
+
+    // Test.
+    gameService.equityCalculated(calculated.getValue());
+
+    // Verify.
+    verify(publisher)
+        .publishEvent(
+            argThat(
+                e ->
+                    e instanceof HandPhaseTransitionEvent
+                        && ((HandPhaseTransitionEvent) e).isEquitiesCalculated()));
+    assertEquals(PreFlop, table.getPhase());
+    assertTrue(table.getSharedCards().isEmpty());
+    verify(data).broadcastObfuscatedPokerTable(id);
+    verify(publisher, never()).publishEvent(any(WaitForPlayerEvent.class));
+    final List<Equity> equities = table.getEquities();
+    assertEquals(2, equities.size());
+    assertEquals(aces.getId(), equities.get(0).getId());
+    assertEquals(0.82, equities.get(0).getEquity(), 0.01);
+    assertEquals(1, equities.get(0).getEquity() + equities.get(1).getEquity(), 1e-9);
+
+    // Test.
+    gameService.transitionToNextPhase(new HandPhaseTransitionEvent(this, id, true));
+
+    // Verify.
+    assertEquals(Flop, table.getPhase());
+    assertEquals(3, table.getSharedCards().size());
+    verify(publisher).publishEvent(any(WaitForPlayerEvent.class));
+
+    // Test.
+    gameService.equityCalculated(calculated.getValue());
+
+    // Verify. Equities of the previous street are discarded once the flop has been dealt.
+    verify(data, times(2)).broadcastObfuscatedPokerTable(id);
+  }
+}
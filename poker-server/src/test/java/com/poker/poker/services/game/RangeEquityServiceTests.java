@@ -0,0 +1,99 @@
+package com.poker.poker.services.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.poker.poker.config.AppConfig;
+import com.poker.poker.config.constants.GameConstants;
+import com.poker.poker.models.game.RangeEquityRequest;
+import com.poker.poker.models.game.RangeEquityResult;
+import com.poker.poker.validation.exceptions.BadRequestException;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@SuppressWarnings("MagicNumber")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class RangeEquityServiceTests {
+
+  @Mock private AppConfig appConfig;
+
+  private final GameConstants constants = new GameConstants();
+
+  private RangeEquityService rangeEquityService;
+
+  @BeforeEach
+  public void setUp() {
+    when(appConfig.getMaxNumberOfPlayers()).thenReturn(10);
+    when(appConfig.getRangeEquityParallelism()).thenReturn(2);
+    when(appConfig.getRangeEquityMaxSamples()).thenReturn(100_000L);
+    when(appConfig.getRangeEquityDeadlineInMs()).thenReturn(5000);
+    when(appConfig.getRangeEquityExactMaxRunouts()).thenReturn(2_000_000L);
+    when(appConfig.getRangeEquityCacheSize()).thenReturn(16);
+    rangeEquityService = new RangeEquityService(appConfig, constants);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    rangeEquityService.shutdown();
+  }
+
+  private static RangeEquityRequest request(final String... ranges) {
+    final RangeEquityRequest request = new RangeEquityRequest();
+    request.setId(UUID.randomUUID());
+    request.setRanges(Arrays.asList(ranges));
+    return request;
+  }
+
+  /** Ranges which block each other are rejected instead of returning no samples. */
+  @Test
+  public void testCalculate_blockedRanges() {
+    // Given.
+    final RangeEquityRequest request = request("AA", "AA", "AA");
+
+    // Test.
+    final BadRequestException e =
+        assertThrows(BadRequestException.class, () -> rangeEquityService.calculate(request, "s"));
+
+    // Verify.
+    assertSame(constants.getBlockedHandRangesException(), e);
+    assertEquals(0, rangeEquityService.getNumSessions());
+  }
+
+  /** Messages without a request are rejected, so the client is told why. */
+  @Test
+  public void testCalculate_noRequest() {
+    // Test.
+    final BadRequestException e =
+        assertThrows(BadRequestException.class, () -> rangeEquityService.calculate(null, "s"));
+
+    // Verify.
+    assertSame(constants.getMissingRangeEquityRequestException(), e);
+    assertEquals(0, rangeEquityService.getNumSessions());
+  }
+
+  /** Sessions are forgotten once their calculations complete. */
+  @Test
+  public void testCalculate_session() {
+    // Given.
+    final RangeEquityRequest request = request("QQ+", "AKs");
+
+    // Test.
+    final RangeEquityResult result = rangeEquityService.calculate(request, "s").join();
+
+    // Verify.
+    assertEquals(request.getId(), result.getId());
+    assertEquals(2, result.getEquities().size());
+    assertEquals(0, rangeEquityService.getNumSessions());
+  }
+}
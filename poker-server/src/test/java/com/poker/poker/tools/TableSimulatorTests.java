@@ -0,0 +1,75 @@
+package com.poker.poker.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.poker.poker.models.enums.GameVariant;
+import com.poker.poker.tools.TableSimulator.Report;
+import com.poker.poker.tools.TableSimulator.Violation;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class TableSimulatorTests {
+
+  @Test
+  public void testSimulate() {
+    for (final GameVariant variant : GameVariant.values()) {
+      // Test.
+      final Report report =
+          TableSimulator.simulate(8, 50, 6, variant, TableSimulator.RANDOM_BOT, 1);
+
+      // Verify.
+      assertEquals(400, report.getHands());
+      assertEquals(400, report.getHandLatency().getCount());
+      assertTrue(report.getActionLatency().getCount() >= 400);
+      assertEquals(
+          0,
+          report.getViolations(Violation.ChipsNotConserved),
+          () -> report.getExamples().toString());
+      assertEquals(
+          0,
+          report.getViolations(Violation.InvalidActingPlayer),
+          () -> report.getExamples().toString());
+      assertEquals(
+          0, report.getViolations(Violation.Stalled), () -> report.getExamples().toString());
+      assertEquals(0, report.getViolations(Violation.Error), () -> report.getExamples().toString());
+    }
+  }
+
+  /** Tables are entirely determined by their seed, so the same games are played every time. */
+  @Test
+  public void testSimulateTable_sameSeed() {
+    // Test.
+    final Report first =
+        TableSimulator.simulateTable(100, 4, GameVariant.Holdem, TableSimulator.RANDOM_BOT, 42);
+    final Report second =
+        TableSimulator.simulateTable(100, 4, GameVariant.Holdem, TableSimulator.RANDOM_BOT, 42);
+
+    // Verify.
+    assertEquals(first.getGames(), second.getGames());
+    assertEquals(first.getActionLatency().getCount(), second.getActionLatency().getCount());
+    assertEquals(first.getExamples(), second.getExamples());
+  }
+
+  @Test
+  public void testLatencyHistogram() {
+    // Given.
+    final LatencyHistogram histogram = new LatencyHistogram();
+    final LatencyHistogram other = new LatencyHistogram();
+
+    // Test.
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i);
+    }
+    other.record(1_000_000);
+    histogram.add(other);
+
+    // Verify.
+    assertEquals(1001, histogram.getCount());
+    assertEquals(1_000_000, histogram.getMax());
+    assertEquals(1_000_000, histogram.getPercentile(100));
+    assertEquals(1, histogram.getPercentile(0));
+    final long median = histogram.getPercentile(50);
+    assertTrue(median >= 501 && median <= 501 + 501 / 16, () -> "Median: " + median);
+  }
+}
@@ -0,0 +1,87 @@
+package com.poker.poker.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Deck;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class BatchEvaluatorTests {
+
+  private static final int NUM_HANDS = 50000;
+
+  private static final List<List<Card>> boards = new ArrayList<>(NUM_HANDS);
+  private static final List<List<Card>> holeCards = new ArrayList<>(NUM_HANDS);
+  private static final long[] boardMasks = new long[NUM_HANDS];
+  private static final long[] holeCardMasks = new long[NUM_HANDS];
+
+  private static ForkJoinPool pool;
+
+  @BeforeAll
+  public static void setUp() {
+    pool = new ForkJoinPool(2);
+    final Random random = new Random(42);
+    final List<Card> cards = new Deck().getCards();
+    for (int i = 0; i < NUM_HANDS; i++) {
+      Collections.shuffle(cards, random);
+      boards.add(new ArrayList<>(cards.subList(0, 5)));
+      holeCards.add(new ArrayList<>(cards.subList(5, 7)));
+      boardMasks[i] = HandEvaluator.mask(boards.get(i));
+      holeCardMasks[i] = HandEvaluator.mask(holeCards.get(i));
+    }
+  }
+
+  @AfterAll
+  public static void tearDown() {
+    pool.shutdownNow();
+    HandEvaluator.setRankTable(null);
+  }
+
+  /** Ranks must be identical to the ranks of hands that are ranked one at a time. */
+  private static void verifyRanks(final int[] ranks) {
+    for (int i = 0; i < NUM_HANDS; i++) {
+      final List<Card> cards = new ArrayList<>(boards.get(i));
+      cards.addAll(holeCards.get(i));
+      assertEquals(CardUtilities.rankHand(cards).getRank(), ranks[i], cards::toString);
+    }
+  }
+
+  @Test
+  public void testRank_withoutTable() {
+    // Given.
+    HandEvaluator.setRankTable(null);
+    final int[] ranks = new int[NUM_HANDS];
+
+    // Test.
+    BatchEvaluator.rank(boardMasks, holeCardMasks, ranks);
+
+    // Verify.
+    verifyRanks(ranks);
+  }
+
+  @Test
+  public void testRank_withTable() {
+    // Given.
+    HandEvaluator.setRankTable(HandRankTable.compute(HandEvaluator::rank));
+    final int[] ranks = new int[NUM_HANDS];
+    final int[] parallelRanks = new int[NUM_HANDS];
+
+    // Test.
+    BatchEvaluator.rank(boardMasks, holeCardMasks, ranks);
+    BatchEvaluator.rank(pool, boardMasks, holeCardMasks, parallelRanks);
+
+    // Verify.
+    HandEvaluator.setRankTable(null);
+    verifyRanks(ranks);
+    assertArrayEquals(ranks, parallelRanks);
+  }
+}
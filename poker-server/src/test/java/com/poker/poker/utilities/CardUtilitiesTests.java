@@ -29,7 +29,9 @@ import static com.poker.poker.utilities.CardUtilities.rankHand;
 import static com.poker.poker.utilities.CardUtilities.valueSorter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.poker.poker.models.enums.CardSuit;
 import com.poker.poker.models.enums.CardValue;
 import com.poker.poker.models.game.Card;
@@ -854,4 +856,50 @@ public class CardUtilitiesTests {
       assertEquals(rankings.get(i), rankedHands.get(i).getRank());
     }
   }
+
+  /** Every card has a unique code, and the static lookups agree with the card and its mask. */
+  @Test
+  public void testCardCodes() {
+    for (final CardSuit suit : CardSuit.values()) {
+      for (final CardValue value : CardValue.values()) {
+        if (suit == CardSuit.Back || value == CardValue.Back) {
+          continue;
+        }
+        // Given.
+        final Card card = Card.of(suit, value);
+        final int code = card.getCode();
+
+        // Verify.
+        assertSame(card, Card.of(code));
+        assertSame(card, Card.of(suit, value));
+        assertEquals(CardUtilities.cardValues.get(value).intValue(), Card.val(code));
+        assertEquals(CardUtilities.cardSuitValues.get(suit) - 1, Card.suitOrdinal(code));
+        assertEquals(
+            1L << (suit.ordinal() * HandEvaluator.SUIT_SHIFT + HandEvaluator.bit(value)),
+            HandEvaluator.mask(card));
+      }
+    }
+    assertSame(CardUtilities.FACE_DOWN_CARD, Card.of(Card.BACK));
+    assertEquals(1, Card.val(Card.BACK));
+  }
+
+  /** Cards keep the same JSON shape, and are deserialized to the canonical instances. */
+  @Test
+  public void testCardJson() throws Exception {
+    // Given.
+    final ObjectMapper mapper = new ObjectMapper();
+    final Card card = Card.of(Hearts, Queen);
+
+    // Test.
+    final String json = mapper.writeValueAsString(card);
+    final Card read = mapper.readValue(json, Card.class);
+
+    // Verify.
+    assertEquals(
+        mapper.readTree("{\"suit\":\"Hearts\",\"value\":\"Queen\"}"), mapper.readTree(json));
+    assertSame(card, read);
+    assertSame(
+        CardUtilities.FACE_DOWN_CARD,
+        mapper.readValue("{\"suit\":\"Back\",\"value\":\"Back\"}", Card.class));
+  }
 }
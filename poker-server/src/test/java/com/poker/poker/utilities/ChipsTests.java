@@ -0,0 +1,64 @@
+package com.poker.poker.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poker.poker.models.game.TableControls;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class ChipsTests {
+
+  @Test
+  public void testOf() {
+    assertEquals(1000, Chips.of(10));
+    assertEquals(1250, Chips.of(new BigDecimal("12.5")));
+    assertEquals(1250, Chips.of(new BigDecimal("12.509")));
+    assertEquals(new BigDecimal("12.50"), Chips.toBigDecimal(1250));
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("0", Chips.toString(0));
+    assertEquals("1000", Chips.toString(Chips.of(1000)));
+    assertEquals("12.5", Chips.toString(1250));
+    assertEquals("-0.05", Chips.toString(-5));
+  }
+
+  @Test
+  public void testOverflow() {
+    assertThrows(ArithmeticException.class, () -> Chips.add(Long.MAX_VALUE, 1));
+    assertThrows(ArithmeticException.class, () -> Chips.subtract(Long.MIN_VALUE, 1));
+    assertThrows(ArithmeticException.class, () -> Chips.of(Long.MAX_VALUE / 10));
+    assertThrows(ArithmeticException.class, () -> Chips.add(Long.MAX_VALUE, 1, -1));
+    assertThrows(
+        ArithmeticException.class,
+        () -> Chips.of(new BigDecimal(Long.MAX_VALUE).add(BigDecimal.ONE)));
+  }
+
+  /** Shares are rounded down to whole chips. */
+  @Test
+  public void testShare() {
+    assertEquals(Chips.of(3), Chips.share(Chips.of(10), 3));
+    assertEquals(Chips.of(5), Chips.share(Chips.of(10), 2));
+    assertEquals(0, Chips.share(Chips.of(1), 2));
+  }
+
+  /** Amounts are written to JSON as decimal numbers of chips, like they were as BigDecimals. */
+  @Test
+  public void testJson() throws Exception {
+    // Given.
+    final ObjectMapper mapper = new ObjectMapper();
+    final TableControls controls = new TableControls(Chips.of(1000), 1250, 0);
+
+    // Test.
+    final String json = mapper.writeValueAsString(controls);
+    final TableControls read = mapper.readValue(json, TableControls.class);
+
+    // Verify.
+    assertEquals("{\"bankRoll\":1000,\"currentBet\":12.5,\"toCall\":0}", json);
+    assertEquals(controls, read);
+  }
+}
@@ -0,0 +1,144 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.CardSuit.Clubs;
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardSuit.Spades;
+import static com.poker.poker.models.enums.CardValue.Ace;
+import static com.poker.poker.models.enums.CardValue.King;
+import static com.poker.poker.models.enums.CardValue.Two;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.poker.poker.models.enums.DeckRngType;
+import com.poker.poker.models.enums.GameVariant;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Deck;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class DeckTests {
+
+  /** Every card is drawn exactly once after the deck is shuffled. */
+  @Test
+  public void testDraw_shuffled() {
+    // Given.
+    final Deck deck = new Deck();
+    deck.restoreAndShuffle();
+
+    // Test.
+    final Set<Card> drawn = new HashSet<>();
+    for (int i = 0; i < 52; i++) {
+      drawn.add(deck.draw());
+    }
+
+    // Verify.
+    assertEquals(52, drawn.size());
+    assertEquals(0, deck.numCardsRemaining());
+    assertEquals(52, deck.numCardsUsed());
+  }
+
+  /** Cards that were peeked at are drawn in the same order, and restoring the deck is instant. */
+  @Test
+  public void testPeek() {
+    // Given.
+    final Deck deck = new Deck();
+    deck.restoreAndShuffle();
+    deck.burn();
+
+    // Test.
+    final List<Card> top = deck.peek(5);
+    final List<Card> drawn = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      drawn.add(deck.draw());
+    }
+
+    // Verify.
+    assertEquals(top, drawn);
+    assertEquals(drawn, deck.getUsedCards().subList(1, 6));
+    deck.restoreDeck();
+    assertEquals(52, deck.numCardsRemaining());
+    assertEquals(52, new HashSet<>(deck.getCards()).size());
+  }
+
+  /** Cards which were set are drawn from the end of the list, without being shuffled. */
+  @Test
+  public void testSetCards() {
+    // Given.
+    final List<Card> cards = Arrays.asList(card(Spades, Ace), card(Hearts, King), card(Clubs, Two));
+    final Deck deck = new Deck();
+
+    // Test.
+    deck.setCards(cards);
+
+    // Verify.
+    assertEquals(cards, deck.getCards());
+    assertEquals(card(Clubs, Two), deck.draw());
+    assertEquals(card(Hearts, King), deck.draw());
+    assertEquals(Arrays.asList(card(Clubs, Two), card(Hearts, King)), deck.getUsedCards());
+  }
+
+  /** Consecutive hands are dealt from differently shuffled decks. */
+  @Test
+  public void testDeal() {
+    // Given.
+    final Deck deck = new Deck();
+
+    // Test.
+    final List<List<Card>> first = deck.deal(10, 5);
+    final List<List<Card>> second = deck.deal(10, 5);
+
+    // Verify.
+    assertEquals(50, first.stream().flatMap(List::stream).distinct().count());
+    assertEquals(50, deck.numCardsUsed());
+    assertNotEquals(first, second);
+  }
+
+  /** The deal of a hand is regenerated from its seed, whatever the deck dealt before. */
+  @Test
+  public void testRestoreAndShuffle_seed() {
+    for (final DeckRngType type : DeckRngType.values()) {
+      // Given.
+      final Deck deck = new Deck(GameVariant.Holdem, new DeckSeeder(type, 2));
+      final List<List<Card>> hands = new ArrayList<>();
+      final List<Long> seeds = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        deck.restoreAndShuffle();
+        seeds.add(deck.getSeed());
+        hands.add(deck.peek(9));
+      }
+
+      // Test & Verify.
+      final Deck replay = new Deck();
+      for (int i = 4; i >= 0; i--) {
+        replay.restoreAndShuffle(DeckRng.create(type, seeds.get(i)), seeds.get(i));
+        assertEquals(hands.get(i), replay.peek(9), type::toString);
+      }
+      assertEquals(5, new HashSet<>(hands).size());
+    }
+  }
+
+  /** Every position is equally likely to get every card. */
+  @Test
+  public void testXoshiroRng() {
+    // Given.
+    final DeckRng rng = DeckRng.create(DeckRngType.Xoshiro, 42);
+    final int[] counts = new int[52];
+
+    // Test.
+    for (int i = 0; i < 520000; i++) {
+      counts[rng.nextInt(52)]++;
+    }
+
+    // Verify.
+    for (final int count : counts) {
+      assertTrue(count > 9500 && count < 10500, () -> Arrays.toString(counts));
+    }
+  }
+}
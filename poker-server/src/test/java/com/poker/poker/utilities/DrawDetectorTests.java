@@ -0,0 +1,140 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.CardSuit.Clubs;
+import static com.poker.poker.models.enums.CardSuit.Diamonds;
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardSuit.Spades;
+import static com.poker.poker.models.enums.CardValue.Ace;
+import static com.poker.poker.models.enums.CardValue.Eight;
+import static com.poker.poker.models.enums.CardValue.Five;
+import static com.poker.poker.models.enums.CardValue.Jack;
+import static com.poker.poker.models.enums.CardValue.King;
+import static com.poker.poker.models.enums.CardValue.Nine;
+import static com.poker.poker.models.enums.CardValue.Queen;
+import static com.poker.poker.models.enums.CardValue.Seven;
+import static com.poker.poker.models.enums.CardValue.Six;
+import static com.poker.poker.models.enums.CardValue.Ten;
+import static com.poker.poker.models.enums.CardValue.Two;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.poker.poker.models.enums.DrawType;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Draws;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class DrawDetectorTests {
+
+  private static Draws draws(final List<Card> holeCards, final Card... board) {
+    final Draws draws = DrawDetector.newDraws(HandEvaluator.mask(holeCards));
+    for (final Card card : board) {
+      DrawDetector.addSharedCard(draws, HandEvaluator.mask(card));
+    }
+    return draws;
+  }
+
+  @Test
+  public void testFlushDraw() {
+    // Test.
+    final Draws draws =
+        draws(
+            Arrays.asList(card(Hearts, Ace), card(Hearts, Two)),
+            card(Hearts, Nine),
+            card(Hearts, King),
+            card(Clubs, Seven));
+
+    // Verify.
+    assertEquals(Collections.singletonList(DrawType.FlushDraw), draws.getTypes());
+    assertEquals(9, draws.getOuts());
+  }
+
+  @Test
+  public void testOpenEndedStraightDraw() {
+    // Test.
+    final Draws draws =
+        draws(
+            Arrays.asList(card(Hearts, Eight), card(Spades, Nine)),
+            card(Diamonds, Ten),
+            card(Clubs, Jack),
+            card(Clubs, Two));
+
+    // Verify.
+    assertEquals(Collections.singletonList(DrawType.OpenEndedStraightDraw), draws.getTypes());
+    assertEquals(8, draws.getOuts());
+  }
+
+  /** Outs that complete both draws are only counted once. */
+  @Test
+  public void testFlushAndStraightDraw() {
+    // Test.
+    final Draws draws =
+        draws(
+            Arrays.asList(card(Hearts, Eight), card(Hearts, Nine)),
+            card(Hearts, Ten),
+            card(Hearts, Jack),
+            card(Clubs, Two));
+
+    // Verify.
+    assertEquals(
+        Arrays.asList(DrawType.FlushDraw, DrawType.OpenEndedStraightDraw), draws.getTypes());
+    assertEquals(15, draws.getOuts());
+  }
+
+  @Test
+  public void testGutshot_updatedOnTurn() {
+    // Given.
+    final Draws draws =
+        draws(
+            Arrays.asList(card(Hearts, Six), card(Spades, Seven)),
+            card(Diamonds, Nine),
+            card(Clubs, King),
+            card(Clubs, Two));
+    assertEquals(Collections.singletonList(DrawType.BackdoorStraightDraw), draws.getTypes());
+    assertEquals(0, draws.getOuts());
+
+    // Test.
+    DrawDetector.addSharedCard(draws, HandEvaluator.mask(card(Hearts, Ten)));
+
+    // Verify.
+    assertEquals(Collections.singletonList(DrawType.Gutshot), draws.getTypes());
+    assertEquals(4, draws.getOuts());
+  }
+
+  /** Four hearts on the board are not a draw for a player without a heart. */
+  @Test
+  public void testBoardDrawIgnored() {
+    // Test.
+    final Draws draws =
+        draws(
+            Arrays.asList(card(Spades, Ace), card(Clubs, Queen)),
+            card(Hearts, Two),
+            card(Hearts, Five),
+            card(Hearts, Nine),
+            card(Hearts, King));
+
+    // Verify.
+    assertEquals(Collections.emptyList(), draws.getTypes());
+    assertEquals(0, draws.getOuts());
+  }
+
+  @Test
+  public void testNoDrawsOnRiver() {
+    // Test.
+    final Draws draws =
+        draws(
+            Arrays.asList(card(Hearts, Ace), card(Hearts, Two)),
+            card(Hearts, Nine),
+            card(Hearts, King),
+            card(Clubs, Five),
+            card(Clubs, Six),
+            card(Spades, Seven));
+
+    // Verify.
+    assertEquals(Collections.emptyList(), draws.getTypes());
+    assertEquals(0, draws.getOuts());
+  }
+}
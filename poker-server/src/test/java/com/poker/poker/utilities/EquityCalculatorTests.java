@@ -0,0 +1,100 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.CardSuit.Clubs;
+import static com.poker.poker.models.enums.CardSuit.Diamonds;
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardSuit.Spades;
+import static com.poker.poker.models.enums.CardValue.Ace;
+import static com.poker.poker.models.enums.CardValue.Four;
+import static com.poker.poker.models.enums.CardValue.Jack;
+import static com.poker.poker.models.enums.CardValue.King;
+import static com.poker.poker.models.enums.CardValue.Nine;
+import static com.poker.poker.models.enums.CardValue.Seven;
+import static com.poker.poker.models.enums.CardValue.Two;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.poker.poker.utilities.EquityCalculator.Tally;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class EquityCalculatorTests {
+
+  private ForkJoinPool pool;
+
+  @BeforeEach
+  public void setUp() {
+    pool = new ForkJoinPool(2);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    pool.shutdownNow();
+  }
+
+  private static long deadline() {
+    return System.nanoTime() + 60_000_000_000L;
+  }
+
+  /** Pocket Aces are roughly an 82% favourite against pocket Kings before the flop. */
+  @Test
+  public void testSimulate_preFlop() {
+    // Given.
+    final long[] holeCards = {
+      HandEvaluator.mask(Arrays.asList(card(Spades, Ace), card(Hearts, Ace))),
+      HandEvaluator.mask(Arrays.asList(card(Clubs, King), card(Diamonds, King)))
+    };
+
+    // Test.
+    final Tally tally = EquityCalculator.simulate(pool, holeCards, 0, 200000, deadline(), 42);
+
+    // Verify.
+    assertEquals(200000, tally.getSamples());
+    assertEquals(0.82, tally.getEquity(0), 0.01);
+    assertEquals(1.0, tally.getEquity(0) + tally.getEquity(1), 1e-9);
+    assertEquals(tally.getTie(0), tally.getTie(1), 1e-9);
+  }
+
+  /** On the turn, a player drawing to a flush wins with exactly 9 of the 44 remaining cards. */
+  @Test
+  public void testSimulate_turn() {
+    // Given.
+    final long[] holeCards = {
+      HandEvaluator.mask(Arrays.asList(card(Spades, Ace), card(Clubs, Ace))),
+      HandEvaluator.mask(Arrays.asList(card(Hearts, King), card(Hearts, Nine)))
+    };
+    final long board =
+        HandEvaluator.mask(
+            Arrays.asList(
+                card(Hearts, Two), card(Hearts, Seven), card(Diamonds, Jack), card(Clubs, Four)));
+
+    // Test.
+    final Tally tally = EquityCalculator.simulate(pool, holeCards, board, 400000, deadline(), 7);
+
+    // Verify.
+    assertEquals(9.0 / 44, tally.getWin(1), 0.005);
+    assertEquals(0, tally.getTie(1), 1e-9);
+  }
+
+  /** No samples are dealt once the deadline has passed. */
+  @Test
+  public void testSimulate_deadline() {
+    // Given.
+    final long[] holeCards = {
+      HandEvaluator.mask(Arrays.asList(card(Spades, Ace), card(Hearts, Ace))),
+      HandEvaluator.mask(Arrays.asList(card(Clubs, King), card(Diamonds, King)))
+    };
+
+    // Test.
+    final Tally tally =
+        EquityCalculator.simulate(pool, holeCards, 0, 1000000, System.nanoTime() - 1, 42);
+
+    // Verify.
+    assertEquals(0, tally.getSamples());
+    assertEquals(0, tally.getEquity(0), 1e-9);
+  }
+}
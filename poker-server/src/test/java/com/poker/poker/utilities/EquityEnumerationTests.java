@@ -0,0 +1,96 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.CardSuit.Clubs;
+import static com.poker.poker.models.enums.CardSuit.Diamonds;
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardSuit.Spades;
+import static com.poker.poker.models.enums.CardValue.Ace;
+import static com.poker.poker.models.enums.CardValue.Four;
+import static com.poker.poker.models.enums.CardValue.Jack;
+import static com.poker.poker.models.enums.CardValue.King;
+import static com.poker.poker.models.enums.CardValue.Nine;
+import static com.poker.poker.models.enums.CardValue.Queen;
+import static com.poker.poker.models.enums.CardValue.Seven;
+import static com.poker.poker.models.enums.CardValue.Ten;
+import static com.poker.poker.models.enums.CardValue.Two;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.poker.poker.utilities.EquityCalculator.Tally;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class EquityEnumerationTests {
+
+  private static final long[] HOLE_CARDS = {
+    HandEvaluator.mask(Arrays.asList(card(Spades, Ace), card(Clubs, Ace))),
+    HandEvaluator.mask(Arrays.asList(card(Hearts, King), card(Hearts, Nine))),
+    HandEvaluator.mask(Arrays.asList(card(Diamonds, Queen), card(Spades, Ten)))
+  };
+
+  private static final long FLOP =
+      HandEvaluator.mask(
+          Arrays.asList(card(Hearts, Two), card(Hearts, Seven), card(Diamonds, Jack)));
+
+  private static final long TURN = FLOP | HandEvaluator.mask(card(Clubs, Four));
+
+  private static final long RIVER = TURN | HandEvaluator.mask(card(Diamonds, Ace));
+
+  public static void assertTallyEquals(final Tally expected, final Tally actual) {
+    assertEquals(expected.getSamples(), actual.getSamples());
+    for (int p = 0; p < HOLE_CARDS.length; p++) {
+      assertEquals(expected.getWin(p), actual.getWin(p), 1e-12);
+      assertEquals(expected.getTie(p), actual.getTie(p), 1e-12);
+      assertEquals(expected.getEquity(p), actual.getEquity(p), 1e-12);
+    }
+  }
+
+  @Test
+  public void testEnumerate_flop() {
+    // Test.
+    final Tally tally = EquityEnumeration.enumerate(HOLE_CARDS, FLOP).getTally();
+
+    // Verify.
+    assertEquals(43 * 42 / 2, tally.getSamples());
+    assertEquals(1.0, tally.getEquity(0) + tally.getEquity(1) + tally.getEquity(2), 1e-9);
+  }
+
+  /** The turn and river derived from the flop enumeration are the same as enumerating them. */
+  @Test
+  public void testAdvance() {
+    // Given.
+    final EquityEnumeration flop = EquityEnumeration.enumerate(HOLE_CARDS, FLOP);
+
+    // Test.
+    final EquityEnumeration turn = flop.advance(TURN);
+    final EquityEnumeration river = turn.advance(RIVER);
+
+    // Verify.
+    assertEquals(TURN, turn.getBoard());
+    assertEquals(42, turn.getTally().getSamples());
+    assertTallyEquals(EquityEnumeration.enumerate(HOLE_CARDS, TURN).getTally(), turn.getTally());
+    assertTallyEquals(EquityEnumeration.enumerate(HOLE_CARDS, RIVER).getTally(), river.getTally());
+    assertEquals(1, river.getTally().getWin(0), 1e-12);
+    assertTrue(flop.isFor(HOLE_CARDS.clone()));
+  }
+
+  /** Heads-up before the flop, every one of the 1,712,304 boards is ranked. */
+  @Test
+  public void testEnumerate_preFlop() {
+    // Given.
+    final long[] holeCards = {
+      HandEvaluator.mask(Arrays.asList(card(Spades, Ace), card(Hearts, Ace))),
+      HandEvaluator.mask(Arrays.asList(card(Clubs, King), card(Diamonds, King)))
+    };
+
+    // Test.
+    final Tally tally = EquityEnumeration.enumerate(holeCards, 0).getTally();
+
+    // Verify.
+    assertEquals(1712304, tally.getSamples());
+    assertEquals(0.82, tally.getEquity(0), 0.01);
+    assertEquals(1.0, tally.getEquity(0) + tally.getEquity(1), 1e-9);
+  }
+}
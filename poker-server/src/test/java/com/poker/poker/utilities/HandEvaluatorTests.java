@@ -0,0 +1,177 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.CardSuit.Clubs;
+import static com.poker.poker.models.enums.CardSuit.Diamonds;
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardSuit.Spades;
+import static com.poker.poker.models.enums.CardValue.Ace;
+import static com.poker.poker.models.enums.CardValue.Five;
+import static com.poker.poker.models.enums.CardValue.Four;
+import static com.poker.poker.models.enums.CardValue.King;
+import static com.poker.poker.models.enums.CardValue.Nine;
+import static com.poker.poker.models.enums.CardValue.Queen;
+import static com.poker.poker.models.enums.CardValue.Six;
+import static com.poker.poker.models.enums.CardValue.Three;
+import static com.poker.poker.models.enums.CardValue.Two;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static com.poker.poker.utilities.CardUtilities.rankHandReference;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.poker.poker.models.enums.HandType;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.HandRank;
+import com.poker.poker.models.game.Showdown;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class HandEvaluatorTests {
+
+  /**
+   * Ranks a hand with both the bitmask evaluator and the reference evaluator and verifies that the
+   * results are the same. The reference returns 6 cards when there are two sets, so only the first
+   * 5 cards are compared.
+   *
+   * @param cards Cards.
+   */
+  public static void verifyAgainstReference(final List<Card> cards) {
+    final HandRank expected = rankHandReference(new ArrayList<>(cards));
+    final HandRank actual = CardUtilities.rankHand(new ArrayList<>(cards));
+    assertEquals(expected.getRank(), actual.getRank(), cards::toString);
+    assertEquals(expected.getType(), actual.getType(), cards::toString);
+    assertEquals(expected.getHand().subList(0, 5), actual.getHand(), cards::toString);
+    assertEquals(expected.getRank(), HandEvaluator.rank(HandEvaluator.mask(cards)));
+  }
+
+  /** Compares the bitmask evaluator against the reference evaluator on random 7 card hands. */
+  @Test
+  public void testRankMatchesReference_randomHands() {
+    // Given.
+    final Random random = new Random(42);
+    final List<Card> cards = new Deck().getCards();
+
+    // Test & Verify.
+    for (int i = 0; i < 20000; i++) {
+      Collections.shuffle(cards, random);
+      verifyAgainstReference(cards.subList(0, 7));
+    }
+  }
+
+  /** Hands where more than one hand type is present, or where the reference has edge cases. */
+  @Test
+  public void testRankMatchesReference_edgeCases() {
+    final List<List<Card>> hands =
+        Arrays.asList(
+            // Wheel straight flush with a sixth card of the same suit.
+            Arrays.asList(
+                card(Spades, Ace),
+                card(Spades, Two),
+                card(Spades, Three),
+                card(Spades, Four),
+                card(Spades, Five),
+                card(Spades, King),
+                card(Hearts, Ace)),
+            // Flush and straight (6 high) that includes the wheel.
+            Arrays.asList(
+                card(Hearts, Ace),
+                card(Spades, Two),
+                card(Hearts, Three),
+                card(Hearts, Four),
+                card(Clubs, Five),
+                card(Diamonds, Six),
+                card(Hearts, Nine)),
+            // Two sets.
+            Arrays.asList(
+                card(Hearts, Queen),
+                card(Spades, Queen),
+                card(Diamonds, Queen),
+                card(Hearts, Four),
+                card(Clubs, Four),
+                card(Diamonds, Four),
+                card(Hearts, Nine)),
+            // Three pairs.
+            Arrays.asList(
+                card(Hearts, Queen),
+                card(Spades, Queen),
+                card(Diamonds, Two),
+                card(Hearts, Four),
+                card(Clubs, Four),
+                card(Spades, Two),
+                card(Clubs, Nine)),
+            // Four of a kind with a pair.
+            Arrays.asList(
+                card(Hearts, Three),
+                card(Spades, Three),
+                card(Diamonds, Three),
+                card(Clubs, Three),
+                card(Clubs, King),
+                card(Diamonds, King),
+                card(Clubs, Nine)));
+
+    hands.forEach(HandEvaluatorTests::verifyAgainstReference);
+  }
+
+  /** Ranking hands in a batch produces the same ranks as ranking them one at a time. */
+  @Test
+  public void testRankHands() {
+    // Given.
+    final Random random = new Random(7);
+    final List<Card> cards = new Deck().getCards();
+
+    for (int i = 0; i < 2000; i++) {
+      Collections.shuffle(cards, random);
+      final List<Card> board = cards.subList(0, 5);
+      final List<List<Card>> holeCards = new ArrayList<>();
+      for (int p = 0; p < 2 + i % 9; p++) {
+        holeCards.add(cards.subList(5 + 2 * p, 7 + 2 * p));
+      }
+
+      // Test.
+      final Showdown showdown = CardUtilities.rankHands(board, holeCards);
+
+      // Verify.
+      int previous = Integer.MAX_VALUE;
+      for (final List<Integer> group : showdown.getTieGroups()) {
+        final int rank = showdown.getRanks().get(group.get(0)).getRank();
+        assertTrue(rank < previous);
+        previous = rank;
+        for (final int p : group) {
+          final List<Card> hand = new ArrayList<>(board);
+          hand.addAll(holeCards.get(p));
+          final HandRank expected = CardUtilities.rankHand(hand);
+          assertEquals(expected.getRank(), showdown.getRanks().get(p).getRank());
+          assertEquals(expected.getHand(), showdown.getRanks().get(p).getHand());
+          assertEquals(rank, expected.getRank());
+        }
+      }
+      assertEquals(holeCards.size(), showdown.getTieGroups().stream().mapToInt(List::size).sum());
+    }
+  }
+
+  /** Sanity check of the hand type decoding. */
+  @Test
+  public void testType() {
+    // Given.
+    final List<Card> cards =
+        Arrays.asList(
+            card(Spades, Ace),
+            card(Spades, Two),
+            card(Spades, Three),
+            card(Spades, Four),
+            card(Spades, Five),
+            card(Hearts, Nine),
+            card(Hearts, Ace));
+
+    // Test.
+    final int rank = HandEvaluator.rank(HandEvaluator.mask(cards));
+
+    // Verify.
+    assertEquals(HandType.StraightFlush, HandEvaluator.type(rank));
+  }
+}
@@ -0,0 +1,53 @@
+package com.poker.poker.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class HandRangeTests {
+
+  @Test
+  public void testParse() {
+    assertEquals(6, HandRange.parse("QQ").size());
+    assertEquals(4, HandRange.parse("AKs").size());
+    assertEquals(12, HandRange.parse("AKo").size());
+    assertEquals(16, HandRange.parse("AK").size());
+    assertEquals(18, HandRange.parse("QQ+").size());
+    assertEquals(16, HandRange.parse("ATs+").size());
+    assertEquals(24, HandRange.parse("22-55").size());
+    assertEquals(24, HandRange.parse("55-22").size());
+    assertEquals(16, HandRange.parse("A5s-A2s").size());
+    assertEquals(1, HandRange.parse("JhTh").size());
+    assertEquals(6 + 4 + 1, HandRange.parse("QQ, AKs, JhTh").size());
+  }
+
+  @Test
+  public void testParse_invalid() {
+    assertNull(HandRange.parse(null));
+    assertNull(HandRange.parse(""));
+    assertNull(HandRange.parse("QQ,"));
+    assertNull(HandRange.parse("KAs"));
+    assertNull(HandRange.parse("QQs"));
+    assertNull(HandRange.parse("AKx"));
+    assertNull(HandRange.parse("AhAh"));
+    assertNull(HandRange.parse("A5s-K2s"));
+    assertNull(HandRange.parse("A5s-A2o"));
+    assertNull(HandRange.parse("22-A5s"));
+  }
+
+  /** Ranges with the same hands are equal and have the same canonical form. */
+  @Test
+  public void testCanonicalForm() {
+    // Given.
+    final HandRange range = HandRange.parse("AA,KK,QQ,AKs,AsKd,AhKc");
+    final HandRange equivalent = HandRange.parse("AhKc, AsKd, AKs, QQ+");
+
+    // Verify.
+    assertEquals(range, equivalent);
+    assertEquals(range.hashCode(), equivalent.hashCode());
+    assertEquals("AA,AKs,AhKc,AsKd,KK,QQ", range.toString());
+    assertEquals(range, HandRange.parse(range.toString()));
+  }
+}
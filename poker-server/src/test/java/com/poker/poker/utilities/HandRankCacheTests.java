@@ -0,0 +1,117 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.CardSuit.Clubs;
+import static com.poker.poker.models.enums.CardSuit.Diamonds;
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardSuit.Spades;
+import static com.poker.poker.models.enums.CardValue.Ace;
+import static com.poker.poker.models.enums.CardValue.Eight;
+import static com.poker.poker.models.enums.CardValue.Four;
+import static com.poker.poker.models.enums.CardValue.Jack;
+import static com.poker.poker.models.enums.CardValue.King;
+import static com.poker.poker.models.enums.CardValue.Seven;
+import static com.poker.poker.models.enums.CardValue.Two;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.HandRank;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class HandRankCacheTests {
+
+  private static final List<Card> HAND =
+      Arrays.asList(
+          card(Spades, Ace),
+          card(Hearts, Ace),
+          card(Clubs, King),
+          card(Diamonds, Jack),
+          card(Spades, Eight),
+          card(Hearts, Seven),
+          card(Clubs, Two));
+
+  @AfterEach
+  public void tearDown() {
+    HandEvaluator.setRankCache(null);
+  }
+
+  @Test
+  public void testCapacityFor() {
+    // Verify.
+    assertEquals(2, HandRankCache.capacityFor(1));
+    assertEquals(2, HandRankCache.capacityFor(2));
+    assertEquals(4, HandRankCache.capacityFor(3));
+    assertEquals(65536, HandRankCache.capacityFor(65536));
+    assertEquals(131072, HandRankCache.capacityFor(65537));
+    assertEquals(HandRankCache.MAX_CAPACITY, HandRankCache.capacityFor((1 << 30) + 1));
+    assertEquals(HandRankCache.MAX_CAPACITY, HandRankCache.capacityFor(Integer.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> HandRankCache.capacityFor(0));
+    assertThrows(IllegalArgumentException.class, () -> HandRankCache.capacityFor(-1));
+  }
+
+  @Test
+  public void testGetAndPut() {
+    // Given.
+    final HandRankCache cache = new HandRankCache(16);
+    final long mask = HandEvaluator.mask(HAND);
+    final HandRank rank = HandEvaluator.rankHand(HAND);
+
+    // Test & Verify.
+    assertNull(cache.get(mask));
+    cache.put(mask, rank);
+    assertSame(rank, cache.get(mask));
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    assertEquals(0, cache.getEvictions());
+  }
+
+  /** With only 2 slots, storing 3 different card masks must evict at least one of them. */
+  @Test
+  public void testEviction() {
+    // Given.
+    final HandRankCache cache = new HandRankCache(2);
+    final HandRank rank = HandEvaluator.rankHand(HAND);
+
+    // Test.
+    for (long mask = 1; mask <= 3; mask++) {
+      cache.put(mask, rank);
+    }
+
+    // Verify.
+    assertEquals(1, cache.getEvictions());
+  }
+
+  /** Ranking the same cards twice returns the shared, immutable instance from the cache. */
+  @Test
+  public void testRankHandUsesCache() {
+    // Given.
+    HandEvaluator.setRankCache(new HandRankCache(1024));
+
+    // Test.
+    final HandRank first = CardUtilities.rankHand(HAND);
+    final HandRank second =
+        CardUtilities.rankHand(
+            Arrays.asList(
+                HAND.get(6),
+                HAND.get(0),
+                HAND.get(1),
+                HAND.get(2),
+                HAND.get(3),
+                HAND.get(4),
+                HAND.get(5)));
+
+    // Verify.
+    assertSame(first, second);
+    assertNull(first.getId());
+    assertEquals(1, HandEvaluator.getRankCache().getHits());
+    assertThrows(
+        UnsupportedOperationException.class, () -> first.getHand().add(card(Spades, Four)));
+  }
+}
@@ -0,0 +1,55 @@
+package com.poker.poker.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Deck;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@SuppressWarnings("MagicNumber")
+public class HandRankTableTests {
+
+  @TempDir public Path tempDir;
+
+  /** Compares table lookups against the bitmask evaluator on random 5, 6 and 7 card hands. */
+  @Test
+  public void testRankMatchesBitmaskEvaluator() throws IOException {
+    // Given.
+    final Path path = tempDir.resolve("hand-ranks.bin");
+    HandRankTable.generate(path);
+    final HandRankTable table = HandRankTable.load(path);
+    final Random random = new Random(42);
+    final List<Card> cards = new Deck().getCards();
+
+    // Test & Verify.
+    for (int i = 0; i < 30000; i++) {
+      Collections.shuffle(cards, random);
+      final long mask = HandEvaluator.mask(cards.subList(0, 5 + i % 3));
+      assertEquals(HandEvaluator.rank(mask), table.rank(mask));
+    }
+  }
+
+  /** Table files with the wrong header are rejected. */
+  @Test
+  public void testLoad_invalidHeader() throws IOException {
+    // Given.
+    final Path path = tempDir.resolve("hand-ranks.bin");
+    HandRankTable.generate(path);
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, HandRankTable.VERSION + 1), 4);
+    }
+
+    // Test & Verify.
+    assertThrows(IOException.class, () -> HandRankTable.load(path));
+  }
+}
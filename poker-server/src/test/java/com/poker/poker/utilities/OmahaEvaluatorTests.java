@@ -0,0 +1,155 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.CardSuit.Clubs;
+import static com.poker.poker.models.enums.CardSuit.Diamonds;
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardSuit.Spades;
+import static com.poker.poker.models.enums.CardValue.Ace;
+import static com.poker.poker.models.enums.CardValue.Eight;
+import static com.poker.poker.models.enums.CardValue.Five;
+import static com.poker.poker.models.enums.CardValue.Four;
+import static com.poker.poker.models.enums.CardValue.King;
+import static com.poker.poker.models.enums.CardValue.Nine;
+import static com.poker.poker.models.enums.CardValue.Queen;
+import static com.poker.poker.models.enums.CardValue.Seven;
+import static com.poker.poker.models.enums.CardValue.Six;
+import static com.poker.poker.models.enums.CardValue.Three;
+import static com.poker.poker.models.enums.CardValue.Two;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.poker.poker.models.enums.HandType;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.HandRank;
+import com.poker.poker.models.game.Showdown;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class OmahaEvaluatorTests {
+
+  /** Ranks every combination of 2 hole cards and 3 board cards, without any pruning. */
+  private static int rankAllCombinations(final List<Card> board, final List<Card> holeCards) {
+    int best = -1;
+    for (int h1 = 0; h1 < holeCards.size(); h1++) {
+      for (int h2 = h1 + 1; h2 < holeCards.size(); h2++) {
+        for (int b1 = 0; b1 < board.size(); b1++) {
+          for (int b2 = b1 + 1; b2 < board.size(); b2++) {
+            for (int b3 = b2 + 1; b3 < board.size(); b3++) {
+              final List<Card> hand =
+                  Arrays.asList(
+                      holeCards.get(h1),
+                      holeCards.get(h2),
+                      board.get(b1),
+                      board.get(b2),
+                      board.get(b3));
+              best = Math.max(best, HandEvaluator.rank(HandEvaluator.mask(hand)));
+            }
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  @Test
+  public void testRank_randomHands() {
+    // Given.
+    final Random random = new Random(42);
+    final List<Card> cards = new Deck().getCards();
+
+    // Test & Verify.
+    for (int i = 0; i < 5000; i++) {
+      Collections.shuffle(cards, random);
+      final List<Card> board = cards.subList(0, 3 + i % 3);
+      final List<Card> holeCards = cards.subList(5, 9);
+      final int expected = rankAllCombinations(board, holeCards);
+      final HandRank handRank = OmahaEvaluator.rankHand(board, holeCards);
+      assertEquals(expected, handRank.getRank(), () -> board + " " + holeCards);
+      assertEquals(
+          expected,
+          OmahaEvaluator.rank(HandEvaluator.mask(board), HandEvaluator.mask(holeCards)),
+          () -> board + " " + holeCards);
+      assertEquals(expected, HandEvaluator.rank(HandEvaluator.mask(handRank.getHand())));
+    }
+  }
+
+  /** Only one heart in the hand, so the four hearts on the board don't make a flush. */
+  @Test
+  public void testRank_oneSuitedHoleCard() {
+    // Given.
+    final List<Card> board =
+        Arrays.asList(
+            card(Hearts, Two),
+            card(Hearts, Five),
+            card(Hearts, Nine),
+            card(Hearts, King),
+            card(Clubs, Three));
+    final List<Card> holeCards =
+        Arrays.asList(
+            card(Hearts, Ace), card(Spades, Ace), card(Diamonds, Seven), card(Clubs, Eight));
+
+    // Test.
+    final HandRank handRank = OmahaEvaluator.rankHand(board, holeCards);
+
+    // Verify.
+    assertEquals(HandType.Pair, handRank.getType());
+  }
+
+  /** Four aces only make a full house with three kings on the board. */
+  @Test
+  public void testRank_fourOfAKindInHand() {
+    // Given.
+    final List<Card> board =
+        Arrays.asList(
+            card(Spades, King),
+            card(Hearts, King),
+            card(Clubs, King),
+            card(Diamonds, Two),
+            card(Clubs, Three));
+    final List<Card> holeCards =
+        Arrays.asList(card(Hearts, Ace), card(Spades, Ace), card(Diamonds, Ace), card(Clubs, Ace));
+
+    // Test.
+    final HandRank handRank = OmahaEvaluator.rankHand(board, holeCards);
+
+    // Verify.
+    assertEquals(HandType.FullHouse, handRank.getType());
+  }
+
+  @Test
+  public void testRankOmahaHands() {
+    // Given.
+    final List<Card> board =
+        Arrays.asList(
+            card(Spades, Six),
+            card(Spades, Seven),
+            card(Hearts, Queen),
+            card(Diamonds, Two),
+            card(Spades, Three));
+    final List<List<Card>> holeCards =
+        Arrays.asList(
+            // Straight, 3-4-5-6-7.
+            Arrays.asList(
+                card(Hearts, Four), card(Clubs, Five), card(Clubs, King), card(Diamonds, King)),
+            // Flush.
+            Arrays.asList(
+                card(Spades, Ace), card(Spades, Two), card(Hearts, Nine), card(Clubs, Nine)),
+            // Same straight as the first player.
+            Arrays.asList(
+                card(Diamonds, Four), card(Diamonds, Five), card(Clubs, Two), card(Clubs, Queen)));
+
+    // Test.
+    final Showdown showdown = CardUtilities.rankOmahaHands(board, holeCards);
+
+    // Verify.
+    assertEquals(HandType.Straight, showdown.getRanks().get(0).getType());
+    assertEquals(HandType.Flush, showdown.getRanks().get(1).getType());
+    assertEquals(
+        Arrays.asList(Collections.singletonList(1), Arrays.asList(0, 2)), showdown.getTieGroups());
+  }
+}
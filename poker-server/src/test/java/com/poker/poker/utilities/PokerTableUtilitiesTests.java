@@ -19,36 +19,43 @@ import static com.poker.poker.models.enums.CardValue.Three;
 import static com.poker.poker.models.enums.CardValue.Two;
 import static com.poker.poker.models.enums.GameAction.AllInCheck;
 import static com.poker.poker.models.enums.GameAction.Call;
+import static com.poker.poker.models.enums.GameAction.Check;
 import static com.poker.poker.models.enums.GameAction.Fold;
 import static com.poker.poker.models.enums.GameAction.Raise;
-import static com.poker.poker.utilities.BigDecimalUtilities.sum;
 import static com.poker.poker.utilities.CardUtilities.FACE_DOWN_CARD;
 import static com.poker.poker.utilities.CardUtilities.card;
 import static com.poker.poker.utilities.PokerTableUtilities.dealCards;
 import static com.poker.poker.utilities.PokerTableUtilities.determineWinners;
 import static com.poker.poker.utilities.PokerTableUtilities.generateSidePots;
+import static com.poker.poker.utilities.PokerTableUtilities.getLegalActions;
 import static com.poker.poker.utilities.PokerTableUtilities.getPotTotal;
 import static com.poker.poker.utilities.PokerTableUtilities.handlePlayerAction;
+import static com.poker.poker.utilities.PokerTableUtilities.hideCards;
 import static com.poker.poker.utilities.PokerTableUtilities.performBlindBets;
 import static com.poker.poker.utilities.PokerTableUtilities.setupNewHand;
-import static java.math.BigDecimal.ZERO;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.poker.poker.models.enums.CardSuit;
 import com.poker.poker.models.enums.CardValue;
+import com.poker.poker.models.enums.GameAction;
 import com.poker.poker.models.game.Card;
 import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.GameActionData;
 import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.LegalActions;
 import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.game.Pot;
 import com.poker.poker.models.game.TableControls;
 import com.poker.poker.models.game.Winner;
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -66,7 +73,7 @@ public class PokerTableUtilitiesTests {
 
   public static final int SAMPLE_MIN_BANKROLL = 1000;
   public static final int SAMPLE_MAX_BANKROLL = 2000;
-  public static final BigDecimal SAMPLE_BLIND = new BigDecimal(10);
+  public static final long SAMPLE_BLIND = Chips.of(10);
 
   /**
    * Simulates a hand by setting up a table, then performing a sequence of actions. TODO: Document
@@ -89,9 +96,9 @@ public class PokerTableUtilitiesTests {
     final GamePlayer p9 = players.get(9);
     table.setRound(3);
     table.setDealer(8);
-    final List<BigDecimal> chips =
+    final List<Long> chips =
         Stream.of(1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 400, 400)
-            .map(BigDecimal::new)
+            .map(Chips::of)
             .collect(toList());
     for (int i = 0; i < players.size(); i++) {
       players.get(i).setChips(chips.get(i));
@@ -114,7 +121,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 3 calls.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Call, p3.getId(), null);
+    handlePlayerAction(table, Call, p3.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -122,7 +129,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 4 folds.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Fold, p4.getId(), null);
+    handlePlayerAction(table, Fold, p4.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -130,7 +137,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 5 calls.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Call, p5.getId(), null);
+    handlePlayerAction(table, Call, p5.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -154,7 +161,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 8 calls and goes all-in.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Call, p8.getId(), null);
+    handlePlayerAction(table, Call, p8.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -162,7 +169,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 9 calls and goes all-in.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Call, p9.getId(), null);
+    handlePlayerAction(table, Call, p9.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -170,7 +177,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 0 calls 400.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Call, p0.getId(), null);
+    handlePlayerAction(table, Call, p0.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -178,7 +185,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 1 folds.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Fold, p1.getId(), null);
+    handlePlayerAction(table, Fold, p1.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -186,7 +193,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 2 folds.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Fold, p2.getId(), null);
+    handlePlayerAction(table, Fold, p2.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -194,7 +201,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 3 calls 400.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Call, p3.getId(), null);
+    handlePlayerAction(table, Call, p3.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -205,7 +212,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 5 calls 400.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Call, p5.getId(), null);
+    handlePlayerAction(table, Call, p5.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -221,7 +228,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 7 folds.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Fold, p7.getId(), null);
+    handlePlayerAction(table, Fold, p7.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -229,7 +236,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 8 performs an AllInCheck.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, AllInCheck, p8.getId(), null);
+    handlePlayerAction(table, AllInCheck, p8.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -237,7 +244,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 9 performs an AllInCheck.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, AllInCheck, p9.getId(), null);
+    handlePlayerAction(table, AllInCheck, p9.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -245,7 +252,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 0 folds.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Fold, p0.getId(), null);
+    handlePlayerAction(table, Fold, p0.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -259,7 +266,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 3 calls 1000.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Call, p3.getId(), null);
+    handlePlayerAction(table, Call, p3.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -270,7 +277,7 @@ public class PokerTableUtilitiesTests {
 
     // Player 5 calls 1000.
     actingPlayers.add(table.getActingPlayer());
-    handlePlayerAction(table, Call, p5.getId(), null);
+    handlePlayerAction(table, Call, p5.getId(), 0);
     playersThatActed.add(table.getPlayerThatActed());
 
     // Verify post-conditions.
@@ -303,15 +310,15 @@ public class PokerTableUtilitiesTests {
     assertEquals(bd(expectedBet), player.getBet());
     assertEquals(bd(expectedMinRaise), table.getMinRaise());
     assertEquals(bd(expectedToCall), nextPlayer.getToCall());
-    assertEquals(bd(expectedPotTotal), getPotTotal(table.getPots()));
+    assertEquals(bd(expectedPotTotal), table.getPot());
     assertEquals(expectedAllinStatus, player.isAllIn());
     assertEquals(expectedFoldedStatus, player.isFolded());
     assertEquals(expectedLastToAct, table.getLastToAct());
     assertEquals(expectedActingPlayer, table.getActingPlayer());
   }
 
-  public static BigDecimal bd(final int val) {
-    return new BigDecimal(val);
+  public static long bd(final int val) {
+    return Chips.of(val);
   }
 
   public PokerTable getSamplePokerTable(final int numPlayers) {
@@ -330,7 +337,7 @@ public class PokerTableUtilitiesTests {
     player.setLastName(RandomStringUtils.randomAlphabetic(10));
     final TableControls controls = new TableControls();
     final int bankRollRange = bankRollMax - bankRollMin + 1;
-    controls.setBankRoll(new BigDecimal(Math.round(Math.random() * bankRollRange + bankRollMin)));
+    controls.setBankRoll(Chips.of(Math.round(Math.random() * bankRollRange + bankRollMin)));
     player.setControls(controls);
     return player;
   }
@@ -349,10 +356,10 @@ public class PokerTableUtilitiesTests {
    */
   public void createFakeBets1(final PokerTable table) {
     final List<GamePlayer> players = table.getPlayers();
-    players.get(0).getControls().setCurrentBet(new BigDecimal(10));
-    players.get(1).getControls().setCurrentBet(new BigDecimal(20));
-    players.get(2).getControls().setCurrentBet(new BigDecimal(40));
-    players.get(3).getControls().setCurrentBet(new BigDecimal(80));
+    players.get(0).getControls().setCurrentBet(Chips.of(10));
+    players.get(1).getControls().setCurrentBet(Chips.of(20));
+    players.get(2).getControls().setCurrentBet(Chips.of(40));
+    players.get(3).getControls().setCurrentBet(Chips.of(80));
   }
 
   /**
@@ -373,18 +380,18 @@ public class PokerTableUtilitiesTests {
    */
   public void createFakeBets2(final PokerTable table) {
     final List<GamePlayer> players = table.getPlayers();
-    players.get(0).getControls().setCurrentBet(new BigDecimal(10));
-    players.get(1).getControls().setCurrentBet(new BigDecimal(20));
-    players.get(2).getControls().setCurrentBet(new BigDecimal(40));
-    players.get(3).getControls().setCurrentBet(new BigDecimal(60));
-    players.get(3).getControls().setBankRoll(ZERO);
+    players.get(0).getControls().setCurrentBet(Chips.of(10));
+    players.get(1).getControls().setCurrentBet(Chips.of(20));
+    players.get(2).getControls().setCurrentBet(Chips.of(40));
+    players.get(3).getControls().setCurrentBet(Chips.of(60));
+    players.get(3).getControls().setBankRoll(0L);
     players.get(3).setAllIn(true);
-    players.get(4).getControls().setCurrentBet(new BigDecimal(100));
-    players.get(5).getControls().setCurrentBet(new BigDecimal(300));
-    players.get(6).getControls().setCurrentBet(new BigDecimal(140));
-    players.get(6).getControls().setBankRoll(ZERO);
+    players.get(4).getControls().setCurrentBet(Chips.of(100));
+    players.get(5).getControls().setCurrentBet(Chips.of(300));
+    players.get(6).getControls().setCurrentBet(Chips.of(140));
+    players.get(6).getControls().setBankRoll(0L);
     players.get(6).setAllIn(true);
-    players.get(7).getControls().setCurrentBet(new BigDecimal(600));
+    players.get(7).getControls().setCurrentBet(Chips.of(600));
   }
 
   /**
@@ -406,20 +413,20 @@ public class PokerTableUtilitiesTests {
    */
   public void createFakeBets3(final PokerTable table) {
     final List<GamePlayer> players = table.getPlayers();
-    players.get(0).getControls().setCurrentBet(new BigDecimal(10));
-    players.get(1).getControls().setCurrentBet(new BigDecimal(20));
-    players.get(2).getControls().setCurrentBet(new BigDecimal(40));
-    players.get(3).getControls().setCurrentBet(new BigDecimal(60));
-    players.get(3).getControls().setBankRoll(ZERO);
+    players.get(0).getControls().setCurrentBet(Chips.of(10));
+    players.get(1).getControls().setCurrentBet(Chips.of(20));
+    players.get(2).getControls().setCurrentBet(Chips.of(40));
+    players.get(3).getControls().setCurrentBet(Chips.of(60));
+    players.get(3).getControls().setBankRoll(0L);
     players.get(3).setAllIn(true);
-    players.get(4).getControls().setCurrentBet(new BigDecimal(100));
-    players.get(5).getControls().setCurrentBet(new BigDecimal(300));
-    players.get(6).getControls().setCurrentBet(new BigDecimal(140));
-    players.get(6).getControls().setBankRoll(ZERO);
+    players.get(4).getControls().setCurrentBet(Chips.of(100));
+    players.get(5).getControls().setCurrentBet(Chips.of(300));
+    players.get(6).getControls().setCurrentBet(Chips.of(140));
+    players.get(6).getControls().setBankRoll(0L);
     players.get(6).setAllIn(true);
-    players.get(7).getControls().setCurrentBet(new BigDecimal(600));
-    players.get(8).getControls().setCurrentBet(new BigDecimal(1200));
-    players.get(8).getControls().setBankRoll(ZERO);
+    players.get(7).getControls().setCurrentBet(Chips.of(600));
+    players.get(8).getControls().setCurrentBet(Chips.of(1200));
+    players.get(8).getControls().setBankRoll(0L);
     players.get(8).setAllIn(true);
   }
 
@@ -443,22 +450,22 @@ public class PokerTableUtilitiesTests {
    */
   public void createFakeBets4(final PokerTable table) {
     final List<GamePlayer> players = table.getPlayers();
-    players.get(0).getControls().setCurrentBet(new BigDecimal(1200));
-    players.get(1).getControls().setCurrentBet(new BigDecimal(2400));
-    players.get(2).getControls().setCurrentBet(new BigDecimal(40));
-    players.get(3).getControls().setCurrentBet(new BigDecimal(60));
-    players.get(3).getControls().setBankRoll(ZERO);
+    players.get(0).getControls().setCurrentBet(Chips.of(1200));
+    players.get(1).getControls().setCurrentBet(Chips.of(2400));
+    players.get(2).getControls().setCurrentBet(Chips.of(40));
+    players.get(3).getControls().setCurrentBet(Chips.of(60));
+    players.get(3).getControls().setBankRoll(0L);
     players.get(3).setAllIn(true);
-    players.get(4).getControls().setCurrentBet(new BigDecimal(100));
-    players.get(5).getControls().setCurrentBet(new BigDecimal(300));
-    players.get(6).getControls().setCurrentBet(new BigDecimal(140));
-    players.get(6).getControls().setBankRoll(ZERO);
+    players.get(4).getControls().setCurrentBet(Chips.of(100));
+    players.get(5).getControls().setCurrentBet(Chips.of(300));
+    players.get(6).getControls().setCurrentBet(Chips.of(140));
+    players.get(6).getControls().setBankRoll(0L);
     players.get(6).setAllIn(true);
-    players.get(7).getControls().setCurrentBet(new BigDecimal(600));
-    players.get(8).getControls().setCurrentBet(new BigDecimal(1200));
-    players.get(8).getControls().setBankRoll(ZERO);
+    players.get(7).getControls().setCurrentBet(Chips.of(600));
+    players.get(8).getControls().setCurrentBet(Chips.of(1200));
+    players.get(8).getControls().setBankRoll(0L);
     players.get(8).setAllIn(true);
-    players.get(9).getControls().setCurrentBet(new BigDecimal(1200));
+    players.get(9).getControls().setCurrentBet(Chips.of(1200));
   }
 
   /**
@@ -496,26 +503,26 @@ public class PokerTableUtilitiesTests {
    */
   public void createFakeBets5(final PokerTable table) {
     final List<GamePlayer> players = table.getPlayers();
-    players.get(0).getControls().setCurrentBet(new BigDecimal(1000));
-    players.get(1).getControls().setCurrentBet(new BigDecimal(500));
-    players.get(1).getControls().setBankRoll(ZERO);
+    players.get(0).getControls().setCurrentBet(Chips.of(1000));
+    players.get(1).getControls().setCurrentBet(Chips.of(500));
+    players.get(1).getControls().setBankRoll(0L);
     players.get(1).setAllIn(true);
-    players.get(2).getControls().setCurrentBet(new BigDecimal(400));
-    players.get(2).getControls().setBankRoll(ZERO);
+    players.get(2).getControls().setCurrentBet(Chips.of(400));
+    players.get(2).getControls().setBankRoll(0L);
     players.get(2).setAllIn(true);
-    players.get(3).getControls().setCurrentBet(new BigDecimal(200));
-    players.get(3).getControls().setBankRoll(ZERO);
+    players.get(3).getControls().setCurrentBet(Chips.of(200));
+    players.get(3).getControls().setBankRoll(0L);
     players.get(3).setAllIn(true);
-    players.get(4).getControls().setCurrentBet(new BigDecimal(100));
-    players.get(4).getControls().setBankRoll(ZERO);
+    players.get(4).getControls().setCurrentBet(Chips.of(100));
+    players.get(4).getControls().setBankRoll(0L);
     players.get(4).setAllIn(true);
-    players.get(5).getControls().setCurrentBet(new BigDecimal(1000));
-    players.get(6).getControls().setCurrentBet(new BigDecimal(1000));
-    players.get(7).getControls().setCurrentBet(new BigDecimal(300));
-    players.get(7).getControls().setBankRoll(ZERO);
+    players.get(5).getControls().setCurrentBet(Chips.of(1000));
+    players.get(6).getControls().setCurrentBet(Chips.of(1000));
+    players.get(7).getControls().setCurrentBet(Chips.of(300));
+    players.get(7).getControls().setBankRoll(0L);
     players.get(7).setAllIn(true);
-    players.get(8).getControls().setCurrentBet(new BigDecimal(1000));
-    players.get(9).getControls().setCurrentBet(new BigDecimal(1000));
+    players.get(8).getControls().setCurrentBet(Chips.of(1000));
+    players.get(9).getControls().setCurrentBet(Chips.of(1000));
   }
 
   /**
@@ -528,7 +535,7 @@ public class PokerTableUtilitiesTests {
     final List<GamePlayer> players = table.getPlayers();
     players.forEach(
         p -> {
-          p.getControls().setCurrentBet(new BigDecimal(1000));
+          p.getControls().setCurrentBet(Chips.of(1000));
           if (players.indexOf(p) != 0) {
             p.setFolded(true);
           }
@@ -777,7 +784,7 @@ public class PokerTableUtilitiesTests {
 
     // Verify.
     assertEquals(1, table.getPots().size());
-    assertEquals(new BigDecimal(150), table.getPots().get(0).getTotal());
+    assertEquals(Chips.of(150), table.getPots().get(0).getTotal());
   }
 
   @Test
@@ -790,13 +797,13 @@ public class PokerTableUtilitiesTests {
 
     // Verify.
     assertEquals(3, table.getPots().size());
-    assertEquals(new BigDecimal(370), table.getPots().get(0).getTotal());
-    assertEquals(new BigDecimal(280), table.getPots().get(1).getTotal());
-    assertEquals(new BigDecimal(620), table.getPots().get(2).getTotal());
-    assertEquals(new BigDecimal(60), table.getPots().get(0).getWager());
-    assertEquals(new BigDecimal(140), table.getPots().get(1).getWager());
-    assertEquals(new BigDecimal(600), table.getPots().get(2).getWager());
-    assertEquals(new BigDecimal(1270), getPotTotal(table.getPots()));
+    assertEquals(Chips.of(370), table.getPots().get(0).getTotal());
+    assertEquals(Chips.of(280), table.getPots().get(1).getTotal());
+    assertEquals(Chips.of(620), table.getPots().get(2).getTotal());
+    assertEquals(Chips.of(60), table.getPots().get(0).getWager());
+    assertEquals(Chips.of(140), table.getPots().get(1).getWager());
+    assertEquals(Chips.of(600), table.getPots().get(2).getWager());
+    assertEquals(Chips.of(1270), getPotTotal(table.getPots()));
   }
 
   @Test
@@ -809,13 +816,13 @@ public class PokerTableUtilitiesTests {
 
     // Verify.
     assertEquals(3, table.getPots().size());
-    assertEquals(new BigDecimal(430), table.getPots().get(0).getTotal());
-    assertEquals(new BigDecimal(360), table.getPots().get(1).getTotal());
-    assertEquals(new BigDecimal(1680), table.getPots().get(2).getTotal());
-    assertEquals(new BigDecimal(60), table.getPots().get(0).getWager());
-    assertEquals(new BigDecimal(140), table.getPots().get(1).getWager());
-    assertEquals(new BigDecimal(1200), table.getPots().get(2).getWager());
-    assertEquals(new BigDecimal(2470), getPotTotal(table.getPots()));
+    assertEquals(Chips.of(430), table.getPots().get(0).getTotal());
+    assertEquals(Chips.of(360), table.getPots().get(1).getTotal());
+    assertEquals(Chips.of(1680), table.getPots().get(2).getTotal());
+    assertEquals(Chips.of(60), table.getPots().get(0).getWager());
+    assertEquals(Chips.of(140), table.getPots().get(1).getWager());
+    assertEquals(Chips.of(1200), table.getPots().get(2).getWager());
+    assertEquals(Chips.of(2470), getPotTotal(table.getPots()));
   }
 
   @Test
@@ -828,15 +835,15 @@ public class PokerTableUtilitiesTests {
 
     // Verify.
     assertEquals(4, table.getPots().size());
-    assertEquals(new BigDecimal(580), table.getPots().get(0).getTotal());
-    assertEquals(new BigDecimal(600), table.getPots().get(1).getTotal());
-    assertEquals(new BigDecimal(4860), table.getPots().get(2).getTotal());
-    assertEquals(new BigDecimal(1200), table.getPots().get(3).getTotal());
-    assertEquals(new BigDecimal(60), table.getPots().get(0).getWager());
-    assertEquals(new BigDecimal(140), table.getPots().get(1).getWager());
-    assertEquals(new BigDecimal(1200), table.getPots().get(2).getWager());
-    assertEquals(new BigDecimal(2400), table.getPots().get(3).getWager());
-    assertEquals(new BigDecimal(7240), getPotTotal(table.getPots()));
+    assertEquals(Chips.of(580), table.getPots().get(0).getTotal());
+    assertEquals(Chips.of(600), table.getPots().get(1).getTotal());
+    assertEquals(Chips.of(4860), table.getPots().get(2).getTotal());
+    assertEquals(Chips.of(1200), table.getPots().get(3).getTotal());
+    assertEquals(Chips.of(60), table.getPots().get(0).getWager());
+    assertEquals(Chips.of(140), table.getPots().get(1).getWager());
+    assertEquals(Chips.of(1200), table.getPots().get(2).getWager());
+    assertEquals(Chips.of(2400), table.getPots().get(3).getWager());
+    assertEquals(Chips.of(7240), getPotTotal(table.getPots()));
   }
 
   @Test
@@ -849,19 +856,47 @@ public class PokerTableUtilitiesTests {
 
     // Verify.
     assertEquals(6, table.getPots().size());
-    assertEquals(new BigDecimal(1000), table.getPots().get(0).getTotal());
-    assertEquals(new BigDecimal(900), table.getPots().get(1).getTotal());
-    assertEquals(new BigDecimal(800), table.getPots().get(2).getTotal());
-    assertEquals(new BigDecimal(700), table.getPots().get(3).getTotal());
-    assertEquals(new BigDecimal(600), table.getPots().get(4).getTotal());
-    assertEquals(new BigDecimal(2500), table.getPots().get(5).getTotal());
-    assertEquals(new BigDecimal(100), table.getPots().get(0).getWager());
-    assertEquals(new BigDecimal(200), table.getPots().get(1).getWager());
-    assertEquals(new BigDecimal(300), table.getPots().get(2).getWager());
-    assertEquals(new BigDecimal(400), table.getPots().get(3).getWager());
-    assertEquals(new BigDecimal(500), table.getPots().get(4).getWager());
-    assertEquals(new BigDecimal(1000), table.getPots().get(5).getWager());
-    assertEquals(new BigDecimal(6500), getPotTotal(table.getPots()));
+    assertEquals(Chips.of(1000), table.getPots().get(0).getTotal());
+    assertEquals(Chips.of(900), table.getPots().get(1).getTotal());
+    assertEquals(Chips.of(800), table.getPots().get(2).getTotal());
+    assertEquals(Chips.of(700), table.getPots().get(3).getTotal());
+    assertEquals(Chips.of(600), table.getPots().get(4).getTotal());
+    assertEquals(Chips.of(2500), table.getPots().get(5).getTotal());
+    assertEquals(Chips.of(100), table.getPots().get(0).getWager());
+    assertEquals(Chips.of(200), table.getPots().get(1).getWager());
+    assertEquals(Chips.of(300), table.getPots().get(2).getWager());
+    assertEquals(Chips.of(400), table.getPots().get(3).getWager());
+    assertEquals(Chips.of(500), table.getPots().get(4).getWager());
+    assertEquals(Chips.of(1000), table.getPots().get(5).getWager());
+    assertEquals(Chips.of(6500), getPotTotal(table.getPots()));
+  }
+
+  /** Pots must stay current after every bet, not only when someone goes all-in. */
+  @Test
+  public void testPotGeneration_runningTotals() {
+    final PokerTable table = getSamplePokerTable(4);
+    final List<GamePlayer> players = table.getPlayers();
+    final List<Long> chips = Stream.of(1000, 1000, 1000, 300).map(Chips::of).collect(toList());
+    for (int i = 0; i < players.size(); i++) {
+      players.get(i).setChips(chips.get(i));
+    }
+    table.setDealer(0);
+    setupNewHand(table, new Deck());
+
+    final List<GameAction> actions = asList(Raise, Call, Raise, Call, Call, Call);
+    final List<Long> raises = asList(bd(40), 0L, bd(400), 0L, 0L, 0L);
+    for (int i = 0; i < actions.size(); i++) {
+      // Test.
+      final GamePlayer player = players.get(table.getActingPlayer());
+      handlePlayerAction(table, actions.get(i), player.getId(), raises.get(i));
+
+      // Verify.
+      final List<Pot> pots = new ArrayList<>(table.getPots());
+      generateSidePots(table);
+      assertEquals(table.getPots(), pots);
+    }
+    assertEquals(2, table.getPots().size());
+    assertTrue(players.get(3).isAllIn());
   }
 
   @Test
@@ -877,50 +912,50 @@ public class PokerTableUtilitiesTests {
     // Set bets and bankrolls
 
     // Player 0 is All-In, bet 100, has best hand
-    players.get(0).setChips(ZERO);
-    players.get(0).setBet(new BigDecimal(100));
+    players.get(0).setChips(0L);
+    players.get(0).setBet(Chips.of(100));
     players.get(0).setAllIn(true);
 
     // Player 1 is All-In, bet 200, has 2nd best hand
-    players.get(1).setChips(ZERO);
-    players.get(1).setBet(new BigDecimal(200));
+    players.get(1).setChips(0L);
+    players.get(1).setBet(Chips.of(200));
     players.get(1).setAllIn(true);
 
     // Player 2 folded, but bet 100 before folding.
-    players.get(2).setChips(new BigDecimal(500));
+    players.get(2).setChips(Chips.of(500));
     players.get(2).setFolded(true);
-    players.get(2).setBet(new BigDecimal(100));
+    players.get(2).setBet(Chips.of(100));
 
     // Player 3 has bet 300
-    players.get(3).setChips(new BigDecimal(500));
-    players.get(3).setBet(new BigDecimal(300));
+    players.get(3).setChips(Chips.of(500));
+    players.get(3).setBet(Chips.of(300));
 
     // Player 4 has bet 300
-    players.get(4).setChips(new BigDecimal(500));
-    players.get(4).setBet(new BigDecimal(300));
+    players.get(4).setChips(Chips.of(500));
+    players.get(4).setBet(Chips.of(300));
 
     // Both 5 and 6 have 10->A Straights.
     // Player 5 has bet 300
-    players.get(5).setChips(new BigDecimal(500));
-    players.get(5).setBet(new BigDecimal(300));
+    players.get(5).setChips(Chips.of(500));
+    players.get(5).setBet(Chips.of(300));
 
     // Player 6 has bet 300
-    players.get(6).setChips(new BigDecimal(500));
-    players.get(6).setBet(new BigDecimal(300));
+    players.get(6).setChips(Chips.of(500));
+    players.get(6).setBet(Chips.of(300));
 
     // Player 7 has bet 300, has 9->K Straight, so will lose to p5 and p6
-    players.get(7).setChips(new BigDecimal(500));
-    players.get(7).setBet(new BigDecimal(300));
+    players.get(7).setChips(Chips.of(500));
+    players.get(7).setBet(Chips.of(300));
 
     // Player 8 folded, but bet 200 before folding.
-    players.get(8).setChips(new BigDecimal(500));
+    players.get(8).setChips(Chips.of(500));
     players.get(8).setFolded(true);
-    players.get(8).setBet(new BigDecimal(200));
+    players.get(8).setBet(Chips.of(200));
 
     // Player 9 folded, but bet 200 before folding.
-    players.get(9).setChips(new BigDecimal(500));
+    players.get(9).setChips(Chips.of(500));
     players.get(9).setFolded(true);
-    players.get(9).setBet(new BigDecimal(200));
+    players.get(9).setBet(Chips.of(200));
 
     // Test.
     determineWinners(table);
@@ -931,9 +966,9 @@ public class PokerTableUtilitiesTests {
     // Expecting player 3 with K/Q/10/9/2 Flush to win 500
     // Winners should be sorted according to amount won.
     final List<Winner> winners = table.getWinners();
-    assertEquals(new BigDecimal(1000), winners.get(0).getWinnings());
-    assertEquals(new BigDecimal(800), winners.get(1).getWinnings());
-    assertEquals(new BigDecimal(500), winners.get(2).getWinnings());
+    assertEquals(Chips.of(1000), winners.get(0).getWinnings());
+    assertEquals(Chips.of(800), winners.get(1).getWinnings());
+    assertEquals(Chips.of(500), winners.get(2).getWinnings());
     assertEquals(players.get(0).getId(), winners.get(0).getId());
     assertEquals(players.get(1).getId(), winners.get(1).getId());
     assertEquals(players.get(3).getId(), winners.get(2).getId());
@@ -955,8 +990,8 @@ public class PokerTableUtilitiesTests {
     // Player 0 bet 500.
     players.forEach(
         p -> {
-          p.setChips(new BigDecimal(500));
-          p.setBet(new BigDecimal(500));
+          p.setChips(Chips.of(500));
+          p.setBet(Chips.of(500));
         });
 
     // Test.
@@ -966,7 +1001,7 @@ public class PokerTableUtilitiesTests {
     // Expecting players 5 and 6 to tie with a 10->Ace straight, winning 1000 chips each.
     // Expecting player 7 to win the remaining chips with a 9->K straight.
     final List<Winner> winners = table.getWinners();
-    winners.forEach(w -> assertEquals(new BigDecimal(500), w.getWinnings()));
+    winners.forEach(w -> assertEquals(Chips.of(500), w.getWinnings()));
     assertEquals(10, winners.size());
   }
 
@@ -983,52 +1018,52 @@ public class PokerTableUtilitiesTests {
     // Set bets and bankrolls
 
     // Player 0 bet 100 and is all-in.
-    players.get(0).setChips(ZERO);
-    players.get(0).setBet(new BigDecimal(100));
+    players.get(0).setChips(0L);
+    players.get(0).setBet(Chips.of(100));
     players.get(0).setAllIn(true);
 
     // Player 1 bet 100 and is all-in.
-    players.get(1).setChips(ZERO);
-    players.get(1).setBet(new BigDecimal(100));
+    players.get(1).setChips(0L);
+    players.get(1).setBet(Chips.of(100));
     players.get(1).setAllIn(true);
 
     // Player 2 bet 200 and is all-in.
-    players.get(2).setChips(ZERO);
-    players.get(2).setBet(new BigDecimal(200));
+    players.get(2).setChips(0L);
+    players.get(2).setBet(Chips.of(200));
     players.get(2).setAllIn(true);
 
     // Player 3 bet 200 and is all-in.
-    players.get(3).setChips(ZERO);
-    players.get(3).setBet(new BigDecimal(200));
+    players.get(3).setChips(0L);
+    players.get(3).setBet(Chips.of(200));
     players.get(3).setAllIn(true);
 
     // Player 4 bet 300 and is all-in.
-    players.get(4).setChips(ZERO);
-    players.get(4).setBet(new BigDecimal(300));
+    players.get(4).setChips(0L);
+    players.get(4).setBet(Chips.of(300));
     players.get(4).setAllIn(true);
 
     // Player 5 bet 400 and is all-in.
-    players.get(5).setChips(ZERO);
-    players.get(5).setBet(new BigDecimal(400));
+    players.get(5).setChips(0L);
+    players.get(5).setBet(Chips.of(400));
     players.get(5).setAllIn(true);
 
     // Player 6 bet 500 and is all-in.
-    players.get(6).setChips(ZERO);
-    players.get(6).setBet(new BigDecimal(500));
+    players.get(6).setChips(0L);
+    players.get(6).setBet(Chips.of(500));
     players.get(6).setAllIn(true);
 
     // Player 7 bet 600 and is all-in.
-    players.get(7).setChips(ZERO);
-    players.get(7).setBet(new BigDecimal(600));
+    players.get(7).setChips(0L);
+    players.get(7).setBet(Chips.of(600));
     players.get(7).setAllIn(true);
 
     // Player 8 bet 500.
-    players.get(8).setChips(new BigDecimal(500));
-    players.get(8).setBet(new BigDecimal(1000));
+    players.get(8).setChips(Chips.of(500));
+    players.get(8).setBet(Chips.of(1000));
 
     // Player 9 bet 500.
-    players.get(9).setChips(new BigDecimal(500));
-    players.get(9).setBet(new BigDecimal(1000));
+    players.get(9).setChips(Chips.of(500));
+    players.get(9).setBet(Chips.of(1000));
 
     // Test.
     determineWinners(table);
@@ -1037,16 +1072,16 @@ public class PokerTableUtilitiesTests {
     // Expecting players 5 and 6 to tie with a 10->Ace straight, winning 1000 chips each.
     // Expecting player 7 to win the remaining chips with a 9->K straight.
     final List<Winner> winners = table.getWinners();
-    assertEquals(new BigDecimal(1000), winners.get(0).getWinnings());
-    assertEquals(new BigDecimal(1000), winners.get(1).getWinnings());
-    assertEquals(new BigDecimal(600), winners.get(2).getWinnings());
-    assertEquals(new BigDecimal(500), winners.get(3).getWinnings());
-    assertEquals(new BigDecimal(400), winners.get(4).getWinnings());
-    assertEquals(new BigDecimal(300), winners.get(5).getWinnings());
-    assertEquals(new BigDecimal(200), winners.get(6).getWinnings());
-    assertEquals(new BigDecimal(200), winners.get(7).getWinnings());
-    assertEquals(new BigDecimal(100), winners.get(8).getWinnings());
-    assertEquals(new BigDecimal(100), winners.get(9).getWinnings());
+    assertEquals(Chips.of(1000), winners.get(0).getWinnings());
+    assertEquals(Chips.of(1000), winners.get(1).getWinnings());
+    assertEquals(Chips.of(600), winners.get(2).getWinnings());
+    assertEquals(Chips.of(500), winners.get(3).getWinnings());
+    assertEquals(Chips.of(400), winners.get(4).getWinnings());
+    assertEquals(Chips.of(300), winners.get(5).getWinnings());
+    assertEquals(Chips.of(200), winners.get(6).getWinnings());
+    assertEquals(Chips.of(200), winners.get(7).getWinnings());
+    assertEquals(Chips.of(100), winners.get(8).getWinnings());
+    assertEquals(Chips.of(100), winners.get(9).getWinnings());
   }
 
   /** Case where we have a mix of all-ins, tied hands and some players have folded. */
@@ -1061,12 +1096,10 @@ public class PokerTableUtilitiesTests {
     fillSharedCards(table, deck);
 
     // Set bets and bankrolls
-    final List<BigDecimal> bets =
-        Stream.of(1, 1, 2, 2, 5, 5, 5, 5, 10, 10)
-            .map(i -> new BigDecimal(i * 100))
-            .collect(toList());
-    final List<BigDecimal> chips =
-        Stream.of(0, 0, 0, 0, 500, 500, 500, 500, 500, 500).map(BigDecimal::new).collect(toList());
+    final List<Long> bets =
+        Stream.of(1, 1, 2, 2, 5, 5, 5, 5, 10, 10).map(i -> Chips.of(i * 100)).collect(toList());
+    final List<Long> chips =
+        Stream.of(0, 0, 0, 0, 500, 500, 500, 500, 500, 500).map(Chips::of).collect(toList());
     final List<Boolean> allIn =
         Stream.of(true, true, true, true, false, false, false, false, false, false)
             .collect(toList());
@@ -1088,12 +1121,15 @@ public class PokerTableUtilitiesTests {
     // Expecting player 7 to win the remaining chips with a 9->K straight.
     final List<Winner> winners = table.getWinners();
     assertEquals(6, winners.size());
-    assertEquals(new BigDecimal(1766), winners.get(0).getWinnings());
-    assertEquals(new BigDecimal(1766), winners.get(1).getWinnings());
-    assertEquals(new BigDecimal(366), winners.get(2).getWinnings());
-    assertEquals(new BigDecimal(366), winners.get(3).getWinnings());
-    assertEquals(new BigDecimal(166), winners.get(4).getWinnings());
-    assertEquals(new BigDecimal(166), winners.get(5).getWinnings());
+    assertEquals(Chips.of(1766), winners.get(0).getWinnings());
+    assertEquals(Chips.of(1766), winners.get(1).getWinnings());
+    // The 4 odd chips of the first pot go to players 0 to 3, the first winners after the dealer.
+    assertEquals(Chips.of(367), winners.get(2).getWinnings());
+    assertEquals(Chips.of(367), winners.get(3).getWinnings());
+    assertEquals(Chips.of(167), winners.get(4).getWinnings());
+    assertEquals(Chips.of(167), winners.get(5).getWinnings());
+    assertEquals(
+        Chips.of(4600), winners.stream().mapToLong(Winner::getWinnings).reduce(0, Chips::add));
     testDetermineWinners_5();
   }
 
@@ -1123,10 +1159,10 @@ public class PokerTableUtilitiesTests {
     fillSharedCards(table, deck);
 
     // Set bets and bankrolls.
-    final List<BigDecimal> bets =
-        Stream.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 9).map(i -> new BigDecimal(i * 100)).collect(toList());
-    final List<BigDecimal> chips =
-        Stream.of(0, 0, 0, 0, 0, 0, 0, 0, 0, 500).map(BigDecimal::new).collect(toList());
+    final List<Long> bets =
+        Stream.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 9).map(i -> Chips.of(i * 100)).collect(toList());
+    final List<Long> chips =
+        Stream.of(0, 0, 0, 0, 0, 0, 0, 0, 0, 500).map(Chips::of).collect(toList());
     final List<Boolean> allIn =
         Stream.of(true, true, true, true, true, true, true, true, true, false).collect(toList());
     for (int i = 0; i < players.size(); i++) {
@@ -1141,9 +1177,7 @@ public class PokerTableUtilitiesTests {
     // Verify.
     assertEquals(9, table.getWinners().size());
     assertEquals(
-        Stream.of(1000, 900, 800, 700, 650, 600, 300, 250, 200)
-            .map(BigDecimal::new)
-            .collect(toList()),
+        Stream.of(1000, 900, 800, 700, 650, 600, 300, 250, 200).map(Chips::of).collect(toList()),
         table.getWinners().stream().map(Winner::getWinnings).collect(toList()));
   }
 
@@ -1159,9 +1193,9 @@ public class PokerTableUtilitiesTests {
     fillSharedCards(table, deck);
 
     // Set bets and bankrolls.
-    players.forEach(p -> p.setChips(new BigDecimal(500)));
+    players.forEach(p -> p.setChips(Chips.of(500)));
     players.forEach(p -> p.setFolded(true));
-    players.forEach(p -> p.setBet(new BigDecimal(500)));
+    players.forEach(p -> p.setBet(Chips.of(500)));
     players.get(0).setFolded(false);
 
     // Testing.
@@ -1169,13 +1203,10 @@ public class PokerTableUtilitiesTests {
 
     // Verify.
     players.forEach(
-        p ->
-            assertEquals(
-                players.indexOf(p) == 0 ? new BigDecimal(5500) : new BigDecimal(500),
-                p.getChips()));
+        p -> assertEquals(players.indexOf(p) == 0 ? Chips.of(5500) : Chips.of(500), p.getChips()));
     assertEquals(1, table.getWinners().size());
     assertEquals(players.get(0).getId(), table.getWinners().get(0).getId());
-    assertEquals(new BigDecimal(5000), table.getWinners().get(0).getWinnings());
+    assertEquals(Chips.of(5000), table.getWinners().get(0).getWinnings());
     assertEquals(
         asList(FACE_DOWN_CARD, FACE_DOWN_CARD, FACE_DOWN_CARD, FACE_DOWN_CARD, FACE_DOWN_CARD),
         table.getWinners().get(0).getCards());
@@ -1193,8 +1224,8 @@ public class PokerTableUtilitiesTests {
     fillSharedCards(table, deck);
 
     // Set bets and bankrolls.
-    players.forEach(p -> p.setChips(new BigDecimal(500)));
-    players.forEach(p -> p.setBet(new BigDecimal(500)));
+    players.forEach(p -> p.setChips(Chips.of(500)));
+    players.forEach(p -> p.setBet(Chips.of(500)));
     players.get(0).setFolded(false);
 
     // Testing.
@@ -1202,13 +1233,10 @@ public class PokerTableUtilitiesTests {
 
     // Verify.
     players.forEach(
-        p ->
-            assertEquals(
-                players.indexOf(p) == 0 ? new BigDecimal(5500) : new BigDecimal(500),
-                p.getChips()));
+        p -> assertEquals(players.indexOf(p) == 0 ? Chips.of(5500) : Chips.of(500), p.getChips()));
     assertEquals(1, table.getWinners().size());
     assertEquals(players.get(0).getId(), table.getWinners().get(0).getId());
-    assertEquals(new BigDecimal(5000), table.getWinners().get(0).getWinnings());
+    assertEquals(Chips.of(5000), table.getWinners().get(0).getWinnings());
   }
 
   /** Basic test of card dealing where all players are active in the hand. */
@@ -1256,10 +1284,10 @@ public class PokerTableUtilitiesTests {
     players.get(9).setOut(true);
     players.get(0).setOut(true);
     table.setActingPlayer(6); // Satisfy Pre-Condition.
-    final BigDecimal sbBankRollInitial = players.get(6).getControls().getBankRoll();
-    final BigDecimal bbBankRollInitial = players.get(1).getControls().getBankRoll();
-    final BigDecimal sb = table.getBlind();
-    final BigDecimal bb = table.getBlind().add(table.getBlind());
+    final long sbBankRollInitial = players.get(6).getControls().getBankRoll();
+    final long bbBankRollInitial = players.get(1).getControls().getBankRoll();
+    final long sb = table.getBlind();
+    final long bb = table.getBlind() + table.getBlind();
 
     // Test.
     performBlindBets(table);
@@ -1267,15 +1295,15 @@ public class PokerTableUtilitiesTests {
     // Verify.
     assertEquals(sb, players.get(6).getControls().getCurrentBet());
     assertEquals(bb, players.get(1).getControls().getCurrentBet());
-    assertEquals(sbBankRollInitial.subtract(sb), players.get(6).getControls().getBankRoll());
-    assertEquals(bbBankRollInitial.subtract(bb), players.get(1).getControls().getBankRoll());
+    assertEquals(sbBankRollInitial - sb, players.get(6).getControls().getBankRoll());
+    assertEquals(bbBankRollInitial - bb, players.get(1).getControls().getBankRoll());
     assertEquals(2, table.getActingPlayer());
     players.forEach(
-        p -> assertEquals(bb, p.getControls().getToCall().add(p.getControls().getCurrentBet())));
-    assertEquals(ZERO, players.get(1).getControls().getToCall());
+        p -> assertEquals(bb, p.getControls().getToCall() + p.getControls().getCurrentBet()));
+    assertEquals(0L, players.get(1).getControls().getToCall());
     assertEquals(sb, players.get(6).getControls().getToCall());
     assertEquals(1, table.getPots().size());
-    assertEquals(sb.add(bb), table.getPots().get(0).getTotal());
+    assertEquals(sb + bb, table.getPots().get(0).getTotal());
     assertEquals(bb, table.getMinRaise());
   }
 
@@ -1290,12 +1318,12 @@ public class PokerTableUtilitiesTests {
     final List<GamePlayer> players = table.getPlayers();
     table.setDealer(3); // sb = 4, bb = 5
     table.setActingPlayer(4); // Satisfy Pre-Condition.
-    final BigDecimal bbBankRollInitial = new BigDecimal(15);
+    final long bbBankRollInitial = Chips.of(15);
     players.get(5).getControls().setBankRoll(bbBankRollInitial);
-    final BigDecimal sbBankRollInitial = players.get(4).getControls().getBankRoll();
+    final long sbBankRollInitial = players.get(4).getControls().getBankRoll();
 
-    final BigDecimal sb = table.getBlind();
-    final BigDecimal bb = table.getBlind().add(table.getBlind());
+    final long sb = table.getBlind();
+    final long bb = table.getBlind() + table.getBlind();
 
     // Test.
     performBlindBets(table);
@@ -1303,14 +1331,14 @@ public class PokerTableUtilitiesTests {
     // Verify.
     assertEquals(sb, players.get(4).getControls().getCurrentBet());
     assertEquals(bbBankRollInitial, players.get(5).getControls().getCurrentBet());
-    assertEquals(sbBankRollInitial.subtract(sb), players.get(4).getControls().getBankRoll());
-    assertEquals(ZERO, players.get(5).getControls().getBankRoll());
+    assertEquals(sbBankRollInitial - sb, players.get(4).getControls().getBankRoll());
+    assertEquals(0L, players.get(5).getControls().getBankRoll());
     assertEquals(6, table.getActingPlayer());
     Assertions.assertTrue(players.get(5).isAllIn());
-    assertEquals(ZERO, players.get(5).getControls().getToCall());
-    assertEquals(bbBankRollInitial.subtract(sb), players.get(4).getControls().getToCall());
+    assertEquals(0L, players.get(5).getControls().getToCall());
+    assertEquals(bbBankRollInitial - sb, players.get(4).getControls().getToCall());
     assertEquals(1, table.getPots().size());
-    assertEquals(sb.add(bbBankRollInitial), table.getPots().get(0).getTotal());
+    assertEquals(sb + bbBankRollInitial, table.getPots().get(0).getTotal());
     assertEquals(bb, table.getMinRaise());
   }
 
@@ -1396,10 +1424,10 @@ public class PokerTableUtilitiesTests {
     final List<GamePlayer> players = table.getPlayers();
     table.setDealer(3); // sb = 4, bb = 5
     table.setActingPlayer(4); // Satisfy Pre-Condition.
-    final BigDecimal sbBankRollInitial = players.get(4).getControls().getBankRoll();
-    final BigDecimal bbBankRollInitial = players.get(5).getControls().getBankRoll();
-    final BigDecimal sb = table.getBlind();
-    final BigDecimal bb = table.getBlind().add(table.getBlind());
+    final long sbBankRollInitial = players.get(4).getControls().getBankRoll();
+    final long bbBankRollInitial = players.get(5).getControls().getBankRoll();
+    final long sb = table.getBlind();
+    final long bb = table.getBlind() + table.getBlind();
 
     // Test.
     performBlindBets(table);
@@ -1407,15 +1435,15 @@ public class PokerTableUtilitiesTests {
     // Verify.
     assertEquals(sb, players.get(4).getControls().getCurrentBet());
     assertEquals(bb, players.get(5).getControls().getCurrentBet());
-    assertEquals(sbBankRollInitial.subtract(sb), players.get(4).getControls().getBankRoll());
-    assertEquals(bbBankRollInitial.subtract(bb), players.get(5).getControls().getBankRoll());
+    assertEquals(sbBankRollInitial - sb, players.get(4).getControls().getBankRoll());
+    assertEquals(bbBankRollInitial - bb, players.get(5).getControls().getBankRoll());
     assertEquals(6, table.getActingPlayer());
     players.forEach(
-        p -> assertEquals(bb, p.getControls().getToCall().add(p.getControls().getCurrentBet())));
-    assertEquals(ZERO, players.get(5).getControls().getToCall());
+        p -> assertEquals(bb, p.getControls().getToCall() + p.getControls().getCurrentBet()));
+    assertEquals(0L, players.get(5).getControls().getToCall());
     assertEquals(sb, players.get(4).getControls().getToCall());
     assertEquals(1, table.getPots().size());
-    assertEquals(sb.add(bb), table.getPots().get(0).getTotal());
+    assertEquals(sb + bb, table.getPots().get(0).getTotal());
     assertEquals(bb, table.getMinRaise());
   }
 
@@ -1430,12 +1458,12 @@ public class PokerTableUtilitiesTests {
     final List<GamePlayer> players = table.getPlayers();
     table.setDealer(3); // sb = 4, bb = 5
     table.setActingPlayer(4); // Satisfy Pre-Condition.
-    final BigDecimal bbBankRollInitial = new BigDecimal(5);
+    final long bbBankRollInitial = Chips.of(5);
     players.get(5).getControls().setBankRoll(bbBankRollInitial);
-    final BigDecimal sbBankRollInitial = players.get(4).getControls().getBankRoll();
+    final long sbBankRollInitial = players.get(4).getControls().getBankRoll();
 
-    final BigDecimal sb = table.getBlind();
-    final BigDecimal bb = table.getBlind().add(table.getBlind());
+    final long sb = table.getBlind();
+    final long bb = table.getBlind() + table.getBlind();
 
     // Test.
     performBlindBets(table);
@@ -1443,18 +1471,42 @@ public class PokerTableUtilitiesTests {
     // Verify.
     assertEquals(sb, players.get(4).getControls().getCurrentBet());
     assertEquals(bbBankRollInitial, players.get(5).getControls().getCurrentBet());
-    assertEquals(sbBankRollInitial.subtract(sb), players.get(4).getControls().getBankRoll());
-    assertEquals(ZERO, players.get(5).getControls().getBankRoll());
+    assertEquals(sbBankRollInitial - sb, players.get(4).getControls().getBankRoll());
+    assertEquals(0L, players.get(5).getControls().getBankRoll());
     assertEquals(6, table.getActingPlayer());
     Assertions.assertTrue(players.get(5).isAllIn());
-    assertEquals(ZERO, players.get(5).getControls().getToCall());
-    assertEquals(ZERO, players.get(4).getControls().getToCall());
+    assertEquals(0L, players.get(5).getControls().getToCall());
+    assertEquals(0L, players.get(4).getControls().getToCall());
     assertEquals(2, table.getPots().size());
-    assertEquals(bbBankRollInitial.add(bbBankRollInitial), table.getPots().get(0).getTotal());
-    assertEquals(bbBankRollInitial.add(sb), getPotTotal(table.getPots()));
+    assertEquals(bbBankRollInitial + bbBankRollInitial, table.getPots().get(0).getTotal());
+    assertEquals(bbBankRollInitial + sb, getPotTotal(table.getPots()));
     assertEquals(bb, table.getMinRaise());
   }
 
+  /** Hidden clones are broadcast while the table changes, so they must not change with it. */
+  @Test
+  public void testHideCards_detached() {
+    // Given.
+    final PokerTable table = getSamplePokerTable(4);
+    setupNewHand(table, new Deck());
+    final PokerTable hidden = hideCards(table);
+    final long pot = table.getPot();
+    final long bankRoll = table.getPlayers().get(0).getChips();
+
+    // Test.
+    table.getPlayers().get(0).removeChips(Chips.of(1));
+    table.getSharedCards().add(FACE_DOWN_CARD);
+    table.getPots().get(0).setTotal(0);
+
+    // Verify.
+    assertEquals(bankRoll, hidden.getPlayers().get(0).getChips());
+    assertTrue(hidden.getSharedCards().isEmpty());
+    assertEquals(pot, getPotTotal(hidden.getPots()));
+    assertTrue(hidden.getPlayers().get(0).getCards().stream().allMatch(FACE_DOWN_CARD::equals));
+    assertThrows(
+        UnsupportedOperationException.class, () -> hidden.getSharedCards().add(FACE_DOWN_CARD));
+  }
+
   /**
    * Test to ensure Post-Conditions are satisfied.
    *
@@ -1481,8 +1533,8 @@ public class PokerTableUtilitiesTests {
 
     table.setDealer(0);
     table.setRound(0);
-    final BigDecimal sb = table.getBlind();
-    final BigDecimal pot = sb.add(sb).add(sb);
+    final long sb = table.getBlind();
+    final long pot = sb + sb + sb;
 
     // Test.
     setupNewHand(table, deck);
@@ -1491,10 +1543,10 @@ public class PokerTableUtilitiesTests {
     assertEquals(1, table.getRound());
     assertEquals(pot, getPotTotal(table.getPots()));
     assertEquals(sb, players.get(2).getControls().getCurrentBet());
-    assertEquals(sb.add(sb), players.get(3).getControls().getCurrentBet());
+    assertEquals(sb + sb, players.get(3).getControls().getCurrentBet());
     players.stream()
         .filter(p -> players.indexOf(p) != 2 && players.indexOf(p) != 3)
-        .forEach(p -> assertEquals(sb.add(sb), p.getControls().getToCall()));
+        .forEach(p -> assertEquals(sb + sb, p.getControls().getToCall()));
     assertEquals(4, table.getActingPlayer());
     // TODO: Check that cards were dealt
   }
@@ -1506,14 +1558,14 @@ public class PokerTableUtilitiesTests {
     final Deck deck = new Deck();
 
     table.setRound(-1);
-    final BigDecimal sb = table.getBlind();
+    final long sb = table.getBlind();
 
     // Test.
     setupNewHand(table, deck);
 
     // Verify.
-    assertEquals(sb.add(sb), table.getBlind());
-    assertEquals(sb.multiply(new BigDecimal(6)), getPotTotal(table.getPots()));
+    assertEquals(sb + sb, table.getBlind());
+    assertEquals(sb * 6, getPotTotal(table.getPots()));
   }
 
   /**
@@ -1616,9 +1668,9 @@ public class PokerTableUtilitiesTests {
     // Verify.
     final List<Winner> winners = table.getWinners();
     assertEquals(5, winners.size());
-    assertEquals(bd(4720), sum(winners.stream().map(Winner::getWinnings).collect(toList())));
-    assertEquals(3, winners.stream().filter(w -> w.getWinnings().equals(bd(1184))).count());
-    assertEquals(2, winners.stream().filter(w -> w.getWinnings().equals(bd(584))).count());
+    assertEquals(bd(4720), winners.stream().mapToLong(Winner::getWinnings).sum());
+    assertEquals(3, winners.stream().filter(w -> w.getWinnings() == bd(1184)).count());
+    assertEquals(2, winners.stream().filter(w -> w.getWinnings() == bd(584)).count());
 
     assertEquals(1, winners.stream().filter(w -> w.getId().equals(p3.getId())).count());
     assertEquals(1, winners.stream().filter(w -> w.getId().equals(p5.getId())).count());
@@ -1652,4 +1704,79 @@ public class PokerTableUtilitiesTests {
                 winners.stream().filter(w -> w.getId().equals(p9.getId())).findFirst().orElse(null))
             .getWinnings());
   }
+
+  /** Before anyone has acted, the player after the big blind can fold, call or raise. */
+  @Test
+  public void testGetLegalActions_1() {
+    // Given.
+    final PokerTable table = getSamplePokerTable(4);
+    table.setDealer(0);
+    setupNewHand(table, new Deck());
+    final GamePlayer player = table.getPlayers().get(table.getActingPlayer());
+    final long bb = Chips.add(table.getBlind(), table.getBlind());
+
+    // Test.
+    final LegalActions actions = getLegalActions(table);
+
+    // Verify.
+    assertEquals(player.getId(), actions.getPlayerId());
+    assertEquals(EnumSet.of(Fold, Call, Raise), actions.getActions());
+    assertEquals(bb, actions.getToCall());
+    assertEquals(bb, actions.getMinRaise());
+    assertEquals(Chips.subtract(player.getChips(), bb), actions.getMaxRaise());
+    assertTrue(actions.allows(new GameActionData(player.getId(), Call, null)));
+    assertTrue(actions.allows(new GameActionData(player.getId(), Raise, Chips.toBigDecimal(bb))));
+    assertFalse(actions.allows(new GameActionData(player.getId(), Check, null)));
+    assertFalse(actions.allows(new GameActionData(player.getId(), AllInCheck, null)));
+    assertFalse(actions.allows(new GameActionData(player.getId(), Raise, null)));
+    assertFalse(
+        actions.allows(
+            new GameActionData(player.getId(), Raise, Chips.toBigDecimal(bb - Chips.UNIT))));
+    assertFalse(
+        actions.allows(
+            new GameActionData(
+                player.getId(),
+                Raise,
+                Chips.toBigDecimal(Chips.add(actions.getMaxRaise(), Chips.UNIT)))));
+    assertFalse(actions.allows(new GameActionData(UUID.randomUUID(), Call, null)));
+  }
+
+  /** Players who can't afford the minimum raise can only raise all-in. */
+  @Test
+  public void testGetLegalActions_2() {
+    // Given.
+    final PokerTable table = getSamplePokerTable(2);
+    final GamePlayer player = table.getPlayers().get(0);
+    table.setActingPlayer(0);
+    table.setMinRaise(Chips.of(400));
+    player.setChips(Chips.of(300));
+    player.setToCall(0);
+
+    // Test.
+    final LegalActions actions = getLegalActions(table);
+
+    // Verify.
+    assertEquals(EnumSet.of(Fold, Check, Raise), actions.getActions());
+    assertEquals(Chips.of(300), actions.getMinRaise());
+    assertEquals(Chips.of(300), actions.getMaxRaise());
+  }
+
+  /** Players who are all-in can only perform AllInCheck, and can't raise. */
+  @Test
+  public void testGetLegalActions_3() {
+    // Given.
+    final PokerTable table = getSamplePokerTable(2);
+    final GamePlayer player = table.getPlayers().get(1);
+    table.setActingPlayer(1);
+    player.setChips(0);
+    player.setAllIn(true);
+
+    // Test.
+    final LegalActions actions = getLegalActions(table);
+
+    // Verify.
+    assertEquals(EnumSet.of(AllInCheck), actions.getActions());
+    assertTrue(actions.allows(new GameActionData(player.getId(), AllInCheck, null)));
+    assertFalse(actions.allows(new GameActionData(player.getId(), Fold, null)));
+  }
 }
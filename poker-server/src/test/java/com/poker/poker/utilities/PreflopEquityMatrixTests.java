@@ -0,0 +1,88 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.CardSuit.Clubs;
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardSuit.Spades;
+import static com.poker.poker.models.enums.CardValue.Ace;
+import static com.poker.poker.models.enums.CardValue.King;
+import static com.poker.poker.models.enums.CardValue.Ten;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static com.poker.poker.utilities.PreflopEquityMatrix.NUM_CLASSES;
+import static com.poker.poker.utilities.PreflopEquityMatrix.classOf;
+import static com.poker.poker.utilities.PreflopEquityMatrix.nameOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class PreflopEquityMatrixTests {
+
+  @Test
+  public void testClassNames() {
+    final Set<Long> combinations = new HashSet<>();
+    for (int handClass = 0; handClass < NUM_CLASSES; handClass++) {
+      assertEquals(handClass, classOf(nameOf(handClass)));
+      for (final long holeCards : PreflopEquityMatrix.combinations(handClass)) {
+        assertEquals(handClass, classOf(holeCards));
+        combinations.add(holeCards);
+      }
+    }
+    // Every one of the 52 * 51 / 2 starting hands belongs to exactly one class.
+    assertEquals(1326, combinations.size());
+    assertEquals(
+        "AKs",
+        nameOf(classOf(HandEvaluator.mask(Arrays.asList(card(Spades, Ace), card(Spades, King))))));
+    assertEquals(
+        "KTo",
+        nameOf(classOf(HandEvaluator.mask(Arrays.asList(card(Hearts, Ten), card(Clubs, King))))));
+    assertEquals(-1, classOf("KAs"));
+    assertEquals(-1, classOf("AAs"));
+    assertEquals(-1, classOf("AK"));
+    assertEquals(-1, classOf("A1o"));
+  }
+
+  @Test
+  public void testReadWrite() throws IOException {
+    // Given.
+    final double[] equities = new double[NUM_CLASSES * NUM_CLASSES];
+    Arrays.setAll(equities, i -> (double) i / equities.length);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Test.
+    PreflopEquityMatrix.write(out, equities);
+    final PreflopEquityMatrix matrix =
+        PreflopEquityMatrix.read(new ByteArrayInputStream(out.toByteArray()));
+
+    // Verify.
+    for (int i = 0; i < equities.length; i++) {
+      assertEquals(equities[i], matrix.getEquity(i / NUM_CLASSES, i % NUM_CLASSES), 1e-4);
+    }
+  }
+
+  /** Sanity checks of the matrix that ships with the server against well known equities. */
+  @Test
+  public void testResource() throws IOException {
+    // Given.
+    final PreflopEquityMatrix matrix;
+    try (final InputStream in = getClass().getResourceAsStream("/preflop-equity.bin")) {
+      matrix = PreflopEquityMatrix.read(in);
+    }
+
+    // Verify.
+    assertEquals(0.82, matrix.getEquity(classOf("AA"), classOf("KK")), 0.01);
+    assertEquals(0.46, matrix.getEquity(classOf("AKs"), classOf("QQ")), 0.01);
+    assertEquals(0.5, matrix.getEquity(classOf("72o"), classOf("72o")), 1e-4);
+    for (int a = 0; a < NUM_CLASSES; a++) {
+      for (int b = 0; b < NUM_CLASSES; b++) {
+        assertEquals(1, matrix.getEquity(a, b) + matrix.getEquity(b, a), 1e-4);
+      }
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.CardSuit.Clubs;
+import static com.poker.poker.models.enums.CardSuit.Diamonds;
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardValue.Four;
+import static com.poker.poker.models.enums.CardValue.Jack;
+import static com.poker.poker.models.enums.CardValue.Seven;
+import static com.poker.poker.models.enums.CardValue.Two;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.poker.poker.utilities.EquityCalculator.Tally;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class RangeEquityCalculatorTests {
+
+  private static final long TURN =
+      HandEvaluator.mask(
+          Arrays.asList(
+              card(Hearts, Two), card(Hearts, Seven), card(Diamonds, Jack), card(Clubs, Four)));
+
+  private static ForkJoinPool pool;
+
+  @BeforeAll
+  public static void setUp() {
+    pool = new ForkJoinPool(2);
+  }
+
+  @AfterAll
+  public static void tearDown() {
+    pool.shutdownNow();
+  }
+
+  /** Ranges with one hand each have the same equities as the hands. */
+  @Test
+  public void testEnumerate_singleHands() {
+    // Given.
+    final long[][] ranges = {
+      HandRange.parse("AsAc").getCombinations(), HandRange.parse("Kh9h").getCombinations()
+    };
+    final long[] holeCards = {ranges[0][0], ranges[1][0]};
+
+    // Test.
+    final Tally tally =
+        RangeEquityCalculator.enumerate(
+            pool, ranges, TURN, System.nanoTime() + 60000000000L, () -> false);
+
+    // Verify.
+    final Tally expected = EquityEnumeration.enumerate(holeCards, TURN).getTally();
+    assertEquals(expected.getSamples(), tally.getSamples());
+    for (int p = 0; p < ranges.length; p++) {
+      assertEquals(expected.getWin(p), tally.getWin(p), 1e-12);
+      assertEquals(expected.getTie(p), tally.getTie(p), 1e-12);
+    }
+  }
+
+  /** The ace of hearts is blocked for the second range whenever the first range holds it. */
+  @Test
+  public void testEnumerate_cardRemoval() {
+    // Given.
+    final long[][] ranges = {
+      HandRange.parse("AA").getCombinations(TURN), HandRange.parse("AhKh").getCombinations(TURN)
+    };
+
+    // Test.
+    final Tally tally =
+        RangeEquityCalculator.enumerate(
+            pool, ranges, TURN, System.nanoTime() + 60000000000L, () -> false);
+
+    // Verify.
+    assertEquals(3 * 44, tally.getSamples());
+    assertEquals(3 * 44, RangeEquityCalculator.countRunouts(ranges, TURN) / 2);
+    assertEquals(1.0, tally.getEquity(0) + tally.getEquity(1), 1e-9);
+  }
+
+  @Test
+  public void testEnumerate_cancelled() {
+    // Given.
+    final long[][] ranges = {
+      HandRange.parse("QQ+").getCombinations(), HandRange.parse("AKs").getCombinations()
+    };
+
+    // Verify.
+    assertNull(
+        RangeEquityCalculator.enumerate(
+            pool, ranges, TURN, System.nanoTime() + 60000000000L, () -> true));
+  }
+
+  /** Enumerations which miss their deadline are abandoned, since a partial tally is skewed. */
+  @Test
+  public void testEnumerate_deadline() {
+    // Given.
+    final long[][] ranges = {
+      HandRange.parse("QQ+").getCombinations(), HandRange.parse("AKs").getCombinations()
+    };
+
+    // Verify.
+    assertNull(
+        RangeEquityCalculator.enumerate(pool, ranges, TURN, System.nanoTime() - 1, () -> false));
+  }
+
+  /** Sampling agrees with the exact enumeration of the same ranges. */
+  @Test
+  public void testSimulate() {
+    // Given.
+    final long[][] ranges = {
+      HandRange.parse("QQ+,AKs").getCombinations(TURN),
+      HandRange.parse("JJ-88,AQ").getCombinations(TURN)
+    };
+    final Tally exact =
+        RangeEquityCalculator.enumerate(
+            pool, ranges, TURN, System.nanoTime() + 60000000000L, () -> false);
+
+    // Test.
+    final Tally tally =
+        RangeEquityCalculator.simulate(
+            pool, ranges, TURN, 200000, System.nanoTime() + 60000000000L, () -> false, 42);
+
+    // Verify.
+    assertEquals(200000, tally.getSamples());
+    assertEquals(exact.getEquity(0), tally.getEquity(0), 0.01);
+    assertEquals(exact.getTie(0), tally.getTie(0), 0.01);
+  }
+
+  /** Ranges which can never be dealt together don't deal anything. */
+  @Test
+  public void testSimulate_excludedRanges() {
+    // Given.
+    final long[][] ranges = {
+      HandRange.parse("AsAh").getCombinations(), HandRange.parse("AsKs").getCombinations()
+    };
+
+    // Test.
+    final Tally tally =
+        RangeEquityCalculator.simulate(
+            pool, ranges, TURN, 1000, System.nanoTime() + 60000000000L, () -> false, 42);
+
+    // Verify.
+    assertEquals(0, tally.getSamples());
+    assertTrue(RangeEquityCalculator.countRunouts(ranges, TURN) > 0);
+  }
+
+  /** Ranges can be dealt together unless they need more of a card than the deck has. */
+  @Test
+  public void testCanDeal() {
+    // Given.
+    final long[] aces = HandRange.parse("AA").getCombinations();
+    final long[] acesOrKings = HandRange.parse("KK+").getCombinations();
+
+    // Verify.
+    assertTrue(RangeEquityCalculator.canDeal(new long[][] {aces, aces}));
+    assertFalse(RangeEquityCalculator.canDeal(new long[][] {aces, aces, aces}));
+    assertTrue(RangeEquityCalculator.canDeal(new long[][] {aces, aces, acesOrKings}));
+    assertFalse(
+        RangeEquityCalculator.canDeal(
+            new long[][] {
+              HandRange.parse("AsAh").getCombinations(), HandRange.parse("AsKs").getCombinations()
+            }));
+  }
+}
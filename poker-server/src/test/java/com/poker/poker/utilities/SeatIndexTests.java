@@ -0,0 +1,140 @@
+package com.poker.poker.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.PokerTable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class SeatIndexTests {
+
+  private static PokerTable getTable(final int numPlayers) {
+    final List<GamePlayer> players = new ArrayList<>();
+    for (int i = 0; i < numPlayers; i++) {
+      final GamePlayer player = new GamePlayer();
+      player.setId(UUID.randomUUID());
+      player.setChips(Chips.of(1000));
+      players.add(player);
+    }
+    final PokerTable table = new PokerTable();
+    table.setPlayers(players);
+    return table;
+  }
+
+  @Test
+  public void testGetPlayer() {
+    // Given.
+    final PokerTable table = getTable(6);
+    final GamePlayer player = table.getPlayers().get(4);
+
+    // Verify.
+    assertSame(player, table.getPlayer(player.getId()));
+    assertEquals(4, table.getSeat(player.getId()));
+    assertNull(table.getPlayer(UUID.randomUUID()));
+    assertEquals(-1, table.getSeat(UUID.randomUUID()));
+  }
+
+  /** Counters follow the flags of the players as they change. */
+  @Test
+  public void testCounters() {
+    // Given.
+    final PokerTable table = getTable(6);
+    final List<GamePlayer> players = table.getPlayers();
+    final SeatIndex seats = table.getSeatIndex();
+
+    // Test.
+    players.get(0).setFolded(true);
+    players.get(1).setFolded(true);
+    players.get(1).setFolded(false);
+    players.get(2).setAllIn(true);
+    players.get(3).setOut(true);
+
+    // Verify.
+    assertEquals(6, seats.getNumSeats());
+    assertEquals(4, seats.getNumActive());
+    assertEquals(1, seats.getNumFolded());
+    assertEquals(1, seats.getNumAllIn());
+    assertEquals(1, seats.getNumOut());
+    assertEquals(4, PokerTableUtilities.numInHand(table));
+    assertEquals(4, PokerTableUtilities.numNonZeroChips(table));
+  }
+
+  /** Next active player wraps around the table and skips players who folded or are out. */
+  @Test
+  public void testGetNextActive() {
+    // Given.
+    final PokerTable table = getTable(6);
+    final List<GamePlayer> players = table.getPlayers();
+    final SeatIndex seats = table.getSeatIndex();
+    players.get(0).setFolded(true);
+    players.get(4).setOut(true);
+    players.get(5).setFolded(true);
+
+    // Verify.
+    assertEquals(2, seats.getNextActive(1, true));
+    assertEquals(1, seats.getNextActive(3, true));
+    assertEquals(1, seats.getNextActive(4, true));
+    assertEquals(3, seats.getNextActive(1, false));
+    assertEquals(3, seats.getNextActive(5, false));
+    assertEquals(2, seats.getNextActive(3, false));
+  }
+
+  @Test
+  public void testGetNextActive_fullTable() {
+    // Given.
+    final PokerTable table = getTable(SeatIndex.MAX_SEATS);
+    final SeatIndex seats = table.getSeatIndex();
+
+    // Verify.
+    assertEquals(0, seats.getNextActive(SeatIndex.MAX_SEATS - 1, true));
+    assertEquals(SeatIndex.MAX_SEATS - 1, seats.getNextActive(0, false));
+    assertEquals(SeatIndex.MAX_SEATS - 1, seats.getNextActive(SeatIndex.MAX_SEATS - 2, true));
+  }
+
+  /**
+   * Copies of a table index their own players, so changes to the copy don't affect the original.
+   */
+  @Test
+  public void testCopy() throws Exception {
+    // Given.
+    final PokerTable table = getTable(4);
+    final PokerTable copy = new PokerTable(table);
+
+    // Test.
+    copy.getPlayers().get(0).setFolded(true);
+
+    // Verify.
+    assertEquals(3, copy.getSeatIndex().getNumActive());
+    assertEquals(4, table.getSeatIndex().getNumActive());
+    final String json = new ObjectMapper().writeValueAsString(copy);
+    assertFalse(json.contains("seatIndex"));
+  }
+
+  /** Copies find their own players, and aren't affected when the original is indexed again. */
+  @Test
+  public void testCopy_seats() {
+    // Given.
+    final PokerTable table = getTable(4);
+    table.getPlayers().get(2).setAllIn(true);
+    final PokerTable copy = new PokerTable(table);
+    final GamePlayer player = copy.getPlayers().get(3);
+
+    // Test.
+    table.setPlayers(new ArrayList<>(table.getPlayers().subList(0, 2)));
+
+    // Verify.
+    assertSame(player, copy.getPlayer(player.getId()));
+    assertEquals(3, copy.getSeat(player.getId()));
+    assertEquals(4, copy.getSeatIndex().getNumSeats());
+    assertEquals(1, copy.getSeatIndex().getNumAllIn());
+    assertEquals(-1, table.getSeat(player.getId()));
+  }
+}
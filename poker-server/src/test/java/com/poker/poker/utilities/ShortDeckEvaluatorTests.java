@@ -0,0 +1,173 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.CardSuit.Clubs;
+import static com.poker.poker.models.enums.CardSuit.Diamonds;
+import static com.poker.poker.models.enums.CardSuit.Hearts;
+import static com.poker.poker.models.enums.CardSuit.Spades;
+import static com.poker.poker.models.enums.CardValue.Ace;
+import static com.poker.poker.models.enums.CardValue.Eight;
+import static com.poker.poker.models.enums.CardValue.Jack;
+import static com.poker.poker.models.enums.CardValue.King;
+import static com.poker.poker.models.enums.CardValue.Nine;
+import static com.poker.poker.models.enums.CardValue.Queen;
+import static com.poker.poker.models.enums.CardValue.Seven;
+import static com.poker.poker.models.enums.CardValue.Six;
+import static com.poker.poker.models.enums.CardValue.Ten;
+import static com.poker.poker.utilities.CardUtilities.card;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.poker.poker.models.enums.GameVariant;
+import com.poker.poker.models.enums.HandType;
+import com.poker.poker.models.game.Card;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.HandRank;
+import com.poker.poker.models.game.Showdown;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class ShortDeckEvaluatorTests {
+
+  @Test
+  public void testDeck() {
+    // Given.
+    final Deck deck = new Deck(GameVariant.ShortDeck);
+
+    // Verify.
+    assertEquals(36, deck.getCards().size());
+    assertEquals(36, Long.bitCount(ShortDeckEvaluator.DECK));
+    assertTrue(
+        deck.getCards().stream().allMatch(c -> CardUtilities.cardValues.get(c.getValue()) >= 6));
+  }
+
+  /** The table agrees with the ranks it was computed from, and the best hand has the same rank. */
+  @Test
+  public void testRank_randomHands() {
+    // Given.
+    final Random random = new Random(42);
+    final List<Card> cards = new Deck(GameVariant.ShortDeck).getCards();
+
+    // Test & Verify.
+    for (int i = 0; i < 20000; i++) {
+      Collections.shuffle(cards, random);
+      final List<Card> hand = cards.subList(0, 5 + i % 3);
+      final long mask = HandEvaluator.mask(hand);
+      final int rank = ShortDeckEvaluator.rank(mask);
+      assertEquals(ShortDeckEvaluator.compute(mask), rank, hand::toString);
+
+      final HandRank handRank = ShortDeckEvaluator.rankHand(hand);
+      assertEquals(rank, handRank.getRank());
+      assertEquals(5, handRank.getHand().size());
+      assertTrue(hand.containsAll(handRank.getHand()), hand::toString);
+      assertEquals(rank, ShortDeckEvaluator.rank(HandEvaluator.mask(handRank.getHand())));
+    }
+  }
+
+  /** Ace, Six, Seven, Eight, Nine is a straight, which is beaten by Six to Ten. */
+  @Test
+  public void testRank_lowStraight() {
+    // Given.
+    final List<Card> low =
+        Arrays.asList(
+            card(Spades, Ace),
+            card(Hearts, Six),
+            card(Clubs, Seven),
+            card(Spades, Eight),
+            card(Diamonds, Nine),
+            card(Diamonds, King),
+            card(Hearts, King));
+    final List<Card> higher =
+        Arrays.asList(
+            card(Spades, Ten),
+            card(Hearts, Six),
+            card(Clubs, Seven),
+            card(Spades, Eight),
+            card(Diamonds, Nine),
+            card(Diamonds, King),
+            card(Hearts, Jack));
+
+    // Test.
+    final HandRank lowRank = ShortDeckEvaluator.rankHand(low);
+    final HandRank higherRank = ShortDeckEvaluator.rankHand(higher);
+
+    // Verify.
+    assertEquals(HandType.Straight, lowRank.getType());
+    assertEquals(
+        Arrays.asList(
+            card(Spades, Ace),
+            card(Hearts, Six),
+            card(Clubs, Seven),
+            card(Spades, Eight),
+            card(Diamonds, Nine)),
+        lowRank.getHand());
+    assertEquals(HandType.Straight, higherRank.getType());
+    assertTrue(higherRank.getRank() > lowRank.getRank());
+  }
+
+  @Test
+  public void testRank_lowStraightFlush() {
+    // Given.
+    final List<Card> hand =
+        Arrays.asList(
+            card(Clubs, Ace),
+            card(Clubs, Six),
+            card(Clubs, Seven),
+            card(Clubs, Eight),
+            card(Clubs, Nine),
+            card(Spades, Nine),
+            card(Hearts, Nine));
+
+    // Test.
+    final HandRank handRank = ShortDeckEvaluator.rankHand(hand);
+
+    // Verify.
+    assertEquals(HandType.StraightFlush, handRank.getType());
+    assertEquals(hand.subList(0, 5), handRank.getHand());
+  }
+
+  /** A flush beats a full house, while four of a kind still beats a flush. */
+  @Test
+  public void testRankShortDeckHands() {
+    // Given.
+    final List<Card> board =
+        Arrays.asList(
+            card(Hearts, Queen),
+            card(Hearts, Eight),
+            card(Hearts, Seven),
+            card(Spades, Queen),
+            card(Clubs, Six));
+    final List<List<Card>> holeCards =
+        Arrays.asList(
+            // Full house, Queens over Sixes.
+            Arrays.asList(card(Diamonds, Queen), card(Spades, Six)),
+            // Flush.
+            Arrays.asList(card(Hearts, Ace), card(Hearts, Ten)),
+            // Four of a kind.
+            Arrays.asList(card(Clubs, Queen), card(Diamonds, Queen)));
+    final List<List<Card>> flushAndFullHouse = holeCards.subList(0, 2);
+
+    // Test.
+    final Showdown showdown = CardUtilities.rankShortDeckHands(board, flushAndFullHouse);
+
+    // Verify.
+    assertEquals(HandType.FullHouse, showdown.getRanks().get(0).getType());
+    assertEquals(HandType.Flush, showdown.getRanks().get(1).getType());
+    assertEquals(
+        Arrays.asList(Collections.singletonList(1), Collections.singletonList(0)),
+        showdown.getTieGroups());
+    final HandRank fourOfAKind = ShortDeckEvaluator.rankHand(concat(board, holeCards.get(2)));
+    assertEquals(HandType.FourOfAKind, fourOfAKind.getType());
+    assertTrue(fourOfAKind.getRank() > showdown.getRanks().get(1).getRank());
+  }
+
+  private static List<Card> concat(final List<Card> first, final List<Card> second) {
+    final List<Card> cards = new ArrayList<>(first);
+    cards.addAll(second);
+    return cards;
+  }
+}
@@ -0,0 +1,91 @@
+package com.poker.poker.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.poker.poker.models.enums.DeckRngType;
+import com.poker.poker.models.enums.GameVariant;
+import com.poker.poker.models.game.Deck;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class ShufflePipelineTests {
+
+  @Test
+  public void testRefillAndPoll() {
+    // Given.
+    final ShufflePipeline pipeline =
+        new ShufflePipeline(52, 8);
+
+    // Test.
+    final int first = pipeline.refill();
+    final Shuffle shuffle = pipeline.poll();
+    final int second = pipeline.refill();
+
+    // Verify.
+    assertEquals(8, first);
+    assertEquals(1, second);
+    assertEquals(8, pipeline.getDepth());
+    assertEquals(9, pipeline.getProduced());
+    assertEquals(1, pipeline.getTaken());
+    assertEquals(52, new HashSet<>(shuffled(shuffle).getCards()).size());
+  }
+
+  /** Every card is picked when a shuffle is made, so every order of the deck can be dealt. */
+  @Test
+  public void testDeck_dealsShuffle() {
+    for (final GameVariant variant : GameVariant.values()) {
+      // Given.
+      final int numCards = new Deck(variant).numCardsRemaining();
+      final ShufflePipeline pipeline = new ShufflePipeline(numCards, 4);
+      final Deck deck = new Deck(variant, pipeline.withFallback(null));
+      pipeline.refill();
+
+      // Test.
+      deck.restoreAndShuffle();
+
+      // Verify.
+      assertFalse(deck.isSeeded());
+      assertEquals(numCards, deck.getPermutation().length);
+      assertEquals(3, pipeline.getDepth());
+      assertEquals(numCards, new HashSet<>(deck.peek(numCards)).size());
+    }
+  }
+
+  /** Decks shuffle themselves when the pipeline is empty, and starvations are counted. */
+  @Test
+  public void testDeck_fallBackWhenEmpty() {
+    // Given.
+    final ShufflePipeline pipeline =
+        new ShufflePipeline(52, 1);
+    final Deck deck =
+        new Deck(
+            GameVariant.Holdem,
+            pipeline.withFallback(new DeckSeeder(DeckRngType.SplittableRandom, 1)));
+    pipeline.refill();
+
+    // Test.
+    deck.restoreAndShuffle();
+    final boolean pipelineSeeded = deck.isSeeded();
+    final byte[] pipelinePermutation = deck.getPermutation();
+    deck.restoreAndShuffle();
+
+    // Verify.
+    assertFalse(pipelineSeeded);
+    assertEquals(52, pipelinePermutation.length);
+    assertTrue(deck.isSeeded());
+    assertNull(deck.getPermutation());
+    assertNull(pipeline.poll());
+    assertEquals(2, pipeline.getStarvations());
+    assertEquals(1, pipeline.getTaken());
+  }
+
+  private static Deck shuffled(final Shuffle shuffle) {
+    final Deck deck = new Deck();
+    deck.restoreAndShuffle(shuffle.getPermutation());
+    return deck;
+  }
+}
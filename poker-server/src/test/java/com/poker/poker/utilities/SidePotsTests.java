@@ -0,0 +1,132 @@
+package com.poker.poker.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class SidePotsTests {
+
+  private static SidePots load(
+      final long[] bets, final boolean[] allIn, final boolean[] eligible, final int[] ranks) {
+    final SidePots sidePots = new SidePots(bets.length);
+    for (int i = 0; i < bets.length; i++) {
+      sidePots.setSeat(i, bets[i], allIn[i], eligible[i]);
+      sidePots.setRank(i, ranks[i]);
+    }
+    sidePots.computePots(bets.length);
+    return sidePots;
+  }
+
+  @Test
+  public void testComputePots() {
+    // Given.
+    final long[] bets = {Chips.of(60), Chips.of(600), Chips.of(140), Chips.of(600), Chips.of(60)};
+    final boolean[] allIn = {true, false, true, false, true};
+    final boolean[] eligible = {true, true, true, true, true};
+
+    // Test.
+    final SidePots sidePots = load(bets, allIn, eligible, new int[5]);
+
+    // Verify.
+    assertEquals(3, sidePots.getNumPots());
+    assertEquals(Chips.of(60), sidePots.getWager(0));
+    assertEquals(Chips.of(140), sidePots.getWager(1));
+    assertEquals(Chips.of(600), sidePots.getWager(2));
+    assertEquals(Chips.of(300), sidePots.getTotal(0));
+    assertEquals(Chips.of(240), sidePots.getTotal(1));
+    assertEquals(Chips.of(920), sidePots.getTotal(2));
+    assertTrue(sidePots.isEntitled(0, 0));
+    assertFalse(sidePots.isEntitled(0, 1));
+    assertTrue(sidePots.isEntitled(2, 1));
+    assertFalse(sidePots.isEntitled(2, 2));
+    assertTrue(sidePots.isEntitled(1, 2));
+  }
+
+  /** Odd chips are handed out one at a time, starting from the first winner after the dealer. */
+  @Test
+  public void testSettle_oddChips() {
+    // Given.
+    final long[] bets = {Chips.of(100), Chips.of(100), Chips.of(100), Chips.of(100)};
+    final boolean[] allIn = new boolean[4];
+    final boolean[] eligible = {true, true, true, false};
+    final int[] ranks = {5, 5, 5, 0};
+    final SidePots sidePots = load(bets, allIn, eligible, ranks);
+
+    // Test.
+    sidePots.settle(2);
+
+    // Verify.
+    assertEquals(Chips.of(134), sidePots.getPayout(2));
+    assertEquals(Chips.of(133), sidePots.getPayout(0));
+    assertEquals(Chips.of(133), sidePots.getPayout(1));
+    assertEquals(0, sidePots.getPayout(3));
+  }
+
+  /** A pot that only folded players bet into goes to the winner of the pot below it. */
+  @Test
+  public void testSettle_foldedPot() {
+    // Given.
+    final long[] bets = {Chips.of(50), Chips.of(200), Chips.of(200)};
+    final boolean[] allIn = {true, false, false};
+    final boolean[] eligible = {true, false, false};
+    final int[] ranks = {1, 0, 0};
+    final SidePots sidePots = load(bets, allIn, eligible, ranks);
+
+    // Test.
+    sidePots.settle(0);
+
+    // Verify.
+    assertEquals(Chips.of(450), sidePots.getPayout(0));
+  }
+
+  /** Every chip that was bet is paid out, no matter how the bets, hands and folds fall. */
+  @Test
+  public void testSettle_chipsConserved() {
+    final SplittableRandom random = new SplittableRandom(42);
+    for (int trial = 0; trial < 10_000; trial++) {
+      // Given.
+      final int n = 2 + random.nextInt(9);
+      final long[] bets = new long[n];
+      final boolean[] allIn = new boolean[n];
+      final boolean[] eligible = new boolean[n];
+      final int[] ranks = new int[n];
+      // Players who are still in the hand either match the highest bet, or are all-in for less.
+      final long maxBet = Chips.of(1 + random.nextInt(500)) + random.nextInt(100);
+      for (int i = 0; i < n; i++) {
+        allIn[i] = random.nextInt(3) == 0;
+        eligible[i] = random.nextInt(4) != 0;
+        bets[i] = allIn[i] || !eligible[i] ? random.nextLong(maxBet + 1) : maxBet;
+        ranks[i] = random.nextInt(4);
+      }
+      bets[0] = maxBet;
+      eligible[0] = true;
+      long total = 0;
+      for (final long bet : bets) {
+        total = Chips.add(total, bet);
+      }
+      final SidePots sidePots = load(bets, allIn, eligible, ranks);
+
+      // Test.
+      sidePots.settle(random.nextInt(n));
+
+      // Verify.
+      long paid = 0;
+      long potTotal = 0;
+      for (int i = 0; i < n; i++) {
+        paid += sidePots.getPayout(i);
+        if (!eligible[i]) {
+          assertEquals(0, sidePots.getPayout(i));
+        }
+      }
+      for (int i = 0; i < sidePots.getNumPots(); i++) {
+        potTotal += sidePots.getTotal(i);
+      }
+      assertEquals(total, potTotal);
+      assertEquals(total, paid);
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.poker.poker.utilities;
+
+import static com.poker.poker.models.enums.GameAction.Call;
+import static com.poker.poker.models.enums.GameAction.Fold;
+import static com.poker.poker.models.enums.GameAction.Raise;
+import static com.poker.poker.utilities.CardUtilities.FACE_DOWN_CARD;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poker.poker.models.enums.DeckRngType;
+import com.poker.poker.models.enums.GameAction;
+import com.poker.poker.models.enums.GameVariant;
+import com.poker.poker.models.game.Deck;
+import com.poker.poker.models.game.GamePlayer;
+import com.poker.poker.models.game.PokerTable;
+import com.poker.poker.models.game.TableState;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("MagicNumber")
+public class TableTransitionsTests {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static PokerTable getTable(final int numPlayers) {
+    final List<GamePlayer> players = new ArrayList<>();
+    for (int i = 0; i < numPlayers; i++) {
+      final GamePlayer player = new GamePlayer();
+      player.setId(UUID.randomUUID());
+      player.setChips(Chips.of(1000));
+      players.add(player);
+    }
+    final PokerTable table = new PokerTable();
+    table.setPlayers(players);
+    table.setBlind(Chips.of(10));
+    return table;
+  }
+
+  private static Deck getDeck() {
+    return new Deck(GameVariant.Holdem, DeckSeeder.of(DeckRngType.SplittableRandom, 7));
+  }
+
+  private static String json(final PokerTable table) throws JsonProcessingException {
+    return MAPPER.writeValueAsString(table);
+  }
+
+  /** Transitions create the next state without changing the state they started from. */
+  @Test
+  public void testApply_stateUnchanged() throws JsonProcessingException {
+    // Given.
+    final TableState first = TableState.of(getTable(4));
+    final String before = json(first.getTable());
+
+    // Test.
+    final TableState dealt = TableTransitions.setupNewHand(first, getDeck());
+    final PokerTable dealtTable = dealt.getTable();
+    final UUID acting = dealtTable.getPlayers().get(dealtTable.getActingPlayer()).getId();
+    final TableState folded = TableTransitions.handlePlayerAction(dealt, Fold, acting, 0);
+
+    // Verify.
+    assertEquals(before, json(first.getTable()));
+    assertEquals(0, first.getVersion());
+    assertEquals(1, dealt.getVersion());
+    assertEquals(2, folded.getVersion());
+    assertFalse(dealt.getTable().getPlayer(acting).isFolded());
+    assertTrue(folded.getTable().getPlayer(acting).isFolded());
+    for (final GamePlayer player : dealt.getTable().getPlayers()) {
+      assertEquals(2, player.getCards().size());
+      assertTrue(first.getTable().getPlayer(player.getId()).getCards().isEmpty());
+    }
+    dealt.getObfuscatedTable().getPlayers().stream()
+        .flatMap(p -> p.getCards().stream())
+        .forEach(card -> assertEquals(FACE_DOWN_CARD, card));
+  }
+
+  /**
+   * Applying transitions to the table a game is played on, and taking its state after each of
+   * them, leads to the same states as applying them to the states, so hands can be replayed.
+   */
+  @Test
+  public void testApply_replay() throws JsonProcessingException {
+    // Given.
+    final PokerTable table = getTable(4);
+    final Deck deck = getDeck();
+    final Deck replayDeck = getDeck();
+    TableState state = TableState.of(table);
+    TableState replay = TableState.of(table);
+    final List<GameAction> actions = asList(Raise, Call, Fold, Call, Call);
+
+    // Test.
+    Consumer<PokerTable> transition = TableTransitions.newHand(deck);
+    transition.accept(table);
+    state = state.next(table);
+    replay = TableTransitions.setupNewHand(replay, replayDeck);
+    for (final GameAction action : actions) {
+      final UUID acting = table.getPlayers().get(table.getActingPlayer()).getId();
+      final long raise = action == Raise ? table.getMinRaise() : 0;
+      transition = TableTransitions.playerAction(action, acting, raise);
+      transition.accept(table);
+      state = state.next(table);
+      replay = TableTransitions.apply(replay, transition);
+
+      // Verify.
+      assertEquals(state.getVersion(), replay.getVersion());
+      assertEquals(json(state.getTable()), json(replay.getTable()));
+      assertEquals(json(state.getObfuscatedTable()), json(replay.getObfuscatedTable()));
+    }
+    assertEquals(actions.size() + 1, replay.getVersion());
+  }
+}
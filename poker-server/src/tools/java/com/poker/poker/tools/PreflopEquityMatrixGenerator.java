@@ -0,0 +1,124 @@
+package com.poker.poker.tools;
+
+import static com.poker.poker.utilities.PreflopEquityMatrix.NUM_CLASSES;
+
+import com.poker.poker.utilities.HandEvaluator;
+import com.poker.poker.utilities.PreflopEquityMatrix;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Offline generator of the preflop equity matrix resource. For every pair of starting hand classes,
+ * the samples are spread evenly over every combination of hole cards that don't share a card, and
+ * each sample deals a random board which is ranked with {@link HandEvaluator#rank(long)}. Only half
+ * of the matrix is sampled, since the equity of B against A is one minus the equity of A against B,
+ * and a class has an equity of exactly one half against itself.
+ *
+ * <p>Usage: <code>PreflopEquityMatrixGenerator [output file] [samples per pair of classes]</code>,
+ * run with <code>mvn -P preflop-equity test-compile exec:exec</code>. The generator is not part of
+ * the server, only the matrix it writes is.
+ */
+public final class PreflopEquityMatrixGenerator {
+
+  private static final String DEFAULT_OUTPUT = "src/main/resources/preflop-equity.bin";
+
+  private static final int DEFAULT_SAMPLES = 200000;
+
+  /** Private constructor to prevent creating instances of static class. */
+  private PreflopEquityMatrixGenerator() {}
+
+  public static void main(final String[] args) throws IOException {
+    final Path output = Paths.get(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+    final int samples = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SAMPLES;
+
+    final double[] equities = generate(samples, 0x5EED);
+    try (final OutputStream out = new BufferedOutputStream(Files.newOutputStream(output))) {
+      PreflopEquityMatrix.write(out, equities);
+    }
+    System.out.println("Wrote preflop equity matrix to " + output.toAbsolutePath());
+  }
+
+  /**
+   * Computes the equity of every starting hand class against every other class.
+   *
+   * @param samples Number of boards to deal for each pair of classes.
+   * @param seed Seed of the random number generator.
+   * @return Equities, indexed as <code>hand * NUM_CLASSES + versus</code>.
+   */
+  public static double[] generate(final int samples, final long seed) {
+    final double[] equities = new double[NUM_CLASSES * NUM_CLASSES];
+    final AtomicInteger done = new AtomicInteger();
+    IntStream.range(0, NUM_CLASSES)
+        .parallel()
+        .forEach(
+            hand -> {
+              final SplittableRandom random = new SplittableRandom(seed + hand);
+              equities[hand * NUM_CLASSES + hand] = 0.5;
+              for (int versus = hand + 1; versus < NUM_CLASSES; versus++) {
+                final double equity = equity(hand, versus, samples, random);
+                equities[hand * NUM_CLASSES + versus] = equity;
+                equities[versus * NUM_CLASSES + hand] = 1 - equity;
+              }
+              final int count = done.incrementAndGet();
+              if (count % 13 == 0) {
+                System.out.printf("%d/%d classes done.%n", count, NUM_CLASSES);
+              }
+            });
+    return equities;
+  }
+
+  private static double equity(
+      final int hand, final int versus, final int samples, final SplittableRandom random) {
+    final long[] hands = PreflopEquityMatrix.combinations(hand);
+    final long[] opponents = PreflopEquityMatrix.combinations(versus);
+    int numMatchups = 0;
+    for (final long h : hands) {
+      for (final long o : opponents) {
+        numMatchups += (h & o) == 0 ? 1 : 0;
+      }
+    }
+    final int perMatchup = Math.max(1, samples / numMatchups);
+
+    final long[] deck = new long[52 - 4];
+    double shares = 0;
+    long total = 0;
+    for (final long h : hands) {
+      for (final long o : opponents) {
+        if ((h & o) != 0) {
+          continue;
+        }
+        int size = 0;
+        for (int suit = 0; suit < HandEvaluator.NUM_SUITS; suit++) {
+          for (int value = 0; value < HandEvaluator.NUM_VALUES; value++) {
+            final long card = 1L << (suit * HandEvaluator.SUIT_SHIFT + value);
+            if ((card & (h | o)) == 0) {
+              deck[size++] = card;
+            }
+          }
+        }
+        for (int s = 0; s < perMatchup; s++) {
+          long board = 0;
+          for (int i = 0; i < 5; i++) {
+            final int j = i + random.nextInt(size - i);
+            final long card = deck[j];
+            deck[j] = deck[i];
+            deck[i] = card;
+            board |= card;
+          }
+          final int rank = HandEvaluator.rank(board | h);
+          final int opponentRank = HandEvaluator.rank(board | o);
+          shares += rank > opponentRank ? 1 : rank == opponentRank ? 0.5 : 0;
+          total++;
+        }
+      }
+    }
+    return shares / total;
+  }
+}